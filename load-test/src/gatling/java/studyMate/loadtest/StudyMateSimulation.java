@@ -0,0 +1,127 @@
+package studyMate.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 학습 세션 부하 시나리오
+ * 앱을 열고 타이머 한 세션을 마치는 사용자 흐름을 반복한다.
+ * 로그인 -> 홈 통계 -> 캘린더 -> 진행 중 목표 -> STOMP 타이머 시작/중지 -> 기록 저장 -> (일부) AI 피드백 -> 홈 통계
+ * 서버는 ./gradlew loadTestServer로 먼저 띄우고, 계정 수(loadtest.users)는 서버와 같게 맞춘다.
+ * 리포트(build/reports/gatling)에 p50/p95/p99/p99.9 응답 시간과 초당 요청 수가 나온다.
+ */
+public class StudyMateSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private static final int SEEDED_USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int CONCURRENT_USERS = Integer.getInteger("loadtest.concurrent-users", 50);
+    private static final int RAMP_SECONDS = Integer.getInteger("loadtest.ramp-seconds", 30);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 120);
+    private static final double AI_PERCENT = Double.parseDouble(System.getProperty("loadtest.ai-percent", "10"));
+    private static final String PASSWORD = "loadtest1234!";
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDateTime SESSION_END = LocalDateTime.now().withNano(0);
+
+    // 서버가 만든 loadtest-{n}@studymate.dev 계정을 순환하며 사용
+    private final Iterator<Map<String, Object>> accounts = Stream.iterate(0, i -> (i + 1) % SEEDED_USERS)
+            .map(i -> Map.<String, Object>of(
+                    "email", "loadtest-" + i + "@studymate.dev",
+                    "nickname", "load" + i))
+            .iterator();
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .wsBaseUrl(BASE_URL.replaceFirst("^http", "ws"))
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json");
+
+    private final ChainBuilder signIn = feed(accounts)
+            .exec(http("sign-in")
+                    .post("/api/auth/sign-in")
+                    .body(StringBody("{\"email\":\"#{email}\",\"password\":\"" + PASSWORD + "\"}"))
+                    .check(jsonPath("$.data.token.accessToken").saveAs("accessToken")));
+
+    private final ChainBuilder homeStats = exec(http("home-stats")
+            .get("/api/timer/home-stats")
+            .header("Authorization", "Bearer #{accessToken}")
+            .check(jsonPath("$.success").is("true")));
+
+    private final ChainBuilder calendar = exec(http("calendar")
+            .get("/api/schedule/range")
+            .header("Authorization", "Bearer #{accessToken}")
+            .queryParam("startDate", TODAY.withDayOfMonth(1).toString())
+            .queryParam("endDate", TODAY.withDayOfMonth(TODAY.lengthOfMonth()).toString())
+            .check(status().is(200)));
+
+    private final ChainBuilder activeGoals = exec(http("active-goals")
+            .get("/api/study-goals/active")
+            .header("Authorization", "Bearer #{accessToken}")
+            .check(jsonPath("$.data[0].id").saveAs("goalId")));
+
+    // STOMP 프레임은 순수 WebSocket 엔드포인트로 직접 주고받는다 (SockJS 프레이밍 없음)
+    private final ChainBuilder timerSession = exec(ws("ws-connect").connect("/ws-timer-native?token=#{accessToken}"))
+            .exec(ws("stomp-connect")
+                    .sendText(frame("CONNECT", "accept-version:1.2\nhost:localhost\nheart-beat:0,0", ""))
+                    .await(5).on(ws.checkTextMessage("connected").check(regex("^CONNECTED"))))
+            .exec(ws("stomp-subscribe").sendText(frame("SUBSCRIBE", "id:sub-0\ndestination:/topic/timer", "")))
+            .pause(java.time.Duration.ofMillis(200))
+            // /topic/timer는 모든 사용자의 이벤트를 받으므로 자신의 닉네임이 담긴 메시지만 확인
+            .exec(ws("timer-start")
+                    .sendText(frame("SEND", "destination:/app/timer/start\ncontent-type:application/json",
+                            "{\"studyTimes\":25,\"breakTimes\":5,\"studyGoalId\":#{goalId}}"))
+                    .await(5).on(ws.checkTextMessage("started")
+                            .matching(substring("\"userNickname\":\"#{nickname}\""))
+                            .check(substring("\"status\":\"STARTED\""))))
+            .pause(1, 3)
+            .exec(ws("timer-stop")
+                    .sendText(frame("SEND", "destination:/app/timer/stop\ncontent-type:application/json", "{}"))
+                    .await(5).on(ws.checkTextMessage("stopped")
+                            .matching(substring("\"userNickname\":\"#{nickname}\""))
+                            .check(substring("\"status\":\"STOPPED\""))))
+            .exec(ws("ws-close").close());
+
+    private final ChainBuilder saveRecord = exec(http("timer-save")
+            .post("/api/timer/save")
+            .header("Authorization", "Bearer #{accessToken}")
+            .queryParam("studyGoalId", "#{goalId}")
+            .body(StringBody("{\"studyTime\":1500,\"restTime\":300,\"mode\":\"25/5\","
+                    + "\"startTime\":\"" + SESSION_END.minusMinutes(30) + "\","
+                    + "\"endTime\":\"" + SESSION_END + "\","
+                    + "\"summary\":\"부하 테스트 세션\"}"))
+            .check(jsonPath("$.data.id").saveAs("timerId")));
+
+    private final ChainBuilder aiFeedback = exec(http("ai-feedback")
+            .post("/api/ai/feedback")
+            .header("Authorization", "Bearer #{accessToken}")
+            .body(StringBody("{\"timerId\":#{timerId},\"studyTopic\":\"스프링 부트\",\"concentration\":\"높음\"}"))
+            .check(jsonPath("$.success").is("true")));
+
+    private final ScenarioBuilder studySession = scenario("학습 세션")
+            .exec(signIn, homeStats, calendar, activeGoals, timerSession, saveRecord)
+            .randomSwitch().on(percent(AI_PERCENT).then(aiFeedback))
+            .exec(homeStats);
+
+    {
+        setUp(studySession.injectClosed(
+                rampConcurrentUsers(0).to(CONCURRENT_USERS).during(RAMP_SECONDS),
+                constantConcurrentUsers(CONCURRENT_USERS).during(DURATION_SECONDS)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+    private static String frame(String command, String headers, String body) {
+        return command + "\n" + headers + "\n\n" + body + "\u0000";
+    }
+}
@@ -0,0 +1,50 @@
+package studyMate.datagen;
+
+import lombok.Builder;
+import lombok.Getter;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.time.LocalDate;
+
+/**
+ * 합성 데이터 생성 설정
+ * 같은 설정과 seed면 같은 데이터가 만들어진다. (ID/생성 시각 제외)
+ */
+@Getter
+@Builder
+public class DataGenSpec {
+
+    @Builder.Default
+    private int users = 10_000;                 // 사용자 수
+    @Builder.Default
+    private long timers = 1_000_000;            // 전체 타이머 기록 수 (사용자별 상한을 넘으면 그만큼 줄어듦)
+    @Builder.Default
+    private int days = 365;                     // 기록 기간 (일)
+    @Builder.Default
+    private LocalDate lastDay = LocalDate.now().minusDays(1); // 기록 기간 마지막 날
+    @Builder.Default
+    private double userSkew = 1.1;              // 사용자별 기록 수 멱지수 (0이면 균등)
+    @Builder.Default
+    private int maxSessionsPerDay = 12;         // 한 사용자의 하루 평균 세션 상한
+    @Builder.Default
+    private int topicsPerUser = 3;              // 사용자별 학습 주제 수
+    @Builder.Default
+    private int goalsPerUser = 2;               // 사용자별 학습 목표 수 (첫 목표는 항상 진행 중)
+    @Builder.Default
+    private int recurringSchedulesPerUser = 1;  // 사용자별 주간 반복 일정 수 (기간 내 매주 한 행씩)
+    @Builder.Default
+    private int oneOffSchedulesPerUser = 4;     // 사용자별 단발 일정 수
+    @Builder.Default
+    private double goalLinkRatio = 0.7;         // 학습 목표에 연결되는 기록 비율
+    @Builder.Default
+    private long seed = 42;
+    @Builder.Default
+    private int batchSize = 5_000;              // JDBC 배치 크기
+    @Builder.Default
+    private int idNode = TimeOrderedIdGenerator.MAX_NODE_ID; // 실행 중인 서버(노드 0)와 ID가 겹치지 않도록 별도 노드 사용
+    @Builder.Default
+    private String emailPattern = "datagen-%d@studymate.dev";
+    @Builder.Default
+    private String nicknamePrefix = "user";     // 닉네임 = 접두어 + 사용자 번호 (최대 15자)
+    private String passwordHash;                // 모든 계정이 공유하는 BCrypt 해시
+}
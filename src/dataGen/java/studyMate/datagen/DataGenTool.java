@@ -0,0 +1,82 @@
+package studyMate.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+
+/**
+ * 합성 데이터 생성 실행기 (./gradlew generateData -Ddatagen.users=100000 -Ddatagen.timers=10000000)
+ * 스키마는 애플리케이션(ddl-auto)이나 마이그레이션으로 미리 만들어 둔다.
+ * - datagen.mode=jdbc (기본): JDBC 배치 INSERT
+ * - datagen.mode=load-data: datagen.out-dir에 TSV를 쓴 뒤 LOAD DATA LOCAL INFILE (1천만 행 이상 권장)
+ * - datagen.mode=files: TSV 파일만 생성 (다른 서버에서 적재)
+ */
+@Slf4j
+public class DataGenTool {
+
+    public static final String DEFAULT_PASSWORD = "datagen1234!";
+
+    public static void main(String[] args) throws Exception {
+        DataGenSpec spec = DataGenSpec.builder()
+                .users(Integer.getInteger("datagen.users", 10_000))
+                .timers(Long.getLong("datagen.timers", 1_000_000L))
+                .days(Integer.getInteger("datagen.days", 365))
+                .lastDay(LocalDate.parse(System.getProperty("datagen.last-day", LocalDate.now().minusDays(1).toString())))
+                .userSkew(Double.parseDouble(System.getProperty("datagen.user-skew", "1.1")))
+                .maxSessionsPerDay(Integer.getInteger("datagen.max-sessions-per-day", 12))
+                .topicsPerUser(Integer.getInteger("datagen.topics-per-user", 3))
+                .goalsPerUser(Integer.getInteger("datagen.goals-per-user", 2))
+                .recurringSchedulesPerUser(Integer.getInteger("datagen.recurring-schedules-per-user", 1))
+                .oneOffSchedulesPerUser(Integer.getInteger("datagen.one-off-schedules-per-user", 4))
+                .seed(Long.getLong("datagen.seed", 42L))
+                .batchSize(Integer.getInteger("datagen.batch-size", 5_000))
+                .emailPattern(System.getProperty("datagen.email-pattern", "datagen-%d@studymate.dev"))
+                .nicknamePrefix(System.getProperty("datagen.nickname-prefix", "user"))
+                .passwordHash(new BCryptPasswordEncoder().encode(System.getProperty("datagen.password", DEFAULT_PASSWORD)))
+                .build();
+
+        String mode = System.getProperty("datagen.mode", "jdbc");
+        Path outDir = Path.of(System.getProperty("datagen.out-dir", "build/datagen"));
+        long startedAt = System.nanoTime();
+        SyntheticDataGenerator.Result result;
+
+        if ("files".equals(mode)) {
+            try (TsvFileSink sink = new TsvFileSink(outDir)) {
+                result = new SyntheticDataGenerator(spec).generate(sink);
+            }
+            log.info("TSV 파일 생성 위치: {}", outDir.toAbsolutePath());
+        } else {
+            try (Connection connection = DriverManager.getConnection(
+                    System.getProperty("datagen.jdbc-url", "jdbc:mysql://localhost:3306/studymate"
+                            + "?rewriteBatchedStatements=true&allowLoadLocalInfile=true"),
+                    System.getProperty("datagen.db-username", "root"),
+                    System.getProperty("datagen.db-password", ""))) {
+                if ("load-data".equals(mode)) {
+                    try (TsvFileSink sink = new TsvFileSink(outDir)) {
+                        result = new SyntheticDataGenerator(spec).generate(sink);
+                    }
+                    log.info("LOAD DATA 적재 시작: {}", outDir.toAbsolutePath());
+                    TsvFileSink.loadInto(connection, outDir);
+                    for (SyntheticTable table : SyntheticTable.values()) {
+                        Files.deleteIfExists(TsvFileSink.fileOf(outDir, table));
+                    }
+                } else if ("jdbc".equals(mode)) {
+                    try (JdbcBatchSink sink = new JdbcBatchSink(connection, spec.getBatchSize())) {
+                        result = new SyntheticDataGenerator(spec).generate(sink);
+                    }
+                } else {
+                    throw new IllegalArgumentException("알 수 없는 datagen.mode입니다 (jdbc, load-data, files): " + mode);
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        log.info("완료: {} ({}초, 타이머 {}건/초)", result, String.format("%.1f", seconds),
+                (long) (result.getTimers() / seconds));
+    }
+}
@@ -0,0 +1,92 @@
+package studyMate.datagen;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * JDBC 배치 INSERT 저장소
+ * 테이블마다 PreparedStatement를 하나씩 두고, 쌓인 행이 batchSize를 넘으면
+ * 외래 키 순서(SyntheticTable 선언 순서)대로 executeBatch 후 커밋한다.
+ * MySQL은 URL에 rewriteBatchedStatements=true를 주어야 배치가 다중 VALUES INSERT로 합쳐진다.
+ * 연결은 호출자가 열고 닫으며, 자동 커밋 설정은 close() 시 원래대로 돌려 둔다.
+ */
+public class JdbcBatchSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final boolean previousAutoCommit;
+    private final Map<SyntheticTable, PreparedStatement> statements = new EnumMap<>(SyntheticTable.class);
+    private int pending;
+
+    public JdbcBatchSink(Connection connection, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void write(SyntheticTable table, Object... values) throws SQLException {
+        PreparedStatement statement = statements.get(table);
+        if (statement == null) {
+            statement = connection.prepareStatement(table.insertSql());
+            statements.put(table, statement);
+        }
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, toJdbc(values[i]));
+        }
+        statement.addBatch();
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        for (SyntheticTable table : SyntheticTable.values()) {
+            PreparedStatement statement = statements.get(table);
+            if (statement != null) {
+                statement.executeBatch();
+            }
+        }
+        connection.commit();
+        pending = 0;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            connection.setAutoCommit(previousAutoCommit);
+        }
+    }
+
+    static Object toJdbc(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        if (value instanceof LocalDate date) {
+            return Date.valueOf(date);
+        }
+        if (value instanceof LocalTime time) {
+            return Time.valueOf(time);
+        }
+        return value;
+    }
+}
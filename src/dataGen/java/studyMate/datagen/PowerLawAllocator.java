@@ -0,0 +1,70 @@
+package studyMate.datagen;
+
+/**
+ * 사용자별 세션 수를 멱법칙(Zipf)으로 배분
+ * 순위 r(0부터)인 사용자의 가중치는 1 / (r + 1)^exponent 이며, 소수의 헤비 유저가 기록 대부분을 만들고
+ * 다수는 몇 건에 그치거나 기록이 없는 실제 분포를 흉내 낸다.
+ * 한 사람이 하루에 할 수 있는 세션 수에는 한계가 있으므로 cap을 넘는 몫은 나머지 사용자에게 다시 나눈다.
+ * 같은 입력이면 항상 같은 결과를 돌려준다. (난수 미사용)
+ */
+public final class PowerLawAllocator {
+
+    private PowerLawAllocator() {
+    }
+
+    /**
+     * @param users    사용자 수 (배열 인덱스 = 순위)
+     * @param total    배분할 전체 세션 수 (users * cap을 넘으면 users * cap까지만 배분)
+     * @param exponent 멱지수 (0이면 균등, 클수록 상위 사용자에 집중)
+     * @param cap      사용자 한 명이 받을 수 있는 최대 세션 수
+     */
+    public static int[] allocate(int users, long total, double exponent, int cap) {
+        if (users <= 0 || total < 0 || cap < 0 || exponent < 0) {
+            throw new IllegalArgumentException("사용자 수는 양수, 세션 수/상한/멱지수는 0 이상이어야 합니다.");
+        }
+        double[] weights = new double[users];
+        for (int rank = 0; rank < users; rank++) {
+            weights[rank] = Math.pow(rank + 1, -exponent);
+        }
+
+        int[] counts = new int[users];
+        boolean[] full = new boolean[users];
+        long remaining = Math.min(total, (long) users * cap);
+        while (remaining > 0) {
+            double weightSum = 0;
+            for (int rank = 0; rank < users; rank++) {
+                if (!full[rank]) {
+                    weightSum += weights[rank];
+                }
+            }
+
+            long assigned = 0;
+            for (int rank = 0; rank < users; rank++) {
+                if (full[rank]) {
+                    continue;
+                }
+                long share = (long) Math.floor(remaining * weights[rank] / weightSum);
+                assigned += give(counts, full, rank, share, cap);
+            }
+            // 몫이 모두 0으로 내림되면 남은 건수를 순위가 높은 사용자부터 한 건씩
+            if (assigned == 0) {
+                for (int rank = 0; rank < users && assigned < remaining; rank++) {
+                    if (!full[rank]) {
+                        assigned += give(counts, full, rank, 1, cap);
+                    }
+                }
+            }
+            remaining -= assigned;
+        }
+        return counts;
+    }
+
+    private static long give(int[] counts, boolean[] full, int rank, long share, int cap) {
+        long granted = Math.min(share, cap - counts[rank]);
+        counts[rank] += (int) granted;
+        if (counts[rank] >= cap) {
+            full[rank] = true;
+        }
+        return granted;
+    }
+}
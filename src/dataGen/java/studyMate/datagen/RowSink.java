@@ -0,0 +1,18 @@
+package studyMate.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * 생성한 행을 받아 저장하는 대상 (JDBC 배치, LOAD DATA용 TSV 파일)
+ * 값은 SyntheticTable 컬럼 순서를 따르며 String, Number, Boolean, LocalDate, LocalTime, LocalDateTime, null만 쓴다.
+ */
+public interface RowSink extends AutoCloseable {
+
+    void write(SyntheticTable table, Object... values) throws SQLException;
+
+    // 남은 행을 모두 저장
+    void flush() throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
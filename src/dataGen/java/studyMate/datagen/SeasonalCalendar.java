@@ -0,0 +1,85 @@
+package studyMate.datagen;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 학습 세션 시작 시각 분포
+ * 하루 단위 가중치 = 월별 계절성 x 요일 가중치이며, 하루 안에서는 시간대 가중치로 시작 시각을 정한다.
+ * - 월: 시험 기간(4, 6, 10, 12월)이 높고 여름 방학(7, 8월)이 낮음
+ * - 요일: 평일 초반이 높고 금/토요일이 낮음
+ * - 시간대: 저녁 8~11시가 가장 붐비고, 오후 2~5시가 두 번째, 새벽은 거의 없음
+ */
+public class SeasonalCalendar {
+
+    // 1월 ~ 12월
+    private static final double[] MONTH_WEIGHTS = {1.0, 0.9, 1.0, 1.25, 1.0, 1.3, 0.75, 0.8, 1.0, 1.25, 1.1, 1.3};
+    // 월요일 ~ 일요일
+    private static final double[] DAY_OF_WEEK_WEIGHTS = {1.15, 1.1, 1.05, 1.0, 0.8, 0.75, 0.95};
+    // 0시 ~ 23시
+    private static final double[] HOUR_WEIGHTS = {
+            0.6, 0.3, 0.1, 0.05, 0.05, 0.1, 0.3, 0.6, 0.9, 1.2, 1.4, 1.3,
+            0.9, 1.2, 1.6, 1.7, 1.6, 1.3, 1.0, 1.5, 2.2, 2.5, 2.3, 1.4};
+
+    private final LocalDate firstDay;
+    private final double[] dayCumulative;
+    private final double[] hourCumulative;
+
+    /**
+     * @param lastDay 마지막 날짜 (포함)
+     * @param days    lastDay에서 거슬러 올라간 기간 (일)
+     */
+    public SeasonalCalendar(LocalDate lastDay, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("기간은 1일 이상이어야 합니다: " + days);
+        }
+        this.firstDay = lastDay.minusDays(days - 1L);
+        this.dayCumulative = new double[days];
+        double sum = 0;
+        for (int i = 0; i < days; i++) {
+            sum += dayWeight(firstDay.plusDays(i));
+            dayCumulative[i] = sum;
+        }
+        this.hourCumulative = cumulative(HOUR_WEIGHTS);
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public int getDays() {
+        return dayCumulative.length;
+    }
+
+    static double dayWeight(LocalDate date) {
+        return MONTH_WEIGHTS[date.getMonthValue() - 1] * DAY_OF_WEEK_WEIGHTS[date.getDayOfWeek().getValue() - 1];
+    }
+
+    public LocalDate sampleDate(SplittableRandom random) {
+        return firstDay.plusDays(pick(dayCumulative, random));
+    }
+
+    public LocalDateTime sampleStart(SplittableRandom random) {
+        int hour = pick(hourCumulative, random);
+        return sampleDate(random).atTime(hour, random.nextInt(60), random.nextInt(60));
+    }
+
+    // 누적 가중치 배열에서 구간 하나를 뽑음 (이진 탐색)
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] result = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            result[i] = sum;
+        }
+        return result;
+    }
+}
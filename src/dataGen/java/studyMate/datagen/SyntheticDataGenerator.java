@@ -0,0 +1,307 @@
+package studyMate.datagen;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.Schedule.ScheduleStatus;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 합성 데이터 생성기
+ * users, study_topics, study_goals, schedules, timers를 외래 키 순서로 RowSink에 쓴다.
+ * - 사용자별 기록 수: PowerLawAllocator (사용자 번호 0이 가장 많은 헤비 유저)
+ * - 세션 시작 시각: SeasonalCalendar (월/요일/시간대 가중치)
+ * - 일정: 주간 반복 일정은 기간 내 매주 한 행씩(is_recurring, WEEKLY), 단발 일정은 임의 날짜
+ * - 기록은 70%가 학습 목표에, 같은 날짜 일정이 있으면 대부분 그 일정에 연결되고
+ *   목표 진행도/주제 누적 시간/사용자 총 학습 시간은 생성한 기록과 일치하도록 계산한다.
+ * 사용자마다 seed에서 파생한 난수를 쓰므로 같은 설정이면 같은 분포가 재현된다.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final String[] SUBJECTS = {"영어", "수학", "프로그래밍", "자격증", "한국사", "경제", "국어", "과학"};
+    private static final String[] COLORS = {"#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD"};
+    private static final String[] MODES = {"25/5", "50/10", "90/15"};
+    private static final int[] MODE_STUDY_MINUTES = {25, 50, 90};
+    private static final int[] MODE_BREAK_MINUTES = {5, 10, 15};
+    private static final double[] MODE_RATIOS = {0.6, 0.3, 0.1};
+    private static final int[] SCHEDULE_START_HOURS = {7, 9, 14, 19, 20, 21};
+    private static final int FUTURE_SCHEDULE_DAYS = 14;   // 기간 이후에도 일정이 보이도록 2주 더 생성
+    private static final double SCHEDULE_LINK_RATIO = 0.8; // 같은 날짜 일정이 있을 때 연결 비율
+    private static final int LOG_INTERVAL_USERS = 10_000;
+
+    private final DataGenSpec spec;
+
+    public SyntheticDataGenerator(DataGenSpec spec) {
+        if (spec.getPasswordHash() == null) {
+            throw new IllegalArgumentException("계정 비밀번호 해시(passwordHash)가 필요합니다.");
+        }
+        this.spec = spec;
+    }
+
+    public Result generate(RowSink sink) throws SQLException {
+        SeasonalCalendar calendar = new SeasonalCalendar(spec.getLastDay(), spec.getDays());
+        int cap = (int) Math.min(Integer.MAX_VALUE, (long) spec.getMaxSessionsPerDay() * spec.getDays());
+        int[] sessionCounts = PowerLawAllocator.allocate(spec.getUsers(), spec.getTimers(), spec.getUserSkew(), cap);
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(spec.getIdNode());
+
+        Result result = new Result();
+        long startedAt = System.nanoTime();
+        for (int index = 0; index < spec.getUsers(); index++) {
+            UserData user = new UserData(index, new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + index));
+            user.sampleSessions(calendar, sessionCounts[index]);
+            user.write(calendar, idGenerator, sink, result);
+            if ((index + 1) % LOG_INTERVAL_USERS == 0) {
+                double seconds = (System.nanoTime() - startedAt) / 1e9;
+                log.info("합성 데이터 생성 중: 사용자 {}/{}, 타이머 {}건 ({}건/초)",
+                        index + 1, spec.getUsers(), result.timers, (long) (result.timers / seconds));
+            }
+        }
+        sink.flush();
+        log.info("합성 데이터 생성 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 사용자 한 명 분량의 데이터
+     * 세션을 먼저 뽑아 목표/주제 누적값을 계산한 뒤 부모 테이블부터 쓴다.
+     */
+    private class UserData {
+        private final int index;
+        private final SplittableRandom random;
+        private final List<Session> sessions = new ArrayList<>();
+        private LocalDateTime joinedAt;
+        private LocalDateTime lastActiveAt;
+
+        UserData(int index, SplittableRandom random) {
+            this.index = index;
+            this.random = random;
+        }
+
+        void sampleSessions(SeasonalCalendar calendar, int count) {
+            int goals = spec.getGoalsPerUser();
+            int topics = spec.getTopicsPerUser();
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = calendar.sampleStart(random);
+                int mode = pickMode();
+                int studySeconds = (int) (MODE_STUDY_MINUTES[mode] * 60 * (0.55 + 0.45 * random.nextDouble()));
+                int restSeconds = (int) (MODE_BREAK_MINUTES[mode] * 60 * (0.3 + 0.7 * random.nextDouble()));
+                int pausedSeconds = random.nextDouble() < 0.3 ? random.nextInt(600) : 0;
+                int goal = goals > 0 && random.nextDouble() < spec.getGoalLinkRatio() ? random.nextInt(goals) : -1;
+                int topic = topics > 0 ? random.nextInt(topics) : -1;
+                sessions.add(new Session(start, start.plusSeconds(studySeconds + restSeconds + pausedSeconds),
+                        studySeconds, restSeconds, MODES[mode], goal, topic));
+            }
+            sessions.sort(Comparator.comparing(Session::start));
+
+            // 가입일은 첫 기록 며칠 전, 기록이 없으면 기간 중 임의 시각
+            joinedAt = sessions.isEmpty()
+                    ? calendar.sampleStart(random)
+                    : sessions.get(0).start().minusDays(random.nextInt(30)).minusHours(random.nextInt(12));
+            lastActiveAt = sessions.isEmpty() ? joinedAt : sessions.get(sessions.size() - 1).end();
+        }
+
+        void write(SeasonalCalendar calendar, TimeOrderedIdGenerator idGenerator, RowSink sink, Result result)
+                throws SQLException {
+            String userId = UlidCreator.getMonotonicUlid().toString();
+            int subjectOffset = random.nextInt(SUBJECTS.length);
+            long totalStudySeconds = sessions.stream().mapToLong(Session::studySeconds).sum();
+
+            sink.write(SyntheticTable.USERS, userId, String.format(spec.getEmailPattern(), index),
+                    spec.getPasswordHash(), spec.getNicknamePrefix() + index, 15 + random.nextInt(30),
+                    random.nextBoolean() ? "M" : "F", (int) (totalStudySeconds / 60), joinedAt, lastActiveAt);
+            result.users++;
+
+            String[] topicIds = writeTopics(userId, subjectOffset, sink, result);
+            long[] goalIds = writeGoals(userId, subjectOffset, calendar, idGenerator, sink, result);
+            Map<LocalDate, String> scheduleByDate = writeSchedules(userId, topicIds, subjectOffset, calendar, sink, result);
+
+            for (Session session : sessions) {
+                String scheduleId = scheduleByDate.get(session.start().toLocalDate());
+                if (scheduleId != null && random.nextDouble() >= SCHEDULE_LINK_RATIO) {
+                    scheduleId = null;
+                }
+                sink.write(SyntheticTable.TIMERS, idGenerator.nextId(), userId,
+                        session.goal() >= 0 ? goalIds[session.goal()] : null, scheduleId,
+                        session.start(), session.end(), session.studySeconds(), session.restSeconds(),
+                        session.mode(), session.end());
+                result.timers++;
+            }
+        }
+
+        private String[] writeTopics(String userId, int subjectOffset, RowSink sink, Result result) throws SQLException {
+            String[] topicIds = new String[spec.getTopicsPerUser()];
+            for (int t = 0; t < topicIds.length; t++) {
+                int topic = t;
+                long studySeconds = 0;
+                int studyCount = 0;
+                for (Session session : sessions) {
+                    if (session.topic() == topic) {
+                        studySeconds += session.studySeconds();
+                        studyCount++;
+                    }
+                }
+                String subject = subject(subjectOffset, t);
+                topicIds[t] = UlidCreator.getMonotonicUlid().toString();
+                sink.write(SyntheticTable.STUDY_TOPICS, topicIds[t], userId, subject, subject + " 꾸준히 공부하기",
+                        (int) (studySeconds / 60), studyCount, joinedAt, lastActiveAt);
+                result.studyTopics++;
+            }
+            return topicIds;
+        }
+
+        private long[] writeGoals(String userId, int subjectOffset, SeasonalCalendar calendar,
+                                  TimeOrderedIdGenerator idGenerator, RowSink sink, Result result) throws SQLException {
+            long[] goalIds = new long[spec.getGoalsPerUser()];
+            for (int g = 0; g < goalIds.length; g++) {
+                int goal = g;
+                int minutes = 0;
+                int linkedSessions = 0;
+                LocalDateTime updatedAt = null;
+                for (Session session : sessions) {
+                    if (session.goal() == goal) {
+                        minutes += session.studySeconds() / 60; // 저장 시 진행도 반영과 같은 분 단위 내림
+                        linkedSessions++;
+                        updatedAt = session.end();
+                    }
+                }
+                // 첫 목표는 로그인 후 진행 중 목표 조회가 항상 결과를 갖도록 ACTIVE로 고정
+                GoalStatus status = g == 0 ? GoalStatus.ACTIVE : pickGoalStatus();
+                int targetHours = 20 + random.nextInt(181);
+                if (status != GoalStatus.COMPLETED) {
+                    targetHours = Math.max(targetHours, minutes / 60 + 10);
+                }
+                LocalDate startDate = g == 0 ? joinedAt.toLocalDate() : calendar.sampleDate(random);
+                LocalDateTime createdAt = startDate.atTime(9, 0);
+
+                goalIds[g] = idGenerator.nextId();
+                sink.write(SyntheticTable.STUDY_GOALS, goalIds[g], userId, subject(subjectOffset, g) + " 목표 " + (g + 1),
+                        subject(subjectOffset, g), COLORS[random.nextInt(COLORS.length)], startDate,
+                        startDate.plusDays(60 + random.nextInt(121)), targetHours, targetHours * 2, status.name(),
+                        minutes / 60, minutes, linkedSessions, createdAt,
+                        updatedAt != null && updatedAt.isAfter(createdAt) ? updatedAt : createdAt);
+                result.studyGoals++;
+            }
+            return goalIds;
+        }
+
+        private Map<LocalDate, String> writeSchedules(String userId, String[] topicIds, int subjectOffset,
+                                                      SeasonalCalendar calendar, RowSink sink, Result result)
+                throws SQLException {
+            Map<LocalDate, String> scheduleByDate = new HashMap<>();
+            LocalDate lastDay = spec.getLastDay();
+            LocalDate until = lastDay.plusDays(FUTURE_SCHEDULE_DAYS);
+
+            for (int r = 0; r < spec.getRecurringSchedulesPerUser(); r++) {
+                DayOfWeek dayOfWeek = DayOfWeek.of(1 + random.nextInt(7));
+                int topic = topicIds.length > 0 ? random.nextInt(topicIds.length) : -1;
+                LocalTime startTime = LocalTime.of(SCHEDULE_START_HOURS[random.nextInt(SCHEDULE_START_HOURS.length)], 0);
+                int minutes = 60 + 30 * random.nextInt(3);
+                String title = subject(subjectOffset, Math.max(topic, 0)) + " 정기 학습";
+                String color = COLORS[random.nextInt(COLORS.length)];
+                LocalDateTime createdAt = joinedAt;
+                for (LocalDate date = joinedAt.toLocalDate().with(TemporalAdjusters.nextOrSame(dayOfWeek));
+                     !date.isAfter(until); date = date.plusWeeks(1)) {
+                    String id = writeSchedule(userId, topic >= 0 ? topicIds[topic] : null, title, color, date,
+                            startTime, minutes, true, lastDay, createdAt, sink);
+                    scheduleByDate.putIfAbsent(date, id);
+                    result.schedules++;
+                }
+            }
+
+            long span = ChronoUnit.DAYS.between(joinedAt.toLocalDate(), until) + 1;
+            for (int o = 0; o < spec.getOneOffSchedulesPerUser(); o++) {
+                LocalDate date = joinedAt.toLocalDate().plusDays(random.nextLong(Math.max(1, span)));
+                int topic = topicIds.length > 0 ? random.nextInt(topicIds.length) : -1;
+                boolean allDay = random.nextDouble() < 0.2;
+                LocalTime startTime = allDay ? null : LocalTime.of(9 + random.nextInt(13), 30 * random.nextInt(2));
+                String id = writeSchedule(userId, topic >= 0 ? topicIds[topic] : null,
+                        subject(subjectOffset, Math.max(topic, 0)) + " 공부", COLORS[random.nextInt(COLORS.length)],
+                        date, startTime, 60 + 30 * random.nextInt(4), false, lastDay,
+                        date.minusDays(random.nextInt(7)).atTime(8, 0), sink);
+                scheduleByDate.putIfAbsent(date, id);
+                result.schedules++;
+            }
+            return scheduleByDate;
+        }
+
+        // startTime이 null이면 종일 일정
+        private String writeSchedule(String userId, String topicId, String title, String color, LocalDate date,
+                                     LocalTime startTime, int minutes, boolean recurring, LocalDate lastDay,
+                                     LocalDateTime createdAt, RowSink sink) throws SQLException {
+            ScheduleStatus status;
+            int completionRate;
+            if (date.isAfter(lastDay)) {
+                status = ScheduleStatus.PLANNED;
+                completionRate = 0;
+            } else {
+                double roll = random.nextDouble();
+                status = roll < 0.75 ? ScheduleStatus.COMPLETED
+                        : roll < 0.9 ? ScheduleStatus.CANCELLED : ScheduleStatus.POSTPONED;
+                completionRate = status == ScheduleStatus.COMPLETED ? 100 : random.nextInt(60);
+            }
+            String id = UlidCreator.getMonotonicUlid().toString();
+            sink.write(SyntheticTable.SCHEDULES, id, userId, topicId, title, color, date, startTime,
+                    startTime != null ? startTime.plusMinutes(minutes) : null, startTime == null, recurring,
+                    recurring ? "WEEKLY" : null, "POMODORO", minutes, minutes / 5, status.name(), completionRate,
+                    true, createdAt, createdAt);
+            return id;
+        }
+
+        private int pickMode() {
+            double roll = random.nextDouble();
+            for (int i = 0; i < MODE_RATIOS.length; i++) {
+                roll -= MODE_RATIOS[i];
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return MODE_RATIOS.length - 1;
+        }
+
+        private GoalStatus pickGoalStatus() {
+            double roll = random.nextDouble();
+            if (roll < 0.5) return GoalStatus.ACTIVE;
+            if (roll < 0.8) return GoalStatus.COMPLETED;
+            if (roll < 0.9) return GoalStatus.PAUSED;
+            return GoalStatus.CANCELLED;
+        }
+    }
+
+    private static String subject(int offset, int index) {
+        return SUBJECTS[(offset + index) % SUBJECTS.length];
+    }
+
+    private record Session(LocalDateTime start, LocalDateTime end, int studySeconds, int restSeconds,
+                           String mode, int goal, int topic) {
+    }
+
+    /**
+     * 테이블별 생성 행 수
+     */
+    @Getter
+    @ToString
+    public static class Result {
+        private long users;
+        private long studyTopics;
+        private long studyGoals;
+        private long schedules;
+        private long timers;
+    }
+}
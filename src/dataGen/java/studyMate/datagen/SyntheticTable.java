@@ -0,0 +1,44 @@
+package studyMate.datagen;
+
+import java.util.List;
+
+/**
+ * 합성 데이터가 채우는 테이블과 컬럼 (JPA 엔티티의 물리 컬럼명 기준)
+ * 선언 순서가 외래 키 순서이므로 배치를 나눠 넣을 때도 이 순서대로 실행한다.
+ * 값이 비어 있는 AI/설명 TEXT 컬럼은 쓰지 않는다.
+ */
+public enum SyntheticTable {
+    USERS("users", "id", "email", "password", "nickname", "age", "sex", "total_study_time",
+            "created_at", "updated_at"),
+    STUDY_TOPICS("study_topics", "id", "user_id", "name", "goal", "total_study_time", "total_study_count",
+            "created_at", "updated_at"),
+    STUDY_GOALS("study_goals", "id", "user_id", "title", "subject", "color", "start_date", "target_date",
+            "target_hours", "target_sessions", "status", "current_hours", "current_minutes", "current_sessions",
+            "created_at", "updated_at"),
+    SCHEDULES("schedules", "id", "user_id", "topic_id", "title", "color", "schedule_date", "start_time", "end_time",
+            "is_all_day", "is_recurring", "recurrence_rule", "study_mode", "planned_study_minutes",
+            "planned_break_minutes", "status", "completion_rate", "is_reminder_enabled", "created_at", "updated_at"),
+    TIMERS("timers", "id", "user_id", "study_goal_id", "schedule_id", "start_time", "end_time",
+            "study_seconds", "rest_seconds", "mode", "created_at");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    SyntheticTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+}
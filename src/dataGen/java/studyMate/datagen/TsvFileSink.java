@@ -0,0 +1,155 @@
+package studyMate.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL LOAD DATA용 TSV 파일 저장소
+ * 테이블마다 {테이블명}.tsv를 만들고, loadInto()로 외래 키 순서대로 LOAD DATA LOCAL INFILE을 실행한다.
+ * 수천만 행 이상에서는 JDBC 배치보다 수 배 빠르다. (서버 local_infile=ON, URL에 allowLoadLocalInfile=true 필요)
+ * - NULL은 \N, 문자열의 탭/줄바꿈/역슬래시는 MySQL 기본 ESCAPED BY '\\' 규칙으로 이스케이프
+ * - is_* 불리언 컬럼은 BIT(1)이라 사용자 변수로 읽은 뒤 SET 절에서 변환
+ */
+public class TsvFileSink implements RowSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final Map<SyntheticTable, BufferedWriter> writers = new EnumMap<>(SyntheticTable.class);
+
+    public TsvFileSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public static Path fileOf(Path directory, SyntheticTable table) {
+        return directory.resolve(table.getTableName() + ".tsv");
+    }
+
+    @Override
+    public void write(SyntheticTable table, Object... values) {
+        try {
+            BufferedWriter writer = writers.get(table);
+            if (writer == null) {
+                writer = Files.newBufferedWriter(fileOf(directory, table), StandardCharsets.UTF_8);
+                writers.put(table, writer);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("TSV 파일 쓰기 실패: " + table.getTableName(), e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            for (BufferedWriter writer : writers.values()) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("TSV 파일 flush 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (BufferedWriter writer : writers.values()) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("TSV 파일 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 디렉터리의 TSV 파일을 외래 키 순서대로 적재
+     * 적재 중에는 세션 단위로 외래 키/유니크 검사를 끈다. (생성기가 만든 키는 이미 일관됨)
+     */
+    public static void loadInto(Connection connection, Path directory) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("SET UNIQUE_CHECKS = 0");
+            try {
+                for (SyntheticTable table : SyntheticTable.values()) {
+                    Path file = fileOf(directory, table);
+                    if (Files.exists(file)) {
+                        statement.execute(loadDataSql(table, file));
+                    }
+                }
+            } finally {
+                statement.execute("SET UNIQUE_CHECKS = 1");
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+            }
+        }
+    }
+
+    static String loadDataSql(SyntheticTable table, Path file) {
+        List<String> targets = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (String column : table.getColumns()) {
+            if (column.startsWith("is_")) {
+                targets.add("@" + column);
+                assignments.add(column + " = (@" + column + " = '1')");
+            } else {
+                targets.add(column);
+            }
+        }
+        String path = file.toAbsolutePath().toString().replace("\\", "/").replace("'", "\\'");
+        String sql = "LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE " + table.getTableName()
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n'"
+                + " (" + String.join(", ", targets) + ")";
+        return assignments.isEmpty() ? sql : sql + " SET " + String.join(", ", assignments);
+    }
+
+    static String format(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "1" : "0";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DATE_TIME.format(dateTime);
+        }
+        if (value instanceof LocalDate || value instanceof LocalTime || value instanceof Number) {
+            return value.toString();
+        }
+        return escape(value.toString());
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package studyMate.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * STOMP 채널 실행기 처리량 비교 벤치마크 (Java 21 필요)
+ * ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=ChannelExecutorBenchmark
+ * - platform: 기본 inbound 설정(코어 8, 최대 16, 대기열 1000)과 CallerRuns
+ * - virtual: 메시지마다 가상 스레드, 동시 처리 한도 256 (studymate.threads.channel.virtual-concurrency 기본값)
+ * 핸들러는 Redis/DB 왕복을 흉내 내 blockMicros 동안 블로킹한다. 결과는 초당 처리 메시지 수.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChannelExecutorBenchmark {
+
+    private static final int MESSAGES = 2_000;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "2000"})
+    public long blockMicros;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = new VirtualThreadChannelExecutor("bench-virtual-", 256);
+        } else {
+            WebSocketProperties.ChannelExecutor settings = new WebSocketProperties().getInbound();
+            executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("bench-platform-");
+            executor.setCorePoolSize(settings.getCorePoolSize());
+            executor.setMaxPoolSize(settings.getMaxPoolSize());
+            executor.setQueueCapacity(settings.getQueueCapacity());
+            executor.setKeepAliveSeconds(settings.getKeepAliveSeconds());
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        executor.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void dispatch() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+        long blockNanos = TimeUnit.MICROSECONDS.toNanos(blockMicros);
+        for (int i = 0; i < MESSAGES; i++) {
+            executor.execute(() -> {
+                LockSupport.parkNanos(blockNanos);
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
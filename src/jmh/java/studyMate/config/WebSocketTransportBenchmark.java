@@ -0,0 +1,109 @@
+package studyMate.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.sockjs.frame.Jackson2SockJsMessageCodec;
+import org.springframework.web.socket.sockjs.frame.SockJsFrame;
+import org.springframework.web.socket.sockjs.transport.handler.DefaultSockJsService;
+import org.springframework.web.socket.sockjs.transport.session.WebSocketServerSockJsSession;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SockJS / 순수 WebSocket 전송 비교 벤치마크
+ * - 메시지: 타이머 이벤트 STOMP MESSAGE 프레임을 소켓에 쓰기 직전 형태로 만드는 비용 (SockJS는 JSON 배열 프레이밍 추가)
+ * - 연결: 서버가 연결마다 유지하는 전송 계층 세션 객체 생성 비용
+ * 연결당 메모리는 jmh 블록에 profilers = ['gc']를 추가해 gc.alloc.rate.norm(B/op)으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebSocketTransportBenchmark {
+
+    private static final InetSocketAddress LOCAL = new InetSocketAddress("127.0.0.1", 8080);
+    private static final InetSocketAddress REMOTE = new InetSocketAddress("127.0.0.1", 52000);
+
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final Jackson2SockJsMessageCodec sockJsCodec = new Jackson2SockJsMessageCodec();
+    private final WebSocketHandler handler = new TextWebSocketHandler();
+    private final WebSocketProperties.Transport transport = new WebSocketProperties.Transport();
+
+    private Map<String, Object> headers;
+    private byte[] payload;
+    private ThreadPoolTaskScheduler scheduler;
+    private DefaultSockJsService sockJsService;
+
+    @Setup
+    public void setUp() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/timer");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("a1b2c3d4-0");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers = accessor.getMessageHeaders();
+        payload = ("{\"success\":true,\"message\":\"학습 타이머가 시작되었습니다.\",\"status\":\"STARTED\","
+                + "\"remainingTime\":1500,\"timerType\":\"STUDY\",\"userNickname\":\"tester\","
+                + "\"studyTimes\":25,\"breakTimes\":5,\"cycleCount\":1}").getBytes(StandardCharsets.UTF_8);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        sockJsService = new DefaultSockJsService(scheduler);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public TextMessage nativeMessageFrame() {
+        byte[] frame = stompEncoder.encode(headers, payload);
+        return new TextMessage(new String(frame, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public TextMessage sockJsMessageFrame() {
+        byte[] frame = stompEncoder.encode(headers, payload);
+        SockJsFrame sockJsFrame = SockJsFrame.messageFrame(sockJsCodec, new String(frame, StandardCharsets.UTF_8));
+        return new TextMessage(sockJsFrame.getContent());
+    }
+
+    @Benchmark
+    public WebSocketSession nativeConnectionState() {
+        StandardWebSocketSession session = new StandardWebSocketSession(new HttpHeaders(), new HashMap<>(), LOCAL, REMOTE);
+        return new ConcurrentWebSocketSessionDecorator(session,
+                transport.getSendTimeLimitMillis(), transport.getSendBufferSizeLimit());
+    }
+
+    @Benchmark
+    public Object[] sockJsConnectionState() {
+        StandardWebSocketSession nativeSession = new StandardWebSocketSession(new HttpHeaders(), new HashMap<>(), LOCAL, REMOTE);
+        WebSocketServerSockJsSession sockJsSession =
+                new WebSocketServerSockJsSession("session-0", sockJsService, handler, new HashMap<>());
+        // 실제 서버는 SockJS 세션과 그 아래의 WebSocket 세션을 함께 유지한다
+        return new Object[]{nativeSession, new ConcurrentWebSocketSessionDecorator(sockJsSession,
+                transport.getSendTimeLimitMillis(), transport.getSendBufferSizeLimit())};
+    }
+}
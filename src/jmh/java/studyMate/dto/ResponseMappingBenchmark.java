@@ -0,0 +1,125 @@
+package studyMate.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import studyMate.dto.schedule.ScheduleResponse;
+import studyMate.dto.studygoal.StudyGoalResponse;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.Schedule;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.StudyTopic;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 응답 생성 벤치마크
+ * 엔티티 -> 응답 DTO 변환(from)과 ApiResponse로 감싼 목록의 JSON 직렬화를 따로 측정한다.
+ * ObjectMapper는 Spring Boot 기본값(JavaTimeModule, 날짜 문자열 출력)과 같게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"1", "30"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Schedule> schedules;
+    private List<StudyGoal> studyGoals;
+    private ApiResponse<List<ScheduleResponse>> scheduleResponse;
+    private ApiResponse<List<StudyGoalResponse>> studyGoalResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+        StudyTopic topic = new StudyTopic();
+        topic.setId("01HZXBENCHTOPIC000000000000");
+        topic.setName("스프링 부트");
+
+        schedules = new ArrayList<>(size);
+        studyGoals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            schedules.add(Schedule.builder()
+                    .id("01HZXBENCHSCHEDULE" + String.format("%09d", i))
+                    .topic(topic)
+                    .title("JPA 심화 " + i)
+                    .subtitle("연관관계 매핑")
+                    .description("지연 로딩과 N+1 문제 정리")
+                    .color("#4F46E5")
+                    .scheduleDate(LocalDate.of(2025, 3, 1).plusDays(i))
+                    .startTime(LocalTime.of(19, 0))
+                    .endTime(LocalTime.of(21, 0))
+                    .studyMode("POMODORO")
+                    .plannedStudyMinutes(100)
+                    .plannedBreakMinutes(20)
+                    .studyGoal("JPA 마스터하기")
+                    .difficulty("MEDIUM")
+                    .reminderMinutes(10)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+            studyGoals.add(StudyGoal.builder()
+                    .id(1_000L + i)
+                    .title("토익 900점 달성 " + i)
+                    .subject("영어")
+                    .description("LC/RC 매일 2시간")
+                    .color("#16A34A")
+                    .startDate(LocalDate.of(2025, 1, 1))
+                    .targetDate(LocalDate.of(2025, 6, 30))
+                    .targetHours(300)
+                    .targetSessions(150)
+                    .status(GoalStatus.ACTIVE)
+                    .currentHours(42)
+                    .currentMinutes(2_530)
+                    .currentSessions(61)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        scheduleResponse = ApiResponse.success(mapSchedules());
+        studyGoalResponse = ApiResponse.success(mapStudyGoals());
+    }
+
+    @Benchmark
+    public List<ScheduleResponse> mapSchedules() {
+        List<ScheduleResponse> responses = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            responses.add(ScheduleResponse.from(schedule));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<StudyGoalResponse> mapStudyGoals() {
+        List<StudyGoalResponse> responses = new ArrayList<>(studyGoals.size());
+        for (StudyGoal studyGoal : studyGoals) {
+            responses.add(StudyGoalResponse.from(studyGoal));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializeSchedules() throws Exception {
+        return objectMapper.writeValueAsBytes(scheduleResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeStudyGoals() throws Exception {
+        return objectMapper.writeValueAsBytes(studyGoalResponse);
+    }
+}
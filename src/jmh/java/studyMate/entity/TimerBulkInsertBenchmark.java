@@ -0,0 +1,113 @@
+package studyMate.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이머 기록 대량 INSERT 벤치마크 (H2, MySQL 호환 모드)
+ * IDENTITY 방식은 행마다 INSERT 후 생성된 키를 읽어야 해서 Hibernate가 배치를 끄는 것과 같은 경로를,
+ * 시간 순서 ID를 미리 정하는 방식은 JDBC 배치 한 번으로 넣는 경로를 흉내 내 초당 저장 행 수를 비교한다.
+ * 결과는 로컬 H2 기준이라 네트워크 왕복이 있는 MySQL에서는 차이가 더 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimerBulkInsertBenchmark {
+
+    private static final int ROWS = 200;
+    private static final String COLUMNS = "user_id VARCHAR(26) NOT NULL, study_seconds INT NOT NULL, "
+            + "rest_seconds INT NOT NULL, mode VARCHAR(20), created_at TIMESTAMP NOT NULL";
+
+    private Connection connection;
+    private TimeOrderedIdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:timer_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE timers_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + COLUMNS + ")");
+            statement.execute("CREATE TABLE timers_assigned (id BIGINT PRIMARY KEY, " + COLUMNS + ")");
+        }
+        connection.commit();
+        idGenerator = new TimeOrderedIdGenerator(0);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE timers_identity");
+            statement.execute("TRUNCATE TABLE timers_assigned");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO timers_identity (user_id, study_seconds, rest_seconds, mode, created_at) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, i, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int assignedIdBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO timers_assigned (id, user_id, study_seconds, rest_seconds, mode, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, idGenerator.nextId());
+                bind(ps, 2, i, now);
+                ps.addBatch();
+            }
+            int[] counts = ps.executeBatch();
+            connection.commit();
+            return counts.length;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int first, int i, Timestamp now) throws SQLException {
+        ps.setString(first, "01J0000000000000000000USER");
+        ps.setInt(first + 1, 1500 + i);
+        ps.setInt(first + 2, 300);
+        ps.setString(first + 3, "25/5");
+        ps.setTimestamp(first + 4, now);
+    }
+}
@@ -0,0 +1,73 @@
+package studyMate.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import studyMate.dto.ai.AiFeedbackResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답 파싱 벤치마크
+ * 기존 경로(정규식 2회 + 요청마다 새 ObjectMapper로 트리 생성)와 스트리밍 파서를 비교한다.
+ * 응답 크기는 gpt-4o-mini 피드백 응답 기준 짧은/보통/긴 응답을 흉내 낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiResponseParseBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int paragraphs;
+
+    private String response;
+    private AiResponseParser aiResponseParser;
+
+    @Setup
+    public void setUp() {
+        String paragraph = "이번 세션에서는 25분 동안 높은 집중도를 유지했고, 휴대폰 알림이라는 방해 요소가 있었지만 "
+                + "학습 흐름을 크게 해치지 않았습니다. 도서관 환경이 \\\"실습\\\" 위주의 학습 방법과 잘 맞았습니다.\\n";
+        String body = paragraph.repeat(paragraphs);
+        response = "```json\n{\n"
+                + "    \"feedback\": \"" + body + "\",\n"
+                + "    \"suggestions\": \"" + body + "\",\n"
+                + "    \"motivation\": \"" + body + "\"\n"
+                + "}\n```";
+        aiResponseParser = new AiResponseParser(new ObjectMapper());
+    }
+
+    @Benchmark
+    public AiFeedbackResponse streamingParser() {
+        return aiResponseParser.parse(response);
+    }
+
+    @Benchmark
+    public AiFeedbackResponse legacyRegexAndTree() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String cleanedResponse = response.replaceAll("```json\\s*", "")
+                                         .replaceAll("```\\s*", "")
+                                         .trim();
+
+        JsonNode jsonNode = objectMapper.readTree(cleanedResponse);
+
+        String feedback = jsonNode.has("feedback") ?
+                jsonNode.get("feedback").asText() : "피드백을 제공할 수 없습니다.";
+        String suggestions = jsonNode.has("suggestions") ?
+                jsonNode.get("suggestions").asText() : "제안을 제공할 수 없습니다.";
+        String motivation = jsonNode.has("motivation") ?
+                jsonNode.get("motivation").asText() : "계속해서 학습을 진행해주세요!";
+
+        return AiFeedbackResponse.builder()
+                .feedback(feedback)
+                .suggestions(suggestions)
+                .motivation(motivation)
+                .build();
+    }
+}
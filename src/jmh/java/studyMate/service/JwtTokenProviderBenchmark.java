@@ -0,0 +1,79 @@
+package studyMate.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import studyMate.config.JwtProperties;
+import studyMate.entity.User;
+import studyMate.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크
+ * 요청마다 JwtAuthenticationFilter가 거치는 validateToken/getUsername과 로그인 시 발급 경로를 측정한다.
+ * 사용자 조회는 DB 없이 고정 사용자를 돌려주는 저장소로 대체해 서명/파싱 비용만 남긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String EMAIL = "bench@studymate.dev";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey("studymate-benchmark-secret-key-0123456789abcdef");
+        jwtProperties.setAccessTokenValidityInSeconds(3600);
+        jwtProperties.setRefreshTokenValidityInSeconds(1_209_600);
+
+        User user = User.builder()
+                .id("01HZXBENCHUSER0000000000000")
+                .email(EMAIL)
+                .nickname("bench")
+                .build();
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, userRepository);
+        accessToken = jwtTokenProvider.createAccessToken(EMAIL);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(accessToken);
+    }
+}
@@ -0,0 +1,66 @@
+package studyMate.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import studyMate.entity.TimerType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimerStatus 상태 전이 벤치마크
+ * - fullSession: 시작 -> 일시정지 -> 재개 -> 전환 -> 중지 (세션 하나를 처음부터 끝까지)
+ * - pauseResume: 진행 중인 상태에 검증 + 일시정지/재개를 반복 적용 (제자리 갱신 경로)
+ * 이벤트 객체는 미리 만들어 두고 전이 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerStatusBenchmark {
+
+    private static final long START_AT = 1_760_000_000_000L;
+
+    private TimerEvent start;
+    private TimerEvent pause;
+    private TimerEvent resume;
+    private TimerEvent switchMode;
+    private TimerEvent stop;
+    private TimerStatus running;
+
+    @Setup
+    public void setUp() {
+        start = TimerEvent.builder().type(TimerEventType.START).sequence(1).at(START_AT)
+                .timerType(TimerType.STUDY).studyMinutes(25).breakMinutes(5).build();
+        pause = event(TimerEventType.PAUSE, 2, START_AT + 600_000);
+        resume = event(TimerEventType.RESUME, 3, START_AT + 660_000);
+        switchMode = event(TimerEventType.SWITCH, 4, START_AT + 1_560_000);
+        stop = event(TimerEventType.STOP, 5, START_AT + 1_860_000);
+        running = TimerStatus.apply(null, start);
+    }
+
+    @Benchmark
+    public TimerStatus fullSession() {
+        TimerStatus status = TimerStatus.apply(null, start);
+        status = TimerStatus.apply(status, pause);
+        status = TimerStatus.apply(status, resume);
+        status = TimerStatus.apply(status, switchMode);
+        return TimerStatus.apply(status, stop);
+    }
+
+    @Benchmark
+    public int pauseResume() {
+        TimerStatus.validate(running, TimerEventType.PAUSE);
+        TimerStatus.apply(running, pause);
+        TimerStatus.validate(running, TimerEventType.RESUME);
+        TimerStatus.apply(running, resume);
+        return running.calculateRemainingTime(START_AT + 900_000);
+    }
+
+    private static TimerEvent event(TimerEventType type, long sequence, long at) {
+        return TimerEvent.builder().type(type).sequence(sequence).at(at).build();
+    }
+}
@@ -0,0 +1,142 @@
+package studyMate.service.prompt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import studyMate.dto.ai.AiFeedbackRequest;
+import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
+import studyMate.entity.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드백 프롬프트 생성 벤치마크
+ * 기존 String.format 경로와 미리 컴파일된 템플릿 경로를 비교한다.
+ * 할당량 비교는 -prof gc 옵션으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedbackPromptBenchmark {
+
+    private PromptTemplate<FeedbackPromptField> template;
+    private Timer timer;
+    private AiFeedbackRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/prompts/feedback-v1.txt")) {
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            template = PromptTemplate.compile("feedback", "v1", source, FeedbackPromptField.class);
+        }
+
+        User user = User.builder()
+                .id("01HZXBENCHUSER0000000000000")
+                .nickname("bench")
+                .totalStudyTime(5400)
+                .build();
+
+        timer = Timer.builder()
+                .id(1L)
+                .user(user)
+                .studyTime(1500)
+                .restTime(300)
+                .mode("25/5")
+                .aiText(TimerAiFeedback.builder().summary("JPA 연관관계 매핑과 지연 로딩 정리").build())
+                .build();
+
+        request = AiFeedbackRequest.builder()
+                .timerId(1L)
+                .studyTopic("스프링 부트")
+                .studyGoal("JPA 마스터하기")
+                .difficulty("보통")
+                .concentration("높음")
+                .mood("좋음")
+                .interruptions("휴대폰")
+                .studyMethod("실습")
+                .environment("도서관")
+                .build();
+    }
+
+    @Benchmark
+    public String precompiledTemplate() {
+        return FeedbackPromptBuilder.render(template, timer, request);
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        int studyTimeMinutes = timer.getStudyTime() / 60;
+        int restTimeMinutes = timer.getRestTime() / 60;
+        String mode = request.getMode() != null ? request.getMode() : timer.getMode();
+        String storedSummary = TimerAiFeedback.summaryOf(timer);
+        String summary = request.getStudySummary() != null ? request.getStudySummary() :
+                        (storedSummary != null ? storedSummary : "요약 없음");
+
+        String studyTopic = request.getStudyTopic() != null ? request.getStudyTopic() : "정보 없음";
+        String studyGoal = request.getStudyGoal() != null ? request.getStudyGoal() : "정보 없음";
+        String difficulty = request.getDifficulty() != null ? request.getDifficulty() : "정보 없음";
+        String concentration = request.getConcentration() != null ? request.getConcentration() : "정보 없음";
+        String mood = request.getMood() != null ? request.getMood() : "정보 없음";
+        String interruptions = request.getInterruptions() != null ? request.getInterruptions() : "정보 없음";
+        String studyMethod = request.getStudyMethod() != null ? request.getStudyMethod() : "정보 없음";
+        String environment = request.getEnvironment() != null ? request.getEnvironment() : "정보 없음";
+        String energyLevel = request.getEnergyLevel() != null ? request.getEnergyLevel() : "정보 없음";
+        String stressLevel = request.getStressLevel() != null ? request.getStressLevel() : "정보 없음";
+
+        int userTotalStudyTime = timer.getUser().getTotalStudyTime();
+
+        return String.format("""
+                다음 학습 기록을 바탕으로 종합적인 피드백을 제공해주세요:
+                
+                === 기본 학습 정보 ===
+                학습 시간: %d분
+                휴식 시간: %d분
+                학습 모드: %s
+                학습 요약: %s
+                
+                === 상세 학습 정보 ===
+                학습 주제: %s
+                학습 목표: %s
+                학습 난이도: %s
+                집중도: %s
+                학습 기분: %s
+                방해 요소: %s
+                학습 방법: %s
+                학습 환경: %s
+                에너지 레벨: %s
+                스트레스 레벨: %s
+                
+                === 사용자 전체 학습 통계 ===
+                총 학습 시간: %d분
+                
+                === 분석 요청사항 ===
+                1. 학습 효율성 분석 (시간 대비 집중도, 환경 요인 등)
+                2. 개인적 요인 분석 (기분, 에너지, 스트레스가 학습에 미친 영향)
+                3. 환경적 요인 분석 (학습 환경, 방해 요소의 영향)
+                4. 학습 방법 분석 (사용한 방법의 적절성)
+                5. 목표 달성도 평가 (목표 대비 진행 상황)
+                6. 전체 학습 패턴 분석 (총 학습 시간 대비 이번 세션의 의미)
+                7. 개선 가능성 평가 (현재 상황에서 개선할 수 있는 부분)
+                
+                다음 형식으로 JSON 형태로 응답해주세요:
+                {
+                    "feedback": "전반적인 학습에 대한 종합적인 피드백 (위의 분석 요청사항들을 포함)",
+                    "suggestions": "구체적인 개선 방안 제안 (환경, 방법, 습관 등 다양한 측면에서)",
+                    "motivation": "개인적 상황을 고려한 맞춤형 동기부여 메시지"
+                }
+                """,
+                studyTimeMinutes, restTimeMinutes, mode, summary,
+                studyTopic, studyGoal, difficulty, concentration, mood,
+                interruptions, studyMethod, environment, energyLevel, stressLevel,
+                userTotalStudyTime
+        );
+    }
+}
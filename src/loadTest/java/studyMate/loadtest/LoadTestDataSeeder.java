@@ -0,0 +1,56 @@
+package studyMate.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import studyMate.datagen.DataGenSpec;
+import studyMate.datagen.JdbcBatchSink;
+import studyMate.datagen.SyntheticDataGenerator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 부하 테스트 데이터 준비
+ * 시나리오가 로그인할 loadtest-{n}@studymate.dev 계정(비밀번호 공통)과 과거 학습 기록을 합성 데이터 생성기로 만든다.
+ * 계정마다 첫 학습 목표는 진행 중 상태라 시나리오가 항상 목표 ID를 얻을 수 있고,
+ * 기록 수는 멱법칙으로 배분돼 홈 통계/캘린더 조회가 실제처럼 사용자마다 다른 양을 읽는다.
+ * BCrypt 해시는 한 번만 계산해 모든 계정에 재사용한다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String PASSWORD = "loadtest1234!";
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        int userCount = environment.getProperty("loadtest.users", Integer.class, 200);
+        DataGenSpec spec = DataGenSpec.builder()
+                .users(userCount)
+                .timers(environment.getProperty("loadtest.timers", Long.class, userCount * 100L))
+                .days(environment.getProperty("loadtest.history-days", Integer.class, 180))
+                .emailPattern("loadtest-%d@studymate.dev")
+                .nicknamePrefix("load")
+                .passwordHash(passwordEncoder.encode(PASSWORD))
+                .build();
+
+        try (Connection connection = dataSource.getConnection();
+             JdbcBatchSink sink = new JdbcBatchSink(connection, spec.getBatchSize())) {
+            SyntheticDataGenerator.Result result = new SyntheticDataGenerator(spec).generate(sink);
+            log.info("부하 테스트 데이터 준비 완료: {} (비밀번호: {})", result, PASSWORD);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package studyMate.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+import studyMate.StudyMateApplication;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트용 서버 실행기
+ * MySQL/Redis/OpenAI 없이 애플리케이션을 띄운다.
+ * - DB: H2 인메모리 (MySQL 호환 모드, 시작 시 스키마 생성)
+ * - Redis: 내장 Redis 서버 (Stream/Pub-Sub 포함 실제 Redis 바이너리)
+ * - OpenAI: 지연 시간을 조절할 수 있는 스텁 서버
+ * 설정은 -Dloadtest.* 시스템 프로퍼티로 바꾼다. (./gradlew loadTestServer -Dloadtest.users=1000)
+ */
+@Slf4j
+public class LoadTestServer {
+
+    public static void main(String[] args) throws Exception {
+        int redisPort = Integer.getInteger("loadtest.redis-port", 6380);
+        int openAiPort = Integer.getInteger("loadtest.openai-port", 8089);
+
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        StubOpenAiServer openAiServer = new StubOpenAiServer(openAiPort,
+                Long.getLong("loadtest.openai-latency-millis", 800),
+                Long.getLong("loadtest.openai-jitter-millis", 400));
+        openAiServer.start();
+
+        SpringApplication application = new SpringApplication(StudyMateApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        application.setDefaultProperties(Map.of(
+                "server.port", Integer.getInteger("loadtest.port", 8080),
+                "loadtest.users", Integer.getInteger("loadtest.users", 200),
+                "spring.data.redis.port", redisPort,
+                "openai.base-url", "http://127.0.0.1:" + openAiPort + "/v1"));
+        ConfigurableApplicationContext context = application.run(args);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            context.close();
+            openAiServer.stop();
+            try {
+                redisServer.stop();
+            } catch (Exception e) {
+                log.warn("내장 Redis 종료 실패", e);
+            }
+        }, "loadtest-shutdown"));
+    }
+}
@@ -0,0 +1,85 @@
+package studyMate.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI Chat Completions 스텁 서버
+ * POST /v1/chat/completions에 고정된 피드백 JSON을 돌려주며, 응답 전에 지연 시간(기본값 + 0~jitter)을 둔다.
+ * 실제 API 비용/한도 없이 AI 전용 풀(AiBulkhead)과 대기열이 지연에 어떻게 반응하는지 확인하는 용도다.
+ */
+@Slf4j
+public class StubOpenAiServer {
+
+    private static final String CONTENT = "```json\\n{\\n"
+            + "  \\\"feedback\\\": \\\"부하 테스트용 피드백입니다. 집중 시간이 안정적으로 유지되었습니다.\\\",\\n"
+            + "  \\\"suggestions\\\": \\\"25분 학습 후 5분 휴식 주기를 유지해 보세요.\\\",\\n"
+            + "  \\\"motivation\\\": \\\"오늘도 잘 해내고 있어요!\\\"\\n"
+            + "}\\n```";
+    private static final byte[] RESPONSE = ("{\"id\":\"chatcmpl-loadtest\",\"object\":\"chat.completion\","
+            + "\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"finish_reason\":\"stop\","
+            + "\"message\":{\"role\":\"assistant\",\"content\":\"" + CONTENT + "\"}}],"
+            + "\"usage\":{\"prompt_tokens\":850,\"completion_tokens\":180,\"total_tokens\":1030}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final long jitterMillis;
+
+    public StubOpenAiServer(int port, long latencyMillis, long jitterMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        // 지연 중인 요청이 다른 요청을 막지 않도록 요청마다 스레드를 쓴다
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/v1/chat/completions", this::handle);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+        log.info("OpenAI 스텁 서버 시작 - 포트: {}, 지연: {}ms (+0~{}ms)",
+                server.getAddress().getPort(), latencyMillis, jitterMillis);
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            sleep();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE);
+            }
+        }
+    }
+
+    private void sleep() {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package studyMate.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.time.Duration;
+
+/**
+ * Timer/StudyGoal 시간 순서 ID 생성기 설정
+ * 여러 인스턴스가 같은 밀리초에 같은 ID를 만들지 않도록 인스턴스별 노드 ID를 적용한다.
+ * - studymate.id.node-id를 지정하면 그 값을 쓴다.
+ * - 지정하지 않으면 studymate.id.single-node=true일 때 0을, 그 외에는 Redis에서 빈 번호를 임대한다.
+ *   (local 프로필은 application.yml의 기본 활성 프로필이라 배포 인스턴스에도 켜지므로 프로필로 판단하지 않는다)
+ * - 임대를 껐거나 임대하지 못하면 같은 ID를 만들 수 있으므로 기동을 중단한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdGeneratorConfig {
+
+    private final IdProperties idProperties;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private NodeIdLease lease;
+
+    @PostConstruct
+    public void configure() {
+        int nodeId = resolveNodeId();
+        TimeOrderedIdGenerator.configure(nodeId);
+        log.info("시간 순서 ID 생성기 노드 ID: {}", nodeId);
+    }
+
+    private int resolveNodeId() {
+        if (idProperties.getNodeId() != null) {
+            return idProperties.getNodeId();
+        }
+        if (idProperties.isSingleNode()) {
+            log.warn("studymate.id.single-node가 켜져 있어 노드 ID 0을 사용합니다. 인스턴스를 여러 대 띄우면 ID가 충돌합니다.");
+            return 0;
+        }
+        if (!idProperties.isLease()) {
+            throw new IllegalStateException("studymate.id.node-id를 지정하거나 studymate.id.lease 또는 studymate.id.single-node를 켜야 합니다.");
+        }
+        NodeIdLease nodeIdLease = new NodeIdLease(redisTemplate.getObject(),
+                Duration.ofSeconds(idProperties.getLeaseTtlSeconds()));
+        try {
+            int nodeId = nodeIdLease.acquire();
+            lease = nodeIdLease;
+            return nodeId;
+        } catch (RuntimeException e) {
+            nodeIdLease.close();
+            throw new IllegalStateException("노드 ID를 임대하지 못했습니다. studymate.id.node-id를 지정하세요.", e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (lease != null) {
+            lease.close();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.id")
+public class IdProperties {
+    private Integer nodeId;              // 시간 순서 ID의 노드 ID (0~31). 지정하지 않으면 single-node일 때 0, 그 외에는 Redis에서 임대
+    private boolean singleNode = false;  // 인스턴스를 한 대만 띄울 때 node-id 없이 0 사용 (여러 대면 ID가 충돌하므로 켜지 말 것)
+    private boolean lease = true;        // node-id 미지정 시 Redis에서 노드 ID 임대 (끄면 node-id 없이 기동 실패)
+    private long leaseTtlSeconds = 60;   // 노드 ID 임대 유지 시간 (1/3마다 갱신)
+}
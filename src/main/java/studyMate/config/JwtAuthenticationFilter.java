@@ -1,5 +1,7 @@
 package studyMate.config;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +20,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class  JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String OBSERVATION_NAME = "studymate.auth.jwt";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,6 +37,14 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
+        // 토큰 파싱/서명 검증/사용자 조회 구간 (느린 요청에서 인증 비용을 따로 볼 수 있도록)
+        Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .observe(() -> authenticate(request, requestURI));
+        
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, String requestURI) {
         try {
             String token = resolveToken(request);
             
@@ -50,8 +63,6 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
             log.error("JWT 토큰 처리 중 오류 발생: {}", e.getMessage());
             SecurityContextHolder.clearContext();
         }
-        
-        filterChain.doFilter(request, response);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -65,6 +76,7 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
     private boolean isPermittedPath(String requestURI) {
         return requestURI.startsWith("/api/auth/") ||
                requestURI.startsWith("/ws-timer/") ||
+               requestURI.equals("/ws-timer-native") ||
                requestURI.startsWith("/swagger-ui/") ||
                requestURI.startsWith("/v3/api-docs/") ||
                requestURI.startsWith("/actuator/");
@@ -0,0 +1,22 @@
+package studyMate.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 메서드 지표 설정
+ * 클래스에 @Timed를 붙인 서비스의 모든 public 메서드를 studymate.service 타이머로 기록한다.
+ * 태그는 class/method/exception만 사용하고 사용자 ID 같은 값은 태그로 쓰지 않는다. (시계열 수 폭증 방지)
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_METRIC = "studymate.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package studyMate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 시간 순서 ID 노드 ID 임대
+ * node-id를 지정하지 않은 인스턴스가 0~31 중 비어 있는 번호를 TTL로 잡고, TTL의 1/3마다 갱신한다.
+ * - 공용 카운터(INCR) mod 32 번호부터 차례로 SET NX를 시도하므로 동시에 기동해도 같은 번호를 잡지 않는다.
+ * - 갱신할 때 임대가 만료되었으면 같은 번호를 다시 잡고, 다른 인스턴스가 가져갔으면 새 번호로 생성기를 바꾼다.
+ * - Redis 단절이 TTL보다 길어지면 그 사이 다른 인스턴스가 같은 번호를 잡을 수 있다.
+ * - 종료 시 자신이 잡은 번호만 반납한다.
+ */
+@Slf4j
+class NodeIdLease implements AutoCloseable {
+
+    static final String COUNTER_KEY = "studymate:id:node-counter";
+    static final String LEASE_KEY_PREFIX = "studymate:id:node:";
+    private static final int NODE_COUNT = TimeOrderedIdGenerator.MAX_NODE_ID + 1;
+
+    // 토큰이 같을 때만 연장/반납 (다른 인스턴스가 잡은 번호는 건드리지 않음)
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final String token = UUID.randomUUID().toString();
+    private final ScheduledExecutorService scheduler;
+    private volatile int nodeId = -1;
+
+    NodeIdLease(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "node-id-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 노드 ID를 임대하고 주기적 갱신을 시작
+     * 비어 있는 번호가 없거나 Redis에 연결할 수 없으면 예외가 발생한다.
+     */
+    int acquire() {
+        nodeId = lease();
+        long periodMillis = Math.max(1000, ttl.toMillis() / 3);
+        scheduler.scheduleWithFixedDelay(this::renew, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return nodeId;
+    }
+
+    void renew() {
+        try {
+            String key = LEASE_KEY_PREFIX + nodeId;
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, Long.toString(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                return;
+            }
+            // 만료된 경우 같은 번호를 다시 잡는다
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+                log.warn("노드 ID 임대가 만료되어 다시 잡았습니다: {}", nodeId);
+                return;
+            }
+            int previous = nodeId;
+            nodeId = lease();
+            TimeOrderedIdGenerator.configure(nodeId);
+            log.warn("노드 ID {}를 다른 인스턴스가 사용 중이어서 {}로 바꿉니다.", previous, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("노드 ID 임대 갱신 실패, 현재 번호를 유지합니다: {} ({})", nodeId, e.getMessage());
+        }
+    }
+
+    private int lease() {
+        Long counter = redisTemplate.opsForValue().increment(COUNTER_KEY);
+        int start = (int) Math.floorMod(counter != null ? counter : 0L, (long) NODE_COUNT);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            int candidate = (start + i) % NODE_COUNT;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + candidate, token, ttl))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("임대할 수 있는 노드 ID가 없습니다 (0~" + (NODE_COUNT - 1) + " 모두 사용 중)");
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (nodeId < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + nodeId), token);
+        } catch (RuntimeException e) {
+            log.warn("노드 ID 반납 실패 (TTL 후 만료됨): {} ({})", nodeId, e.getMessage());
+        }
+    }
+}
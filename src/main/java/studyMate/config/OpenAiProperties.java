@@ -10,11 +10,37 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "openai")
 public class OpenAiProperties {
     private String apikey;
+    private String baseUrl = "https://api.openai.com/v1"; // 부하 테스트 시 스텁 서버로 교체
+    private int connectTimeoutMillis = 3000;  // 연결 타임아웃 (연결 오류는 재시도)
+    private int responseTimeoutSeconds = 20;  // 응답 타임아웃 (초과 시 재시도하지 않음)
     private RateLimit rateLimit = new RateLimit();
+    private Prompt prompt = new Prompt();
+    private Bulkhead bulkhead = new Bulkhead();
 
     @Getter @Setter
     public static class RateLimit {
         private int requestsPerMinute = 20;
         private int retryDelaySeconds = 60;
     }
+
+    @Getter @Setter
+    public static class Prompt {
+        private String version = "v2";          // 기본 피드백 템플릿 버전
+        private String candidateVersion;        // A/B 비교용 후보 버전 (없으면 비활성)
+        private int candidatePercent = 0;       // 후보 버전을 받을 사용자 비율 (0~100)
+        private int maxTokens = 1500;           // 요청당 프롬프트 토큰 예산 (추정치 기준)
+        private int maxSummaryTokens = 300;     // 사용자 학습 요약 최대 토큰
+        private int maxFieldTokens = 40;        // 요약 외 자유 입력 항목(주제, 목표, 기분 등) 하나당 최대 토큰
+        private int historyDays = 14;           // 프롬프트에 포함할 최근 학습 기록 일수
+        private int maxGoals = 5;               // 프롬프트에 포함할 진행 중 목표 수
+    }
+
+    @Getter @Setter
+    public static class Bulkhead {
+        private int maxConcurrent = 8;           // 동시에 OpenAI를 호출할 수 있는 최대 요청 수
+        private int queueCapacity = 32;          // 대기열 크기 (초과 시 즉시 503)
+        private long maxWaitMillis = 5000;       // 대기열에서 기다릴 수 있는 최대 시간
+        private long taskTimeoutMillis = 50000;  // 대기 포함 작업 전체 제한 (초과 시 실행 중인 호출을 중단, requestTimeoutSeconds보다 짧게)
+        private int requestTimeoutSeconds = 60;  // AI 피드백 비동기 요청 전체 타임아웃 (다른 비동기 요청에는 적용하지 않음)
+    }
 }
@@ -0,0 +1,81 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 문 수 집계 필터
+ * 인증 필터까지 포함해 요청 스레드에서 실행한 SQL 문을 세어 엔드포인트(URI 패턴)별 지표로 남기고,
+ * 문장 수가 한도를 넘거나 같은 형태의 쿼리가 반복되면(N+1 의심) 반복 횟수 순으로 쿼리 형태를 경고 로그에 남긴다.
+ * - studymate.request.queries: 요청당 SQL 문 수 (method, uri)
+ * - studymate.request.query.time: 요청당 JDBC 실행 시간 합계 (method, uri)
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String QUERIES_METRIC = "studymate.request.queries";
+    static final String QUERY_TIME_METRIC = "studymate.request.query.time";
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryInspectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryInspectionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Scope scope) {
+        String method = request.getMethod();
+        String uri = endpointOf(request);
+        DistributionSummary.builder(QUERIES_METRIC)
+                .description("요청 한 건에서 실행한 SQL 문 수")
+                .baseUnit("queries")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(scope.getStatementCount());
+        Timer.builder(QUERY_TIME_METRIC)
+                .description("요청 한 건의 JDBC 실행 시간 합계")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(scope.getExecutionNanos(), TimeUnit.NANOSECONDS);
+
+        boolean tooMany = scope.getStatementCount() > properties.getMaxQueriesPerRequest();
+        boolean repeated = scope.getMaxRepetition() >= properties.getRepeatedQueryThreshold();
+        if (tooMany || repeated) {
+            log.warn("쿼리 과다 요청{} - {} {}: SQL {}건, JDBC {}ms{}",
+                    repeated ? " (N+1 의심)" : "", method, uri, scope.getStatementCount(),
+                    TimeUnit.NANOSECONDS.toMillis(scope.getExecutionNanos()),
+                    scope.describe(properties.getLogTopFingerprints()));
+        }
+    }
+
+    // 경로 변수 값이 태그로 들어가지 않도록 매핑된 URI 패턴을 사용
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,16 @@
+package studyMate.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 QueryCounter에 기록 (SQL은 바꾸지 않음)
+ * hibernate.session_factory.statement_inspector로 등록한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,130 @@
+package studyMate.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 스레드에서 실행한 SQL 문 집계
+ * Hibernate StatementInspector(QueryCountInspector)가 SQL을 준비할 때마다 기록하고,
+ * 요청 필터(QueryCountFilter)나 테스트가 start()로 연 범위 안의 문장만 센다.
+ * - 범위는 중첩할 수 있으며 안쪽 범위의 기록은 바깥 범위에도 합산된다.
+ * - JDBC 실행 시간은 QueryTimingListener가 더하고, 느린 문장은 범위와 관계없이 바로 경고 로그를 남긴다.
+ * - AI 전용 풀이나 STOMP 채널 스레드처럼 요청 스레드 밖에서 실행한 쿼리는 요청에 합산되지 않는다.
+ */
+@Slf4j
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+    private static volatile long slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 느린 쿼리 기준 설정 (기동 시 한 번)
+     */
+    public static void configure(long slowQueryMillis) {
+        slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+    }
+
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void statementPrepared(String sql) {
+        LAST_SQL.set(sql);
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String fingerprint = SqlFingerprint.of(sql);
+            for (Scope target = scope; target != null; target = target.parent) {
+                target.recordStatement(fingerprint);
+            }
+        }
+    }
+
+    static void statementExecuted(long nanos) {
+        for (Scope target = CURRENT.get(); target != null; target = target.parent) {
+            target.executionNanos += nanos;
+        }
+        if (nanos >= slowQueryNanos) {
+            log.warn("느린 쿼리 {}ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), SqlFingerprint.of(LAST_SQL.get()));
+        }
+    }
+
+    /**
+     * 집계 범위 (try-with-resources로 닫음)
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> fingerprints = new HashMap<>();
+        private int statementCount;
+        private long executionNanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void recordStatement(String fingerprint) {
+            statementCount++;
+            fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        public Map<String, Integer> getFingerprints() {
+            return Collections.unmodifiableMap(fingerprints);
+        }
+
+        // 가장 많이 반복된 쿼리 형태의 반복 횟수
+        public int getMaxRepetition() {
+            return fingerprints.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        // 반복 횟수 순으로 쿼리 형태 limit개
+        public List<Map.Entry<String, Integer>> topFingerprints(int limit) {
+            return fingerprints.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        // 로그/실패 메시지용 "  N회 SQL" 목록
+        public String describe(int limit) {
+            StringBuilder description = new StringBuilder();
+            for (Map.Entry<String, Integer> entry : topFingerprints(limit)) {
+                description.append("\n  ").append(entry.getValue()).append("회 ").append(entry.getKey());
+            }
+            return description.toString();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
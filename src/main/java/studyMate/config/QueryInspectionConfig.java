@@ -0,0 +1,46 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 문 수/느린 쿼리 감지 설정
+ * Hibernate에 StatementInspector와 실행 시간 리스너를 등록하고, 요청별 집계 필터를 보안 필터보다 앞에 둔다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "studymate.query-inspection", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    private final QueryInspectionProperties properties;
+
+    @PostConstruct
+    public void configure() {
+        QueryCounter.configure(properties.getSlowQueryMillis());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryInspectionHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCountInspector.class.getName());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10); // 인증 필터의 사용자 조회까지 포함
+        return registration;
+    }
+}
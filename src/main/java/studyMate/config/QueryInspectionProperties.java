@@ -0,0 +1,20 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 문 수/느린 쿼리 감지 설정
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.query-inspection")
+public class QueryInspectionProperties {
+    private boolean enabled = true;
+    private int maxQueriesPerRequest = 20;    // 요청 한 건의 SQL 문 수가 이를 넘으면 경고 로그
+    private int repeatedQueryThreshold = 5;   // 같은 형태의 쿼리가 이만큼 반복되면 N+1 의심으로 경고
+    private long slowQueryMillis = 200;       // JDBC 실행 시간이 이를 넘는 문장은 느린 쿼리로 경고
+    private int logTopFingerprints = 5;       // 경고 로그에 남길 쿼리 형태 수 (반복 횟수 순)
+}
@@ -0,0 +1,33 @@
+package studyMate.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정
+ * Hibernate가 세션마다 새로 만드는 리스너로(hibernate.session.events.auto), 문장/배치 실행 시간을 QueryCounter에 더한다.
+ */
+public class QueryTimingListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.statementExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.statementExecuted(System.nanoTime() - batchStart);
+    }
+}
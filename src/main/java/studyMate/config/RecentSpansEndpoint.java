@@ -0,0 +1,110 @@
+package studyMate.config;
+
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 exporter에 남은 최근 trace 조회
+ * - GET /actuator/recentspans: 최근 trace 목록 (루트 span 이름, 전체 시간, span 수)
+ * - GET /actuator/recentspans/{traceId}: trace 한 건의 span별 시작 오프셋/소요 시간
+ * 로그의 traceId로 느린 요청의 구간별 시간을 바로 확인할 수 있다.
+ */
+@Endpoint(id = "recentspans")
+@RequiredArgsConstructor
+public class RecentSpansEndpoint {
+
+    private static final int MAX_TRACES = 50;
+
+    private final RecentSpanExporter exporter;
+
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        Map<String, List<SpanData>> byTrace = new LinkedHashMap<>();
+        List<SpanData> spans = exporter.getSpans();
+        // 최근 trace가 앞에 오도록 역순으로 묶음
+        for (int i = spans.size() - 1; i >= 0; i--) {
+            SpanData span = spans.get(i);
+            byTrace.computeIfAbsent(span.getTraceId(), traceId -> new ArrayList<>()).add(span);
+        }
+        return byTrace.entrySet().stream()
+                .limit(MAX_TRACES)
+                .map(entry -> summarize(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @ReadOperation
+    public List<SpanView> trace(@Selector String traceId) {
+        List<SpanData> spans = exporter.getTrace(traceId);
+        long traceStart = spans.isEmpty() ? 0 : spans.get(0).getStartEpochNanos();
+        return spans.stream()
+                .map(span -> SpanView.builder()
+                        .name(span.getName())
+                        .spanId(span.getSpanId())
+                        .parentSpanId(SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null)
+                        .startOffsetMillis(toMillis(span.getStartEpochNanos() - traceStart))
+                        .durationMillis(toMillis(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                        .status(span.getStatus().getStatusCode().name())
+                        .attributes(attributesOf(span))
+                        .build())
+                .toList();
+    }
+
+    private static TraceSummary summarize(String traceId, List<SpanData> spans) {
+        long start = spans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+        long end = spans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElse(0);
+        String root = spans.stream()
+                .filter(span -> !SpanId.isValid(span.getParentSpanId()))
+                .map(SpanData::getName)
+                .findFirst()
+                .orElse(spans.get(spans.size() - 1).getName()); // 루트가 아직 끝나지 않았으면 가장 먼저 끝난 span
+        return TraceSummary.builder()
+                .traceId(traceId)
+                .root(root)
+                .durationMillis(toMillis(end - start))
+                .spanCount(spans.size())
+                .build();
+    }
+
+    private static Map<String, String> attributesOf(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return attributes;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Getter
+    @Builder
+    public static class TraceSummary {
+        private final String traceId;
+        private final String root;
+        private final double durationMillis;
+        private final int spanCount;
+    }
+
+    @Getter
+    @Builder
+    public static class SpanView {
+        private final String name;
+        private final String spanId;
+        private final String parentSpanId;
+        private final double startOffsetMillis;
+        private final double durationMillis;
+        private final String status;
+        private final Map<String, String> attributes;
+    }
+}
@@ -1,10 +1,15 @@
 package studyMate.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import studyMate.service.TimerEventFanout;
 
 @Configuration
 public class RedisConfig {
@@ -17,4 +22,27 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    /**
+     * 타이머 이벤트 전파용 템플릿 (값은 바이너리 그대로 전송)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> timerEventRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "studymate.websocket.fanout", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer timerEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     TimerEventFanout timerEventFanout,
+                                                                     WebSocketProperties webSocketProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(timerEventFanout, new ChannelTopic(webSocketProperties.getFanout().getChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,53 @@
+package studyMate.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 리포지토리 호출 span
+ * studyMate.repository의 Spring Data 리포지토리 메서드 호출마다 studymate.repository 관측을 만든다.
+ * 태그는 리포지토리/메서드 이름만 사용하고 파라미터 값은 남기지 않는다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryObservationAspect {
+
+    public static final String OBSERVATION_NAME = "studymate.repository";
+    private static final String REPOSITORY_PACKAGE = "studyMate.repository";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(* studyMate.repository..*Repository.*(..))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // findById처럼 CrudRepository에 선언된 메서드도 호출한 리포지토리 인터페이스 이름으로 기록
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClass(joinPoint.getThis().getClass())) {
+            if (type.getPackageName().startsWith(REPOSITORY_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
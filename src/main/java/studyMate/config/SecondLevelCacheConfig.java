@@ -0,0 +1,88 @@
+package studyMate.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정
+ * 읽기가 대부분인 StudyGoal/StudyTopic/User 엔티티와 findByIdAndUser/findByEmail 쿼리 결과를 인스턴스 메모리에 둔다.
+ * - 엔티티는 READ_WRITE 전략이라 이 인스턴스의 JPA 수정은 바로 반영되고, JDBC로 직접 바꾼 행은 호출자가 evict한다.
+ * - 쿼리 결과에는 ID만 저장되며, 엔티티 값은 엔티티 영역에서 읽는다.
+ * - 영역별 적중/미스/저장 수는 Hibernate 통계로 수집해 hibernate.second.level.cache.* 지표로 노출한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "studymate.l2-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    static final List<String> ENTITY_REGIONS = List.of("studyGoal", "studyTopic", "user");
+    private static final String SESSION_FACTORY_NAME = "studymate";
+    private static final long TIMESTAMPS_MAX_SIZE = 1000; // 테이블당 한 항목
+
+    private final SecondLevelCacheProperties properties;
+
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            createIfAbsent(cacheManager, region, properties.getEntityMaxSize(), properties.getEntityTtlSeconds());
+        }
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                properties.getQueryMaxSize(), properties.getQueryTtlSeconds());
+        // 테이블별 마지막 수정 시각: 쿼리 결과보다 먼저 만료되면 오래된 결과를 쓸 수 있으므로 만료시키지 않는다
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                TIMESTAMPS_MAX_SIZE, 0);
+        return cacheManager;
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String region, long maxSize, long ttlSeconds) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        cacheManager.createCache(region, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // 영역별 지표용 통계 (세션마다 통계를 로그로 남기지는 않음)
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), SESSION_FACTORY_NAME, Tags.empty());
+    }
+}
@@ -0,0 +1,21 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 인스턴스별 메모리)
+ * 다른 인스턴스의 수정은 캐시 항목이 만료될 때까지 보이지 않을 수 있으므로 TTL을 짧게 둔다.
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.l2-cache")
+public class SecondLevelCacheProperties {
+    private boolean enabled = true;
+    private long entityMaxSize = 10000;     // 엔티티 영역(studyGoal/studyTopic/user)별 최대 항목 수
+    private long entityTtlSeconds = 300;    // 엔티티 항목 보관 시간 (다른 인스턴스의 수정이 보이기까지 최대 시간)
+    private long queryMaxSize = 10000;      // 쿼리 결과(ID 목록) 최대 항목 수
+    private long queryTtlSeconds = 60;      // 쿼리 결과 보관 시간 (다른 인스턴스의 가입/삭제가 보이기까지 최대 시간)
+}
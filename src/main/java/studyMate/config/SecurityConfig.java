@@ -1,5 +1,7 @@
 package studyMate.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +23,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -45,7 +48,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, observationRegistry);
     }
 
     // Spring Security 인증/인가 규칙 설정
@@ -57,6 +60,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안함
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치(AI 피드백)는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 관련 엔드포인트는 모두 허용
                         .requestMatchers(HttpMethod.POST, "/api/auth/sign-in").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/sign-up").permitAll()
@@ -66,7 +71,7 @@ public class SecurityConfig {
                         // 테스트 API 허용
                         .requestMatchers(HttpMethod.GET, "/api/timer/test-stats").permitAll()
                         // WebSocket 엔드포인트 허용
-                        .requestMatchers("/ws-timer/**").permitAll()
+                        .requestMatchers("/ws-timer/**", "/ws-timer-native").permitAll()
                         // Swagger UI 허용
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         // 헬스체크 엔드포인트 허용
@@ -0,0 +1,21 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 학습 통계(home-stats/total-stats) 캐시 설정
+ * 인스턴스 메모리(Caffeine) -> Redis -> DB 집계 순으로 조회한다.
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.stats-cache")
+public class StatsCacheProperties {
+    private boolean enabled = true;
+    private long localTtlSeconds = 10;    // 인스턴스 메모리 보관 시간 (다른 인스턴스의 저장/삭제가 늦게 보이는 최대 시간)
+    private long localMaxSize = 10000;    // 인스턴스 메모리에 보관할 사용자 수
+    private long redisTtlMinutes = 60;    // Redis 스냅샷 보관 시간 (사용자 세대 키는 두 배 동안 보관)
+    private String defaultZone;           // 요청에 시간대가 없을 때 쓸 시간대 (없으면 서버 시간대)
+}
@@ -0,0 +1,61 @@
+package studyMate.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * STOMP 메시지 처리 span
+ * 인바운드 채널 실행기 스레드에서 @MessageMapping 핸들러가 메시지를 처리하는 구간을 studymate.stomp 관측으로 감싼다.
+ * 관측 범위가 열려 있는 동안 로그 MDC에 traceId/spanId가 들어가고, 핸들러 안의 리포지토리/Redis 호출은 하위 span이 된다.
+ * destination은 클라이언트가 정하는 값이므로 지표 태그가 아닌 span 속성으로만 남긴다.
+ */
+public class StompObservationInterceptor implements ExecutorChannelInterceptor {
+
+    public static final String OBSERVATION_NAME = "studymate.stomp";
+
+    private static final ThreadLocal<Observation.Scope> CURRENT = new ThreadLocal<>();
+
+    private final ObservationRegistry observationRegistry;
+
+    public StompObservationInterceptor(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("STOMP " + destination)
+                .lowCardinalityKeyValue("command", "SEND")
+                .highCardinalityKeyValue("destination", String.valueOf(destination))
+                .start();
+        CURRENT.set(observation.openScope());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Observation.Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        CURRENT.remove();
+        Observation observation = scope.getCurrentObservation();
+        scope.close();
+        if (ex != null) {
+            observation.error(ex);
+        }
+        observation.stop();
+    }
+}
@@ -0,0 +1,74 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 세션 전송 지표 수집
+ * 세션을 감싸 실제 소켓 쓰기 시간을 stomp.send.latency로 기록하고,
+ * 전송 버퍼/시간 한도를 넘겨 느린 소비자로 끊긴 세션(SESSION_NOT_RELIABLE)을 집계한다.
+ * 한도 초과 시 연결 종료 자체는 Spring의 ConcurrentWebSocketSessionDecorator가 수행한다.
+ */
+@Slf4j
+public class StompSessionMetricsDecorator extends WebSocketHandlerDecorator {
+
+    private final Timer sendLatency;
+    private final Counter slowConsumerDisconnects;
+
+    public StompSessionMetricsDecorator(WebSocketHandler delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.sendLatency = Timer.builder("stomp.send.latency")
+                .description("WebSocket 세션 한 건 전송에 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("stomp.session.slow.consumer.disconnects")
+                .description("전송 한도를 넘겨 종료된 느린 소비자 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(new TimedSession(session, sendLatency));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+            slowConsumerDisconnects.increment();
+            log.warn("느린 소비자 세션 종료 - 세션: {}, 사유: {}", session.getId(), closeStatus.getReason());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    // 실제 소켓 쓰기 시간을 측정하는 세션 래퍼
+    static final class TimedSession extends WebSocketSessionDecorator {
+
+        private final Timer sendLatency;
+
+        TimedSession(WebSocketSession delegate, Timer sendLatency) {
+            super(delegate);
+            this.sendLatency = sendLatency;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
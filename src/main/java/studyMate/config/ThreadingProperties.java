@@ -0,0 +1,30 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스레드 실행 모델 관련 설정
+ * 가상 스레드 모드 자체는 spring.threads.virtual.enabled(Java 21 이상)로 켠다.
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.threads")
+public class ThreadingProperties {
+    private Channel channel = new Channel();
+    private Pinning pinning = new Pinning();
+
+    @Getter @Setter
+    public static class Channel {
+        private int virtualConcurrency = 256;  // 가상 스레드 모드에서 STOMP 채널별 최대 동시 처리 수
+    }
+
+    @Getter @Setter
+    public static class Pinning {
+        private boolean enabled = true;        // 가상 스레드 모드에서 pinning 감지 여부
+        private long thresholdMillis = 20;     // 이 시간 이상 캐리어 스레드를 점유한 경우만 기록
+        private int maxFrames = 12;            // 로그에 남길 스택 프레임 수
+    }
+}
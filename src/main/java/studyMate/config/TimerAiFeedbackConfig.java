@@ -0,0 +1,26 @@
+package studyMate.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import studyMate.entity.CompressedTextConverter;
+
+/**
+ * timer_ai_feedback 텍스트 압축 설정
+ * JPA 컨버터는 Hibernate가 만들므로 시작 시 정적으로 압축 여부와 최소 길이를 적용한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TimerAiFeedbackConfig {
+
+    private final TimerProperties timerProperties;
+
+    @PostConstruct
+    public void configure() {
+        TimerProperties.AiText settings = timerProperties.getAiText();
+        CompressedTextConverter.configure(settings.isCompress(), settings.getMinCompressLength());
+        log.info("AI 텍스트 압축 저장: {} (최소 {}자)", settings.isCompress(), settings.getMinCompressLength());
+    }
+}
@@ -0,0 +1,57 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.timer")
+public class TimerProperties {
+    private EventLog eventLog = new EventLog();
+    private Persistence persistence = new Persistence();
+    private WriteBehind writeBehind = new WriteBehind();
+    private Archive archive = new Archive();
+    private AiText aiText = new AiText();
+
+    @Getter @Setter
+    public static class EventLog {
+        private boolean enabled = true;
+        private long maxLength = 500;      // 사용자별 스트림 최대 길이 (세션 종료 시 근사 trim)
+        private long retentionHours = 48;  // 마지막 이벤트 이후 스트림 보관 시간
+    }
+
+    @Getter @Setter
+    public static class Persistence {
+        private boolean saveOnStop = true;   // 중지 시 서버 측정 시간으로 타이머 기록 저장
+        private int minSeconds = 60;         // 이보다 짧은 세션은 기록하지 않음
+    }
+
+    @Getter @Setter
+    public static class WriteBehind {
+        private boolean enabled = false;            // 중지 시 기록을 큐에 모았다가 배치로 저장
+        private int queueCapacity = 10000;          // 대기 큐 크기 (가득 차면 즉시 저장으로 대체)
+        private int batchSize = 200;                // 이 개수가 모이면 바로 flush
+        private long flushIntervalMillis = 500;     // 개수와 관계없이 flush하는 주기
+        private String walPath = "data/timer-records.wal"; // 로컬 WAL 파일 경로
+        private boolean walFsync = true;            // 큐에 넣기 전 WAL을 디스크에 동기화
+        private int maxBatchAttempts = 3;           // 같은 배치가 연속으로 이만큼 실패하면 한 건씩 나눠 저장
+        private String deadLetterPath = "data/timer-records.dead"; // 한 건씩 저장해도 데이터 오류로 실패한 기록을 남기는 파일
+    }
+
+    @Getter @Setter
+    public static class Archive {
+        private boolean enabled = false;            // timers 월별 파티션 관리/보관 작업 (db/migration/timers-monthly-partitions.sql 적용 후)
+        private int horizonMonths = 12;             // 이보다 오래된 달의 기록은 timers_archive로 옮기고 월별 집계만 남김
+        private int futureMonths = 3;               // 미리 만들어 둘 다음 달 파티션 수
+        private long intervalMinutes = 60;          // 작업 주기 (할 일이 없으면 파티션 목록만 확인)
+        private long lockSeconds = 1800;            // 인스턴스 간 중복 실행 방지 잠금 유지 시간
+    }
+
+    @Getter @Setter
+    public static class AiText {
+        private boolean compress = true;            // timer_ai_feedback의 긴 텍스트를 gzip으로 압축 저장 (끄면 이후 저장분부터 원문)
+        private int minCompressLength = 512;        // 이 글자 수 이상일 때만 압축 (짧은 텍스트는 압축 이득이 없음)
+    }
+}
@@ -0,0 +1,46 @@
+package studyMate.config;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 구간별 추적(span) 설정
+ * HTTP 요청/응답 span은 Spring Boot가 만들고, 여기서는 그 안의 구간을 추가한다.
+ * - JWT 인증: JwtAuthenticationFilter (studymate.auth.jwt)
+ * - 리포지토리 호출: RepositoryObservationAspect (studymate.repository)
+ * - Redis 명령: Lettuce MicrometerTracing (명령 인자는 남기지 않음)
+ * - OpenAI 호출: WebClientConfig에서 WebClient에 ObservationRegistry 등록 (http.client.requests)
+ * - STOMP 메시지 처리: StompObservationInterceptor (studymate.stomp)
+ * traceId/spanId는 Micrometer Tracing이 로그 MDC에 넣는다.
+ */
+@Configuration
+public class TracingConfig {
+
+    private static final String REDIS_SERVICE_NAME = "studymate-redis";
+
+    @Bean
+    public RepositoryObservationAspect repositoryObservationAspect(ObservationRegistry observationRegistry) {
+        return new RepositoryObservationAspect(observationRegistry);
+    }
+
+    @Bean
+    public ClientResourcesBuilderCustomizer redisTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, REDIS_SERVICE_NAME));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "studymate.tracing.in-memory", name = "enabled", havingValue = "true")
+    public RecentSpanExporter recentSpanExporter(TracingProperties tracingProperties) {
+        return new RecentSpanExporter(tracingProperties.getInMemory().getCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "studymate.tracing.in-memory", name = "enabled", havingValue = "true")
+    public RecentSpansEndpoint recentSpansEndpoint(RecentSpanExporter recentSpanExporter) {
+        return new RecentSpansEndpoint(recentSpanExporter);
+    }
+}
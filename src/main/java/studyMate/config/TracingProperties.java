@@ -0,0 +1,24 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 추적 설정
+ * 샘플링 비율과 OTLP 전송은 management.tracing / management.otlp.tracing 설정을 그대로 사용하고,
+ * 여기서는 로컬 확인용 메모리 exporter만 설정한다.
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.tracing")
+public class TracingProperties {
+    private InMemory inMemory = new InMemory();
+
+    @Getter @Setter
+    public static class InMemory {
+        private boolean enabled = false;   // true면 최근 span을 메모리에 보관하고 /actuator/recentspans로 조회
+        private int capacity = 2000;       // 보관할 최근 span 수 (넘으면 오래된 것부터 버림)
+    }
+}
@@ -0,0 +1,97 @@
+package studyMate.config;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 모드의 STOMP 채널 실행기
+ * 메시지마다 새 가상 스레드에서 처리하고(가상 스레드는 풀링하지 않음) 동시 처리 수만 concurrencyLimit로 제한한다.
+ * 한도에 닿으면 발행한 스레드는 자리가 날 때까지 기다리며, 작업을 호출 스레드에서 직접 실행하지 않는다.
+ * Spring 6.1의 ChannelRegistration은 ThreadPoolTaskExecutor만 받으므로 그 타입을 유지하되 상위 클래스의 풀은 쓰지 않는다.
+ */
+class VirtualThreadChannelExecutor extends ThreadPoolTaskExecutor {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    VirtualThreadChannelExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.delegate.setConcurrencyLimit(concurrencyLimit);
+        // 초기화만 되고 작업을 받지 않는 풀 (스레드를 만들지 않음)
+        setThreadNamePrefix(threadNamePrefix);
+        setCorePoolSize(1);
+        setMaxPoolSize(1);
+        setAllowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        waiting.incrementAndGet();
+        try {
+            delegate.execute(track(task));
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        waiting.incrementAndGet();
+        try {
+            return delegate.submit(track(task));
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        waiting.incrementAndGet();
+        try {
+            return delegate.submit(() -> {
+                active.incrementAndGet();
+                try {
+                    return task.call();
+                } finally {
+                    active.decrementAndGet();
+                }
+            });
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.close();
+        super.shutdown();
+    }
+
+    // 처리 중인 메시지 수
+    @Override
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    // 동시 처리 한도로 기다리는 발행 스레드 수
+    int getWaitingCount() {
+        return waiting.get();
+    }
+
+    private Runnable track(Runnable task) {
+        return () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package studyMate.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 감지기
+ * synchronized 블록 안에서 블로킹 I/O가 일어나면 가상 스레드가 캐리어 스레드에 고정(pinning)되어
+ * 가상 스레드의 이점이 사라진다. JFR의 jdk.VirtualThreadPinned 이벤트를 앱 안에서 스트리밍해
+ * 임계값 이상 고정된 구간의 스택을 로그로 남기고, 종료 시 원인 프레임별 횟수를 요약한다.
+ * Hibernate/JDBC/Hikari 경로의 프레임을 우선 원인으로 집계한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "studymate.threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> SUSPECT_PACKAGES = List.of(
+            "org.hibernate.", "com.mysql.", "com.zaxxer.hikari.", "io.lettuce.", "studyMate.");
+
+    private final ThreadingProperties threadingProperties;
+    private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        ThreadingProperties.Pinning settings = threadingProperties.getPinning();
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(settings.getThresholdMillis()))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (임계값: {}ms)", settings.getThresholdMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String suspect = suspectFrame(frames);
+        pinnedCounts.computeIfAbsent(suspect, key -> new LongAdder()).increment();
+
+        StringBuilder sb = new StringBuilder();
+        int maxFrames = Math.min(frames.size(), threadingProperties.getPinning().getMaxFrames());
+        for (int i = 0; i < maxFrames; i++) {
+            sb.append("\n\tat ").append(describe(frames.get(i)));
+        }
+        log.warn("가상 스레드 pinning 감지: {}ms, 원인 추정: {}{}",
+                event.getDuration().toMillis(), suspect, sb);
+    }
+
+    /**
+     * 스택에서 가장 위쪽의 Hibernate/JDBC/애플리케이션 프레임을 원인으로 추정
+     */
+    private static String suspectFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            for (String suspect : SUSPECT_PACKAGES) {
+                if (type.startsWith(suspect)) {
+                    return describe(frame);
+                }
+            }
+        }
+        return frames.isEmpty() ? "알 수 없음" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+        if (!pinnedCounts.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            pinnedCounts.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                    .forEach(entry -> sb.append("\n\t").append(entry.getValue().sum()).append("회 ").append(entry.getKey()));
+            log.info("가상 스레드 pinning 요약:{}", sb);
+        }
+    }
+}
@@ -1,23 +1,36 @@
 package studyMate.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
     private final OpenAiProperties openAiProrperties;
+    private final ObservationRegistry observationRegistry;
 
     @Bean
     public WebClient openAiWebClient() {
+        // 응답이 없는 OpenAI 호출이 AI 전용 풀 스레드를 계속 잡아두지 않도록 연결/응답 타임아웃 설정
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, openAiProrperties.getConnectTimeoutMillis())
+                .responseTimeout(Duration.ofSeconds(openAiProrperties.getResponseTimeoutSeconds()));
         return WebClient.builder()
-                .baseUrl("https://api.openai.com/v1")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(openAiProrperties.getBaseUrl())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiProrperties.getApikey())
+                .observationRegistry(observationRegistry) // OpenAI 호출마다 http.client.requests span
                 .build();
     }
 }
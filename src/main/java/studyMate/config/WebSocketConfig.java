@@ -1,15 +1,28 @@
 package studyMate.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import studyMate.interceptor.JwtHandshakeInterceptor;
 import studyMate.repository.UserRepository;
 import studyMate.service.JwtTokenProvider;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSocketMessageBroker  // STOMP 사용 설정
 @RequiredArgsConstructor
@@ -17,20 +30,130 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final ThreadingProperties threadingProperties;
+    private final Environment environment;
+    private final WebSocketProperties webSocketProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        JwtHandshakeInterceptor handshakeInterceptor = new JwtHandshakeInterceptor(jwtTokenProvider, userRepository);
+        // SockJS 폴백 엔드포인트 (WebSocket을 쓸 수 없는 클라이언트용)
         registry.addEndpoint("/ws-timer")
-                .addInterceptors(new JwtHandshakeInterceptor(jwtTokenProvider, userRepository))
+                .addInterceptors(handshakeInterceptor)
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // 순수 WebSocket 엔드포인트 (SockJS 프레이밍/세션 관리 없이 STOMP 프레임을 그대로 주고받음)
+        registry.addEndpoint("/ws-timer-native")
+                .addInterceptors(handshakeInterceptor)
+                .setAllowedOriginPatterns("*");
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 클라이언트가 구독할 topic 접두사
-        registry.enableSimpleBroker("/topic");
+        WebSocketProperties.Broker broker = webSocketProperties.getBroker();
+        WebSocketProperties.Heartbeat heartbeat = broker.getHeartbeat();
+        if (broker.getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            // 외부 STOMP 브로커로 중계: 다른 인스턴스에 연결된 구독자에게도 전달된다
+            registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(broker.getRelayHost())
+                    .setRelayPort(broker.getRelayPort())
+                    .setVirtualHost(broker.getVirtualHost())
+                    .setClientLogin(broker.getClientLogin())
+                    .setClientPasscode(broker.getClientPasscode())
+                    .setSystemLogin(broker.getSystemLogin())
+                    .setSystemPasscode(broker.getSystemPasscode())
+                    .setSystemHeartbeatSendInterval(heartbeat.getSystemSendMillis())
+                    .setSystemHeartbeatReceiveInterval(heartbeat.getSystemReceiveMillis());
+        } else {
+            // 클라이언트가 구독할 topic 접두사
+            registry.enableSimpleBroker("/topic")
+                    .setHeartbeatValue(new long[]{heartbeat.getClientSendMillis(), heartbeat.getClientReceiveMillis()})
+                    .setTaskScheduler(stompHeartbeatScheduler());
+        }
         // 클라이언트가 서버로 보낼 메시지 prefix
         registry.setApplicationDestinationPrefixes("/app");
+        // 아웃바운드 실행기가 여러 스레드여도 세션별 전송 순서(시작 -> 일시정지 등)를 보장
+        registry.setPreservePublishOrder(true);
+    }
+
+    /**
+     * simple 브로커 heartbeat 전송용 스케줄러
+     */
+    @Bean
+    public ThreadPoolTaskScheduler stompHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("stomp-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound", webSocketProperties.getInbound()))
+                .interceptors(new StompObservationInterceptor(observationRegistry));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", webSocketProperties.getOutbound()));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+        registration.setMessageSizeLimit(transport.getMessageSizeLimit())
+                .setSendBufferSizeLimit(transport.getSendBufferSizeLimit())
+                .setSendTimeLimit(transport.getSendTimeLimitMillis())
+                .setTimeToFirstMessage(transport.getTimeToFirstMessageMillis())
+                .addDecoratorFactory(handler -> new StompSessionMetricsDecorator(handler, meterRegistry));
+    }
+
+    /**
+     * STOMP 채널 실행기
+     * 플랫폼 스레드 모드: 대기열을 제한하고 가득 차면 호출한 스레드에서 직접 처리(CallerRuns)해,
+     * 이벤트가 몰릴 때 작업이 무한정 쌓이는 대신 수신/발행 측의 속도를 늦춘다.
+     * 가상 스레드 모드: 메시지마다 새 가상 스레드를 쓰고 동시 처리 수만 제한한다 (VirtualThreadChannelExecutor).
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String channel, WebSocketProperties.ChannelExecutor settings) {
+        String threadNamePrefix = "stomp-" + channel + "-";
+        ThreadPoolTaskExecutor executor;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor = new VirtualThreadChannelExecutor(threadNamePrefix,
+                    threadingProperties.getChannel().getVirtualConcurrency());
+        } else {
+            executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix(threadNamePrefix);
+            executor.setCorePoolSize(settings.getCorePoolSize());
+            executor.setMaxPoolSize(settings.getMaxPoolSize());
+            executor.setQueueCapacity(settings.getQueueCapacity());
+            executor.setKeepAliveSeconds(settings.getKeepAliveSeconds());
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        Tags tags = Tags.of("channel", channel);
+        Gauge.builder("stomp.channel.queue.depth", executor, WebSocketConfig::queueDepth)
+                .description("STOMP 채널 실행기 대기열에 쌓인 메시지 수 (가상 스레드 모드는 동시 처리 한도로 기다리는 메시지 수)")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP 채널에서 처리 중인 메시지 수")
+                .tags(tags)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static double queueDepth(ThreadPoolTaskExecutor executor) {
+        if (executor instanceof VirtualThreadChannelExecutor virtual) {
+            return virtual.getWaitingCount();
+        }
+        // 초기화 전에는 ThreadPoolExecutor가 없다
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package studyMate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * STOMP 메시지 브로커 설정
+ * simple: 인스턴스 내부 메모리 브로커 (단일 노드)
+ * relay: 외부 STOMP 브로커(RabbitMQ/ActiveMQ)로 중계해 여러 인스턴스가 같은 topic을 공유
+ */
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "studymate.websocket")
+public class WebSocketProperties {
+    private Broker broker = new Broker();
+    private Fanout fanout = new Fanout();
+    private Transport transport = new Transport();
+    private ChannelExecutor inbound = new ChannelExecutor();
+    private ChannelExecutor outbound = new ChannelExecutor();
+
+    public enum BrokerMode {
+        SIMPLE, RELAY
+    }
+
+    @Getter @Setter
+    public static class Broker {
+        private BrokerMode mode = BrokerMode.SIMPLE;
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+        private String virtualHost;              // RabbitMQ vhost (없으면 브로커 기본값)
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+        private Heartbeat heartbeat = new Heartbeat();
+    }
+
+    @Getter @Setter
+    public static class Heartbeat {
+        private long clientSendMillis = 10000;     // 서버 -> 클라이언트 heartbeat 간격 (simple 모드)
+        private long clientReceiveMillis = 10000;  // 클라이언트 -> 서버 heartbeat 기대 간격 (simple 모드)
+        private long systemSendMillis = 10000;     // 서버 -> 외부 브로커 시스템 연결 heartbeat (relay 모드)
+        private long systemReceiveMillis = 10000;  // 외부 브로커 -> 서버 시스템 연결 heartbeat (relay 모드)
+    }
+
+    @Getter @Setter
+    public static class Fanout {
+        private boolean enabled = false;                 // simple 브로커 다중 인스턴스용 Redis pub/sub 전파
+        private String channel = "studymate:timer-events";
+        private long coalesceMillis = 50;                // 사용자별로 이 시간 안의 연속 이벤트는 마지막 것만 전파
+    }
+
+    @Getter @Setter
+    public static class Transport {
+        private int messageSizeLimit = 16 * 1024;         // 수신 STOMP 메시지 최대 크기 (타이머 메시지는 1KB 미만)
+        private int sendBufferSizeLimit = 256 * 1024;     // 세션별 전송 대기 버퍼 최대 크기
+        private int sendTimeLimitMillis = 5000;           // 한 번의 전송에 허용하는 최대 시간
+        private int timeToFirstMessageMillis = 30000;     // 연결 후 CONNECT 프레임을 기다리는 시간
+    }
+
+    @Getter @Setter
+    public static class ChannelExecutor {
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxPoolSize = 32;
+        private int queueCapacity = 1000;      // 초과 시 호출 스레드에서 직접 처리해 속도를 늦춤
+        private int keepAliveSeconds = 60;
+    }
+}
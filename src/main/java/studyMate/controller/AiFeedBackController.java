@@ -1,40 +1,81 @@
 package studyMate.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import studyMate.config.OpenAiProperties;
 import studyMate.dto.ApiResponse;
 import studyMate.dto.ai.AiFeedbackRequest;
 import studyMate.dto.ai.AiFeedbackResponse;
+import studyMate.exception.AiBulkheadFullException;
+import studyMate.exception.AiTimeoutException;
+import studyMate.service.AiBulkhead;
 import studyMate.service.AiFeedbackService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/ai")
 @RequiredArgsConstructor
 public class AiFeedBackController {
     private final AiFeedbackService aiFeedbackService;
+    private final AiBulkhead aiBulkhead;
+    private final OpenAiProperties openAiProperties;
 
+    /**
+     * AI 피드백 생성
+     * OpenAI 호출은 AI 전용 실행 풀(AiBulkhead)에서 수행하고 요청 스레드는 즉시 반환한다.
+     * 전용 풀이 포화되면 503(Retry-After), 제한 시간 안에 응답하지 못하면 504로 응답한다.
+     * 비동기 요청이 타임아웃(requestTimeoutSeconds, 이 요청에만 적용)되면 대기/실행 중인 작업을 취소한다.
+     */
     @PostMapping("/feedback")
-    public ResponseEntity<ApiResponse<AiFeedbackResponse>> getFeedback(@RequestBody AiFeedbackRequest request) {
-        try {
-            // 기본적인 요청 데이터 검증
-            if (request.getTimerId() == null) {
-                return ResponseEntity.badRequest()
-                        .body(new ApiResponse<>(false, "타이머 ID가 필요합니다.", null));
-            }
-            // studyTime은 타이머에서 조회하므로 별도 검증 불필요
-            
-            AiFeedbackResponse feedback = aiFeedbackService.getFeedback(request);
-            return ResponseEntity.ok(new ApiResponse<>(true, "AI 피드백이 성공적으로 생성되었습니다.", feedback));
-        } catch (RuntimeException e) {
-            // 비즈니스 로직 오류 (검증 실패 등)
-            return ResponseEntity.badRequest()
+    public DeferredResult<ResponseEntity<ApiResponse<AiFeedbackResponse>>> getFeedback(@RequestBody AiFeedbackRequest request) {
+        DeferredResult<ResponseEntity<ApiResponse<AiFeedbackResponse>>> result = new DeferredResult<>(
+                TimeUnit.SECONDS.toMillis(openAiProperties.getBulkhead().getRequestTimeoutSeconds()));
+        // 기본적인 요청 데이터 검증
+        if (request.getTimerId() == null) {
+            result.setResult(ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "타이머 ID가 필요합니다.", null)));
+            return result;
+        }
+        // studyTime은 타이머에서 조회하므로 별도 검증 불필요
+
+        CompletableFuture<AiFeedbackResponse> feedback = aiBulkhead.submit(() -> aiFeedbackService.getFeedback(request));
+        result.onTimeout(() -> feedback.cancel(true));
+        feedback.thenApply(response -> ResponseEntity.ok(
+                        new ApiResponse<>(true, "AI 피드백이 성공적으로 생성되었습니다.", response)))
+                .exceptionally(this::toErrorResponse)
+                .thenAccept(result::setResult);
+        return result;
+    }
+
+    private ResponseEntity<ApiResponse<AiFeedbackResponse>> toErrorResponse(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof AiBulkheadFullException e) {
+            // AI 전용 실행 풀 포화
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
                     .body(new ApiResponse<>(false, e.getMessage(), null));
-        } catch (Exception e) {
-            // 기타 시스템 오류
+        }
+        if (cause instanceof AiTimeoutException) {
+            // OpenAI 응답 지연 (응답 타임아웃 또는 전체 제한 시간 초과)
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(new ApiResponse<>(false, cause.getMessage(), null));
+        }
+        if (cause instanceof RuntimeException) {
+            // 비즈니스 로직 오류 (검증 실패 등)
             return ResponseEntity.badRequest()
-                    .body(new ApiResponse<>(false, "AI 피드백 생성에 실패했습니다: " + e.getMessage(), null));
+                    .body(new ApiResponse<>(false, cause.getMessage(), null));
         }
+        // 기타 시스템 오류
+        return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "AI 피드백 생성에 실패했습니다: " + cause.getMessage(), null));
     }
 
     @GetMapping("/test")
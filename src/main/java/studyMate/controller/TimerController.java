@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.*;
 import studyMate.dto.ApiResponse;
 import studyMate.entity.Timer;
 import studyMate.entity.User;
+import studyMate.service.StudyStatsService;
+import studyMate.service.StudyStatsSnapshot;
 import studyMate.service.TimerService;
 
 import java.time.LocalDateTime;
@@ -22,6 +24,7 @@ import java.util.Map;
 public class TimerController {
     
     private final TimerService timerService;
+    private final StudyStatsService studyStatsService;
     
     /**
      * 타이머 기록 조회
@@ -100,13 +103,16 @@ public class TimerController {
     
     /**
      * 홈 화면용 통계 조회
+     * 오늘/이번 주 경계는 X-Time-Zone 헤더의 시간대 기준 (없으면 기본 시간대)
      */
     @GetMapping("/home-stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getHomeStats(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            @RequestHeader(value = "X-Time-Zone", required = false) String timeZone) {
         
-        int todayStudyMinutes = timerService.getTodayStudyTime(user);
-        int weekStudyMinutes = timerService.getWeekStudyTime(user);
+        StudyStatsSnapshot snapshot = studyStatsService.getSnapshot(user, studyStatsService.resolveZone(timeZone));
+        int todayStudyMinutes = snapshot.todayMinutes();
+        int weekStudyMinutes = snapshot.weekMinutes();
         
         Map<String, Object> stats = Map.of(
                 "todayStudyMinutes", todayStudyMinutes,
@@ -125,17 +131,15 @@ public class TimerController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> getTotalStats(
             @AuthenticationPrincipal User user) {
         
-        int totalStudyMinutes = timerService.getTotalStudyTime(user);
-        int totalSessions = timerService.getTotalSessionCount(user);
-        double averageSessionTime = timerService.getAverageSessionTime(user);
-        int longestSessionTime = timerService.getLongestSessionTime(user);
+        StudyStatsSnapshot snapshot = studyStatsService.getSnapshot(user, null);
+        int totalStudyMinutes = snapshot.totalMinutes();
         
         Map<String, Object> stats = Map.of(
                 "totalStudyMinutes", totalStudyMinutes,
                 "totalStudyHours", totalStudyMinutes / 60,
-                "totalSessions", totalSessions,
-                "averageSessionMinutes", Math.round(averageSessionTime * 100.0) / 100.0,
-                "longestSessionMinutes", longestSessionTime
+                "totalSessions", (int) snapshot.getSessions(),
+                "averageSessionMinutes", Math.round(snapshot.averageSessionMinutes() * 100.0) / 100.0,
+                "longestSessionMinutes", snapshot.longestMinutes()
         );
         
         return ResponseEntity.ok(ApiResponse.success(stats));
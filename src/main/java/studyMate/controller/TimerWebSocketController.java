@@ -7,6 +7,7 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import studyMate.dto.pomodoro.TimerReqDto;
 import studyMate.dto.pomodoro.TimerResDto;
+import studyMate.dto.pomodoro.TimerSyncReqDto;
 import studyMate.entity.User;
 import studyMate.service.TimerService;
 
@@ -58,6 +59,20 @@ public class TimerWebSocketController {
         return timerService.pauseTimer(user);
     }
 
+    @MessageMapping("/timer/resume")
+    @SendTo("/topic/timer")
+    public TimerResDto resumeTimer(SimpMessageHeaderAccessor headerAccessor) {
+        User user = (User) headerAccessor.getSessionAttributes().get("user");
+        if (user == null) {
+            return TimerResDto.builder()
+                    .success(false)
+                    .message("인증 정보가 없습니다.")
+                    .build();
+        }
+        
+        return timerService.resumeTimer(user);
+    }
+
     @MessageMapping("/timer/switch")
     @SendTo("/topic/timer")
     public TimerResDto switchTimer(SimpMessageHeaderAccessor headerAccessor) {
@@ -71,4 +86,18 @@ public class TimerWebSocketController {
         
         return timerService.switchTimer(user);
     }
-} 
\ No newline at end of file
+
+    @MessageMapping("/timer/sync")
+    @SendTo("/topic/timer")
+    public TimerResDto syncTimer(TimerSyncReqDto dto, SimpMessageHeaderAccessor headerAccessor) {
+        User user = (User) headerAccessor.getSessionAttributes().get("user");
+        if (user == null) {
+            return TimerResDto.builder()
+                    .success(false)
+                    .message("인증 정보가 없습니다.")
+                    .build();
+        }
+
+        return timerService.syncTimer(user, dto.getLastSequence());
+    }
+}
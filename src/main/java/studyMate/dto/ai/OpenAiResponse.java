@@ -1,5 +1,6 @@
 package studyMate.dto.ai;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -41,8 +42,12 @@ public class OpenAiResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class Usage {
+        // OpenAI 응답은 snake_case
+        @JsonProperty("prompt_tokens")
         private int promptTokens;
+        @JsonProperty("completion_tokens")
         private int completionTokens;
+        @JsonProperty("total_tokens")
         private int totalTokens;
     }
 } 
\ No newline at end of file
@@ -10,4 +10,5 @@ public class TimerReqDto {
     private int breakTimes;  // 휴식 시간(분)
     private String topicId;    // 학습 주제 ID (선택)
     private String timerType;  // "STUDY" 또는 "BREAK"
+    private Long studyGoalId;  // 연결할 학습 목표 ID (선택, 중지 시 기록과 진행도에 반영)
 }
@@ -2,17 +2,21 @@ package studyMate.dto.pomodoro;
 
 import lombok.Builder;
 import lombok.Getter;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
 
 @Getter
 @Builder
 public class TimerResDto {
     private boolean success;
     private String message;
-    private String status;  // STARTED, STOPPED, PAUSED
+    private TimerState status;  // STARTED, STOPPED, PAUSED
     private int remainingTime;  // 남은 시간(초)
-    private String timerType;   // STUDY 또는 BREAK
+    private TimerType timerType;   // STUDY 또는 BREAK
     private String userNickname;
     private int studyTimes;   //  공부한 시간
     private int breakTimes;   // 휴식한 시간
     private int cycleCount;     // 현재 사이클 수
+    private long sequence;      // 마지막으로 적용된 타이머 이벤트 순번 (재연결 시 동기화 기준)
+    private Long timerId;       // 중지 시 저장된 타이머 기록 ID
 } 
\ No newline at end of file
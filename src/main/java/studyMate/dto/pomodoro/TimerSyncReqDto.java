@@ -0,0 +1,10 @@
+package studyMate.dto.pomodoro;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TimerSyncReqDto {
+    private long lastSequence;  // 클라이언트가 마지막으로 받은 이벤트 순번 (처음이면 0)
+}
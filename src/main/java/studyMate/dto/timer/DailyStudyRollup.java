@@ -0,0 +1,12 @@
+package studyMate.dto.timer;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 학습 집계 프로젝션 (TimerRepository 집계 쿼리 결과)
+ */
+public interface DailyStudyRollup {
+    LocalDate getDay();
+    Long getStudySeconds();
+    Long getSessions();
+}
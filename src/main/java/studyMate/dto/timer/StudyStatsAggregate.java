@@ -0,0 +1,12 @@
+package studyMate.dto.timer;
+
+/**
+ * 사용자 학습 통계 집계 프로젝션 (TimerRepository 집계 쿼리 결과, 초 단위)
+ */
+public interface StudyStatsAggregate {
+    Long getTodaySeconds();
+    Long getWeekSeconds();
+    Long getTotalSeconds();
+    Long getSessions();
+    Integer getLongestSeconds();
+}
@@ -0,0 +1,10 @@
+package studyMate.dto.timer;
+
+/**
+ * 학습 합계 프로젝션 (timers 집계 또는 월별 집계 테이블 합산 결과, 초 단위)
+ */
+public interface StudyTotals {
+    Long getStudySeconds();
+    Long getSessions();
+    Integer getLongestSeconds();
+}
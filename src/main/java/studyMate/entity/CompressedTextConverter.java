@@ -0,0 +1,86 @@
+package studyMate.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 긴 텍스트를 gzip + Base64로 압축해 저장하는 컨버터 (TEXT 컬럼용)
+ * 압축한 값은 PREFIX로 시작하며, 읽을 때 PREFIX가 없으면 그대로 돌려주므로 압축 전 기록과 섞여 있어도 된다.
+ * - 압축 여부와 최소 길이는 TimerAiFeedbackConfig가 시작 시 설정 (설정 전에는 압축하지 않음)
+ * - 압축해도 UTF-8 바이트 수가 줄지 않으면 원문을 저장한다. (한글은 글자당 3바이트라 글자 수로 비교하면 압축 이득을 놓친다)
+ * - 원문이 PREFIX로 시작하면 읽을 때 구분되도록 항상 압축한다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    static final String PREFIX = "gz:";
+
+    private static volatile boolean enabled = false;
+    private static volatile int minLength = Integer.MAX_VALUE;
+
+    /**
+     * 압축 설정 (애플리케이션 시작 시 한 번 호출)
+     */
+    public static void configure(boolean compress, int minCompressLength) {
+        if (minCompressLength < 0) {
+            throw new IllegalArgumentException("압축 최소 길이는 0 이상이어야 합니다: " + minCompressLength);
+        }
+        enabled = compress;
+        minLength = minCompressLength;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.startsWith(PREFIX)) {
+            return compress(text.getBytes(StandardCharsets.UTF_8));
+        }
+        if (!enabled || text.length() < minLength) {
+            return text;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        String compressed = compress(utf8);
+        // 압축 결과는 ASCII(Base64)라 글자 수가 곧 저장 바이트 수
+        return compressed.length() < utf8.length ? compressed : text;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return stored;
+        }
+        return decompress(stored);
+    }
+
+    private static String compress(byte[] utf8) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(utf8.length);
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(utf8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("텍스트 압축 실패", e);
+        }
+        return PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static String decompress(String stored) {
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("압축된 텍스트 해제 실패", e);
+        }
+    }
+}
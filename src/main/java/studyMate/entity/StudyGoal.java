@@ -2,6 +2,8 @@ package studyMate.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,6 +13,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "study_goals")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "studyGoal") // 타이머 저장마다 조회 (2차 캐시)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,8 +23,7 @@ import java.util.List;
 public class StudyGoal {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id; // 저장 전 TimeOrderedIdGenerator로 할당 (배치 INSERT 가능)
     
     // 기본 정보
     @Column(length = 100, nullable = false)
@@ -84,6 +87,13 @@ public class StudyGoal {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    @PrePersist
+    public void prePersist() {
+        if (this.id == null) {
+            this.id = TimeOrderedIdGenerator.next();
+        }
+    }
+
     // 진행률 계산 메서드 (분 단위 고려)
     public double getProgressRate() {
         if (targetHours == null || targetHours == 0) {
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +15,8 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @Table(name = "study_topics")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "studyTopic")
 public class StudyTopic {
 
     @Id
@@ -0,0 +1,74 @@
+package studyMate.entity;
+
+import java.time.Instant;
+
+/**
+ * 시간 순서 Long ID 생성기 (Timer, StudyGoal)
+ * IDENTITY 방식은 INSERT를 실행해야 ID를 알 수 있어 Hibernate 배치 INSERT가 꺼지므로,
+ * 저장 전에 애플리케이션에서 ID를 정한다. User/Schedule의 ULID처럼 시간 순으로 정렬되지만
+ * 기존 Long 컬럼과 API 타입을 그대로 쓰고 JavaScript Number로도 안전하도록 53비트에 맞춘다.
+ * 형식: [기준 시각 이후 밀리초 41비트][노드 ID 5비트][밀리초 내 순번 7비트]
+ * - 시계가 뒤로 가거나 한 밀리초에 순번을 다 쓰면 논리 시각을 1ms씩 앞당겨 단조 증가를 유지한다.
+ * - 기존 IDENTITY ID(작은 값)보다 항상 크므로 기존 데이터와 충돌하지 않는다.
+ */
+public final class TimeOrderedIdGenerator {
+
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+    // 2025-01-01T00:00:00Z, 41비트로 약 69년 사용 가능
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static volatile TimeOrderedIdGenerator shared = new TimeOrderedIdGenerator(0);
+
+    private final int nodeId;
+    private long lastTimestamp = -1;
+    private int sequence;
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 엔티티 저장 시 사용할 공용 생성기의 노드 ID 설정 (기동 시 한 번)
+     */
+    public static void configure(int nodeId) {
+        shared = new TimeOrderedIdGenerator(nodeId);
+    }
+
+    public static long next() {
+        return shared.nextId();
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            if (sequence == MAX_SEQUENCE) {
+                timestamp++;
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("시간 순서 ID의 시각 범위를 초과했습니다.");
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
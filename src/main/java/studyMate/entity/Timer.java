@@ -1,6 +1,7 @@
 package studyMate.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,34 +12,36 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "timers", indexes = {
         @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_user_start_time", columnList = "user_id, start_time"),
         @Index(name = "idx_created_at", columnList = "created_at")
 })
+// MySQL에서는 start_time 기준 월별 파티션 테이블 (PK는 id, start_time / 파티션 테이블은 FK를 지원하지 않음)
+// db/migration/timers-monthly-partitions.sql 참고
 public class Timer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id; // 저장 전 TimeOrderedIdGenerator로 할당 (배치 INSERT 가능)
 
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
 
     private User user;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "study_goal_id")
+    @JoinColumn(name = "study_goal_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private StudyGoal studyGoal; // 연관된 학습목표 (선택적)
 
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "schedule_id")
+    @JoinColumn(name = "schedule_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private Schedule schedule; // 연관된 스케줄 (선택적)
 
-    @Column(name = "start_time")
-    private LocalDateTime startTime;
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime; // 파티션 키 (없으면 저장 시각)
 
     @Column(name = "end_time")
     private LocalDateTime endTime;
@@ -52,24 +55,12 @@ public class Timer {
     @Column(length = 20)
     private String mode; // 예: "25/5", "50/10"
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String summary; // AI 요약
-
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String aiFeedback; // AI 피드백
-
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String aiSuggestions; // AI 개선 제안
-
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String aiMotivation; // AI 동기부여 메시지
-
-    @Column(name = "ai_feedback_created_at")
-    private LocalDateTime aiFeedbackCreatedAt; // AI 피드백 생성 시간
+    // AI 요약/피드백은 timer_ai_feedback에 따로 저장 (조회한 기록에만 TimerService/AiFeedbackService가 채움)
+    // JSON에는 기존처럼 summary, aiFeedback 등으로 펼쳐서 주고받음
+    @Transient
+    @JsonUnwrapped
+    @ToString.Exclude
+    private TimerAiFeedback aiText;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -79,7 +70,13 @@ public class Timer {
 
     @PrePersist
     public void prePersist() {
+        if (this.id == null) {
+            this.id = TimeOrderedIdGenerator.next();
+        }
         this.createdAt = LocalDateTime.now();
+        if (this.startTime == null) {
+            this.startTime = this.createdAt;
+        }
     }
 
     @PreUpdate
@@ -87,12 +84,4 @@ public class Timer {
         this.updatedAt = LocalDateTime.now();
     }
 
-    // === 업데이트 메서드 ===
-    public void updateAiFeedback(String feedback, String suggestions, String motivation) {
-        this.aiFeedback = feedback;
-        this.aiSuggestions = suggestions;
-        this.aiMotivation = motivation;
-        this.aiFeedbackCreatedAt = LocalDateTime.now();
-    }
-
 }
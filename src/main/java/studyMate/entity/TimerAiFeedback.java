@@ -0,0 +1,73 @@
+package studyMate.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타이머 기록의 AI 요약/피드백 텍스트 (timer_ai_feedback, timers와 1:1)
+ * timers 행을 좁게 유지하려고 분리한 테이블로, AI 텍스트가 있는 기록만 행이 있다.
+ * - PK는 타이머 ID (@MapsId), timers 쪽에는 매핑하지 않으므로 timers 조회 시 함께 읽지 않는다.
+ * - Timer.aiText로 API JSON에 펼쳐서 내보내므로 필드 이름은 기존 timers 컬럼 이름을 따른다.
+ * db/migration/timer-ai-feedback-side-table.sql 참고
+ */
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "timer_ai_feedback")
+public class TimerAiFeedback {
+
+    @JsonIgnore
+    @Id
+    @Column(name = "timer_id")
+    private Long timerId;
+
+    @JsonIgnore
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "timer_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @ToString.Exclude
+    private Timer timer; // timers는 파티션 테이블이라 FK 없음
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private String summary; // AI 요약
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "ai_feedback", columnDefinition = "TEXT")
+    private String aiFeedback; // AI 피드백
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "ai_suggestions", columnDefinition = "TEXT")
+    private String aiSuggestions; // AI 개선 제안
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "ai_motivation", columnDefinition = "TEXT")
+    private String aiMotivation; // AI 동기부여 메시지
+
+    @Column(name = "ai_feedback_created_at")
+    private LocalDateTime aiFeedbackCreatedAt; // AI 피드백 생성 시간
+
+    public static TimerAiFeedback of(Timer timer) {
+        return TimerAiFeedback.builder().timer(timer).build();
+    }
+
+    // 타이머에 붙어 있는 AI 요약 (없으면 null)
+    public static String summaryOf(Timer timer) {
+        return timer.getAiText() != null ? timer.getAiText().getSummary() : null;
+    }
+
+    public boolean isEmpty() {
+        return summary == null && aiFeedback == null && aiSuggestions == null && aiMotivation == null;
+    }
+
+    // === 업데이트 메서드 ===
+    public void updateAiFeedback(String feedback, String suggestions, String motivation) {
+        this.aiFeedback = feedback;
+        this.aiSuggestions = suggestions;
+        this.aiMotivation = motivation;
+        this.aiFeedbackCreatedAt = LocalDateTime.now();
+    }
+}
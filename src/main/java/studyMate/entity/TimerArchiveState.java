@@ -0,0 +1,25 @@
+package studyMate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * timers 보관 진행 상태 (단일 행)
+ * archivedBefore 이전 기록은 timers_archive와 월별 집계로 옮겨졌으며, 조회는 이 시각을 기준으로 나눈다.
+ */
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "timer_archive_state")
+public class TimerArchiveState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "archived_before")
+    private LocalDateTime archivedBefore; // 보관 경계 (항상 달의 1일 0시, 보관 전이면 null)
+}
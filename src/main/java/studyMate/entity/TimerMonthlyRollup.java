@@ -0,0 +1,51 @@
+package studyMate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 보관된(timers_archive로 옮긴) 달의 사용자/학습목표별 학습 집계
+ * TimerArchiver가 달 단위로 다시 계산해 채우며, 전체 기간 통계는 timers 집계와 이 테이블을 합산한다.
+ */
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "timer_monthly_rollups")
+@IdClass(TimerMonthlyRollup.Key.class)
+public class TimerMonthlyRollup {
+
+    public static final long NO_GOAL = 0L; // 학습목표 없이 저장된 기록
+
+    @Id
+    @Column(name = "user_id", length = 26)
+    private String userId;
+
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart; // 해당 달 1일 (서버 시간대)
+
+    @Id
+    @Column(name = "study_goal_id")
+    private Long studyGoalId; // 학습목표 ID, 없으면 NO_GOAL
+
+    @Column(name = "study_seconds", nullable = false)
+    private long studySeconds;
+
+    @Column(nullable = false)
+    private long sessions;
+
+    @Column(name = "longest_seconds", nullable = false)
+    private int longestSeconds;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String userId;
+        private LocalDate monthStart;
+        private Long studyGoalId;
+    }
+}
@@ -0,0 +1,21 @@
+package studyMate.entity;
+
+/**
+ * 진행 중인 타이머의 상태
+ * 순서(ordinal)는 인스턴스 간 이벤트 전파 시 1바이트 코드로 쓰이므로 바꾸지 않는다.
+ */
+public enum TimerState {
+    STARTED("진행 중"),
+    PAUSED("일시정지"),
+    STOPPED("중지");
+
+    private final String description;
+
+    TimerState(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,40 @@
+package studyMate.entity;
+
+/**
+ * 타이머 단계 종류
+ * 순서(ordinal)는 인스턴스 간 이벤트 전파 시 1바이트 코드로 쓰이므로 바꾸지 않는다.
+ */
+public enum TimerType {
+    STUDY("학습"),
+    BREAK("휴식");
+
+    private final String description;
+
+    TimerType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TimerType other() {
+        return this == STUDY ? BREAK : STUDY;
+    }
+
+    /**
+     * 요청 값 변환 (대소문자 무시, 비어 있으면 STUDY)
+     * 알 수 없는 값이면 null을 반환한다.
+     */
+    public static TimerType fromOrDefault(String value) {
+        if (value == null || value.isBlank()) {
+            return STUDY;
+        }
+        for (TimerType type : values()) {
+            if (type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
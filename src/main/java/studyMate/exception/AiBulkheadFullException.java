@@ -0,0 +1,18 @@
+package studyMate.exception;
+
+/**
+ * AI 요청 전용 실행 풀이 포화되어 요청을 받을 수 없을 때 발생하는 예외
+ */
+public class AiBulkheadFullException extends StudyMateException {
+
+    private final int retryAfterSeconds;
+
+    public AiBulkheadFullException(int retryAfterSeconds) {
+        super("AI 피드백 요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
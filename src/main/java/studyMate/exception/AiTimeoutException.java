@@ -0,0 +1,16 @@
+package studyMate.exception;
+
+/**
+ * AI 응답이 제한 시간 안에 오지 않았을 때 발생하는 예외
+ * (OpenAI 응답 타임아웃, AI 전용 실행 풀의 작업 전체 제한 시간 초과)
+ */
+public class AiTimeoutException extends StudyMateException {
+
+    public AiTimeoutException() {
+        super("AI 응답이 지연되어 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public AiTimeoutException(Throwable cause) {
+        super("AI 응답이 지연되어 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", cause);
+    }
+}
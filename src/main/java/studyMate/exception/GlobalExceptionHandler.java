@@ -1,5 +1,6 @@
 package studyMate.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -50,6 +51,21 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(false, ex.getMessage(), null));
     }
 
+    // AI 전용 실행 풀 포화
+    @ExceptionHandler(AiBulkheadFullException.class)
+    public ResponseEntity<ApiResponse<?>> handleAiBulkheadFull(AiBulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ApiResponse<>(false, ex.getMessage(), null));
+    }
+
+    // AI 응답 지연
+    @ExceptionHandler(AiTimeoutException.class)
+    public ResponseEntity<ApiResponse<?>> handleAiTimeout(AiTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new ApiResponse<>(false, ex.getMessage(), null));
+    }
+
     // Rate Limit 초과
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<ApiResponse<?>> handleRateLimitExceeded(RateLimitExceededException ex) {
@@ -57,6 +73,13 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(false, ex.getMessage(), null));
     }
 
+    // 현재 타이머 상태에서 허용되지 않는 명령
+    @ExceptionHandler(InvalidTimerTransitionException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidTimerTransition(InvalidTimerTransitionException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, ex.getMessage(), null));
+    }
+
     // 기타 StudyMate 예외
     @ExceptionHandler(StudyMateException.class)
     public ResponseEntity<ApiResponse<?>> handleStudyMateException(StudyMateException ex) {
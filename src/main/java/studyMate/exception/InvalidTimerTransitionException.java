@@ -0,0 +1,21 @@
+package studyMate.exception;
+
+import studyMate.entity.TimerState;
+
+/**
+ * 현재 타이머 상태에서 허용되지 않는 명령일 때 발생하는 예외
+ * (예: 중지 상태에서 일시정지, 실행 중에 재개)
+ */
+public class InvalidTimerTransitionException extends StudyMateException {
+
+    private final TimerState state;
+
+    public InvalidTimerTransitionException(TimerState state, String message) {
+        super(message);
+        this.state = state;
+    }
+
+    public TimerState getState() {
+        return state;
+    }
+}
@@ -1,7 +1,10 @@
 package studyMate.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import studyMate.entity.GoalStatus;
@@ -21,7 +24,8 @@ public interface StudyGoalRepository extends JpaRepository<StudyGoal, Long> {
     // 사용자의 활성 학습목표 조회
     List<StudyGoal> findByUserAndStatusOrderByCreatedAtDesc(User user, GoalStatus status);
     
-    // 사용자의 특정 학습목표 조회
+    // 사용자의 특정 학습목표 조회 (타이머 저장마다 호출되므로 쿼리 캐시 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<StudyGoal> findByIdAndUser(Long id, User user);
     
     // 사용자의 과목별 학습목표 조회
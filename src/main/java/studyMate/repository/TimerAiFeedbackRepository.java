@@ -0,0 +1,9 @@
+package studyMate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import studyMate.entity.TimerAiFeedback;
+
+@Repository
+public interface TimerAiFeedbackRepository extends JpaRepository<TimerAiFeedback, Long> {
+}
@@ -0,0 +1,9 @@
+package studyMate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import studyMate.entity.TimerArchiveState;
+
+@Repository
+public interface TimerArchiveStateRepository extends JpaRepository<TimerArchiveState, Long> {
+}
@@ -0,0 +1,38 @@
+package studyMate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import studyMate.dto.timer.StudyTotals;
+import studyMate.entity.TimerMonthlyRollup;
+
+import java.time.LocalDate;
+
+/**
+ * 보관된 달의 월별 학습 집계 조회 (monthStart는 달의 1일)
+ */
+@Repository
+public interface TimerMonthlyRollupRepository extends JpaRepository<TimerMonthlyRollup, TimerMonthlyRollup.Key> {
+
+    // 사용자의 보관된 기간 학습 합계/세션 수/최장 세션 (초 단위, before 이전 달)
+    @Query("SELECT COALESCE(SUM(r.studySeconds), 0) AS studySeconds, COALESCE(SUM(r.sessions), 0) AS sessions, " +
+           "COALESCE(MAX(r.longestSeconds), 0) AS longestSeconds " +
+           "FROM TimerMonthlyRollup r WHERE r.userId = :userId AND r.monthStart < :before")
+    StudyTotals aggregateTotalsBefore(@Param("userId") String userId, @Param("before") LocalDate before);
+
+    // 사용자의 학습목표별 보관된 기간 학습 합계/세션 수/최장 세션 (초 단위)
+    @Query("SELECT COALESCE(SUM(r.studySeconds), 0) AS studySeconds, COALESCE(SUM(r.sessions), 0) AS sessions, " +
+           "COALESCE(MAX(r.longestSeconds), 0) AS longestSeconds " +
+           "FROM TimerMonthlyRollup r WHERE r.userId = :userId AND r.studyGoalId = :studyGoalId AND r.monthStart < :before")
+    StudyTotals aggregateGoalTotalsBefore(@Param("userId") String userId,
+                                          @Param("studyGoalId") Long studyGoalId,
+                                          @Param("before") LocalDate before);
+
+    // 사용자의 보관된 달 학습시간 합계 (초 단위, [from, to) 범위의 달)
+    @Query("SELECT COALESCE(SUM(r.studySeconds), 0) FROM TimerMonthlyRollup r " +
+           "WHERE r.userId = :userId AND r.monthStart >= :from AND r.monthStart < :to")
+    long sumStudySecondsBetween(@Param("userId") String userId,
+                                @Param("from") LocalDate from,
+                                @Param("to") LocalDate to);
+}
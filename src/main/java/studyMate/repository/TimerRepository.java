@@ -1,9 +1,13 @@
 package studyMate.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import studyMate.dto.timer.DailyStudyRollup;
+import studyMate.dto.timer.StudyStatsAggregate;
+import studyMate.dto.timer.StudyTotals;
 import studyMate.entity.StudyGoal;
 import studyMate.entity.Timer;
 import studyMate.entity.User;
@@ -11,11 +15,23 @@ import studyMate.entity.User;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * timers는 start_time 기준 월별 파티션 테이블이다. (db/migration/timers-monthly-partitions.sql)
+ * 보관 경계(StudyHistoryService.liveSince) 이전 기록은 timers_archive와 월별 집계로 옮겨지므로,
+ * 목록/집계 쿼리는 start_time 하한을 받아 최근 파티션만 읽고 이전 기간은 TimerMonthlyRollupRepository로 합산한다.
+ */
 @Repository
 public interface TimerRepository extends JpaRepository<Timer, Long> {
 
-    List<Timer> findByUserOrderByStartTimeDesc(User user);
+    // AI 피드백은 요청 스레드 밖(AI 전용 풀)에서 처리되므로 사용자까지 함께 로딩
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Timer> findById(Long id);
+
+    // 사용자의 보관 전 타이머 기록 (since = 보관 경계)
+    List<Timer> findByUserAndStartTimeGreaterThanEqualOrderByStartTimeDesc(User user, LocalDateTime since);
     
     List<Timer> findByUserAndStartTimeBetween(User user, LocalDateTime startTime, LocalDateTime endTime);
     
@@ -30,8 +46,9 @@ public interface TimerRepository extends JpaRepository<Timer, Long> {
                                            @Param("startDate") LocalDate startDate,
                                            @Param("endDate") LocalDate endDate);
     
-    // 사용자의 학습목표별 타이머 기록 조회
-    List<Timer> findByUserAndStudyGoalOrderByCreatedAtDesc(User user, StudyGoal studyGoal);
+    // 사용자의 학습목표별 보관 전 타이머 기록 조회 (since = 보관 경계)
+    List<Timer> findByUserAndStudyGoalAndStartTimeGreaterThanEqualOrderByCreatedAtDesc(User user, StudyGoal studyGoal,
+                                                                                        LocalDateTime since);
     
     // 사용자의 특정 기간 타이머 기록 조회 (학습목표별 필터링 포함)
     @Query("SELECT t FROM Timer t WHERE t.user = :user " +
@@ -46,23 +63,45 @@ public interface TimerRepository extends JpaRepository<Timer, Long> {
     // 사용자의 전체 타이머 기록 조회
     List<Timer> findByUser(User user);
     
-    // 사용자의 타이머 세션 수 카운트
-    int countByUser(User user);
+    // === 집계 쿼리 (성능 최적화) ===
     
-    // 사용자의 학습목표별 타이머 세션 수 카운트
-    int countByUserAndStudyGoal(User user, StudyGoal studyGoal);
+    // 사용자의 보관 전 학습 합계/세션 수/최장 세션 (초 단위, 보관된 기간은 월별 집계와 합산)
+    @Query("SELECT COALESCE(SUM(t.studyTime), 0) AS studySeconds, COUNT(t) AS sessions, " +
+           "COALESCE(MAX(t.studyTime), 0) AS longestSeconds " +
+           "FROM Timer t WHERE t.user = :user AND t.startTime >= :since")
+    StudyTotals aggregateTotalsSince(@Param("user") User user, @Param("since") LocalDateTime since);
     
-    // === 집계 쿼리 (성능 최적화) ===
+    // 사용자의 학습목표별 보관 전 학습 합계/세션 수/최장 세션 (초 단위)
+    @Query("SELECT COALESCE(SUM(t.studyTime), 0) AS studySeconds, COUNT(t) AS sessions, " +
+           "COALESCE(MAX(t.studyTime), 0) AS longestSeconds " +
+           "FROM Timer t WHERE t.user = :user AND t.studyGoal = :studyGoal AND t.startTime >= :since")
+    StudyTotals aggregateGoalTotalsSince(@Param("user") User user,
+                                         @Param("studyGoal") StudyGoal studyGoal,
+                                         @Param("since") LocalDateTime since);
     
-    // 사용자의 총 학습시간 합계 (초 단위)
-    @Query("SELECT COALESCE(SUM(t.studyTime), 0) FROM Timer t WHERE t.user = :user")
-    int sumStudyTimeByUser(@Param("user") User user);
+    // 사용자의 기간 학습시간 합계 (초 단위, [from, to))
+    @Query("SELECT COALESCE(SUM(t.studyTime), 0) FROM Timer t " +
+           "WHERE t.user = :user AND t.startTime >= :from AND t.startTime < :to")
+    long sumStudyTimeBetween(@Param("user") User user,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
     
-    // 사용자의 최장 학습 세션 시간 (초 단위)
-    @Query("SELECT COALESCE(MAX(t.studyTime), 0) FROM Timer t WHERE t.user = :user")
-    int maxStudyTimeByUser(@Param("user") User user);
+    // 사용자의 오늘/이번 주/보관 전 전체 학습 통계를 한 번에 집계 (초 단위, 통계 캐시 미스 시 사용)
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.startTime >= :dayStart AND t.startTime < :dayEnd THEN t.studyTime ELSE 0 END), 0) AS todaySeconds, " +
+           "COALESCE(SUM(CASE WHEN t.startTime >= :weekStart AND t.startTime < :dayEnd THEN t.studyTime ELSE 0 END), 0) AS weekSeconds, " +
+           "COALESCE(SUM(t.studyTime), 0) AS totalSeconds, COUNT(t) AS sessions, " +
+           "COALESCE(MAX(t.studyTime), 0) AS longestSeconds " +
+           "FROM Timer t WHERE t.user = :user AND t.startTime >= :since")
+    StudyStatsAggregate aggregateStudyStats(@Param("user") User user,
+                                            @Param("since") LocalDateTime since,
+                                            @Param("weekStart") LocalDateTime weekStart,
+                                            @Param("dayStart") LocalDateTime dayStart,
+                                            @Param("dayEnd") LocalDateTime dayEnd);
     
-    // 사용자의 평균 학습 세션 시간 (초 단위)
-    @Query("SELECT COALESCE(AVG(t.studyTime), 0) FROM Timer t WHERE t.user = :user")
-    double avgStudyTimeByUser(@Param("user") User user);
+    // 사용자의 일별 학습 집계 (최근 날짜순, AI 프롬프트 컨텍스트용)
+    @Query("SELECT cast(t.startTime as LocalDate) AS day, SUM(t.studyTime) AS studySeconds, COUNT(t) AS sessions " +
+           "FROM Timer t WHERE t.user = :user AND t.startTime >= :from " +
+           "GROUP BY cast(t.startTime as LocalDate) " +
+           "ORDER BY cast(t.startTime as LocalDate) DESC")
+    List<DailyStudyRollup> findDailyRollupsSince(@Param("user") User user, @Param("from") LocalDateTime from);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package studyMate.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import studyMate.entity.User;
 
@@ -12,5 +15,7 @@ public interface UserRepository extends JpaRepository<User, String> {
     // 이메일 중복 확인을 위한 메소드
     boolean existsByEmail(String email);
 
+    // 요청마다 인증 필터에서 호출되므로 쿼리 캐시 사용 (결과 ID -> 엔티티 2차 캐시)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 }
@@ -0,0 +1,164 @@
+package studyMate.service;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import studyMate.config.OpenAiProperties;
+import studyMate.exception.AiBulkheadFullException;
+import studyMate.exception.AiTimeoutException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AI 요청 전용 격벽(bulkhead)
+ * OpenAI 호출은 Tomcat 요청 스레드가 아닌 고정 크기 전용 풀에서 실행한다.
+ * OpenAI가 느려져도 이 풀과 대기열만 차고, 타이머/통계 API가 쓰는 Tomcat 스레드는 잡아두지 않는다.
+ * - 대기열이 가득 차면 즉시 거절 (503)
+ * - 대기열에서 maxWaitMillis 안에 실행되지 못한 요청은 대기열에서 빼고 거절 (503, 작업자가 모두 멈춰 있어도 제때 응답)
+ * - 대기를 포함해 taskTimeoutMillis를 넘긴 요청은 실패시키고 실행 중인 작업을 인터럽트해 OpenAI 호출을 중단
+ * - 반환한 future를 취소하면 대기 중인 작업은 대기열에서 빠지고, 실행 중인 작업은 인터럽트된다
+ * - 제출한 요청 스레드의 관측(trace) 문맥을 이어받아 OpenAI 호출 span과 로그 traceId가 원래 요청에 묶인다
+ */
+@Slf4j
+@Component
+public class AiBulkhead {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor timeouts;
+    private final long maxWaitNanos;
+    private final long taskTimeoutNanos;
+    private final int retryAfterSeconds;
+
+    public AiBulkhead(OpenAiProperties openAiProperties) {
+        OpenAiProperties.Bulkhead settings = openAiProperties.getBulkhead();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                settings.getMaxConcurrent(), settings.getMaxConcurrent(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-bulkhead-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // 대기/전체 제한 시간 만료 처리 (작업자가 모두 멈춰 있어도 동작하도록 별도 스레드)
+        this.timeouts = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ai-bulkhead-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeouts.setRemoveOnCancelPolicy(true);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(settings.getMaxWaitMillis());
+        this.taskTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(settings.getTaskTimeoutMillis());
+        this.retryAfterSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(settings.getMaxWaitMillis()));
+    }
+
+    /**
+     * 전용 풀에서 작업 실행
+     * 포화 상태면 AiBulkheadFullException, 전체 제한 시간을 넘기면 AiTimeoutException으로 실패한 future를 반환한다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        BulkheadTask<T> job = new BulkheadTask<>(task, CONTEXT_SNAPSHOTS.captureAll());
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 요청 대기열 포화로 거절 - 실행 중: {}, 대기: {}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            return CompletableFuture.failedFuture(new AiBulkheadFullException(retryAfterSeconds));
+        }
+
+        // 아직 시작하지 못했으면 대기열에서 빼고 거절 (이미 시작했으면 remove가 false)
+        ScheduledFuture<?> waitExpiry = timeouts.schedule(() -> {
+            if (executor.remove(job)
+                    && job.future.completeExceptionally(new AiBulkheadFullException(retryAfterSeconds))) {
+                log.warn("AI 요청 대기 시간 초과로 거절: {}ms", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+            }
+        }, maxWaitNanos, TimeUnit.NANOSECONDS);
+        ScheduledFuture<?> deadline = timeouts.schedule(() -> {
+            if (job.future.completeExceptionally(new AiTimeoutException())) {
+                log.warn("AI 요청 전체 제한 시간 초과로 중단: {}ms", TimeUnit.NANOSECONDS.toMillis(taskTimeoutNanos));
+                job.interruptIfRunning();
+            }
+        }, taskTimeoutNanos, TimeUnit.NANOSECONDS);
+
+        job.future.whenComplete((result, error) -> {
+            waitExpiry.cancel(false);
+            deadline.cancel(false);
+            if (job.future.isCancelled()) {
+                // 호출자가 포기한 작업 (비동기 요청 타임아웃 등)
+                executor.remove(job);
+                job.interruptIfRunning();
+            }
+        });
+        return job.future;
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        timeouts.shutdownNow();
+    }
+
+    /**
+     * 대기열에 들어가는 작업
+     * 이미 끝난(만료/취소된) future의 작업은 실행하지 않고, 실행 중인 스레드는 취소/만료 시 인터럽트할 수 있도록 기록한다.
+     */
+    private static final class BulkheadTask<T> implements Runnable {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final Supplier<T> task;
+        private final ContextSnapshot context;
+        private Thread runner; // this로 보호
+
+        private BulkheadTask(Supplier<T> task, ContextSnapshot context) {
+            this.task = task;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (future.isDone()) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    Thread.interrupted(); // 끝난 뒤 도착한 인터럽트가 다음 작업에 남지 않도록 지움
+                }
+            }
+        }
+
+        synchronized void interruptIfRunning() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package studyMate.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import studyMate.dto.ai.AiFeedbackResponse;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * AI 응답 파서
+ * 정규식 전처리나 JsonNode 트리 생성 없이 Jackson 스트리밍 파서로 한 번만 훑으며
+ * feedback / suggestions / motivation 세 필드를 바로 꺼낸다.
+ * - 코드 펜스(```json)나 앞쪽 설명 문구는 첫 '{' 위치부터 읽는 방식으로 건너뛴다.
+ * - 응답이 중간에 잘린 경우 그때까지 읽은 필드와 잘린 문자열의 앞부분을 살린다.
+ * - JSON 객체를 찾지 못하면 "필드: 내용" 형식의 텍스트 파싱으로 대체한다.
+ */
+@Slf4j
+@Component
+public class AiResponseParser {
+
+    static final String DEFAULT_FEEDBACK = "피드백을 제공할 수 없습니다.";
+    static final String DEFAULT_SUGGESTIONS = "제안을 제공할 수 없습니다.";
+    static final String DEFAULT_MOTIVATION = "계속해서 학습을 진행해주세요!";
+    static final String SECTION_NOT_FOUND = "해당 섹션을 찾을 수 없습니다.";
+
+    private static final String FEEDBACK = "feedback";
+    private static final String SUGGESTIONS = "suggestions";
+    private static final String MOTIVATION = "motivation";
+
+    private final JsonFactory jsonFactory;
+
+    public AiResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * AI 응답 파싱 (JSON 우선, 실패 시 텍스트 파싱)
+     */
+    public AiFeedbackResponse parse(String aiResponse) {
+        Fields fields = parseJson(aiResponse);
+        if (fields != null) {
+            return AiFeedbackResponse.builder()
+                    .feedback(fields.feedback != null ? fields.feedback : DEFAULT_FEEDBACK)
+                    .suggestions(fields.suggestions != null ? fields.suggestions : DEFAULT_SUGGESTIONS)
+                    .motivation(fields.motivation != null ? fields.motivation : DEFAULT_MOTIVATION)
+                    .build();
+        }
+        return parseTextResponse(aiResponse);
+    }
+
+    /**
+     * 스트리밍 파서로 JSON 객체의 최상위 세 필드를 추출
+     * JSON 객체로 볼 수 없으면 null을 반환한다.
+     */
+    private Fields parseJson(String response) {
+        int start = response.indexOf('{');
+        if (start == -1) {
+            return null;
+        }
+
+        Fields fields = new Fields();
+        String currentField = null;
+        long valueOffset = -1;
+        try (StringReader reader = new StringReader(response)) {
+            reader.skip(start);
+            try (JsonParser parser = jsonFactory.createParser(reader)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                    currentField = parser.currentName();
+                    valueOffset = -1;
+                    JsonToken value = parser.nextToken();
+                    if (value == null) {
+                        break;
+                    }
+                    if (!isTarget(currentField)) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (value.isScalarValue()) {
+                        valueOffset = parser.currentTokenLocation().getCharOffset();
+                        fields.set(currentField, parser.getText());
+                        if (fields.isComplete()) {
+                            return fields;
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                    currentField = null;
+                }
+                if (token != JsonToken.END_OBJECT) {
+                    return fields.isEmpty() ? null : fields;
+                }
+                return fields;
+            } catch (IOException e) {
+                // 응답이 잘렸거나 깨진 경우: 읽던 문자열 값의 앞부분이라도 살린다
+                if (currentField != null && isTarget(currentField) && valueOffset >= 0) {
+                    fields.set(currentField, salvageString(response, start + (int) valueOffset));
+                }
+                if (fields.isEmpty()) {
+                    log.warn("JSON 파싱 실패, 텍스트 파싱 시도: {}", e.getMessage());
+                    return null;
+                }
+                log.warn("AI 응답이 중간에 잘려 일부 필드만 사용합니다: {}", e.getMessage());
+                return fields;
+            }
+        } catch (IOException e) {
+            log.warn("JSON 파싱 실패, 텍스트 파싱 시도: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 잘린 문자열 토큰의 원문을 여는 따옴표 다음부터 끝까지 잘라 간단히 이스케이프를 해제
+     */
+    private static String salvageString(String response, int tokenStart) {
+        int quote = response.indexOf('"', tokenStart);
+        if (quote == -1) {
+            return null;
+        }
+        String raw = response.substring(quote + 1);
+        int fence = raw.indexOf("```");
+        if (fence != -1) {
+            raw = raw.substring(0, fence);
+        }
+        String value = unescape(raw).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String unescape(String raw) {
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\' || i + 1 >= raw.length()) {
+                sb.append(c);
+                continue;
+            }
+            char next = raw.charAt(++i);
+            switch (next) {
+                case 'n' -> sb.append('\n');
+                case 't' -> sb.append('\t');
+                case 'r' -> sb.append('\r');
+                case 'u' -> {
+                    // 16진수 4자리가 아니면(잘렸거나 깨진 이스케이프) 적힌 그대로 둔다
+                    if (isHex4(raw, i + 1)) {
+                        sb.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    } else {
+                        sb.append('\\').append(next);
+                    }
+                }
+                default -> sb.append(next);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isHex4(String raw, int start) {
+        if (start + 4 > raw.length()) {
+            return false;
+        }
+        for (int i = start; i < start + 4; i++) {
+            if (Character.digit(raw.charAt(i), 16) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 텍스트 형식의 AI 응답 파싱 (하위 호환성)
+     */
+    private AiFeedbackResponse parseTextResponse(String aiResponse) {
+        try {
+            return AiFeedbackResponse.builder()
+                    .feedback(extractSection(aiResponse, FEEDBACK))
+                    .suggestions(extractSection(aiResponse, SUGGESTIONS))
+                    .motivation(extractSection(aiResponse, MOTIVATION))
+                    .build();
+        } catch (Exception e) {
+            log.warn("텍스트 파싱도 실패, 전체 응답을 feedback으로 사용: {}", e.getMessage());
+            // 파싱 실패 시 전체 응답을 feedback으로 사용
+            return AiFeedbackResponse.builder()
+                    .feedback(aiResponse)
+                    .suggestions("AI 응답을 파싱할 수 없습니다.")
+                    .motivation(DEFAULT_MOTIVATION)
+                    .build();
+        }
+    }
+
+    /**
+     * 텍스트에서 섹션 추출 (하위 호환성)
+     * 전체 응답을 소문자로 복사하지 않고 대소문자 무시 비교로 섹션 이름을 찾는다.
+     */
+    static String extractSection(String response, String section) {
+        int startIndex = indexOfIgnoreCase(response, section);
+        if (startIndex == -1) {
+            return SECTION_NOT_FOUND;
+        }
+
+        startIndex = response.indexOf(':', startIndex);
+        if (startIndex == -1) {
+            return SECTION_NOT_FOUND;
+        }
+
+        startIndex += 1;
+        int endIndex = response.indexOf('\n', startIndex);
+        if (endIndex == -1) {
+            endIndex = response.length();
+        }
+
+        return response.substring(startIndex, endIndex).trim();
+    }
+
+    private static int indexOfIgnoreCase(String text, String word) {
+        for (int i = 0, last = text.length() - word.length(); i <= last; i++) {
+            if (text.regionMatches(true, i, word, 0, word.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTarget(String field) {
+        return FEEDBACK.equals(field) || SUGGESTIONS.equals(field) || MOTIVATION.equals(field);
+    }
+
+    // 추출 중인 세 필드
+    private static final class Fields {
+        private String feedback;
+        private String suggestions;
+        private String motivation;
+
+        void set(String field, String value) {
+            if (value == null) {
+                return;
+            }
+            switch (field) {
+                case FEEDBACK -> feedback = value;
+                case SUGGESTIONS -> suggestions = value;
+                case MOTIVATION -> motivation = value;
+                default -> { }
+            }
+        }
+
+        boolean isComplete() {
+            return feedback != null && suggestions != null && motivation != null;
+        }
+
+        boolean isEmpty() {
+            return feedback == null && suggestions == null && motivation == null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import studyMate.dto.ai.OpenAiResponse;
+
+/**
+ * OpenAI 호출 지표
+ * - openai.request: 시도 한 번당 응답 시간 (model, outcome 태그)
+ * - openai.tokens: 응답 usage 기준 토큰 사용량 (model, type=prompt|completion 태그)
+ * - openai.retries: 연결 오류로 다시 시도한 횟수
+ * - openai.ratelimit.rejected: 분당 요청 한도로 호출 전에 거절한 횟수
+ */
+@Component
+public class OpenAiMetrics {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String RATE_LIMITED = "RATE_LIMITED";
+    public static final String CLIENT_ERROR = "CLIENT_ERROR";
+    public static final String SERVER_ERROR = "SERVER_ERROR";
+    public static final String CONNECTION_ERROR = "CONNECTION_ERROR";
+    public static final String TIMEOUT = "TIMEOUT";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter retries;
+    private final Counter rateLimited;
+
+    public OpenAiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retries = Counter.builder("openai.retries")
+                .description("OpenAI 연결 오류 후 재시도 횟수")
+                .register(meterRegistry);
+        this.rateLimited = Counter.builder("openai.ratelimit.rejected")
+                .description("분당 요청 한도로 거절한 AI 피드백 요청 수")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordCall(Timer.Sample sample, String model, String outcome) {
+        sample.stop(Timer.builder("openai.request")
+                .description("OpenAI API 호출 한 번에 걸린 시간")
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    public void recordUsage(String model, OpenAiResponse response) {
+        OpenAiResponse.Usage usage = response != null ? response.getUsage() : null;
+        if (usage == null) {
+            return;
+        }
+        tokens(model, "prompt").record(usage.getPromptTokens());
+        tokens(model, "completion").record(usage.getCompletionTokens());
+    }
+
+    public void retried() {
+        retries.increment();
+    }
+
+    public void rateLimited() {
+        rateLimited.increment();
+    }
+
+    // HTTP 상태 코드를 outcome 태그 값으로 변환 (상태 코드 자체를 태그로 쓰지 않음)
+    public static String outcomeOf(int statusCode) {
+        if (statusCode == 429) {
+            return RATE_LIMITED;
+        }
+        if (statusCode >= 500) {
+            return SERVER_ERROR;
+        }
+        return statusCode >= 400 ? CLIENT_ERROR : SUCCESS;
+    }
+
+    private DistributionSummary tokens(String model, String type) {
+        return DistributionSummary.builder("openai.tokens")
+                .description("OpenAI 요청당 토큰 사용량")
+                .baseUnit("tokens")
+                .tag("model", model)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package studyMate.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * write-behind 큐에서 저장을 기다리는 타이머 기록
+ * 엔티티 대신 INSERT에 필요한 값만 담아 WAL 한 줄로 직렬화한다.
+ */
+@Getter
+@Builder
+public class PendingTimerRecord {
+    private final long id;                  // 큐에 넣을 때 미리 정한 기록 ID (WAL 재생 시 중복 저장 방지)
+    private final String userId;
+    private final Long studyGoalId;         // 연결할 학습 목표 (선택)
+    private final int studySeconds;
+    private final int restSeconds;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final String mode;
+    private final long enqueuedAt;          // 큐에 들어온 시각 (epoch ms, flush 지연 측정용)
+
+    /**
+     * 저장할 start_time (파티션 키라 비울 수 없음)
+     * 없으면 종료 시각, 그마저 없으면 큐에 들어온 시각을 쓴다. WAL 재생 시에도 같은 값이 나와야 INSERT IGNORE로 중복이 걸러진다.
+     */
+    public LocalDateTime getPartitionTime() {
+        if (startTime != null) {
+            return startTime;
+        }
+        return endTime != null ? endTime
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(enqueuedAt), ZoneId.systemDefault());
+    }
+
+    public int getStudyMinutes() {
+        return studySeconds / 60;
+    }
+}
@@ -0,0 +1,15 @@
+package studyMate.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 인스턴스에서 발생한 타이머 상태 변경 수신 이벤트
+ * TimerEventFanout이 Redis 채널로 받은 이벤트마다 발행하고, TimerService가 받아 해당 사용자의 메모리 상태를 비운다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RemoteTimerEvent {
+
+    private final String userId;
+}
@@ -1,9 +1,11 @@
 package studyMate.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import studyMate.config.MetricsConfig;
 import studyMate.dto.schedule.ScheduleRequest;
 import studyMate.dto.schedule.ScheduleResponse;
 import studyMate.entity.Schedule;
@@ -22,6 +24,7 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_METRIC)
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
@@ -1,9 +1,13 @@
 package studyMate.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import studyMate.config.MetricsConfig;
 import studyMate.dto.studygoal.StudyGoalRequest;
 import studyMate.dto.studygoal.StudyGoalResponse;
 import studyMate.dto.studygoal.StudyGoalStatistics;
@@ -24,11 +28,13 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_METRIC)
 @Transactional(readOnly = true)
 public class StudyGoalService {
     
     private final StudyGoalRepository studyGoalRepository;
     private final TimerRepository timerRepository;
+    private final EntityManager entityManager;
     
     // 사용자의 모든 학습목표 조회
     public List<StudyGoalResponse> getAllStudyGoals(User user) {
@@ -91,6 +97,7 @@ public class StudyGoalService {
     public StudyGoalResponse updateStudyGoal(User user, Long goalId, StudyGoalRequest request) {
         StudyGoal studyGoal = studyGoalRepository.findByIdAndUser(goalId, user)
                 .orElseThrow(() -> new StudyGoalNotFoundException(goalId));
+        refreshForUpdate(studyGoal); // 진행도 컬럼도 함께 UPDATE되므로 최신 값 기준으로 수정
         
         // 학습목표 정보 업데이트 (엔티티 메서드 사용)
         studyGoal.updateFromRequest(request);
@@ -116,6 +123,7 @@ public class StudyGoalService {
     public void updateProgress(Long goalId, int studyMinutes) {
         StudyGoal studyGoal = studyGoalRepository.findById(goalId)
                 .orElseThrow(() -> new StudyGoalNotFoundException(goalId));
+        refreshForUpdate(studyGoal);
         
         // 진행 시간 업데이트 (분 단위로 정확하게 누적)
         int newCurrentMinutes = studyGoal.getCurrentMinutes() + studyMinutes;
@@ -131,8 +139,9 @@ public class StudyGoalService {
         int targetTotalMinutes = studyGoal.getTargetHours() * 60;
         if (newCurrentMinutes >= targetTotalMinutes) {
             studyGoal.setStatus(GoalStatus.COMPLETED);
-            log.info("학습목표 달성: {} (사용자: {}) - 총 {}분 달성", 
-                    studyGoal.getTitle(), studyGoal.getUser().getEmail(), newCurrentMinutes);
+            // 사용자는 지연 로딩 프록시의 ID만 사용 (로그 때문에 users 조회가 추가되지 않도록)
+            log.info("학습목표 달성: {} (사용자 ID: {}) - 총 {}분 달성", 
+                    studyGoal.getTitle(), studyGoal.getUser().getId(), newCurrentMinutes);
         }
         
         log.info("학습목표 진행도 업데이트: {} - +{}분 (총 {}분, {}시간)", 
@@ -141,6 +150,12 @@ public class StudyGoalService {
         studyGoalRepository.save(studyGoal);
     }
     
+    // 2차 캐시(또는 같은 트랜잭션에서 먼저 읽은) 값은 다른 인스턴스의 갱신보다 오래됐을 수 있으므로
+    // 수정 전에 행을 잠그고 DB 값으로 다시 읽는다 (동시 진행도 갱신끼리도 서로 덮어쓰지 않음)
+    private void refreshForUpdate(StudyGoal studyGoal) {
+        entityManager.refresh(studyGoal, LockModeType.PESSIMISTIC_WRITE);
+    }
+    
     // 학습목표별 통계 조회
     public StudyGoalStatistics getStudyGoalStatistics(User user, Long goalId, 
                                                      LocalDate startDate, LocalDate endDate) {
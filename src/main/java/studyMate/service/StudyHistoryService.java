@@ -0,0 +1,180 @@
+package studyMate.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import studyMate.dto.timer.StudyTotals;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.TimerArchiveState;
+import studyMate.entity.User;
+import studyMate.repository.TimerArchiveStateRepository;
+import studyMate.repository.TimerMonthlyRollupRepository;
+import studyMate.repository.TimerRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 경계를 기준으로 나눈 학습 기록 조회
+ * 경계(archivedBefore) 이후 기록은 timers의 최근 파티션에서, 이전 기록은 월별 집계(timer_monthly_rollups)에서 읽어 합산한다.
+ * - 경계는 TimerArchiver가 달 단위로 올리며, 다른 인스턴스에는 WATERMARK_REFRESH_NANOS 안에 반영된다.
+ *   TimerArchiver는 경계를 올린 다음 실행에서야 timers의 해당 달을 지우므로 그 사이 이전 경계로 조회해도 빠지는 기록이 없다.
+ * - 보관된 기간은 월 단위로만 합산할 수 있으므로 기간 조회(studySecondsInMonths)는 달 단위 범위만 받는다.
+ *   (임의 시각 범위를 받아 달 단위로 넓히면 from 이전 기록이 조용히 더해지므로, 호출자가 달 경계로 맞춘 범위를 넘긴다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyHistoryService {
+
+    // 보관된 기록이 없을 때의 조회 하한 (모든 파티션)
+    static final LocalDateTime LIVE_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long WATERMARK_REFRESH_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final TimerRepository timerRepository;
+    private final TimerMonthlyRollupRepository rollupRepository;
+    private final TimerArchiveStateRepository archiveStateRepository;
+
+    private volatile LocalDateTime archivedBefore;
+    private volatile long watermarkLoadedAt;
+    private volatile boolean watermarkLoaded;
+
+    /**
+     * timers 조회 하한 (이전 기록은 보관됨)
+     */
+    public LocalDateTime liveSince() {
+        LocalDateTime watermark = archivedBefore();
+        return watermark != null ? watermark : LIVE_EPOCH;
+    }
+
+    /**
+     * 보관 경계를 다시 읽음 (TimerArchiver가 경계를 올린 뒤 호출)
+     */
+    public void refreshWatermark() {
+        try {
+            archivedBefore = archiveStateRepository.findById(TimerArchiveState.SINGLETON_ID)
+                    .map(TimerArchiveState::getArchivedBefore)
+                    .orElse(null);
+            watermarkLoadedAt = System.nanoTime();
+            watermarkLoaded = true;
+        } catch (DataAccessException e) {
+            // 조회에 실패하면 이전 값을 쓴다 (처음이면 보관된 기록이 없는 것으로 봄, 마이그레이션 전 포함)
+            log.warn("타이머 보관 경계 조회 실패, 이전 값을 사용합니다: {}", e.getMessage());
+            watermarkLoadedAt = System.nanoTime();
+            watermarkLoaded = true;
+        }
+    }
+
+    private LocalDateTime archivedBefore() {
+        if (!watermarkLoaded || System.nanoTime() - watermarkLoadedAt > WATERMARK_REFRESH_NANOS) {
+            refreshWatermark();
+        }
+        return archivedBefore;
+    }
+
+    /**
+     * 사용자의 전체 기간 학습 합계 (보관 전 기록 + 보관된 달 집계)
+     */
+    public Totals totals(User user) {
+        LocalDateTime watermark = archivedBefore();
+        StudyTotals live = timerRepository.aggregateTotalsSince(user, watermark != null ? watermark : LIVE_EPOCH);
+        if (watermark == null) {
+            return Totals.of(live, null);
+        }
+        return Totals.of(live, rollupRepository.aggregateTotalsBefore(user.getId(), watermark.toLocalDate()));
+    }
+
+    /**
+     * 보관된 달 집계만 (보관 전 기록을 호출자가 다른 값과 함께 timers에서 집계할 때 사용)
+     */
+    public Totals archivedTotals(User user) {
+        LocalDateTime watermark = archivedBefore();
+        if (watermark == null) {
+            return Totals.EMPTY;
+        }
+        return Totals.of(rollupRepository.aggregateTotalsBefore(user.getId(), watermark.toLocalDate()), null);
+    }
+
+    /**
+     * 사용자의 학습목표별 전체 기간 학습 합계
+     */
+    public Totals goalTotals(User user, StudyGoal studyGoal) {
+        LocalDateTime watermark = archivedBefore();
+        StudyTotals live = timerRepository.aggregateGoalTotalsSince(user, studyGoal,
+                watermark != null ? watermark : LIVE_EPOCH);
+        if (watermark == null) {
+            return Totals.of(live, null);
+        }
+        return Totals.of(live, rollupRepository.aggregateGoalTotalsBefore(user.getId(), studyGoal.getId(),
+                watermark.toLocalDate()));
+    }
+
+    /**
+     * 사용자의 달 단위 기간 학습시간 합계 (초 단위, [fromMonth, toMonth))
+     * 경계 이후는 timers에서, 이전은 월별 집계로 합산한다.
+     */
+    public long studySecondsInMonths(User user, YearMonth fromMonth, YearMonth toMonth) {
+        LocalDateTime from = fromMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = toMonth.atDay(1).atStartOfDay();
+        LocalDateTime watermark = archivedBefore();
+        long seconds = 0;
+        if (watermark == null || to.isAfter(watermark)) {
+            LocalDateTime liveFrom = watermark != null && from.isBefore(watermark) ? watermark : from;
+            seconds += timerRepository.sumStudyTimeBetween(user, liveFrom, to);
+        }
+        if (watermark != null && from.isBefore(watermark)) {
+            LocalDateTime archivedTo = to.isBefore(watermark) ? to : watermark;
+            // 경계는 달 단위로 오르므로 archivedTo도 달의 시작 (아니면 경계가 속한 달까지 포함)
+            seconds += rollupRepository.sumStudySecondsBetween(user.getId(),
+                    fromMonth.atDay(1), ceilMonth(archivedTo));
+        }
+        return seconds;
+    }
+
+    private static LocalDate monthOf(LocalDateTime time) {
+        return time.toLocalDate().withDayOfMonth(1);
+    }
+
+    private static LocalDate ceilMonth(LocalDateTime time) {
+        LocalDate month = monthOf(time);
+        return time.equals(month.atStartOfDay()) ? month : month.plusMonths(1);
+    }
+
+    /**
+     * 전체 기간 학습 합계 (초 단위)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Totals {
+        static final Totals EMPTY = new Totals(0, 0, 0);
+
+        private final long studySeconds;
+        private final long sessions;
+        private final int longestSeconds;
+
+        static Totals of(StudyTotals live, StudyTotals archived) {
+            return new Totals(
+                    valueOf(live.getStudySeconds()) + (archived != null ? valueOf(archived.getStudySeconds()) : 0),
+                    valueOf(live.getSessions()) + (archived != null ? valueOf(archived.getSessions()) : 0),
+                    Math.max(longestOf(live), archived != null ? longestOf(archived) : 0));
+        }
+
+        private static long valueOf(Long value) {
+            return value != null ? value : 0L;
+        }
+
+        private static int longestOf(StudyTotals totals) {
+            return totals.getLongestSeconds() != null ? totals.getLongestSeconds() : 0;
+        }
+
+        // 평균 세션 시간 (초, 소수점 포함)
+        public double averageSeconds() {
+            return sessions > 0 ? studySeconds / (double) sessions : 0.0;
+        }
+    }
+}
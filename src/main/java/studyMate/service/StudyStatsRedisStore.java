@@ -0,0 +1,141 @@
+package studyMate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import studyMate.config.StatsCacheProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 학습 통계 스냅샷의 Redis 계층 (인스턴스 간 공유)
+ * - 사용자별 해시(stats:snapshots:{userId})에 시간대별 스냅샷을 JSON 문자열로 저장하고 redisTtlMinutes 뒤 만료된다.
+ *   여러 기기가 서로 다른 시간대로 조회해도 서로의 스냅샷을 밀어내지 않으며, 기록이 바뀌면 해시째 지운다.
+ * - 사용자별 세대(stats:generation:{userId})로 스냅샷 버전을 구분한다. 기록이 바뀌면 세대를 올리고 스냅샷을 지우며,
+ *   집계 결과는 집계 시작 전에 읽은 세대가 그대로일 때만 WATCH/MULTI로 저장한다. (집계 중 바뀐 기록이 빠진 값은 저장되지 않음)
+ * - Redis 장애나 역직렬화 실패는 캐시 미스로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyStatsRedisStore {
+
+    private static final String KEY_PREFIX = "stats:snapshots:";
+    private static final String GENERATION_PREFIX = "stats:generation:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StatsCacheProperties properties;
+
+    /**
+     * zone 시간대의 스냅샷 조회 (zone이 null이면 시간대와 관계없이 저장된 스냅샷 하나)
+     */
+    public StudyStatsSnapshot get(String userId, String zone) {
+        try {
+            HashOperations<String, String, String> snapshots = redisTemplate.opsForHash();
+            String json;
+            if (zone != null) {
+                json = snapshots.get(KEY_PREFIX + userId, zone);
+            } else {
+                List<String> values = snapshots.values(KEY_PREFIX + userId);
+                json = values == null || values.isEmpty() ? null : values.get(0);
+            }
+            return json != null ? read(json) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("학습 통계 캐시 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 사용자 스냅샷 세대 (기록이 바뀔 때마다 증가, 없으면 0)
+     * 조회하지 못하면 -1을 반환하며, 이때 집계한 값은 저장하지 않는다.
+     */
+    public long generation(String userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_PREFIX + userId);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("학습 통계 캐시 세대 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    /**
+     * 집계 시작 전에 읽은 세대가 그대로일 때만 저장
+     * 그 사이 기록이 바뀌었으면(세대 증가) 저장하지 않아, 바뀐 기록이 빠진 스냅샷이 남지 않는다.
+     */
+    public void put(String userId, StudyStatsSnapshot snapshot, long expectedGeneration) {
+        if (expectedGeneration < 0) {
+            return;
+        }
+        String key = KEY_PREFIX + userId;
+        String generationKey = GENERATION_PREFIX + userId;
+        try {
+            String json = write(snapshot);
+            Boolean stored = redisTemplate.execute(new SessionCallback<Boolean>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    redis.watch(generationKey);
+                    String current = redis.opsForValue().get(generationKey);
+                    if (expectedGeneration != (current != null ? Long.parseLong(current) : 0L)) {
+                        redis.unwatch();
+                        return false;
+                    }
+                    redis.multi();
+                    redis.opsForHash().put(key, snapshot.getZone(), json);
+                    redis.expire(key, ttl());
+                    List<Object> results = redis.exec();
+                    return results != null && !results.isEmpty();
+                }
+            });
+            if (!Boolean.TRUE.equals(stored)) {
+                log.debug("집계 중 기록이 바뀌어 학습 통계 캐시를 저장하지 않습니다 - 사용자: {}", userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("학습 통계 캐시 저장 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 기록 변경 반영: 세대를 올린 뒤 모든 시간대의 스냅샷을 지움
+     * 세대를 먼저 올리므로 집계 중이던 다른 인스턴스의 저장은 실패하고, 이미 저장된 값은 지워진다.
+     */
+    public void evict(String userId) {
+        String generationKey = GENERATION_PREFIX + userId;
+        try {
+            redisTemplate.opsForValue().increment(generationKey);
+            // 세대는 스냅샷보다 오래 남아야 만료 직후의 저장을 막을 수 있다
+            redisTemplate.expire(generationKey, ttl().multipliedBy(2));
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.error("학습 통계 캐시 삭제 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofMinutes(properties.getRedisTtlMinutes());
+    }
+
+    private StudyStatsSnapshot read(String json) throws JsonProcessingException {
+        return objectMapper.readValue(json, StudyStatsSnapshot.class);
+    }
+
+    private String write(StudyStatsSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("학습 통계 캐시 값을 저장할 수 없습니다.", e);
+        }
+    }
+}
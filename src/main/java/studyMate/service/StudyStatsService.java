@@ -0,0 +1,216 @@
+package studyMate.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import studyMate.config.StatsCacheProperties;
+import studyMate.dto.timer.StudyStatsAggregate;
+import studyMate.entity.User;
+import studyMate.repository.TimerRepository;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 학습 통계(home-stats / total-stats) 스냅샷 캐시
+ * 앱을 열 때마다 호출되는 통계를 인스턴스 메모리(Caffeine) -> Redis -> DB 집계 한 번 순으로 조회한다.
+ * - 기록 저장/삭제 이벤트(커밋 후)는 사용자 세대를 올리고 두 계층을 비운다.
+ * - 집계 결과는 집계 시작 전에 읽은 세대가 그대로일 때만 캐시한다. 집계와 커밋이 겹쳐 기록이 빠지거나
+ *   두 번 더해진 값이 남지 않도록, 시각 비교 대신 세대로 스냅샷 버전을 구분한다.
+ * - 날짜 경계는 사용자가 보낸 시간대(X-Time-Zone) 기준이며, 날짜/주가 바뀌면 DB 조회 없이 오늘/이번 주 합계만 0으로 넘긴다.
+ * - 스냅샷은 사용자 + 시간대별로 두어, 시간대가 다른 두 기기가 번갈아 조회해도 서로의 캐시를 밀어내지 않는다.
+ * - 다른 인스턴스의 메모리 계층은 localTtlSeconds 동안 이전 값을 보일 수 있다.
+ */
+@Slf4j
+@Service
+public class StudyStatsService {
+
+    static final String LOOKUP_METRIC = "studymate.stats.lookups";
+    // 메모리 계층 세대 슬롯 수 (사용자 ID 해시로 나눠 씀, 슬롯을 공유하는 사용자는 가끔 캐시를 건너뛸 뿐)
+    private static final int GENERATION_SLOTS = 1024;
+    // 메모리 계층에 사용자당 보관할 시간대 수 (넘으면 새 시간대만 남김)
+    private static final int MAX_LOCAL_ZONES = 4;
+
+    private final TimerRepository timerRepository;
+    private final StudyHistoryService studyHistoryService;
+    private final StudyStatsRedisStore redisStore;
+    private final StatsCacheProperties properties;
+    private final Cache<String, Map<String, StudyStatsSnapshot>> localCache; // 사용자 ID -> 시간대별 스냅샷
+    private final AtomicLongArray localGenerations = new AtomicLongArray(GENERATION_SLOTS);
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private Clock clock = Clock.systemDefaultZone(); // DB의 LocalDateTime은 서버 시간대 기준
+
+    public StudyStatsService(TimerRepository timerRepository, StudyHistoryService studyHistoryService,
+                             StudyStatsRedisStore redisStore, StatsCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.timerRepository = timerRepository;
+        this.studyHistoryService = studyHistoryService;
+        this.redisStore = redisStore;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+                .maximumSize(properties.getLocalMaxSize())
+                .build();
+        this.localHits = lookupCounter("local", meterRegistry);
+        this.redisHits = lookupCounter("redis", meterRegistry);
+        this.misses = lookupCounter("db", meterRegistry);
+    }
+
+    private static Counter lookupCounter(String source, MeterRegistry meterRegistry) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("학습 통계 조회가 처리된 계층")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 요청 헤더의 시간대 (없거나 잘못된 값이면 기본 시간대)
+     */
+    public ZoneId resolveZone(String timeZone) {
+        if (StringUtils.hasText(timeZone)) {
+            try {
+                return ZoneId.of(timeZone);
+            } catch (DateTimeException e) {
+                log.debug("알 수 없는 시간대, 기본 시간대를 사용합니다: {}", timeZone);
+            }
+        }
+        return StringUtils.hasText(properties.getDefaultZone()) ? ZoneId.of(properties.getDefaultZone()) : clock.getZone();
+    }
+
+    /**
+     * 사용자 통계 스냅샷 조회
+     * zone이 null이면(total-stats처럼 날짜 경계가 필요 없는 경우) 캐시된 스냅샷의 시간대를 그대로 사용한다.
+     */
+    public StudyStatsSnapshot getSnapshot(User user, ZoneId zone) {
+        if (!properties.isEnabled()) {
+            return compute(user, zone != null ? zone : resolveZone(null));
+        }
+        String userId = user.getId();
+        long localGeneration = localGeneration(userId);
+        String zoneId = zone != null ? zone.getId() : null;
+        StudyStatsSnapshot local = pick(localCache.getIfPresent(userId), zoneId);
+        if (local != null) {
+            localHits.increment();
+            return rolled(userId, local, localGeneration);
+        }
+        StudyStatsSnapshot shared = redisStore.get(userId, zoneId);
+        if (shared != null) {
+            redisHits.increment();
+            return rolled(userId, shared, localGeneration);
+        }
+        misses.increment();
+        long sharedGeneration = redisStore.generation(userId);
+        StudyStatsSnapshot computed = compute(user, zone != null ? zone : resolveZone(null));
+        putLocal(userId, computed, localGeneration);
+        redisStore.put(userId, computed, sharedGeneration);
+        return computed;
+    }
+
+    private long localGeneration(String userId) {
+        return localGenerations.get(Math.floorMod(userId.hashCode(), GENERATION_SLOTS));
+    }
+
+    /**
+     * 조회를 시작할 때 읽은 세대가 그대로일 때만 메모리 계층에 저장
+     * 저장 직후 기록 변경 이벤트가 끼어들었으면(세대 증가) 다시 비운다.
+     */
+    private void putLocal(String userId, StudyStatsSnapshot snapshot, long generation) {
+        if (localGeneration(userId) != generation) {
+            return;
+        }
+        localCache.asMap().compute(userId, (id, zones) -> withZone(zones, snapshot));
+        if (localGeneration(userId) != generation) {
+            localCache.invalidate(userId);
+        }
+    }
+
+    // zoneId가 null이면(total-stats) 시간대와 관계없이 아무 스냅샷
+    private static StudyStatsSnapshot pick(Map<String, StudyStatsSnapshot> zones, String zoneId) {
+        if (zones == null || zones.isEmpty()) {
+            return null;
+        }
+        return zoneId != null ? zones.get(zoneId) : zones.values().iterator().next();
+    }
+
+    private static Map<String, StudyStatsSnapshot> withZone(Map<String, StudyStatsSnapshot> zones,
+                                                            StudyStatsSnapshot snapshot) {
+        Map<String, StudyStatsSnapshot> updated = new HashMap<>();
+        if (zones != null && (zones.size() < MAX_LOCAL_ZONES || zones.containsKey(snapshot.getZone()))) {
+            updated.putAll(zones);
+        }
+        updated.put(snapshot.getZone(), snapshot);
+        return Map.copyOf(updated);
+    }
+
+    // 날짜가 바뀌었으면 넘긴 값을 메모리 계층에 둔다 (Redis 값은 다음 집계/만료 때 갱신)
+    private StudyStatsSnapshot rolled(String userId, StudyStatsSnapshot snapshot, long generation) {
+        StudyStatsSnapshot current = snapshot.rollTo(LocalDate.now(clock.withZone(snapshot.zoneId())));
+        putLocal(userId, current, generation);
+        return current;
+    }
+
+    /**
+     * DB 집계로 스냅샷 생성 (날짜 경계는 zone 기준, 조회 범위는 서버 시간대로 변환)
+     * 오늘/이번 주와 보관 전 전체 합계는 timers 최근 파티션 집계 한 번으로, 보관된 달은 월별 집계로 더한다.
+     */
+    StudyStatsSnapshot compute(User user, ZoneId zone) {
+        LocalDate today = LocalDate.now(clock.withZone(zone));
+        LocalDate weekStart = StudyStatsSnapshot.weekStartOf(today);
+        StudyStatsAggregate aggregate = timerRepository.aggregateStudyStats(user, studyHistoryService.liveSince(),
+                toServerTime(weekStart, zone), toServerTime(today, zone), toServerTime(today.plusDays(1), zone));
+        StudyHistoryService.Totals archived = studyHistoryService.archivedTotals(user);
+        int longestSeconds = aggregate.getLongestSeconds() != null ? aggregate.getLongestSeconds() : 0;
+        return StudyStatsSnapshot.builder()
+                .zone(zone.getId())
+                .day(today)
+                .weekStart(weekStart)
+                .todaySeconds(valueOf(aggregate.getTodaySeconds()))
+                .weekSeconds(valueOf(aggregate.getWeekSeconds()))
+                .totalSeconds(valueOf(aggregate.getTotalSeconds()) + archived.getStudySeconds())
+                .sessions(valueOf(aggregate.getSessions()) + archived.getSessions())
+                .longestSeconds(Math.max(longestSeconds, archived.getLongestSeconds()))
+                .build();
+    }
+
+    private LocalDateTime toServerTime(LocalDate day, ZoneId zone) {
+        return day.atStartOfDay(zone).withZoneSameInstant(clock.getZone()).toLocalDateTime();
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 기록 저장/삭제 반영 (트랜잭션 안에서 발행되면 커밋 후, 밖이면 바로 실행)
+     * 세대를 올리고 두 계층을 비워, 다음 조회에서 변경이 반영된 값으로 다시 집계한다.
+     * 이미 진행 중인 집계는 세대가 바뀌었으므로 결과를 캐시하지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimerRecordChanged(TimerRecordChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String userId = event.getUserId();
+        localGenerations.incrementAndGet(Math.floorMod(userId.hashCode(), GENERATION_SLOTS));
+        localCache.invalidate(userId);
+        redisStore.evict(userId);
+    }
+}
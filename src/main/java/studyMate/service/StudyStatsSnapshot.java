@@ -0,0 +1,76 @@
+package studyMate.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 사용자별 학습 통계 스냅샷 (home-stats / total-stats 캐시 값, 초 단위)
+ * 오늘/이번 주 합계는 zone 기준 날짜(day)와 주 시작일(weekStart)에 대한 값이다.
+ * 날짜가 바뀌면 DB를 다시 읽지 않고 rollTo로 오늘/이번 주 합계만 0으로 넘긴다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyStatsSnapshot {
+    private String zone;            // 날짜 경계 기준 시간대 (IANA ID)
+    private LocalDate day;          // 오늘 합계의 기준 날짜
+    private LocalDate weekStart;    // 이번 주 월요일
+    private long todaySeconds;
+    private long weekSeconds;
+    private long totalSeconds;
+    private long sessions;
+    private int longestSeconds;
+
+    public static LocalDate weekStartOf(LocalDate day) {
+        return day.with(DayOfWeek.MONDAY);
+    }
+
+    public ZoneId zoneId() {
+        return ZoneId.of(zone);
+    }
+
+    /**
+     * today 기준으로 넘긴 스냅샷
+     * 날짜가 바뀌면 오늘 합계를, 주가 바뀌면 이번 주 합계도 0으로 만든다. (그 사이 기록이 저장되었으면 스냅샷은 이미 비워졌다)
+     */
+    public StudyStatsSnapshot rollTo(LocalDate today) {
+        if (!today.isAfter(day)) {
+            return this;
+        }
+        LocalDate newWeekStart = weekStartOf(today);
+        return toBuilder()
+                .day(today)
+                .weekStart(newWeekStart)
+                .todaySeconds(0)
+                .weekSeconds(newWeekStart.equals(weekStart) ? weekSeconds : 0)
+                .build();
+    }
+
+    public int todayMinutes() {
+        return (int) (todaySeconds / 60);
+    }
+
+    public int weekMinutes() {
+        return (int) (weekSeconds / 60);
+    }
+
+    public int totalMinutes() {
+        return (int) (totalSeconds / 60);
+    }
+
+    public int longestMinutes() {
+        return longestSeconds / 60;
+    }
+
+    // 평균 세션 시간 (분, 소수점 포함)
+    public double averageSessionMinutes() {
+        return sessions > 0 ? totalSeconds / (double) sessions / 60.0 : 0.0;
+    }
+}
@@ -0,0 +1,342 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyMate.config.TimerProperties;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * timers 월별 파티션 관리와 오래된 기록 보관
+ * intervalMinutes마다 한 인스턴스(Redis 잠금)에서 다음 순서로 실행한다.
+ * 1. 다음 futureMonths달의 파티션을 p_future에서 미리 나눠 둔다.
+ * 2. 보관 경계 이전인데 timers에 남은 달(지난 실행에서 보관한 달, 늦게 들어온 기록)을 timers_archive로 복사하고
+ *    월별 집계를 다시 계산한 뒤 그 달의 AI 텍스트(timer_ai_feedback)와 파티션을 지운다. (파티션이 없으면 범위 DELETE)
+ * 3. horizonMonths보다 오래된 달을 timers_archive로 복사하고 월별 집계를 만든 뒤 보관 경계를 올린다.
+ * 경계를 올린 실행에서는 timers의 행을 지우지 않으므로, 다른 인스턴스가 이전 경계로 조회해도(최대 1분) 빠지는 기록이 없다.
+ * 파티션 DDL과 보관 SQL은 MySQL 전용이며, db/migration/timers-monthly-partitions.sql 적용 후 enabled를 켠다.
+ */
+@Slf4j
+@Component
+public class TimerArchiver {
+
+    static final String LOCK_KEY = "timer:archive:lock";
+
+    // 토큰이 같을 때만 잠금 해제 (TTL이 지나 다른 인스턴스가 잡은 잠금은 건드리지 않음)
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    static final String PARTITIONS_SQL = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'timers' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    static final String ARCHIVED_BEFORE_SQL = "SELECT archived_before FROM timer_archive_state WHERE id = 1";
+
+    static final String OLDEST_START_SQL = "SELECT MIN(start_time) FROM timers";
+
+    static final String STALE_MONTHS_SQL = "SELECT DISTINCT DATE_FORMAT(start_time, '%Y-%m-01') FROM timers "
+            + "WHERE start_time < ? ORDER BY 1";
+
+    private static final String ARCHIVE_COLUMNS = "id, user_id, study_goal_id, schedule_id, start_time, end_time, "
+            + "study_seconds, rest_seconds, mode, summary, ai_feedback, ai_suggestions, ai_motivation, "
+            + "ai_feedback_created_at, created_at, updated_at";
+
+    private static final String COPY_COLUMNS = "t.id, t.user_id, t.study_goal_id, t.schedule_id, t.start_time, t.end_time, "
+            + "t.study_seconds, t.rest_seconds, t.mode, f.summary, f.ai_feedback, f.ai_suggestions, f.ai_motivation, "
+            + "f.ai_feedback_created_at, t.created_at, t.updated_at";
+
+    // 이미 복사된 기록(같은 id, start_time)은 건너뜀
+    // AI 텍스트는 timer_ai_feedback에 저장된 값 그대로 (압축된 값은 gz: 접두사 포함, CompressedTextConverter 참고)
+    static final String COPY_SQL = "INSERT IGNORE INTO timers_archive (" + ARCHIVE_COLUMNS + ") "
+            + "SELECT " + COPY_COLUMNS + " FROM timers t LEFT JOIN timer_ai_feedback f ON f.timer_id = t.id "
+            + "WHERE t.start_time >= ? AND t.start_time < ?";
+
+    // timers에서 지울 달의 AI 텍스트 (timers_archive로 복사한 뒤 같은 트랜잭션에서 삭제)
+    static final String DELETE_AI_TEXT_SQL = "DELETE f FROM timer_ai_feedback f JOIN timers t ON t.id = f.timer_id "
+            + "WHERE t.start_time >= ? AND t.start_time < ?";
+
+    static final String DELETE_ROLLUPS_SQL = "DELETE FROM timer_monthly_rollups WHERE month_start = ?";
+
+    // 월별 집계는 항상 timers_archive 기준으로 다시 계산 (늦게 들어온 기록을 다시 보관해도 두 번 더해지지 않음)
+    static final String INSERT_ROLLUPS_SQL = "INSERT INTO timer_monthly_rollups "
+            + "(user_id, month_start, study_goal_id, study_seconds, sessions, longest_seconds) "
+            + "SELECT user_id, ?, COALESCE(study_goal_id, 0), SUM(study_seconds), COUNT(*), MAX(study_seconds) "
+            + "FROM timers_archive WHERE start_time >= ? AND start_time < ? "
+            + "GROUP BY user_id, COALESCE(study_goal_id, 0)";
+
+    static final String UPDATE_WATERMARK_SQL = "INSERT INTO timer_archive_state (id, archived_before) VALUES (1, ?) "
+            + "ON DUPLICATE KEY UPDATE archived_before = VALUES(archived_before)";
+
+    static final String DELETE_CHUNK_SQL = "DELETE FROM timers WHERE start_time >= ? AND start_time < ? LIMIT ?";
+
+    private static final int DELETE_CHUNK_SIZE = 5000;
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final TimerProperties.Archive settings;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final StudyHistoryService studyHistoryService;
+    private final String lockToken = UUID.randomUUID().toString();
+    private final ScheduledExecutorService scheduler;
+    private Clock clock = Clock.systemDefaultZone(); // start_time은 서버 시간대 기준
+
+    private final Timer runTimer;
+    private final Counter archivedMonths;
+    private final Counter archivedRecords;
+    private final Counter droppedPartitions;
+    private final Counter failureCounter;
+
+    public TimerArchiver(TimerProperties timerProperties, JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate, StringRedisTemplate redisTemplate,
+                         StudyHistoryService studyHistoryService, MeterRegistry meterRegistry) {
+        this.settings = timerProperties.getArchive();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.studyHistoryService = studyHistoryService;
+
+        this.runTimer = Timer.builder("timer.archive.run")
+                .description("타이머 파티션 관리/보관 작업 소요 시간")
+                .register(meterRegistry);
+        this.archivedMonths = Counter.builder("timer.archive.months")
+                .description("보관 경계를 올린 달 수")
+                .register(meterRegistry);
+        this.archivedRecords = Counter.builder("timer.archive.records")
+                .description("timers_archive로 복사한 기록 수")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("timer.archive.partitions.dropped")
+                .description("보관 후 삭제한 timers 파티션 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("timer.archive.failures")
+                .description("실패한 보관 작업 수")
+                .register(meterRegistry);
+
+        if (!settings.isEnabled()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, 1, settings.getIntervalMinutes(), TimeUnit.MINUTES);
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 잠금을 잡은 인스턴스에서만 한 번 실행 (실패하면 다음 주기에 처음부터 다시 시도)
+     */
+    void run() {
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken,
+                    Duration.ofSeconds(settings.getLockSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("타이머 보관 잠금 획득 실패, 이번 주기는 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("다른 인스턴스에서 타이머 보관 작업 중");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+            if (partitions.isEmpty()) {
+                log.warn("timers가 파티션 테이블이 아닙니다. 파티션 관리 없이 DELETE로 보관합니다.");
+            } else {
+                ensureFuturePartitions(partitions);
+            }
+            purgeArchivedMonths(partitions);
+            archiveExpiredMonths();
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.error("타이머 보관 작업 실패, 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+            } catch (DataAccessException e) {
+                log.warn("타이머 보관 잠금 해제 실패 (TTL 후 만료): {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이번 달부터 futureMonths달 뒤까지 파티션이 없으면 p_future를 나눠 추가
+     */
+    void ensureFuturePartitions(List<String> partitions) {
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("timers에 {} 파티션이 없어 다음 달 파티션을 만들 수 없습니다.", FUTURE_PARTITION);
+            return;
+        }
+        YearMonth last = null;
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && (last == null || month.isAfter(last))) {
+                last = month;
+            }
+        }
+        YearMonth target = YearMonth.now(clock).plusMonths(settings.getFutureMonths());
+        YearMonth next = last != null ? last.plusMonths(1) : YearMonth.now(clock);
+        if (next.isAfter(target)) {
+            return;
+        }
+        StringBuilder ddl = new StringBuilder("ALTER TABLE timers REORGANIZE PARTITION ")
+                .append(FUTURE_PARTITION).append(" INTO (");
+        for (YearMonth month = next; !month.isAfter(target); month = month.plusMonths(1)) {
+            ddl.append("PARTITION ").append(partitionName(month))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        ddl.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+        log.info("timers 파티션 추가: {} ~ {}", partitionName(next), partitionName(target));
+    }
+
+    /**
+     * 보관 경계 이전인데 timers에 남은 달을 다시 보관한 뒤 삭제
+     * (지난 실행에서 경계를 올린 달, 경계 이후에 늦게 저장된 이전 기록)
+     * 앞 달의 파티션이 이미 없으면 그 달 기록은 다음 파티션에 들어가므로, 모두 복사한 뒤 범위 DELETE -> 파티션 DROP 순으로 지운다.
+     */
+    void purgeArchivedMonths(List<String> partitions) {
+        LocalDateTime watermark = archivedBefore();
+        if (watermark == null) {
+            return;
+        }
+        List<LocalDate> months = new ArrayList<>();
+        for (String month : jdbcTemplate.queryForList(STALE_MONTHS_SQL, String.class, Timestamp.valueOf(watermark))) {
+            months.add(LocalDate.parse(month));
+        }
+        for (LocalDate month : months) {
+            LocalDateTime from = month.atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atStartOfDay();
+            transactionTemplate.executeWithoutResult(tx -> {
+                copyMonth(month, from, to);
+                jdbcTemplate.update(DELETE_AI_TEXT_SQL, Timestamp.valueOf(from), Timestamp.valueOf(to));
+            });
+        }
+        for (LocalDate month : months) {
+            if (!partitions.contains(partitionName(YearMonth.from(month)))) {
+                deleteRange(month.atStartOfDay(), month.plusMonths(1).atStartOfDay());
+            }
+        }
+        YearMonth watermarkMonth = YearMonth.from(watermark);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(watermarkMonth)) {
+                jdbcTemplate.execute("ALTER TABLE timers DROP PARTITION " + partition);
+                droppedPartitions.increment();
+                log.info("보관된 timers 파티션 삭제: {}", partition);
+            }
+        }
+    }
+
+    /**
+     * horizonMonths보다 오래된 달을 보관하고 경계를 올림 (timers 행은 다음 실행에서 삭제)
+     */
+    void archiveExpiredMonths() {
+        LocalDate cutoff = YearMonth.now(clock).minusMonths(settings.getHorizonMonths()).atDay(1);
+        LocalDate month = firstMonthToArchive();
+        if (month == null) {
+            return;
+        }
+        boolean advanced = false;
+        for (; month.isBefore(cutoff); month = month.plusMonths(1)) {
+            LocalDate current = month;
+            LocalDateTime from = current.atStartOfDay();
+            LocalDateTime to = current.plusMonths(1).atStartOfDay();
+            transactionTemplate.executeWithoutResult(tx -> {
+                copyMonth(current, from, to);
+                jdbcTemplate.update(UPDATE_WATERMARK_SQL, Timestamp.valueOf(to));
+            });
+            archivedMonths.increment();
+            advanced = true;
+            log.info("타이머 기록 보관: {} (보관 경계 {})", YearMonth.from(current), to);
+        }
+        if (advanced) {
+            studyHistoryService.refreshWatermark();
+        }
+    }
+
+    private LocalDate firstMonthToArchive() {
+        LocalDateTime watermark = archivedBefore();
+        if (watermark != null) {
+            return watermark.toLocalDate();
+        }
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_START_SQL, Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1) : null;
+    }
+
+    private LocalDateTime archivedBefore() {
+        List<Timestamp> rows = jdbcTemplate.queryForList(ARCHIVED_BEFORE_SQL, Timestamp.class);
+        return rows.isEmpty() || rows.get(0) == null ? null : rows.get(0).toLocalDateTime();
+    }
+
+    // 한 달 기록을 timers_archive로 복사하고 그 달 월별 집계를 다시 계산 (호출자 트랜잭션 안에서 실행)
+    private void copyMonth(LocalDate month, LocalDateTime from, LocalDateTime to) {
+        int copied = jdbcTemplate.update(COPY_SQL, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.update(DELETE_ROLLUPS_SQL, Date.valueOf(month));
+        jdbcTemplate.update(INSERT_ROLLUPS_SQL, Date.valueOf(month), Timestamp.valueOf(from), Timestamp.valueOf(to));
+        archivedRecords.increment(copied);
+    }
+
+    // 파티션이 없는 범위는 잠금이 길어지지 않도록 나눠서 삭제
+    private void deleteRange(LocalDateTime from, LocalDateTime to) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_CHUNK_SQL, Timestamp.valueOf(from), Timestamp.valueOf(to),
+                    DELETE_CHUNK_SIZE);
+        } while (deleted >= DELETE_CHUNK_SIZE);
+    }
+
+    static String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_MONTH);
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (partition.length() != 7 || partition.charAt(0) != 'p') {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(1), PARTITION_MONTH);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
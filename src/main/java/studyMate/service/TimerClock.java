@@ -0,0 +1,20 @@
+package studyMate.service;
+
+/**
+ * 타이머용 단조 증가 시계
+ * 기동 시점의 벽시계 값에 System.nanoTime() 경과분을 더해 epoch 밀리초처럼 쓰되,
+ * 실행 중 NTP 보정으로 벽시계가 앞뒤로 움직여도 경과 시간 계산이 흔들리지 않게 한다.
+ * 이벤트 로그에는 이 값이 기록되며, 재기동 후에는 새 기준점에서 다시 시작한다.
+ */
+public final class TimerClock {
+
+    private static final long ANCHOR_MILLIS = System.currentTimeMillis();
+    private static final long ANCHOR_NANOS = System.nanoTime();
+
+    private TimerClock() {
+    }
+
+    public static long currentTimeMillis() {
+        return ANCHOR_MILLIS + (System.nanoTime() - ANCHOR_NANOS) / 1_000_000;
+    }
+}
@@ -0,0 +1,21 @@
+package studyMate.service;
+
+import lombok.Builder;
+import lombok.Getter;
+import studyMate.entity.TimerType;
+
+/**
+ * 타이머 상태 변경 이벤트
+ * 이벤트 로그에 그대로 기록되며, 순서대로 다시 적용하면 TimerStatus를 복원할 수 있다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class TimerEvent {
+    private final TimerEventType type;
+    private final long sequence;      // 로그에 기록된 순번 (사용자별 단조 증가, 기록 전에는 0)
+    private final long at;            // 서버 기준 이벤트 시각 (epoch ms, 사용자별 단조 증가)
+    private final TimerType timerType; // START 이벤트의 타이머 종류
+    private final int studyMinutes;   // START 이벤트의 공부 시간(분)
+    private final int breakMinutes;   // START 이벤트의 휴식 시간(분)
+    private final Long studyGoalId;   // START 이벤트의 학습 목표 ID (선택)
+}
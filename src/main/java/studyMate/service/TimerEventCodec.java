@@ -0,0 +1,178 @@
+package studyMate.service;
+
+import studyMate.dto.pomodoro.TimerResDto;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 인스턴스 간 타이머 이벤트 전파용 바이너리 인코딩
+ * JSON 대신 상태/타입은 enum 순서 1바이트 코드, 숫자는 가변 길이 정수로 기록해 이벤트 크기를 줄인다.
+ * 형식: [버전][노드 ID][사용자 ID][success][상태][타입][남은 시간][학습 분][휴식 분][사이클][순번][기록 ID(0=없음)][닉네임?][메시지?]
+ */
+public final class TimerEventCodec {
+
+    private static final byte VERSION = 4;
+    private static final TimerState[] STATES = TimerState.values();
+    private static final TimerType[] TIMER_TYPES = TimerType.values();
+    private static final int NULL_CODE = 0xFE;
+
+    private TimerEventCodec() {
+    }
+
+    public static byte[] encode(String nodeId, String userId, TimerResDto event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(nodeId);
+            out.writeUTF(userId);
+            out.writeBoolean(event.isSuccess());
+            writeCode(out, event.getStatus());
+            writeCode(out, event.getTimerType());
+            writeVarInt(out, event.getRemainingTime());
+            writeVarInt(out, event.getStudyTimes());
+            writeVarInt(out, event.getBreakTimes());
+            writeVarInt(out, event.getCycleCount());
+            writeVarLong(out, event.getSequence());
+            writeVarLong(out, event.getTimerId() != null ? event.getTimerId() : 0);
+            writeNullableUtf(out, event.getUserNickname());
+            writeNullableUtf(out, event.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Envelope decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 타이머 이벤트 버전: " + version);
+            }
+            String nodeId = in.readUTF();
+            String userId = in.readUTF();
+            TimerResDto event = TimerResDto.builder()
+                    .success(in.readBoolean())
+                    .status(readCode(in, STATES))
+                    .timerType(readCode(in, TIMER_TYPES))
+                    .remainingTime(readVarInt(in))
+                    .studyTimes(readVarInt(in))
+                    .breakTimes(readVarInt(in))
+                    .cycleCount(readVarInt(in))
+                    .sequence(readVarLong(in))
+                    .timerId(nullIfZero(readVarLong(in)))
+                    .userNickname(readNullableUtf(in))
+                    .message(readNullableUtf(in))
+                    .build();
+            return new Envelope(nodeId, userId, event);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("타이머 이벤트를 해석할 수 없습니다.", e);
+        }
+    }
+
+    private static void writeCode(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : NULL_CODE);
+    }
+
+    private static <E extends Enum<E>> E readCode(DataInputStream in, E[] codes) throws IOException {
+        int code = in.readUnsignedByte();
+        if (code == NULL_CODE) {
+            return null;
+        }
+        if (code >= codes.length) {
+            throw new IOException("알 수 없는 코드: " + code);
+        }
+        return codes[code];
+    }
+
+    // 음수가 오지 않는 값(초/분/횟수)만 기록하므로 zigzag 없이 7비트 단위로 기록
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int remaining = Math.max(0, value);
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수가 너무 깁니다.");
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = Math.max(0, value);
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수가 너무 깁니다.");
+    }
+
+    private static Long nullIfZero(long value) {
+        return value == 0 ? null : value;
+    }
+
+    private static void writeNullableUtf(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 디코딩된 이벤트와 발행 노드/사용자 정보
+     */
+    public static final class Envelope {
+        private final String nodeId;
+        private final String userId;
+        private final TimerResDto event;
+
+        Envelope(String nodeId, String userId, TimerResDto event) {
+            this.nodeId = nodeId;
+            this.userId = userId;
+            this.event = event;
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public TimerResDto getEvent() {
+            return event;
+        }
+    }
+}
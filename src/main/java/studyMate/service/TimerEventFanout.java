@@ -0,0 +1,116 @@
+package studyMate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import studyMate.config.WebSocketProperties;
+import studyMate.dto.pomodoro.TimerResDto;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis pub/sub 기반 타이머 이벤트 전파
+ * simple 브로커는 인스턴스 메모리 안에서만 전달하므로, 타이머 상태 변경 이벤트를 Redis 채널로 발행하고
+ * 각 인스턴스가 받아 자신의 simple 브로커로 다시 브로드캐스트한다. (자신이 발행한 이벤트는 무시)
+ * - 받은 이벤트는 RemoteTimerEvent로도 알려 이 인스턴스의 메모리 타이머 상태를 비우게 한다
+ * - 같은 사용자의 연속 이벤트는 coalesceMillis 동안 모아 마지막 상태만 발행
+ * - 이벤트는 TimerEventCodec의 바이너리 형식으로 전송
+ */
+@Slf4j
+@Component
+public class TimerEventFanout implements MessageListener {
+
+    static final String TIMER_TOPIC = "/topic/timer";
+
+    private final WebSocketProperties.Fanout settings;
+    private final RedisTemplate<String, byte[]> timerEventRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TimerResDto> pendingEvents = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public TimerEventFanout(WebSocketProperties webSocketProperties,
+                            RedisTemplate<String, byte[]> timerEventRedisTemplate,
+                            SimpMessagingTemplate messagingTemplate,
+                            ApplicationEventPublisher eventPublisher) {
+        this.settings = webSocketProperties.getFanout();
+        this.timerEventRedisTemplate = timerEventRedisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = settings.isEnabled() ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-fanout");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 타이머 상태 변경 이벤트를 다른 인스턴스로 전파 (사용자별 병합)
+     */
+    public void publish(String userId, TimerResDto event) {
+        if (scheduler == null) {
+            return;
+        }
+        // 대기 중인 이벤트가 없을 때만 발행을 예약하고, 그 사이 들어온 이벤트는 덮어써 마지막 상태만 남긴다
+        if (pendingEvents.put(userId, event) == null) {
+            scheduler.schedule(() -> flush(userId), settings.getCoalesceMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String userId) {
+        TimerResDto event = pendingEvents.remove(userId);
+        if (event == null) {
+            return;
+        }
+        try {
+            timerEventRedisTemplate.convertAndSend(settings.getChannel(), TimerEventCodec.encode(nodeId, userId, event));
+        } catch (Exception e) {
+            log.warn("타이머 이벤트 전파 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 이벤트를 이 인스턴스의 구독자에게 브로드캐스트
+     * 이 인스턴스에 남아 있는 해당 사용자의 타이머 상태는 오래된 것이므로 먼저 비운다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TimerEventCodec.Envelope envelope;
+        try {
+            envelope = TimerEventCodec.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            log.warn("타이머 이벤트 해석 실패: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.getNodeId())) {
+            return;
+        }
+        eventPublisher.publishEvent(new RemoteTimerEvent(envelope.getUserId()));
+        messagingTemplate.convertAndSend(TIMER_TOPIC, envelope.getEvent());
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        // 종료 전 남은 이벤트는 바로 발행
+        pendingEvents.keySet().forEach(this::flush);
+    }
+}
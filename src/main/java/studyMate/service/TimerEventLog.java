@@ -0,0 +1,173 @@
+package studyMate.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import studyMate.config.TimerProperties;
+import studyMate.entity.TimerType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 타이머 이벤트 로그 (Redis Stream, 사용자별 append-only)
+ * 메모리의 TimerStatus가 진행 상태의 기준이고, 이 로그는 서버 재시작/다른 인스턴스에서 상태를 복원하기 위한 기록이다.
+ * - 상태 변경 전에 이벤트를 먼저 기록하고, 스트림 항목 ID로 사용자별 단조 증가 순번을 만든다.
+ * - 기록은 조건부다: 스트림의 마지막 항목이 호출자가 기준으로 삼은 상태의 항목일 때만 추가한다.
+ *   다른 인스턴스가 먼저 기록했으면 추가하지 않고 null을 돌려주며, 호출자는 로그에서 상태를 다시 복원해 검증한다.
+ * - 복원 시 스트림 전체를 순서대로 TimerStatus.apply로 재생한다. (마지막 이벤트가 STOP이면 진행 중인 타이머 없음)
+ * - Redis 장애 시에는 기록을 건너뛰고 메모리 상태로 계속 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimerEventLog {
+
+    private static final String KEY_PREFIX = "timer:events:";
+    // 순번 = 항목 ID의 밀리초 * 1000 + 같은 밀리초 내 순번 (JavaScript Number로도 정확히 표현되는 범위)
+    private static final long SEQUENCE_PER_MILLI = 1000;
+
+    /**
+     * 마지막 항목 확인 후 추가 (원자적)
+     * ARGV[1]: 기대하는 마지막 항목 ID (빈 값이면 진행 중인 타이머 없음 = 스트림이 비었거나 마지막이 STOP)
+     * ARGV[2]: 보관 시간(ms), ARGV[3]: trim 길이 (빈 값이면 trim 안 함), ARGV[4..]: 필드/값
+     * 추가한 항목 ID, 기대와 다르면 빈 문자열을 반환한다.
+     */
+    private static final DefaultRedisScript<String> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local last = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', 1) "
+                    + "if ARGV[1] == '' then "
+                    + "  if #last > 0 then "
+                    + "    local fields = last[1][2] "
+                    + "    for i = 1, #fields, 2 do "
+                    + "      if fields[i] == 'type' and fields[i + 1] ~= 'STOP' then return '' end "
+                    + "    end "
+                    + "  end "
+                    + "elseif #last == 0 or last[1][1] ~= ARGV[1] then "
+                    + "  return '' "
+                    + "end "
+                    + "local id = redis.call('XADD', KEYS[1], '*', unpack(ARGV, 4)) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "if ARGV[3] ~= '' then redis.call('XTRIM', KEYS[1], 'MAXLEN', '~', ARGV[3]) end "
+                    + "return id",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TimerProperties timerProperties;
+
+    /**
+     * 이벤트 기록 후 순번이 채워진 이벤트를 반환
+     * lastSequence는 호출자가 검증에 쓴 상태의 순번이다 (진행 중인 타이머가 없으면 0).
+     * 그 사이 다른 인스턴스가 이벤트를 기록했으면 추가하지 않고 null을 반환한다.
+     * Redis 장애로 기록하지 못하면 확인 없이 lastSequence를 그대로 사용한다.
+     */
+    public TimerEvent append(String userId, TimerEvent event, long lastSequence) {
+        TimerProperties.EventLog settings = timerProperties.getEventLog();
+        if (!settings.isEnabled()) {
+            return event.toBuilder().sequence(lastSequence + 1).build();
+        }
+        String key = KEY_PREFIX + userId;
+        List<String> args = new ArrayList<>();
+        args.add(lastSequence > 0 ? toRecordId(lastSequence) : "");
+        args.add(Long.toString(Duration.ofHours(settings.getRetentionHours()).toMillis()));
+        args.add(event.getType() == TimerEventType.STOP ? Long.toString(settings.getMaxLength()) : "");
+        toFields(event).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        try {
+            String recordId = redisTemplate.execute(APPEND_SCRIPT, List.of(key), args.toArray());
+            if (recordId == null || recordId.isEmpty()) {
+                log.info("타이머 이벤트 충돌 - 사용자: {}, 이벤트: {}, 기준 순번: {} (다른 인스턴스가 먼저 기록)",
+                        userId, event.getType(), lastSequence);
+                return null;
+            }
+            return event.toBuilder().sequence(toSequence(RecordId.of(recordId))).build();
+        } catch (Exception e) {
+            log.error("타이머 이벤트 기록 실패 - 사용자: {}, 이벤트: {}, 오류: {}", userId, event.getType(), e.getMessage());
+            return event.toBuilder().sequence(lastSequence).build();
+        }
+    }
+
+    /**
+     * 로그를 재생해 진행 중인 타이머 상태 복원 (없으면 null)
+     */
+    public TimerStatus rebuild(String userId) {
+        if (!timerProperties.getEventLog().isEnabled()) {
+            return null;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redisTemplate.opsForStream().range(KEY_PREFIX + userId, Range.unbounded());
+        } catch (Exception e) {
+            log.error("타이머 이벤트 로그 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            return null;
+        }
+        if (records == null || records.isEmpty()) {
+            return null;
+        }
+
+        TimerStatus status = null;
+        for (MapRecord<String, Object, Object> record : records) {
+            TimerEvent event = fromFields(record.getValue(), toSequence(record.getId()));
+            if (status == null && event.getType() != TimerEventType.START) {
+                // trim으로 세션 앞부분이 잘린 경우 다음 START까지 건너뛴다
+                continue;
+            }
+            status = TimerStatus.apply(status, event);
+            if (event.getType() == TimerEventType.STOP) {
+                status = null;
+            }
+        }
+        if (status != null) {
+            log.info("타이머 상태 복원 - 사용자: {}, 순번: {}, 상태: {}", userId, status.getSequence(), status.getState());
+        }
+        return status;
+    }
+
+    static long toSequence(RecordId recordId) {
+        return recordId.getTimestamp() * SEQUENCE_PER_MILLI + Math.min(recordId.getSequence(), SEQUENCE_PER_MILLI - 1);
+    }
+
+    // 순번 -> 스트림 항목 ID (같은 밀리초 내 순번이 SEQUENCE_PER_MILLI 미만인 경우 정확히 일치)
+    static String toRecordId(long sequence) {
+        return (sequence / SEQUENCE_PER_MILLI) + "-" + (sequence % SEQUENCE_PER_MILLI);
+    }
+
+    private static Map<String, String> toFields(TimerEvent event) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("type", event.getType().name());
+        fields.put("at", Long.toString(event.getAt()));
+        if (event.getType() == TimerEventType.START) {
+            fields.put("timerType", (event.getTimerType() != null ? event.getTimerType() : TimerType.STUDY).name());
+            fields.put("study", Integer.toString(event.getStudyMinutes()));
+            fields.put("break", Integer.toString(event.getBreakMinutes()));
+            if (event.getStudyGoalId() != null) {
+                fields.put("goal", Long.toString(event.getStudyGoalId()));
+            }
+        }
+        return fields;
+    }
+
+    private static TimerEvent fromFields(Map<Object, Object> fields, long sequence) {
+        TimerEventType type = TimerEventType.valueOf((String) fields.get("type"));
+        TimerEvent.TimerEventBuilder builder = TimerEvent.builder()
+                .type(type)
+                .sequence(sequence)
+                .at(Long.parseLong((String) fields.get("at")));
+        if (type == TimerEventType.START) {
+            builder.timerType(TimerType.valueOf((String) fields.get("timerType")))
+                    .studyMinutes(Integer.parseInt((String) fields.get("study")))
+                    .breakMinutes(Integer.parseInt((String) fields.get("break")))
+                    .studyGoalId(fields.containsKey("goal") ? Long.valueOf((String) fields.get("goal")) : null);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,8 @@
+package studyMate.service;
+
+/**
+ * 타이머 이벤트 로그에 기록되는 상태 변경 종류
+ */
+public enum TimerEventType {
+    START, PAUSE, RESUME, SWITCH, STOP
+}
@@ -0,0 +1,421 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyMate.config.TimerProperties;
+import studyMate.entity.StudyGoal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 타이머 기록 write-behind 버퍼
+ * 정각마다 몰리는 포모도로 종료 시 단건 INSERT 트랜잭션이 한꺼번에 쏟아지지 않도록,
+ * 중지된 세션 기록을 제한된 크기의 큐에 모았다가 batchSize 또는 flushIntervalMillis 기준으로
+ * JDBC 배치 INSERT와 학습 목표 진행도 UPDATE를 한 트랜잭션에서 처리한다.
+ * - 큐에 넣기 전 로컬 WAL에 먼저 기록하고, 기동 시 남은 기록을 다시 저장한다.
+ *   WAL은 batchSize건 단위 세그먼트로 나눠 커밋이 끝난 세그먼트부터 지운다 (큐가 계속 차 있어도 커지지 않음).
+ * - 기록 ID는 큐에 넣을 때 정해지므로 INSERT IGNORE로 재생해도 중복 저장되지 않고,
+ *   실제로 삽입된 기록만 학습 목표 진행도에 반영한다.
+ * - 큐가 가득 찼거나 비활성화 상태면 offer()가 false를 돌려주며 호출자가 즉시 저장한다.
+ * - 저장에 실패한 배치는 다음 flush에서 다시 시도하고, maxBatchAttempts회 연속 실패하면 한 건씩 나눠 저장한다.
+ *   한 건만으로도 데이터 오류(제약 조건 위반, 길이 초과 등)가 나는 기록은 dead-letter 파일로 옮겨
+ *   뒤에 쌓인 기록이 막히지 않게 한다. DB 장애처럼 기록과 무관한 실패면 나누기를 멈추고 다음 flush를 기다린다.
+ * - 진행도는 JDBC로 직접 바꾸므로 커밋 후 해당 학습 목표를 2차 캐시에서 evict한다.
+ */
+@Slf4j
+@Component
+public class TimerRecordBuffer {
+
+    // 학습 목표는 본인 소유일 때만 연결 (삭제된 목표는 null), 이미 저장된 ID는 건너뜀
+    static final String INSERT_SQL = "INSERT IGNORE INTO timers (id, user_id, study_goal_id, start_time, end_time, "
+            + "study_seconds, rest_seconds, mode, created_at) "
+            + "VALUES (?, ?, (SELECT g.id FROM study_goals g WHERE g.id = ? AND g.user_id = ?), ?, ?, ?, ?, ?, ?)";
+
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 current_minutes 갱신을 마지막에 둔다
+    static final String GOAL_PROGRESS_SQL = "UPDATE study_goals SET "
+            + "current_hours = FLOOR((current_minutes + ?) / 60), "
+            + "current_sessions = current_sessions + ?, "
+            + "status = CASE WHEN current_minutes + ? >= target_hours * 60 THEN 'COMPLETED' ELSE status END, "
+            + "updated_at = ?, "
+            + "current_minutes = current_minutes + ? "
+            + "WHERE id = ? AND user_id = ?";
+
+    private final TimerProperties.WriteBehind settings;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final BlockingQueue<PendingTimerRecord> queue;
+    private final List<PendingTimerRecord> retry = new ArrayList<>(); // flush 스레드에서만 접근
+    private int failedAttempts; // retry 배치의 연속 실패 횟수 (flush 스레드에서만 접근)
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object offerLock = new Object(); // flush 중에도 offer가 막히지 않도록 별도 잠금 사용
+    private final TimerRecordWal wal;
+    private final ScheduledExecutorService scheduler;
+
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    public TimerRecordBuffer(TimerProperties timerProperties, JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                             ApplicationEventPublisher eventPublisher, EntityManagerFactory entityManagerFactory) {
+        this.settings = timerProperties.getWriteBehind();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+
+        this.flushTimer = Timer.builder("timer.writebehind.flush")
+                .description("타이머 기록 배치 저장 소요 시간")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("timer.writebehind.lag")
+                .description("큐에 들어온 뒤 DB에 커밋되기까지의 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("timer.writebehind.records")
+                .description("배치로 저장된 타이머 기록 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("timer.writebehind.failures")
+                .description("실패한 배치 저장 횟수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("timer.writebehind.rejected")
+                .description("큐가 가득 차 즉시 저장으로 대체된 기록 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("timer.writebehind.dead.letters")
+                .description("한 건씩 저장해도 실패해 dead-letter 파일로 옮긴 기록 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("timer.writebehind.queue.size", queue, BlockingQueue::size);
+
+        if (!settings.isEnabled()) {
+            this.wal = null;
+            this.scheduler = null;
+            return;
+        }
+
+        this.wal = new TimerRecordWal(Path.of(settings.getWalPath()), settings.isWalFsync(), settings.getBatchSize());
+        try {
+            List<PendingTimerRecord> recovered = wal.recover();
+            if (!recovered.isEmpty()) {
+                log.warn("WAL에서 저장되지 않은 타이머 기록 {}건을 복구합니다.", recovered.size());
+                retry.addAll(recovered);
+            }
+        } catch (IOException e) {
+            log.error("타이머 기록 WAL 복구 실패: {}", settings.getWalPath(), e);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, settings.getFlushIntervalMillis(),
+                settings.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return scheduler != null;
+    }
+
+    /**
+     * 기록을 WAL에 남긴 뒤 큐에 넣음
+     * 버퍼가 꺼져 있거나 큐가 가득 찼거나 WAL 기록에 실패하면 false를 반환한다.
+     */
+    public boolean offer(PendingTimerRecord record) {
+        if (!isEnabled()) {
+            return false;
+        }
+        // 큐에서 꺼내는 쪽은 flush 스레드뿐이므로 잠금 안에서 확인한 빈 자리는 add 시점까지 유지된다
+        synchronized (offerLock) {
+            if (queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                return false;
+            }
+            try {
+                wal.append(record);
+            } catch (IOException e) {
+                log.error("타이머 기록 WAL 기록 실패, 즉시 저장으로 대체합니다.", e);
+                rejectedCounter.increment();
+                return false;
+            }
+            queue.add(record);
+        }
+        if (queue.size() >= settings.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * 큐가 비거나 실패할 때까지 batchSize 단위로 저장
+     */
+    synchronized void flush() {
+        flushRequested.set(false);
+        while (true) {
+            List<PendingTimerRecord> batch = new ArrayList<>(retry);
+            retry.clear();
+            queue.drainTo(batch, settings.getBatchSize() - batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                if (++failedAttempts < settings.getMaxBatchAttempts()) {
+                    log.error("타이머 기록 배치 저장 실패 ({}건, {}/{}회), 다음 flush에서 재시도합니다.",
+                            batch.size(), failedAttempts, settings.getMaxBatchAttempts(), e);
+                    retry.addAll(batch);
+                    return;
+                }
+                log.error("타이머 기록 배치 저장이 {}회 연속 실패해 {}건을 한 건씩 저장합니다.",
+                        failedAttempts, batch.size(), e);
+                if (!writeOneByOne(batch)) {
+                    return;
+                }
+            }
+            failedAttempts = 0;
+            if (batch.size() < settings.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 실패한 배치를 한 건씩 저장
+     * 데이터 오류로 실패한 기록은 dead-letter로 옮기고, 그 외 실패면 남은 기록을 retry에 두고 false를 반환한다.
+     */
+    private boolean writeOneByOne(List<PendingTimerRecord> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingTimerRecord record = batch.get(i);
+            try {
+                write(List.of(record));
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(record, e);
+            } catch (RuntimeException e) {
+                log.error("타이머 기록 단건 저장 실패, 남은 {}건은 다음 flush에서 재시도합니다.", batch.size() - i, e);
+                retry.addAll(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 저장할 수 없는 기록을 dead-letter 파일에 남기고 WAL과 큐에서 제외
+    private void deadLetter(PendingTimerRecord record, RuntimeException cause) {
+        deadLetterCounter.increment();
+        String line = TimerRecordWal.encode(record);
+        log.error("타이머 기록을 저장할 수 없어 dead-letter로 옮깁니다: {}", line, cause);
+        try {
+            Path path = Path.of(settings.getDeadLetterPath());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, line + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // 기록 내용은 위 로그에 남아 있다
+            log.warn("타이머 기록 dead-letter 파일 기록 실패: {}", e.getMessage());
+        }
+        try {
+            wal.committed(List.of(record));
+        } catch (IOException e) {
+            log.warn("타이머 기록 WAL 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장 (실패하면 예외를 그대로 던진다)
+     */
+    private void write(List<PendingTimerRecord> batch) {
+        long started = System.nanoTime();
+        List<PendingTimerRecord> inserted = new ArrayList<>(batch.size());
+        List<Long> updatedGoalIds = new ArrayList<>();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(tx -> {
+                inserted.addAll(insertRecords(batch, now));
+                updatedGoalIds.addAll(updateGoalProgress(inserted, now));
+            });
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        }
+        try {
+            wal.committed(batch);
+        } catch (IOException e) {
+            // 이미 커밋된 배치이므로 재시도하지 않는다 (재기동 시 중복 저장될 수 있음)
+            log.warn("타이머 기록 WAL 정리 실패: {}", e.getMessage());
+        }
+
+        flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        flushedCounter.increment(batch.size());
+        long committedAt = System.currentTimeMillis();
+        for (PendingTimerRecord record : batch) {
+            lagTimer.record(Math.max(0, committedAt - record.getEnqueuedAt()), TimeUnit.MILLISECONDS);
+        }
+        evictGoals(updatedGoalIds);
+        // 커밋된 기록만 학습 통계 캐시에 반영 (종료 중 flush에서는 리스너가 이미 없을 수 있음)
+        try {
+            for (PendingTimerRecord record : inserted) {
+                eventPublisher.publishEvent(TimerRecordChangedEvent.saved(record));
+            }
+        } catch (RuntimeException e) {
+            log.warn("타이머 기록 저장 이벤트 발행 실패: {}", e.getMessage());
+        }
+        log.debug("타이머 기록 배치 저장: {}건", batch.size());
+    }
+
+    /**
+     * 배치 INSERT 후 실제로 삽입된 기록만 반환
+     * (드라이버가 건별 결과를 알려주지 않는 SUCCESS_NO_INFO는 삽입된 것으로 본다)
+     */
+    private List<PendingTimerRecord> insertRecords(List<PendingTimerRecord> batch, LocalDateTime now) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+            ps.setLong(1, record.getId());
+            ps.setString(2, record.getUserId());
+            ps.setObject(3, record.getStudyGoalId());
+            ps.setString(4, record.getUserId());
+            ps.setTimestamp(5, Timestamp.valueOf(record.getPartitionTime()));
+            ps.setTimestamp(6, toTimestamp(record.getEndTime()));
+            ps.setInt(7, record.getStudySeconds());
+            ps.setInt(8, record.getRestSeconds());
+            ps.setString(9, record.getMode());
+            ps.setTimestamp(10, Timestamp.valueOf(now));
+        });
+        if (counts == null) {
+            return batch;
+        }
+
+        List<PendingTimerRecord> inserted = new ArrayList<>(batch.size());
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (index < batch.size() && (count > 0 || count == Statement.SUCCESS_NO_INFO)) {
+                    inserted.add(batch.get(index));
+                }
+                index++;
+            }
+        }
+        if (inserted.size() < batch.size()) {
+            log.info("이미 저장된 타이머 기록 {}건을 건너뛰었습니다.", batch.size() - inserted.size());
+        }
+        return inserted;
+    }
+
+    /**
+     * 같은 목표의 기록은 합쳐서 목표당 UPDATE 한 번으로 진행도를 반영
+     * (기록마다 분 단위로 버림한 값을 더해 단건 저장 시와 같은 결과를 낸다)
+     * @return 진행도를 반영한 학습 목표 ID
+     */
+    private Collection<Long> updateGoalProgress(List<PendingTimerRecord> batch, LocalDateTime now) {
+        Map<Long, GoalProgress> progressByGoal = new LinkedHashMap<>();
+        for (PendingTimerRecord record : batch) {
+            if (record.getStudyGoalId() == null) {
+                continue;
+            }
+            GoalProgress progress = progressByGoal.computeIfAbsent(record.getStudyGoalId(),
+                    goalId -> new GoalProgress(record.getUserId()));
+            progress.minutes += record.getStudyMinutes();
+            progress.sessions++;
+        }
+        if (progressByGoal.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, GoalProgress>> updates = new ArrayList<>(progressByGoal.entrySet());
+        jdbcTemplate.batchUpdate(GOAL_PROGRESS_SQL, updates, updates.size(), (ps, entry) -> {
+            GoalProgress progress = entry.getValue();
+            ps.setInt(1, progress.minutes);
+            ps.setInt(2, progress.sessions);
+            ps.setInt(3, progress.minutes);
+            ps.setTimestamp(4, Timestamp.valueOf(now));
+            ps.setInt(5, progress.minutes);
+            ps.setLong(6, entry.getKey());
+            ps.setString(7, progress.userId);
+        });
+        return progressByGoal.keySet();
+    }
+
+    // 2차 캐시에 남은 이전 진행도 제거 (다음 조회에서 DB 값을 읽음)
+    private void evictGoals(Collection<Long> goalIds) {
+        if (goalIds.isEmpty()) {
+            return;
+        }
+        try {
+            for (Long goalId : goalIds) {
+                entityManagerFactory.getCache().evict(StudyGoal.class, goalId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("학습 목표 2차 캐시 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    int getQueuedCount() {
+        return queue.size() + retry.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(settings.getFlushIntervalMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전 남은 기록 저장 (실패한 기록은 WAL에 남아 다음 기동 시 복구)
+        flush();
+        try {
+            wal.close();
+        } catch (IOException e) {
+            log.warn("타이머 기록 WAL 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 목표별 누적 진행도
+    private static final class GoalProgress {
+        private final String userId;
+        private int minutes;
+        private int sessions;
+
+        private GoalProgress(String userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package studyMate.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import studyMate.entity.Timer;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타이머 기록 저장/삭제 이벤트
+ * 기록이 커밋된 뒤 학습 통계 캐시(StudyStatsService)가 받아 해당 사용자의 스냅샷을 비운다.
+ * startTime은 DB에 저장되는 서버 시간대 기준 값이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TimerRecordChangedEvent {
+
+    public enum Change {
+        SAVED, DELETED
+    }
+
+    private final Change change;
+    private final String userId;
+    private final LocalDateTime startTime;
+    private final int studySeconds;
+
+    public static TimerRecordChangedEvent saved(Timer timer) {
+        return new TimerRecordChangedEvent(Change.SAVED, timer.getUser().getId(), timer.getStartTime(), timer.getStudyTime());
+    }
+
+    public static TimerRecordChangedEvent saved(PendingTimerRecord record) {
+        return new TimerRecordChangedEvent(Change.SAVED, record.getUserId(), record.getStartTime(), record.getStudySeconds());
+    }
+
+    public static TimerRecordChangedEvent deleted(Timer timer) {
+        return new TimerRecordChangedEvent(Change.DELETED, timer.getUser().getId(), timer.getStartTime(), timer.getStudyTime());
+    }
+}
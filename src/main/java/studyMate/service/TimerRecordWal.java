@@ -0,0 +1,219 @@
+package studyMate.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * write-behind 큐용 로컬 WAL(Write-Ahead Log) 세그먼트 파일
+ * 큐에 넣기 전에 기록을 한 줄씩 덧붙이고, segmentRecords건마다 새 세그먼트 파일(경로.1, 경로.2, ...)로 넘어간다.
+ * 세그먼트에 든 기록이 모두 DB에 커밋되면 그 파일을 지우므로, 큐가 계속 차 있어도 WAL은 커밋되지 않은 구간만 남는다.
+ * 프로세스가 비정상 종료되면 다음 기동 시 recover()로 남은 세그먼트를 다시 읽어 저장한다.
+ * (세그먼트를 쓰기 전 형식의 단일 파일(경로 그대로)도 0번 세그먼트로 읽는다)
+ * 커밋 직후 세그먼트를 지우기 전에 종료된 경우에만 같은 기록을 다시 읽으며, 기록 ID가 미리 정해져 있어 INSERT IGNORE로 건너뛴다.
+ */
+@Slf4j
+public class TimerRecordWal implements AutoCloseable {
+
+    private static final char SEPARATOR = '\t';
+
+    private final Path path;
+    private final boolean fsync;
+    private final int segmentRecords;
+    private final Map<Long, Integer> outstanding = new HashMap<>();     // 세그먼트별 커밋되지 않은 기록 수
+    private final Map<Long, Long> segmentById = new HashMap<>();        // 커밋되지 않은 기록 ID -> 세그먼트
+    private long activeSegment;
+    private int activeRecords; // 현재 세그먼트에 쓴 기록 수
+    private FileChannel channel;
+
+    public TimerRecordWal(Path path, boolean fsync, int segmentRecords) {
+        this.path = path;
+        this.fsync = fsync;
+        this.segmentRecords = Math.max(1, segmentRecords);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            List<Long> existing = existingSegments();
+            this.activeSegment = existing.isEmpty() ? 1 : Math.max(1, existing.get(existing.size() - 1) + 1);
+            this.channel = open(activeSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("타이머 기록 WAL 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 이전 실행에서 커밋되지 못한 기록을 세그먼트 순서대로 읽음
+     * 쓰다 만 마지막 줄처럼 해석할 수 없는 줄과 앞 세그먼트에 이미 있는 기록 ID는 건너뛴다.
+     */
+    public synchronized List<PendingTimerRecord> recover() throws IOException {
+        List<PendingTimerRecord> records = new ArrayList<>();
+        for (long segment : existingSegments()) {
+            if (segment >= activeSegment) {
+                continue;
+            }
+            int count = 0;
+            for (String line : Files.readAllLines(segmentPath(segment), StandardCharsets.UTF_8)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                PendingTimerRecord record;
+                try {
+                    record = decode(line);
+                } catch (RuntimeException e) {
+                    log.warn("해석할 수 없는 WAL 기록을 건너뜁니다: {}", line);
+                    continue;
+                }
+                if (segmentById.putIfAbsent(record.getId(), segment) == null) {
+                    records.add(record);
+                    count++;
+                }
+            }
+            if (count == 0) {
+                Files.deleteIfExists(segmentPath(segment));
+            } else {
+                outstanding.put(segment, count);
+            }
+        }
+        return records;
+    }
+
+    public synchronized void append(PendingTimerRecord record) throws IOException {
+        if (activeRecords >= segmentRecords) {
+            rotate();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap((encode(record) + '\n').getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        activeRecords++;
+        segmentById.put(record.getId(), activeSegment);
+        outstanding.merge(activeSegment, 1, Integer::sum);
+    }
+
+    /**
+     * 커밋된 기록을 반영하고, 기록이 모두 커밋된 세그먼트를 지움
+     * (현재 쓰는 세그먼트는 지우지 않고 비운다)
+     */
+    public synchronized void committed(Collection<PendingTimerRecord> records) throws IOException {
+        for (PendingTimerRecord record : records) {
+            Long segment = segmentById.remove(record.getId());
+            if (segment == null) {
+                continue;
+            }
+            int remaining = outstanding.merge(segment, -1, Integer::sum);
+            if (remaining > 0) {
+                continue;
+            }
+            outstanding.remove(segment);
+            if (segment == activeSegment) {
+                channel.truncate(0);
+                if (fsync) {
+                    channel.force(false);
+                }
+                activeRecords = 0;
+            } else {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    public synchronized long getPending() {
+        return segmentById.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    // 현재 세그먼트를 닫고 다음 번호로 넘어감 (이미 모두 커밋된 세그먼트면 지움)
+    private void rotate() throws IOException {
+        channel.close();
+        if (!outstanding.containsKey(activeSegment)) {
+            Files.deleteIfExists(segmentPath(activeSegment));
+        }
+        activeSegment++;
+        activeRecords = 0;
+        channel = open(activeSegment);
+    }
+
+    private FileChannel open(long segment) throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // 0번은 세그먼트를 쓰기 전 형식의 단일 파일
+    Path segmentPath(long segment) {
+        return segment == 0 ? path : path.resolveSibling(path.getFileName() + "." + segment);
+    }
+
+    // 디렉터리에 남아 있는 세그먼트 번호 (오름차순)
+    private List<Long> existingSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        if (Files.exists(path)) {
+            segments.add(0L);
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        String prefix = path.getFileName() + ".";
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix))
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(suffix -> !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit))
+                    .map(Long::valueOf)
+                    .forEach(segments::add);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    static String encode(PendingTimerRecord record) {
+        return String.join(String.valueOf(SEPARATOR),
+                Long.toString(record.getId()),
+                record.getUserId(),
+                record.getStudyGoalId() != null ? record.getStudyGoalId().toString() : "",
+                Integer.toString(record.getStudySeconds()),
+                Integer.toString(record.getRestSeconds()),
+                record.getStartTime() != null ? record.getStartTime().toString() : "",
+                record.getEndTime() != null ? record.getEndTime().toString() : "",
+                record.getMode() != null ? record.getMode().replace(SEPARATOR, ' ') : "",
+                Long.toString(record.getEnqueuedAt()));
+    }
+
+    static PendingTimerRecord decode(String line) {
+        String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+        if (fields.length != 9) {
+            throw new IllegalArgumentException("WAL 필드 수가 올바르지 않습니다: " + fields.length);
+        }
+        return PendingTimerRecord.builder()
+                .id(Long.parseLong(fields[0]))
+                .userId(fields[1])
+                .studyGoalId(fields[2].isEmpty() ? null : Long.valueOf(fields[2]))
+                .studySeconds(Integer.parseInt(fields[3]))
+                .restSeconds(Integer.parseInt(fields[4]))
+                .startTime(fields[5].isEmpty() ? null : LocalDateTime.parse(fields[5]))
+                .endTime(fields[6].isEmpty() ? null : LocalDateTime.parse(fields[6]))
+                .mode(fields[7].isEmpty() ? null : fields[7])
+                .enqueuedAt(Long.parseLong(fields[8]))
+                .build();
+    }
+}
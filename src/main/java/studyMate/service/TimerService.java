@@ -1,52 +1,153 @@
 package studyMate.service;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyMate.config.MetricsConfig;
+import studyMate.config.TimerProperties;
 import studyMate.dto.pomodoro.TimerReqDto;
 import studyMate.dto.pomodoro.TimerResDto;
 import studyMate.entity.StudyGoal;
+import studyMate.entity.TimeOrderedIdGenerator;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
 import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
 import studyMate.entity.User;
+import studyMate.exception.InvalidTimerTransitionException;
 import studyMate.exception.StudyGoalNotFoundException;
 import studyMate.repository.StudyGoalRepository;
+import studyMate.repository.TimerAiFeedbackRepository;
 import studyMate.repository.TimerRepository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(MetricsConfig.SERVICE_METRIC)
 public class TimerService {
+
+    // 중지 기록 저장은 중지 트랜잭션과 분리 (저장 실패가 중지까지 롤백시키지 않도록)
+    private static final TransactionDefinition STOP_RECORD_TRANSACTION =
+            new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    // 사용자별 명령 직렬화용 잠금 수 (사용자 ID 해시로 나눠 씀)
+    private static final int USER_LOCK_STRIPES = 256;
+    // 다른 인스턴스와 이벤트 기록이 충돌했을 때 로그에서 다시 복원해 시도하는 횟수
+    private static final int MAX_APPEND_ATTEMPTS = 3;
     
     private final TimerRepository timerRepository;
     private final StudyGoalRepository studyGoalRepository;
     private final StudyGoalService studyGoalService;
+    private final TimerEventFanout timerEventFanout;
+    private final TimerEventLog timerEventLog;
+    private final TimerProperties timerProperties;
+    private final TimerRecordBuffer timerRecordBuffer;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudyHistoryService studyHistoryService;
+    private final TimerAiFeedbackRepository timerAiFeedbackRepository;
+    private final PlatformTransactionManager transactionManager;
     
     // 사용자별 타이머 상태를 저장하는 맵
     private final Map<String, TimerStatus> userTimerStatus = new ConcurrentHashMap<>();
+    // 같은 사용자의 명령/복원을 직렬화 (Redis 호출 중에도 맵 버킷은 잠그지 않음, 가상 스레드 고정을 피하려고 synchronized 대신 사용)
+    private final ReentrantLock[] userLocks = createUserLocks();
+
+    private static ReentrantLock[] createUserLocks() {
+        ReentrantLock[] locks = new ReentrantLock[USER_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private ReentrantLock userLock(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    // 진행 중인 타이머 수 (상태별, 수집 시점에 맵을 순회해 계산)
+    @PostConstruct
+    void registerMetrics() {
+        for (TimerState state : List.of(TimerState.STARTED, TimerState.PAUSED)) {
+            Gauge.builder("timer.active", userTimerStatus, statuses -> countByState(statuses, state))
+                    .description("이 인스턴스에서 진행 중인 타이머 수")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static long countByState(Map<String, TimerStatus> statuses, TimerState state) {
+        return statuses.values().stream().filter(status -> status.getState() == state).count();
+    }
     
-    // 타이머 기록 조회
+    // 타이머 기록 조회 (보관된 기록은 집계로만 남음)
     public List<Timer> getTimerHistory(User user) {
-        return timerRepository.findByUserOrderByStartTimeDesc(user);
+        return withAiText(timerRepository.findByUserAndStartTimeGreaterThanEqualOrderByStartTimeDesc(user,
+                studyHistoryService.liveSince()));
     }
     
     // 기간별 타이머 기록 조회
     public List<Timer> getTimerHistoryByDateRange(User user, LocalDateTime startTime, LocalDateTime endTime) {
-        return timerRepository.findByUserAndStartTimeBetween(user, startTime, endTime);
+        return withAiText(timerRepository.findByUserAndStartTimeBetween(user, startTime, endTime));
     }
     
     // 학습목표별 타이머 기록 조회
     public List<Timer> getTimerHistoryByStudyGoal(User user, Long studyGoalId) {
         StudyGoal studyGoal = studyGoalRepository.findByIdAndUser(studyGoalId, user)
                 .orElseThrow(() -> new StudyGoalNotFoundException(studyGoalId));
-        return timerRepository.findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal);
+        return withAiText(timerRepository.findByUserAndStudyGoalAndStartTimeGreaterThanEqualOrderByCreatedAtDesc(user,
+                studyGoal, studyHistoryService.liveSince()));
+    }
+
+    // 조회한 기록에 AI 텍스트를 붙임 (timer_ai_feedback을 PK로 한 번에 조회)
+    private List<Timer> withAiText(List<Timer> timers) {
+        if (timers.isEmpty()) {
+            return timers;
+        }
+        Map<Long, Timer> timersById = new HashMap<>();
+        for (Timer timer : timers) {
+            timersById.put(timer.getId(), timer);
+        }
+        for (TimerAiFeedback aiText : timerAiFeedbackRepository.findAllById(timersById.keySet())) {
+            Timer timer = timersById.get(aiText.getTimerId());
+            if (timer != null) {
+                timer.setAiText(aiText);
+            }
+        }
+        return timers;
+    }
+
+    // 기록과 함께 받은 AI 텍스트가 있으면 timer_ai_feedback에 저장 (기록 저장 후 호출)
+    private void saveAiText(Timer saved, TimerAiFeedback aiText) {
+        if (aiText == null || aiText.isEmpty()) {
+            return;
+        }
+        aiText.setTimer(saved);
+        timerAiFeedbackRepository.save(aiText);
+        saved.setAiText(aiText);
     }
     
     // 타이머 기록 저장 (학습목표 연동)
@@ -70,7 +171,11 @@ public class TimerService {
             log.info("타이머 기록 저장 (학습목표 없음): 학습시간 {}분", timer.getStudyTime() / 60);
         }
         
-        return timerRepository.save(timer);
+        TimerAiFeedback aiText = timer.getAiText();
+        Timer saved = timerRepository.save(timer);
+        saveAiText(saved, aiText);
+        eventPublisher.publishEvent(TimerRecordChangedEvent.saved(saved));
+        return saved;
     }
     
     // 타이머 기록 삭제
@@ -109,6 +214,8 @@ public class TimerService {
         }
         
         timerRepository.delete(timer);
+        timerAiFeedbackRepository.deleteAllByIdInBatch(List.of(timerId));
+        eventPublisher.publishEvent(TimerRecordChangedEvent.deleted(timer));
         log.info("타이머 기록 삭제 성공: {} (사용자: {})", timerId, user.getEmail());
         return true;
     }
@@ -140,26 +247,26 @@ public class TimerService {
                 .sum() / 60; // 초 -> 분 변환
     }
     
-    // 사용자의 총 학습시간 조회 (DB 집계 쿼리 사용으로 성능 개선)
+    // 사용자의 총 학습시간 조회 (보관 전 기록 집계 + 보관된 달 집계)
     public int getTotalStudyTime(User user) {
-        int totalSeconds = timerRepository.sumStudyTimeByUser(user);
-        return totalSeconds / 60; // 초 -> 분 변환
+        long totalSeconds = studyHistoryService.totals(user).getStudySeconds();
+        return (int) (totalSeconds / 60); // 초 -> 분 변환
     }
     
     // 사용자의 총 학습 세션 수 조회
     public int getTotalSessionCount(User user) {
-        return timerRepository.countByUser(user);
+        return (int) studyHistoryService.totals(user).getSessions();
     }
     
     // 사용자의 평균 세션 시간 조회 (분) - DB 집계 쿼리 사용으로 성능 개선
     public double getAverageSessionTime(User user) {
-        double avgSeconds = timerRepository.avgStudyTimeByUser(user);
+        double avgSeconds = studyHistoryService.totals(user).averageSeconds();
         return avgSeconds / 60.0; // 초 -> 분 변환 (소수점 포함)
     }
     
     // 최장 학습 세션 시간 조회 (분) - DB 집계 쿼리 사용으로 성능 개선
     public int getLongestSessionTime(User user) {
-        int maxSeconds = timerRepository.maxStudyTimeByUser(user);
+        int maxSeconds = studyHistoryService.totals(user).getLongestSeconds();
         return maxSeconds / 60; // 초 -> 분 변환
     }
     
@@ -168,10 +275,8 @@ public class TimerService {
         StudyGoal studyGoal = studyGoalRepository.findByIdAndUser(studyGoalId, user)
                 .orElseThrow(() -> new StudyGoalNotFoundException(studyGoalId));
         
-        List<Timer> goalTimers = timerRepository.findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal);
-        return goalTimers.stream()
-                .mapToInt(Timer::getStudyTime)
-                .sum() / 60; // 초 -> 분 변환
+        long goalSeconds = studyHistoryService.goalTotals(user, studyGoal).getStudySeconds();
+        return (int) (goalSeconds / 60); // 초 -> 분 변환
     }
     
     // 학습목표별 세션 수 조회
@@ -179,99 +284,291 @@ public class TimerService {
         StudyGoal studyGoal = studyGoalRepository.findByIdAndUser(studyGoalId, user)
                 .orElseThrow(() -> new StudyGoalNotFoundException(studyGoalId));
         
-        return timerRepository.countByUserAndStudyGoal(user, studyGoal);
+        return (int) studyHistoryService.goalTotals(user, studyGoal).getSessions();
     }
     
-    // 월별 학습시간 조회
+    // 월별 학습시간 조회 (보관된 달은 월별 집계 사용)
     public int getMonthStudyTime(User user, int year, int month) {
-        LocalDateTime startOfMonth = LocalDate.of(year, month, 1).atStartOfDay();
-        LocalDateTime endOfMonth = LocalDate.of(year, month, 1)
-                .plusMonths(1)
-                .minusDays(1)
-                .atTime(23, 59, 59);
+        YearMonth target = YearMonth.of(year, month);
         
-        List<Timer> monthTimers = timerRepository.findByUserAndStartTimeBetween(user, startOfMonth, endOfMonth);
-        return monthTimers.stream()
-                .mapToInt(Timer::getStudyTime)
-                .sum() / 60; // 초 -> 분 변환
+        long monthSeconds = studyHistoryService.studySecondsInMonths(user, target, target.plusMonths(1));
+        return (int) (monthSeconds / 60); // 초 -> 분 변환
     }
     
-    // 연도별 학습시간 조회
+    // 연도별 학습시간 조회 (보관된 달은 월별 집계 사용)
     public int getYearStudyTime(User user, int year) {
-        LocalDateTime startOfYear = LocalDate.of(year, 1, 1).atStartOfDay();
-        LocalDateTime endOfYear = LocalDate.of(year, 12, 31).atTime(23, 59, 59);
+        YearMonth january = YearMonth.of(year, 1);
         
-        List<Timer> yearTimers = timerRepository.findByUserAndStartTimeBetween(user, startOfYear, endOfYear);
-        return yearTimers.stream()
-                .mapToInt(Timer::getStudyTime)
-                .sum() / 60; // 초 -> 분 변환
+        long yearSeconds = studyHistoryService.studySecondsInMonths(user, january, january.plusYears(1));
+        return (int) (yearSeconds / 60); // 초 -> 분 변환
     }
 
     @Transactional
     public TimerResDto startTimer(User user, TimerReqDto dto) {
-        String timerType = dto.getTimerType() != null ? dto.getTimerType() : "STUDY";
-
-        // 현재 사용자의 타이머 상태 저장 또는 업데이트
-        TimerStatus status = userTimerStatus.getOrDefault(user.getId(),
-                new TimerStatus(dto.getStudyTimes(), dto.getBreakTimes()));
-
-        status.setStatus("STARTED");
-        status.setTimerType(timerType);
-        status.setCurrentDuration(status.calculateNewDuration());
-        status.startSession(); // 세션 시작
+        TimerType timerType = TimerType.fromOrDefault(dto.getTimerType());
+        if (timerType == null) {
+            return buildErrorResponse("알 수 없는 타이머 종류입니다: " + dto.getTimerType());
+        }
 
-        userTimerStatus.put(user.getId(), status);
+        // 현재 사용자의 타이머 상태 저장 또는 업데이트 (진행 중인 상태가 없으면 새로 생성)
+        TimerStatus status = transition(user, TimerEvent.builder()
+                .type(TimerEventType.START)
+                .timerType(timerType)
+                .studyMinutes(dto.getStudyTimes())
+                .breakMinutes(dto.getBreakTimes())
+                .studyGoalId(dto.getStudyGoalId())
+                .build());
 
-        return buildTimerResponse(true,
+        return broadcast(user, buildTimerResponse(true,
                 status.isStudyMode() ? "학습 타이머가 시작되었습니다." : "휴식 타이머가 시작되었습니다.",
-                status, user);
+                status, user));
     }
 
     @Transactional
     public TimerResDto stopTimer(User user) {
-        TimerStatus status = userTimerStatus.remove(user.getId());
-        if (status == null) {
-            return buildErrorResponse("실행 중인 타이머가 없습니다.");
+        TimerStatus status;
+        try {
+            // 세션 종료 시 실제 경과 시간 업데이트
+            status = transition(user, TimerEvent.builder().type(TimerEventType.STOP).build());
+        } catch (InvalidTimerTransitionException e) {
+            return buildRejectedResponse(user, e);
         }
 
-        // 세션 종료 시 실제 경과 시간 업데이트
-        status.endSession();
-
         log.info("타이머 중지 - 사용자: {}, 실제 학습시간: {}분, 실제 휴식시간: {}분",
                 user.getNickname(), status.getActualStudyMinutes(), status.getActualRestMinutes());
 
-        return buildTimerResponse(true, "타이머가 중지되었습니다.", status, user);
+        Long timerId = persistStoppedSession(user, status);
+        return broadcast(user, timerResponse(true, "타이머가 중지되었습니다.", status, user)
+                .timerId(timerId)
+                .build());
     }
 
     @Transactional
     public TimerResDto pauseTimer(User user) {
-        TimerStatus status = userTimerStatus.get(user.getId());
-        if (status == null) {
-            return buildErrorResponse("실행 중인 타이머가 없습니다.");
+        TimerStatus status;
+        try {
+            status = transition(user, TimerEvent.builder().type(TimerEventType.PAUSE).build());
+        } catch (InvalidTimerTransitionException e) {
+            return buildRejectedResponse(user, e);
         }
 
-        status.setStatus("PAUSED");
-        status.setRemainingTime(status.calculateRemainingTime());
-        userTimerStatus.put(user.getId(), status);
+        return broadcast(user, buildTimerResponse(true, "타이머가 일시정지되었습니다.", status, user));
+    }
 
-        return buildTimerResponse(true, "타이머가 일시정지되었습니다.", status, user);
+    @Transactional
+    public TimerResDto resumeTimer(User user) {
+        TimerStatus status;
+        try {
+            status = transition(user, TimerEvent.builder().type(TimerEventType.RESUME).build());
+        } catch (InvalidTimerTransitionException e) {
+            return buildRejectedResponse(user, e);
+        }
+
+        return broadcast(user, buildTimerResponse(true, "타이머가 다시 시작되었습니다.", status, user));
     }
 
     @Transactional
     public TimerResDto switchTimer(User user) {
-        TimerStatus status = userTimerStatus.get(user.getId());
-        if (status == null) {
-            return buildErrorResponse("실행 중인 타이머가 없습니다.");
+        TimerStatus status;
+        try {
+            status = transition(user, TimerEvent.builder().type(TimerEventType.SWITCH).build());
+        } catch (InvalidTimerTransitionException e) {
+            return buildRejectedResponse(user, e);
         }
 
-        status.updateForNewCycle();
-        userTimerStatus.put(user.getId(), status);
+        return broadcast(user, buildTimerResponse(true,
+                status.isStudyMode() ? "학습 타이머가 시작되었습니다." : "휴식 타이머가 시작되었습니다.",
+                status, user));
+    }
+
+    /**
+     * 재연결 시 타이머 상태 동기화
+     * 클라이언트가 마지막으로 받은 순번보다 새 이벤트가 있으면 현재 상태로 교체하도록 최신 스냅샷을 돌려준다.
+     * 서버가 재시작되었거나 다른 인스턴스로 연결된 경우에는 이벤트 로그에서 상태를 복원한다.
+     */
+    public TimerResDto syncTimer(User user, long lastSequence) {
+        TimerStatus status = findActiveStatus(user);
+        if (status == null) {
+            return buildErrorResponse(TimerStatus.NO_ACTIVE_TIMER);
+        }
 
         return buildTimerResponse(true,
-                status.isStudyMode() ? "학습 타이머가 시작되었습니다." : "휴식 타이머가 시작되었습니다.",
+                lastSequence >= status.getSequence() ? "타이머 상태가 최신입니다." : "타이머 상태를 복원했습니다.",
                 status, user);
     }
 
+    // 메모리에 없으면 이벤트 로그에서 복원 (서버 재시작/인스턴스 변경 대비)
+    private TimerStatus findActiveStatus(User user) {
+        String userId = user.getId();
+        TimerStatus cached = userTimerStatus.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        ReentrantLock lock = userLock(userId);
+        lock.lock();
+        try {
+            cached = userTimerStatus.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            TimerStatus rebuilt = timerEventLog.rebuild(userId);
+            if (rebuilt != null) {
+                userTimerStatus.put(userId, rebuilt);
+            }
+            return rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 상태에 이벤트를 원자적으로 적용
+     * 검증 -> 로그 기록 -> 메모리 반영을 사용자별 잠금 안에서 처리해, 두 기기에서 동시에
+     * 시작/일시정지를 보내도 한쪽이 끝난 상태를 기준으로 다른 쪽을 검증한다.
+     * Redis 호출은 맵 밖에서 하고 결과만 put/remove로 반영한다 (다른 사용자의 맵 버킷을 잡아두지 않음).
+     * 메모리에 없거나 다른 인스턴스가 먼저 이벤트를 기록했으면 이벤트 로그에서 복원해 다시 검증하고,
+     * 이벤트 시각은 사용자별로 뒤로 가지 않도록 보정한다. 허용되지 않는 명령이면 상태를 그대로 둔다.
+     */
+    private TimerStatus transition(User user, TimerEvent event) {
+        String userId = user.getId();
+        ReentrantLock lock = userLock(userId);
+        lock.lock();
+        try {
+            TimerStatus current = userTimerStatus.get(userId);
+            for (int attempt = 1; ; attempt++) {
+                TimerStatus active = current != null ? current : timerEventLog.rebuild(userId);
+                try {
+                    TimerStatus.validate(active, event.getType());
+                } catch (InvalidTimerTransitionException e) {
+                    if (current == null) {
+                        replaceWithRebuilt(userId, active);
+                    }
+                    countCommand(event.getType(), "rejected");
+                    throw e;
+                }
+
+                long now = TimerClock.currentTimeMillis();
+                long at = active != null ? Math.max(now, active.getLastEventAt()) : now;
+                long lastSequence = active != null ? active.getSequence() : 0;
+                TimerEvent logged = timerEventLog.append(userId, event.toBuilder().at(at).build(), lastSequence);
+                if (logged == null) {
+                    // 다른 인스턴스가 먼저 기록: 로그에서 다시 복원해 그 상태 기준으로 검증
+                    if (attempt >= MAX_APPEND_ATTEMPTS) {
+                        userTimerStatus.remove(userId);
+                        countCommand(event.getType(), "conflict");
+                        throw new InvalidTimerTransitionException(active != null ? active.getState() : TimerState.STOPPED,
+                                "다른 기기에서 타이머가 변경되었습니다. 다시 시도해 주세요.");
+                    }
+                    current = null;
+                    continue;
+                }
+
+                TimerStatus applied = TimerStatus.apply(active, logged);
+                if (logged.getType() == TimerEventType.STOP) {
+                    userTimerStatus.remove(userId);
+                } else {
+                    userTimerStatus.put(userId, applied);
+                }
+                countCommand(event.getType(), "accepted");
+                return applied;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 로그에서 복원한 상태로 메모리 상태를 교체 (진행 중인 타이머가 없으면 제거)
+    private void replaceWithRebuilt(String userId, TimerStatus rebuilt) {
+        if (rebuilt != null) {
+            userTimerStatus.put(userId, rebuilt);
+        } else {
+            userTimerStatus.remove(userId);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 이 사용자의 타이머가 바뀌면 메모리 상태를 비움
+     * 다음 명령/동기화 때 이벤트 로그에서 최신 상태를 복원한다.
+     * 기록은 조건부라 여기서 잠금 없이 비워도, 동시에 진행 중인 명령은 로그 기준으로 다시 검증된다.
+     */
+    @EventListener
+    public void onRemoteTimerEvent(RemoteTimerEvent event) {
+        userTimerStatus.remove(event.getUserId());
+    }
+
+    private void countCommand(TimerEventType type, String result) {
+        meterRegistry.counter("timer.commands", "command", type.name(), "result", result).increment();
+    }
+
+    // 거절된 명령: 진행 중인 타이머가 있으면 현재 상태를 함께 돌려준다
+    private TimerResDto buildRejectedResponse(User user, InvalidTimerTransitionException e) {
+        TimerStatus current = e.getState() == TimerState.STOPPED ? null : findActiveStatus(user);
+        if (current == null) {
+            return buildErrorResponse(e.getMessage());
+        }
+        return buildTimerResponse(false, e.getMessage(), current, user);
+    }
+
+    /**
+     * 중지된 세션을 서버가 측정한 경과 시간으로 기록하고 학습 목표 진행도를 반영
+     * 클라이언트가 따로 /api/timer/save 를 호출하지 않아도 기록이 남는다.
+     * 기록 저장은 별도 트랜잭션(REQUIRES_NEW)에서 실행한다. 저장에 실패하면 그 트랜잭션만 롤백되고
+     * 타이머 중지 자체는 성공으로 응답하며, 저장된 기록 ID(없으면 null)를 돌려준다.
+     * write-behind가 켜져 있으면 ID를 미리 정해 버퍼에 넣고 바로 반환한다.
+     */
+    private Long persistStoppedSession(User user, TimerStatus status) {
+        TimerProperties.Persistence settings = timerProperties.getPersistence();
+        long totalSeconds = status.getActualStudyTime() + status.getActualRestTime();
+        if (!settings.isSaveOnStop() || totalSeconds < settings.getMinSeconds()) {
+            return null;
+        }
+
+        LocalDateTime startTime = toLocalDateTime(status.getSessionStartTime());
+        LocalDateTime endTime = toLocalDateTime(status.getLastEventAt());
+        String mode = status.getStudyMinutes() + "/" + status.getBreakMinutes();
+        long timerId = TimeOrderedIdGenerator.next();
+        if (timerRecordBuffer.offer(PendingTimerRecord.builder()
+                .id(timerId)
+                .userId(user.getId())
+                .studyGoalId(status.getStudyGoalId())
+                .studySeconds((int) status.getActualStudyTime())
+                .restSeconds((int) status.getActualRestTime())
+                .startTime(startTime)
+                .endTime(endTime)
+                .mode(mode)
+                .enqueuedAt(System.currentTimeMillis())
+                .build())) {
+            return timerId;
+        }
+
+        Timer timer = Timer.builder()
+                .studyTime((int) status.getActualStudyTime()) // 초 단위로 저장
+                .restTime((int) status.getActualRestTime())   // 초 단위로 저장
+                .startTime(startTime)
+                .endTime(endTime)
+                .mode(mode)
+                .build();
+
+        TransactionTemplate recordTransaction = new TransactionTemplate(transactionManager, STOP_RECORD_TRANSACTION);
+        try {
+            try {
+                return recordTransaction.execute(tx -> saveTimerRecord(user, timer, status.getStudyGoalId()).getId());
+            } catch (StudyGoalNotFoundException e) {
+                // 세션 도중 목표가 삭제된 경우 목표 없이 기록만 남긴다
+                log.warn("타이머 기록의 학습목표를 찾을 수 없어 목표 없이 저장합니다: {}", status.getStudyGoalId());
+                timer.setStudyGoal(null);
+                return recordTransaction.execute(tx -> saveTimerRecord(user, timer, null).getId());
+            }
+        } catch (RuntimeException e) {
+            log.error("타이머 기록 저장 실패 - 사용자: {}", user.getNickname(), e);
+            return null;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
     @Transactional
     public Timer saveTimerRecord(User user, int studyMinutes, int restMinutes, LocalDateTime startTime, LocalDateTime endTime, String mode, String summary) {
         // 실제 경과 시간 계산 (초 단위)
@@ -281,11 +578,11 @@ public class TimerService {
         if (startTime != null && endTime != null) {
             long totalSeconds = java.time.Duration.between(startTime, endTime).getSeconds();
 
-            // 모드에 따라 학습/휴식 시간 분배
-            if ("STUDY".equals(mode) || mode == null) {
+            // 모드에 따라 학습/휴식 시간 분배 (저장된 기록과 같도록 정확히 일치할 때만, 그 외 "25/5"·"study" 등은 비율 분배)
+            if (mode == null || TimerType.STUDY.name().equals(mode)) {
                 actualStudySeconds = (int) totalSeconds;
                 actualRestSeconds = 0;
-            } else if ("BREAK".equals(mode)) {
+            } else if (TimerType.BREAK.name().equals(mode)) {
                 actualStudySeconds = 0;
                 actualRestSeconds = (int) totalSeconds;
             } else {
@@ -306,37 +603,51 @@ public class TimerService {
                 .startTime(startTime)
                 .endTime(endTime)
                 .mode(mode)
-                .summary(summary)
+                .aiText(TimerAiFeedback.builder().summary(summary).build())
                 .build();
 
         log.info("타이머 기록 저장 - 사용자: {}, 실제 학습시간: {}초({}분), 실제 휴식시간: {}초({}분), 총 경과시간: {}분",
                 user.getNickname(), actualStudySeconds, actualStudySeconds/60, actualRestSeconds, actualRestSeconds/60,
                 startTime != null && endTime != null ? java.time.Duration.between(startTime, endTime).toMinutes() : 0);
 
-        return timerRepository.save(timer);
+        TimerAiFeedback aiText = timer.getAiText();
+        Timer saved = timerRepository.save(timer);
+        saveAiText(saved, aiText);
+        eventPublisher.publishEvent(TimerRecordChangedEvent.saved(saved));
+        return saved;
+    }
+
+    // 상태 변경 이벤트를 다른 인스턴스에도 전파 (fan-out 비활성화 시 무시)
+    private TimerResDto broadcast(User user, TimerResDto response) {
+        timerEventFanout.publish(user.getId(), response);
+        return response;
     }
 
     private TimerResDto buildErrorResponse(String message) {
         return TimerResDto.builder()
                 .success(false)
                 .message(message)
-                .status("STOPPED")
+                .status(TimerState.STOPPED)
                 .remainingTime(0)
                 .build();
     }
 
     private TimerResDto buildTimerResponse(boolean success, String message, TimerStatus status, User user) {
+        return timerResponse(success, message, status, user).build();
+    }
+
+    private TimerResDto.TimerResDtoBuilder timerResponse(boolean success, String message, TimerStatus status, User user) {
         return TimerResDto.builder()
                 .success(success)
                 .message(message)
-                .status(status.getStatus())
+                .status(status.getState())
                 .remainingTime(status.calculateRemainingTime())
                 .timerType(status.getTimerType())
                 .userNickname(user.getNickname())
                 .studyTimes(status.getStudyMinutes())
                 .breakTimes(status.getBreakMinutes())
                 .cycleCount(status.getCycleCount())
-                .build();
+                .sequence(status.getSequence());
     }
 
 }
\ No newline at end of file
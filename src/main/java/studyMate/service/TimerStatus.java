@@ -1,101 +1,217 @@
 package studyMate.service;
 
 import lombok.Getter;
-import lombok.Setter;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
+import studyMate.exception.InvalidTimerTransitionException;
 
+/**
+ * 사용자별 진행 중인 타이머 상태
+ * 모든 시각은 TimerClock 기준 밀리초로, 벽시계 보정(NTP)에 흔들리지 않는 단조 증가 시계에서 온다.
+ * 경과 시간은 "실행 구간"마다 누적하며 일시정지 구간은 학습/휴식 시간에서 제외하고 따로 합산한다.
+ * - 상태 전이는 이벤트(apply)로만 일어나며 필드를 제자리에서 갱신한다. (전이 중 객체 할당 없음)
+ * - 새 명령은 validate()로 현재 상태에서 허용되는지 먼저 확인한다. (로그 재생 시에는 검사하지 않음)
+ * - 불변식: 학습 시간 + 휴식 시간 + 일시정지 시간 = 마지막 이벤트 시각 - 세션 시작 시각
+ */
 @Getter
-@Setter
 public class TimerStatus {
-    private String status;
-    private String timerType;
-    private int studyMinutes;
-    private int breakMinutes;
-    private int currentDuration;
-    private int remainingTime;
-    private long startTime;
+    static final String NO_ACTIVE_TIMER = "실행 중인 타이머가 없습니다.";
+
+    private TimerState state;
+    private TimerType timerType;
+    private final int studyMinutes;
+    private final int breakMinutes;
     private int cycleCount;
-    
-    // 실제 경과 시간 추적
-    private long actualStudyTime; // 실제 학습 시간 (초)
-    private long actualRestTime;  // 실제 휴식 시간 (초)
-    private long sessionStartTime; // 세션 시작 시간 (밀리초)
+    private Long studyGoalId;  // 중지 시 기록을 연결할 학습 목표 (선택)
+
+    // 실행 구간 추적 (밀리초)
+    private long sessionStartTime;   // 세션 시작 시각
+    private long runningSince;       // 현재 실행 구간 시작 시각 (일시정지/중지 중에는 0)
+    private long pausedSince;        // 현재 일시정지 시작 시각 (실행/중지 중에는 0)
+    private long phaseElapsedMillis; // 현재 학습/휴식 단계에서 이미 흐른 실행 시간 (이전 실행 구간 합)
+
+    // 누적 시간 (밀리초)
+    private long studyMillis;
+    private long restMillis;
+    private long pausedMillis;
+    private int pauseCount;
+
+    // 이벤트 로그 위치
+    private long sequence;     // 마지막으로 적용한 이벤트 순번
+    private long lastEventAt;  // 마지막으로 적용한 이벤트 시각 (밀리초)
 
     public TimerStatus(int studyMinutes, int breakMinutes) {
-        this.status = "STOPPED";
-        this.timerType = "STUDY";
+        this.state = TimerState.STOPPED;
+        this.timerType = TimerType.STUDY;
         this.studyMinutes = studyMinutes;
         this.breakMinutes = breakMinutes;
-        this.cycleCount = 0;
-        this.actualStudyTime = 0;
-        this.actualRestTime = 0;
-        this.sessionStartTime = 0;
     }
 
-    public void incrementCycleCount() {
-        this.cycleCount++;
+    public boolean isStudyMode() {
+        return timerType == TimerType.STUDY;
     }
 
-    public boolean isStudyMode() {
-        return "STUDY".equals(this.timerType);
+    public boolean isRunning() {
+        return runningSince > 0;
     }
 
-    public void switchMode() {
-        this.timerType = isStudyMode() ? "BREAK" : "STUDY";
-        if (isStudyMode()) {
-            incrementCycleCount();
-        }
+    public boolean isPaused() {
+        return pausedSince > 0;
     }
 
-    public int calculateNewDuration() {
+    // 현재 단계 길이 (초)
+    public int getCurrentDuration() {
         return (isStudyMode() ? studyMinutes : breakMinutes) * 60;
     }
 
-    public void updateForNewCycle() {
-        // 이전 사이클의 실제 경과 시간 업데이트
-        updateActualTime();
-        
-        switchMode();
-        this.currentDuration = calculateNewDuration();
-        this.startTime = System.currentTimeMillis();
-        this.status = "STARTED";
-    }
-    
-    // 실제 경과 시간 업데이트
-    public void updateActualTime() {
-        if (this.startTime > 0) {
-            long elapsedSeconds = (System.currentTimeMillis() - this.startTime) / 1000;
-            if (isStudyMode()) {
-                this.actualStudyTime += elapsedSeconds;
-            } else {
-                this.actualRestTime += elapsedSeconds;
-            }
-        }
+    // 실제 학습 시간 (초, 일시정지 제외)
+    public long getActualStudyTime() {
+        return studyMillis / 1000;
     }
-    
-    // 세션 시작
-    public void startSession() {
-        this.sessionStartTime = System.currentTimeMillis();
-        this.startTime = System.currentTimeMillis();
-    }
-    
-    // 세션 종료 시 최종 시간 업데이트
-    public void endSession() {
-        updateActualTime();
+
+    // 실제 휴식 시간 (초, 일시정지 제외)
+    public long getActualRestTime() {
+        return restMillis / 1000;
     }
-    
+
     // 실제 학습 시간 반환 (분)
     public int getActualStudyMinutes() {
-        return (int) (actualStudyTime / 60);
+        return (int) (getActualStudyTime() / 60);
     }
-    
+
     // 실제 휴식 시간 반환 (분)
     public int getActualRestMinutes() {
-        return (int) (actualRestTime / 60);
+        return (int) (getActualRestTime() / 60);
+    }
+
+    // 마지막 이벤트 시점 기준 남은 시간 (초, 일시정지 중이면 고정값)
+    public int getRemainingTime() {
+        return calculateRemainingTime(lastEventAt);
     }
 
     public int calculateRemainingTime() {
-        if ("STOPPED".equals(status)) return 0;
-        long elapsedTime = (System.currentTimeMillis() - startTime) / 1000;
-        return (int) Math.max(0, currentDuration - elapsedTime);
+        return calculateRemainingTime(TimerClock.currentTimeMillis());
+    }
+
+    public int calculateRemainingTime(long now) {
+        if (state == TimerState.STOPPED) return 0;
+        long elapsedSeconds = phaseElapsedAt(now) / 1000;
+        return (int) Math.max(0, getCurrentDuration() - elapsedSeconds);
+    }
+
+    // 현재 단계에서 now까지 흐른 실행 시간 (밀리초)
+    long phaseElapsedAt(long now) {
+        return phaseElapsedMillis + (isRunning() ? Math.max(0, now - runningSince) : 0);
+    }
+
+    /**
+     * 현재 상태(진행 중인 타이머가 없으면 STOPPED)에서 명령을 적용할 수 있는지 확인
+     * START는 언제나 허용되고(진행 중이면 새 단계로 재시작), 나머지는 아래 전이만 허용한다.
+     * STARTED -> PAUSE, SWITCH, STOP / PAUSED -> RESUME, SWITCH, STOP
+     */
+    public static void validate(TimerStatus current, TimerEventType type) {
+        TimerState state = current != null ? current.state : TimerState.STOPPED;
+        String rejection = switch (type) {
+            case START -> null;
+            case PAUSE -> switch (state) {
+                case STARTED -> null;
+                case PAUSED -> "이미 일시정지된 타이머입니다.";
+                case STOPPED -> NO_ACTIVE_TIMER;
+            };
+            case RESUME -> switch (state) {
+                case PAUSED -> null;
+                case STARTED -> "일시정지된 타이머가 없습니다.";
+                case STOPPED -> NO_ACTIVE_TIMER;
+            };
+            case SWITCH, STOP -> state == TimerState.STOPPED ? NO_ACTIVE_TIMER : null;
+        };
+        if (rejection != null) {
+            throw new InvalidTimerTransitionException(state, rejection);
+        }
+    }
+
+    /**
+     * 이벤트 적용
+     * 실시간 처리와 이벤트 로그 재생이 같은 경로를 사용해, 재생 결과가 메모리 상태와 일치하도록 한다.
+     * START는 진행 중인 상태가 없으면 새 상태를 만들고, STOP 이후 상태는 더 이상 사용하지 않는다.
+     * 현재 상태에서 의미 없는 이벤트(일시정지 중 PAUSE, 실행 중 RESUME)는 시각/순번만 반영한다.
+     */
+    public static TimerStatus apply(TimerStatus current, TimerEvent event) {
+        TimerStatus status = current;
+        long at = event.getAt();
+        switch (event.getType()) {
+            case START -> {
+                if (status == null) {
+                    status = new TimerStatus(event.getStudyMinutes(), event.getBreakMinutes());
+                }
+                if (event.getStudyGoalId() != null) {
+                    status.studyGoalId = event.getStudyGoalId();
+                }
+                status.closeInterval(at);
+                if (status.sessionStartTime == 0) {
+                    status.sessionStartTime = at; // 세션 시작
+                }
+                status.timerType = event.getTimerType() != null ? event.getTimerType() : TimerType.STUDY;
+                status.phaseElapsedMillis = 0;
+                status.run(at);
+            }
+            case PAUSE -> {
+                if (status.isRunning()) {
+                    status.closeInterval(at);
+                    status.pausedSince = at;
+                    status.pauseCount++;
+                    status.state = TimerState.PAUSED;
+                }
+            }
+            case RESUME -> {
+                if (status.isPaused()) {
+                    status.closeInterval(at);
+                    status.run(at);
+                }
+            }
+            case SWITCH -> {
+                status.closeInterval(at);
+                status.switchMode();
+                status.phaseElapsedMillis = 0;
+                status.run(at);
+            }
+            case STOP -> {
+                status.closeInterval(at); // 세션 종료 시 실제 경과 시간 업데이트
+                status.state = TimerState.STOPPED;
+            }
+        }
+        status.sequence = event.getSequence();
+        status.lastEventAt = at;
+        return status;
+    }
+
+    private void switchMode() {
+        this.timerType = timerType.other();
+        if (isStudyMode()) {
+            this.cycleCount++;
+        }
+    }
+
+    private void run(long at) {
+        this.runningSince = at;
+        this.state = TimerState.STARTED;
+    }
+
+    // 진행 중인 실행/일시정지 구간을 at에서 닫고 누적 시간에 반영
+    private void closeInterval(long at) {
+        if (runningSince > 0) {
+            long delta = Math.max(0, at - runningSince);
+            phaseElapsedMillis += delta;
+            if (isStudyMode()) {
+                studyMillis += delta;
+            } else {
+                restMillis += delta;
+            }
+            runningSince = 0;
+        }
+        if (pausedSince > 0) {
+            pausedMillis += Math.max(0, at - pausedSince);
+            pausedSince = 0;
+        }
     }
-} 
\ No newline at end of file
+}
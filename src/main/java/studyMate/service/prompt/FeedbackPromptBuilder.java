@@ -0,0 +1,205 @@
+package studyMate.service.prompt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import studyMate.config.OpenAiProperties;
+import studyMate.dto.ai.AiFeedbackRequest;
+import studyMate.dto.timer.DailyStudyRollup;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
+import studyMate.entity.User;
+import studyMate.repository.StudyGoalRepository;
+import studyMate.repository.TimerRepository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * AI 피드백 프롬프트 생성기
+ * 타이머/요청 데이터를 템플릿 변수 배열로 옮겨 담아 미리 컴파일된 템플릿으로 렌더링한다.
+ * 템플릿이 학습 목표/최근 기록 섹션을 사용하면 사용자 이력을 조회해 채우되,
+ * 추정 토큰 수가 설정된 예산을 넘지 않도록 섹션을 잘라내고 생략분은 요약 한 줄로 대신한다.
+ * 요청에서 온 자유 입력 값도 항목별 예산(요약은 maxSummaryTokens, 나머지는 maxFieldTokens)으로 잘라
+ * 본문이 예산을 차지하지 못하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackPromptBuilder {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("MM/dd(E)", Locale.KOREAN);
+    private static final int MAX_GOAL_TITLE_TOKENS = 30;
+    // 생략 요약 한 줄("그 외 N일: 총 X분, Y세션")을 위해 남겨둘 토큰
+    private static final int SUMMARY_RESERVE_TOKENS = 24;
+
+    private final PromptTemplateRegistry promptTemplateRegistry;
+    private final TimerRepository timerRepository;
+    private final StudyGoalRepository studyGoalRepository;
+    private final OpenAiProperties openAiProperties;
+
+    public String build(Timer timer, AiFeedbackRequest request) {
+        User user = timer.getUser();
+        OpenAiProperties.Prompt settings = openAiProperties.getPrompt();
+        PromptTemplate<FeedbackPromptField> template = promptTemplateRegistry.feedbackTemplateFor(user.getId());
+
+        Object[] values = baseValues(template, timer, request);
+        truncateTextFields(values, settings);
+
+        boolean needsGoals = template.uses(FeedbackPromptField.GOAL_PROGRESS);
+        boolean needsHistory = template.uses(FeedbackPromptField.RECENT_HISTORY);
+        if (needsGoals || needsHistory) {
+            fillHistorySections(template, values, user, settings, needsGoals, needsHistory);
+        }
+
+        String prompt = template.render(values);
+        if (log.isDebugEnabled()) {
+            log.debug("생성된 프롬프트 (버전: {}, 추정 토큰: {}/{}): {}", template.getVersion(),
+                    TokenEstimator.estimate(prompt), settings.getMaxTokens(), prompt);
+        }
+        return prompt;
+    }
+
+    public static String render(PromptTemplate<FeedbackPromptField> template, Timer timer, AiFeedbackRequest request) {
+        return template.render(baseValues(template, timer, request));
+    }
+
+    private static Object[] baseValues(PromptTemplate<FeedbackPromptField> template, Timer timer, AiFeedbackRequest request) {
+        // 타이머에 저장된 값을 사용 (단일 진실 공급원), 초 -> 분 변환
+        Object[] values = template.newValues();
+        values[FeedbackPromptField.STUDY_MINUTES.ordinal()] = timer.getStudyTime() / 60;
+        values[FeedbackPromptField.REST_MINUTES.ordinal()] = timer.getRestTime() / 60;
+        values[FeedbackPromptField.MODE.ordinal()] = request.getMode() != null ? request.getMode() : timer.getMode();
+        values[FeedbackPromptField.SUMMARY.ordinal()] = request.getStudySummary() != null
+                ? request.getStudySummary() : TimerAiFeedback.summaryOf(timer);
+
+        // 추가 정보 (null이면 템플릿 기본값 사용)
+        values[FeedbackPromptField.STUDY_TOPIC.ordinal()] = request.getStudyTopic();
+        values[FeedbackPromptField.STUDY_GOAL.ordinal()] = request.getStudyGoal();
+        values[FeedbackPromptField.DIFFICULTY.ordinal()] = request.getDifficulty();
+        values[FeedbackPromptField.CONCENTRATION.ordinal()] = request.getConcentration();
+        values[FeedbackPromptField.MOOD.ordinal()] = request.getMood();
+        values[FeedbackPromptField.INTERRUPTIONS.ordinal()] = request.getInterruptions();
+        values[FeedbackPromptField.STUDY_METHOD.ordinal()] = request.getStudyMethod();
+        values[FeedbackPromptField.ENVIRONMENT.ordinal()] = request.getEnvironment();
+        values[FeedbackPromptField.ENERGY_LEVEL.ordinal()] = request.getEnergyLevel();
+        values[FeedbackPromptField.STRESS_LEVEL.ordinal()] = request.getStressLevel();
+
+        // 사용자 전체 학습 통계
+        values[FeedbackPromptField.USER_TOTAL_STUDY_MINUTES.ordinal()] = timer.getUser().getTotalStudyTime();
+
+        return values;
+    }
+
+    // 문자열 값(요청의 자유 입력)을 항목별 토큰 예산으로 자름
+    private static void truncateTextFields(Object[] values, OpenAiProperties.Prompt settings) {
+        int summaryIndex = FeedbackPromptField.SUMMARY.ordinal();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof String text) {
+                int budget = i == summaryIndex ? settings.getMaxSummaryTokens() : settings.getMaxFieldTokens();
+                values[i] = TokenEstimator.truncate(text, budget);
+            }
+        }
+    }
+
+    /**
+     * 학습 목표/최근 기록 섹션을 남은 토큰 예산 안에서 채움
+     * 섹션 기본값으로 본문을 먼저 렌더링해 사용량을 재고, 남은 예산의 절반까지 목표 섹션에,
+     * 나머지를 최근 기록 섹션에 배정한다. (섹션이 비면 기본값이 그대로 출력되므로 예산을 넘지 않는다)
+     */
+    private void fillHistorySections(PromptTemplate<FeedbackPromptField> template, Object[] values, User user,
+                                     OpenAiProperties.Prompt settings, boolean needsGoals, boolean needsHistory) {
+        int goalIndex = FeedbackPromptField.GOAL_PROGRESS.ordinal();
+        int historyIndex = FeedbackPromptField.RECENT_HISTORY.ordinal();
+        int remaining = settings.getMaxTokens() - TokenEstimator.estimate(template.render(values));
+
+        String goalSection = null;
+        if (needsGoals) {
+            List<String> goalLines = goalProgressLines(user, settings.getMaxGoals());
+            int goalBudget = needsHistory ? remaining / 2 : remaining;
+            goalSection = fitLines(goalLines, goalBudget,
+                    from -> String.format("- 그 외 진행 중인 목표 %d개", goalLines.size() - from));
+            remaining -= TokenEstimator.estimate(goalSection);
+        }
+
+        String historySection = null;
+        if (needsHistory) {
+            LocalDate from = LocalDate.now().minusDays(Math.max(1, settings.getHistoryDays()) - 1L);
+            List<DailyStudyRollup> rollups = timerRepository.findDailyRollupsSince(user, from.atStartOfDay());
+            List<String> historyLines = new ArrayList<>(rollups.size());
+            for (DailyStudyRollup rollup : rollups) {
+                historyLines.add(String.format("- %s: %d분, %d세션",
+                        rollup.getDay().format(DAY_FORMAT), toLong(rollup.getStudySeconds()) / 60,
+                        toLong(rollup.getSessions())));
+            }
+            historySection = fitLines(historyLines, remaining, omittedFrom -> summarizeRollups(rollups, omittedFrom));
+        }
+
+        values[goalIndex] = goalSection;
+        values[historyIndex] = historySection;
+    }
+
+    private List<String> goalProgressLines(User user, int maxGoals) {
+        List<StudyGoal> goals = studyGoalRepository.findByUserAndStatusOrderByCreatedAtDesc(user, GoalStatus.ACTIVE);
+        List<String> lines = new ArrayList<>(Math.min(goals.size(), maxGoals));
+        for (StudyGoal goal : goals) {
+            if (lines.size() >= maxGoals) {
+                break;
+            }
+            int currentMinutes = goal.getCurrentMinutes() != null ? goal.getCurrentMinutes() : 0;
+            lines.add(String.format("- %s (%s): %d시간 %d분 / 목표 %d시간, 진행률 %.0f%%, 목표일 %s",
+                    TokenEstimator.truncate(goal.getTitle(), MAX_GOAL_TITLE_TOKENS), goal.getSubject(),
+                    currentMinutes / 60, currentMinutes % 60, goal.getTargetHours(),
+                    goal.getProgressRate(), goal.getTargetDate()));
+        }
+        return lines;
+    }
+
+    /**
+     * 줄 단위 섹션을 예산 안에서 앞에서부터 채움
+     * 넘치는 줄은 버리고 summarizeFrom(첫 생략 줄 인덱스)이 만든 요약 한 줄로 대체한다.
+     */
+    static String fitLines(List<String> lines, int budget, IntFunction<String> summarizeFrom) {
+        if (lines.isEmpty() || budget <= 0) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int used = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int cost = TokenEstimator.estimate(line) + 1; // 줄바꿈 포함
+            int reserve = i == lines.size() - 1 ? 0 : SUMMARY_RESERVE_TOKENS;
+            if (used + cost + reserve > budget) {
+                String summary = summarizeFrom.apply(i);
+                if (used + TokenEstimator.estimate(summary) + 1 <= budget) {
+                    sb.append(summary).append('\n');
+                }
+                break;
+            }
+            sb.append(line).append('\n');
+            used += cost;
+        }
+        return sb.length() == 0 ? null : sb.substring(0, sb.length() - 1);
+    }
+
+    private static String summarizeRollups(List<DailyStudyRollup> rollups, int omittedFrom) {
+        long studySeconds = 0;
+        long sessions = 0;
+        for (int i = omittedFrom; i < rollups.size(); i++) {
+            studySeconds += toLong(rollups.get(i).getStudySeconds());
+            sessions += toLong(rollups.get(i).getSessions());
+        }
+        return String.format("- 그 외 %d일: 총 %d분, %d세션", rollups.size() - omittedFrom, studySeconds / 60, sessions);
+    }
+
+    private static long toLong(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,42 @@
+package studyMate.service.prompt;
+
+/**
+ * AI 피드백 프롬프트에서 사용하는 변수 목록
+ */
+public enum FeedbackPromptField implements PromptField {
+    STUDY_MINUTES("studyMinutes", "0"),
+    REST_MINUTES("restMinutes", "0"),
+    MODE("mode", "정보 없음"),
+    SUMMARY("summary", "요약 없음"),
+    STUDY_TOPIC("studyTopic", "정보 없음"),
+    STUDY_GOAL("studyGoal", "정보 없음"),
+    DIFFICULTY("difficulty", "정보 없음"),
+    CONCENTRATION("concentration", "정보 없음"),
+    MOOD("mood", "정보 없음"),
+    INTERRUPTIONS("interruptions", "정보 없음"),
+    STUDY_METHOD("studyMethod", "정보 없음"),
+    ENVIRONMENT("environment", "정보 없음"),
+    ENERGY_LEVEL("energyLevel", "정보 없음"),
+    STRESS_LEVEL("stressLevel", "정보 없음"),
+    USER_TOTAL_STUDY_MINUTES("userTotalStudyMinutes", "0"),
+    GOAL_PROGRESS("goalProgress", "진행 중인 학습 목표 없음"),
+    RECENT_HISTORY("recentHistory", "최근 학습 기록 없음");
+
+    private final String key;
+    private final String defaultValue;
+
+    FeedbackPromptField(String key, String defaultValue) {
+        this.key = key;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+}
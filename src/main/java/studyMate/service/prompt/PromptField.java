@@ -0,0 +1,14 @@
+package studyMate.service.prompt;
+
+/**
+ * 프롬프트 템플릿의 치환 변수
+ * 템플릿 본문에서는 {{key}} 형태로 참조된다.
+ */
+public interface PromptField {
+
+    // 템플릿에서 사용하는 변수 이름
+    String key();
+
+    // 값이 null일 때 출력할 기본값
+    String defaultValue();
+}
@@ -0,0 +1,144 @@
+package studyMate.service.prompt;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱된 프롬프트 템플릿
+ * 애플리케이션 시작 시 한 번만 리터럴/변수 세그먼트로 분해해 두고,
+ * 요청마다 스레드별로 재사용하는 StringBuilder에 이어 붙여 렌더링한다.
+ */
+public final class PromptTemplate<F extends Enum<F> & PromptField> {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // 한 번 커진 버퍼가 계속 남지 않도록 상한을 둔다
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String name;
+    private final String version;
+    private final String[] literals;  // literals.length == slots.length + 1
+    private final F[] slots;
+    private final int fieldCount;
+    private final int literalLength;
+
+    private PromptTemplate(String name, String version, String[] literals, F[] slots, int fieldCount) {
+        this.name = name;
+        this.version = version;
+        this.literals = literals;
+        this.slots = slots;
+        this.fieldCount = fieldCount;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 원문을 세그먼트 목록으로 컴파일
+     * 알 수 없는 변수나 닫히지 않은 placeholder는 시작 시점에 바로 실패시킨다.
+     */
+    public static <F extends Enum<F> & PromptField> PromptTemplate<F> compile(
+            String name, String version, String source, Class<F> fieldType) {
+        F[] constants = fieldType.getEnumConstants();
+        Map<String, F> fieldsByKey = new HashMap<>();
+        for (F field : constants) {
+            fieldsByKey.put(field.key(), field);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<F> slots = new ArrayList<>();
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            if (open == -1) {
+                literals.add(source.substring(cursor));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close == -1) {
+                throw new IllegalStateException(String.format(
+                        "프롬프트 템플릿 %s(%s): 닫히지 않은 변수가 있습니다. (위치: %d)", name, version, open));
+            }
+            String key = source.substring(open + OPEN.length(), close).trim();
+            F field = fieldsByKey.get(key);
+            if (field == null) {
+                throw new IllegalStateException(String.format(
+                        "프롬프트 템플릿 %s(%s): 알 수 없는 변수 {{%s}}", name, version, key));
+            }
+            literals.add(source.substring(cursor, open));
+            slots.add(field);
+            cursor = close + CLOSE.length();
+        }
+
+        @SuppressWarnings("unchecked")
+        F[] slotArray = slots.toArray((F[]) Array.newInstance(fieldType, 0));
+        return new PromptTemplate<>(name, version, literals.toArray(new String[0]), slotArray, constants.length);
+    }
+
+    /**
+     * 변수 값 배열로 렌더링
+     * values는 필드의 ordinal 위치에 값을 담고, null이면 필드의 기본값을 사용한다.
+     */
+    public String render(Object[] values) {
+        if (values.length != fieldCount) {
+            throw new IllegalArgumentException(String.format(
+                    "프롬프트 템플릿 %s(%s): 변수 개수가 일치하지 않습니다. 기대: %d, 실제: %d",
+                    name, version, fieldCount, values.length));
+        }
+
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        sb.ensureCapacity(literalLength + slots.length * 16);
+
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            F field = slots[i];
+            Object value = values[field.ordinal()];
+            if (value == null) {
+                sb.append(field.defaultValue());
+            } else if (value instanceof Integer number) {
+                sb.append(number.intValue());
+            } else {
+                sb.append(value);
+            }
+        }
+        sb.append(literals[slots.length]);
+
+        String rendered = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    // 템플릿 본문에서 해당 변수를 참조하는지 여부
+    public boolean uses(F field) {
+        for (F slot : slots) {
+            if (slot == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 필드 ordinal 크기에 맞는 값 배열 생성
+    public Object[] newValues() {
+        return new Object[fieldCount];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
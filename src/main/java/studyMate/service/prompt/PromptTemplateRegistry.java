@@ -0,0 +1,91 @@
+package studyMate.service.prompt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import studyMate.config.OpenAiProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 피드백 프롬프트 템플릿 저장소
+ * classpath:prompts/feedback-{version}.txt 파일을 시작 시 한 번 컴파일해 보관하고,
+ * 설정된 비율에 따라 사용자별로 후보 버전을 고정 배정한다 (A/B 비교용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptTemplateRegistry {
+
+    static final String FEEDBACK_LOCATION = "classpath*:prompts/feedback-*.txt";
+    private static final String FEEDBACK_PREFIX = "feedback-";
+    private static final String SUFFIX = ".txt";
+
+    private final OpenAiProperties openAiProperties;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    private Map<String, PromptTemplate<FeedbackPromptField>> feedbackTemplates = Collections.emptyMap();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Map<String, PromptTemplate<FeedbackPromptField>> templates = new HashMap<>();
+        for (Resource resource : resourceResolver.getResources(FEEDBACK_LOCATION)) {
+            String filename = resource.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            String version = filename.substring(FEEDBACK_PREFIX.length(), filename.length() - SUFFIX.length());
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                templates.put(version, PromptTemplate.compile("feedback", version, source, FeedbackPromptField.class));
+            }
+        }
+        this.feedbackTemplates = Map.copyOf(templates);
+
+        OpenAiProperties.Prompt prompt = openAiProperties.getPrompt();
+        requireVersion(prompt.getVersion());
+        if (prompt.getCandidateVersion() != null) {
+            requireVersion(prompt.getCandidateVersion());
+        }
+        log.info("피드백 프롬프트 템플릿 로드 완료 - 버전: {}, 기본: {}, 후보: {} ({}%)",
+                feedbackTemplates.keySet(), prompt.getVersion(), prompt.getCandidateVersion(),
+                prompt.getCandidatePercent());
+    }
+
+    /**
+     * 사용자에게 배정된 피드백 템플릿 조회
+     * 같은 사용자는 항상 같은 버전을 받도록 사용자 ID 해시로 버킷을 나눈다.
+     */
+    public PromptTemplate<FeedbackPromptField> feedbackTemplateFor(String userId) {
+        OpenAiProperties.Prompt prompt = openAiProperties.getPrompt();
+        String candidate = prompt.getCandidateVersion();
+        if (candidate != null && userId != null && prompt.getCandidatePercent() > 0) {
+            int bucket = Math.floorMod(userId.hashCode(), 100);
+            if (bucket < prompt.getCandidatePercent()) {
+                return feedbackTemplates.get(candidate);
+            }
+        }
+        return feedbackTemplates.get(prompt.getVersion());
+    }
+
+    public PromptTemplate<FeedbackPromptField> feedbackTemplate(String version) {
+        return requireVersion(version);
+    }
+
+    private PromptTemplate<FeedbackPromptField> requireVersion(String version) {
+        PromptTemplate<FeedbackPromptField> template = feedbackTemplates.get(version);
+        if (template == null) {
+            throw new IllegalStateException("피드백 프롬프트 템플릿을 찾을 수 없습니다: " + version);
+        }
+        return template;
+    }
+}
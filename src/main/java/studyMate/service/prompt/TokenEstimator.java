@@ -0,0 +1,67 @@
+package studyMate.service.prompt;
+
+/**
+ * 로컬 토큰 수 추정기
+ * 실제 토크나이저(BPE)를 돌리지 않고 문자 종류별 평균 비율로 근사한다.
+ * - 영문/숫자 연속 구간: 4글자당 1토큰
+ * - 한글 등 비 ASCII 문자: 1글자당 1토큰 (실제보다 약간 크게 잡는 보수적 추정)
+ * - 구두점/기호: 1개당 1토큰, 공백은 다음 단어에 붙으므로 세지 않음
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+    private static final String ELLIPSIS = "…";
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += ceilTokens(asciiRun);
+            asciiRun = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + ceilTokens(asciiRun);
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens를 넘지 않도록 앞부분만 남기고 자름
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+        if (maxTokens <= 1) {
+            return ELLIPSIS;
+        }
+
+        // 말줄임표 1토큰을 남겨두고 이분 탐색으로 잘라낼 위치를 찾는다
+        int low = 0;
+        int high = text.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (estimate(text.subSequence(0, mid)) <= maxTokens - 1) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return text.substring(0, low).stripTrailing() + ELLIPSIS;
+    }
+
+    private static int ceilTokens(int asciiRun) {
+        return (asciiRun + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN;
+    }
+}
@@ -0,0 +1,44 @@
+-- timers의 AI 요약/피드백 텍스트를 timer_ai_feedback(타이머와 1:1)으로 옮긴다
+-- 배포 전에 한 번 실행 (MySQL 8 기준). timers를 다시 쓰므로 기록이 많으면 점검 시간에 실행한다.
+-- timers 행이 좁아져 기록/통계 조회가 읽는 페이지 수가 줄고, AI 텍스트는 기록을 하나씩 볼 때만 PK로 읽는다.
+--
+-- - PK는 timer_id (timers.id와 같은 값). timers는 파티션 테이블이라 FK는 만들지 않는다.
+-- - 옮긴 기존 값은 원문 그대로 둔다. 이후 저장되는 긴 텍스트만 studymate.timer.ai-text 설정에 따라 압축된다.
+--   (압축된 값은 'gz:' 접두사 + Base64, 접두사가 없으면 애플리케이션이 원문으로 읽음)
+-- - timers_archive는 그대로 두고, TimerArchiver가 보관할 때 timer_ai_feedback 값을 함께 복사한다.
+
+-- 1. 보조 테이블
+CREATE TABLE IF NOT EXISTS timer_ai_feedback (
+    timer_id               BIGINT      NOT NULL PRIMARY KEY,
+    summary                TEXT        NULL,
+    ai_feedback            TEXT        NULL,
+    ai_suggestions         TEXT        NULL,
+    ai_motivation          TEXT        NULL,
+    ai_feedback_created_at DATETIME(6) NULL
+);
+
+-- 2. AI 텍스트가 있는 기록만 옮김 (다시 실행해도 이미 옮긴 행은 건너뜀)
+INSERT IGNORE INTO timer_ai_feedback (timer_id, summary, ai_feedback, ai_suggestions, ai_motivation, ai_feedback_created_at)
+SELECT id, summary, ai_feedback, ai_suggestions, ai_motivation, ai_feedback_created_at
+  FROM timers
+ WHERE summary IS NOT NULL
+    OR ai_feedback IS NOT NULL
+    OR ai_suggestions IS NOT NULL
+    OR ai_motivation IS NOT NULL;
+
+-- 확인: 두 값이 같아야 다음 단계로 진행
+-- SELECT COUNT(*) FROM timers WHERE summary IS NOT NULL OR ai_feedback IS NOT NULL
+--     OR ai_suggestions IS NOT NULL OR ai_motivation IS NOT NULL;
+-- SELECT COUNT(*) FROM timer_ai_feedback;
+
+-- 3. timers에서 AI 텍스트 컬럼 제거
+ALTER TABLE timers
+    DROP COLUMN summary,
+    DROP COLUMN ai_feedback,
+    DROP COLUMN ai_suggestions,
+    DROP COLUMN ai_motivation,
+    DROP COLUMN ai_feedback_created_at;
+
+-- 확인: 행 크기 변화
+-- SELECT AVG_ROW_LENGTH, DATA_LENGTH FROM information_schema.TABLES
+--  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('timers', 'timer_ai_feedback');
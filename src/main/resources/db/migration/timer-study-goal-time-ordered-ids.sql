@@ -0,0 +1,15 @@
+-- Timer / StudyGoal ID를 IDENTITY(AUTO_INCREMENT)에서 애플리케이션이 정하는 시간 순서 ID로 전환
+-- 기존 행의 ID는 그대로 유지한다. 새 ID(2025-01-01 기준 밀리초 << 12)는 기존 AUTO_INCREMENT 값보다
+-- 항상 크므로 충돌하지 않고, 정렬 순서(기존 기록 -> 새 기록)도 유지된다.
+-- 배포 전에 한 번 실행 (MySQL 8 기준). study_goals.id는 timers.study_goal_id가 참조하므로 FK 검사를 잠시 끈다.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE study_goals MODIFY id BIGINT NOT NULL;
+ALTER TABLE timers MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- 확인: AUTO_INCREMENT 속성이 제거되었는지 (EXTRA 컬럼이 비어 있어야 함)
+-- SELECT TABLE_NAME, COLUMN_NAME, EXTRA FROM information_schema.COLUMNS
+--  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('timers', 'study_goals') AND COLUMN_NAME = 'id';
@@ -0,0 +1,115 @@
+-- timers를 start_time 기준 월별 RANGE 파티션 테이블로 전환하고 보관용 테이블을 만든다
+-- 배포 전에 한 번 실행 (MySQL 8 기준). 테이블을 다시 쓰므로 기록이 많으면 점검 시간에 실행한다.
+-- 적용 후 studymate.timer.archive.enabled=true로 TimerArchiver를 켜면 다음 달 파티션 추가와 오래된 달 보관을 맡는다.
+--
+-- - MySQL 파티션 테이블은 FK를 지원하지 않으므로 timers의 FK를 먼저 지운다. (Timer 엔티티도 FK를 만들지 않도록 표시)
+-- - 모든 UNIQUE 키에 파티션 키가 있어야 하므로 PK를 (id, start_time)으로 넓힌다. id는 애플리케이션이 정하는 고유값 그대로다.
+-- - start_time이 파티션 키이므로 NOT NULL로 바꾸고, 비어 있던 기록은 created_at으로 채운다.
+
+-- 1. timers의 FK 제거 (이름은 Hibernate가 만든 임의 값이라 information_schema에서 찾는다)
+DELIMITER //
+CREATE PROCEDURE drop_timers_foreign_keys()
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE fk_name VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+         WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'timers';
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE timers DROP FOREIGN KEY `', fk_name, '`');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fks;
+END //
+DELIMITER ;
+
+CALL drop_timers_foreign_keys();
+DROP PROCEDURE drop_timers_foreign_keys;
+
+-- 2. 파티션 키 준비
+UPDATE timers SET start_time = created_at WHERE start_time IS NULL;
+
+ALTER TABLE timers
+    MODIFY start_time DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, start_time),
+    ADD INDEX idx_user_start_time (user_id, start_time);
+
+-- 3. 가장 오래된 기록의 달부터 3달 뒤까지 월별 파티션 + 이후 기록용 p_future
+DELIMITER //
+CREATE PROCEDURE partition_timers_monthly()
+BEGIN
+    DECLARE month_start DATE;
+    DECLARE last_month DATE;
+    DECLARE parts TEXT DEFAULT '';
+    SELECT DATE_FORMAT(COALESCE(MIN(start_time), NOW()), '%Y-%m-01') INTO month_start FROM timers;
+    SET last_month = DATE_ADD(DATE_FORMAT(NOW(), '%Y-%m-01'), INTERVAL 3 MONTH);
+    WHILE month_start <= last_month DO
+        SET parts = CONCAT(parts, 'PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                           ' VALUES LESS THAN (''', DATE_ADD(month_start, INTERVAL 1 MONTH), '''), ');
+        SET month_start = DATE_ADD(month_start, INTERVAL 1 MONTH);
+    END WHILE;
+    SET @ddl = CONCAT('ALTER TABLE timers PARTITION BY RANGE COLUMNS (start_time) (', parts,
+                      'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+DELIMITER ;
+
+CALL partition_timers_monthly();
+DROP PROCEDURE partition_timers_monthly;
+
+-- 4. 보관 테이블 (timers와 같은 컬럼, 압축 저장)
+CREATE TABLE IF NOT EXISTS timers_archive (
+    id                     BIGINT      NOT NULL,
+    user_id                VARCHAR(26) NOT NULL,
+    study_goal_id          BIGINT      NULL,
+    schedule_id            VARCHAR(26) NULL,
+    start_time             DATETIME(6) NOT NULL,
+    end_time               DATETIME(6) NULL,
+    study_seconds          INT         NOT NULL,
+    rest_seconds           INT         NOT NULL,
+    mode                   VARCHAR(20) NULL,
+    summary                TEXT        NULL,
+    ai_feedback            TEXT        NULL,
+    ai_suggestions         TEXT        NULL,
+    ai_motivation          TEXT        NULL,
+    ai_feedback_created_at DATETIME(6) NULL,
+    created_at             DATETIME(6) NOT NULL,
+    updated_at             DATETIME(6) NULL,
+    PRIMARY KEY (id, start_time),
+    INDEX idx_archive_user_start_time (user_id, start_time)
+) ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- 5. 보관된 달의 사용자/학습목표별 집계 (study_goal_id 0 = 학습목표 없음)
+CREATE TABLE IF NOT EXISTS timer_monthly_rollups (
+    user_id         VARCHAR(26) NOT NULL,
+    month_start     DATE        NOT NULL,
+    study_goal_id   BIGINT      NOT NULL DEFAULT 0,
+    study_seconds   BIGINT      NOT NULL,
+    sessions        BIGINT      NOT NULL,
+    longest_seconds INT         NOT NULL,
+    PRIMARY KEY (user_id, month_start, study_goal_id)
+);
+
+-- 6. 보관 경계 (단일 행, NULL이면 아직 보관 전)
+CREATE TABLE IF NOT EXISTS timer_archive_state (
+    id              BIGINT      NOT NULL PRIMARY KEY,
+    archived_before DATETIME(6) NULL
+);
+INSERT IGNORE INTO timer_archive_state (id, archived_before) VALUES (1, NULL);
+
+-- 확인: 파티션 목록과 행 수
+-- SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS
+--  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'timers' ORDER BY PARTITION_ORDINAL_POSITION;
+-- 확인: 최근 기록 조회가 최근 파티션만 읽는지 (partitions 컬럼)
+-- EXPLAIN SELECT * FROM timers WHERE user_id = '...' AND start_time >= '2025-01-01';
@@ -0,0 +1,127 @@
+package studyMate.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdGeneratorConfig 테스트")
+class IdGeneratorConfigTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdProperties idProperties;
+    private IdGeneratorConfig config;
+
+    @BeforeEach
+    void setUp() {
+        idProperties = new IdProperties();
+        config = new IdGeneratorConfig(idProperties, redisTemplateProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        config.releaseLease();
+        TimeOrderedIdGenerator.configure(0);
+    }
+
+    @Test
+    @DisplayName("node-id를 지정하면 그 값을 사용하고 Redis는 쓰지 않음")
+    void configure_ExplicitNodeId() {
+        // Given
+        idProperties.setNodeId(7);
+
+        // When
+        config.configure();
+
+        // Then
+        assertEquals(7, TimeOrderedIdGenerator.nodeIdOf(TimeOrderedIdGenerator.next()));
+        verifyNoInteractions(redisTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("node-id가 없어도 single-node를 켜면 0 사용")
+    void configure_SingleNodeDefaultsToZero() {
+        // Given
+        TimeOrderedIdGenerator.configure(5);
+        idProperties.setSingleNode(true);
+
+        // When
+        config.configure();
+
+        // Then
+        assertEquals(0, TimeOrderedIdGenerator.nodeIdOf(TimeOrderedIdGenerator.next()));
+        verifyNoInteractions(redisTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("node-id도 single-node도 임대도 없으면 기동 실패")
+    void configure_NoNodeIdWithoutLease_FailsFast() {
+        // Given
+        idProperties.setLease(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> config.configure());
+    }
+
+    @Test
+    @DisplayName("node-id가 없으면 카운터 mod 32 번호부터 비어 있는 번호를 임대")
+    void configure_LeasesFirstFreeNodeId() {
+        // Given
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(NodeIdLease.COUNTER_KEY)).thenReturn(69L); // 69 mod 32 = 5
+        when(valueOperations.setIfAbsent(eq(NodeIdLease.LEASE_KEY_PREFIX + 5), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(valueOperations.setIfAbsent(eq(NodeIdLease.LEASE_KEY_PREFIX + 6), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        // When
+        config.configure();
+        config.releaseLease();
+
+        // Then
+        assertEquals(6, TimeOrderedIdGenerator.nodeIdOf(TimeOrderedIdGenerator.next()));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(NodeIdLease.LEASE_KEY_PREFIX + 6)), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("32개 번호가 모두 사용 중이면 기동 실패")
+    void configure_AllNodeIdsLeased_FailsFast() {
+        // Given
+        when(redisTemplateProvider.getObject()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(NodeIdLease.COUNTER_KEY)).thenReturn(1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> config.configure());
+        verify(valueOperations, times(TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+                .setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+}
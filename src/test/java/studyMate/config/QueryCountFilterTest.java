@@ -0,0 +1,100 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryCountFilter 테스트")
+class QueryCountFilterTest {
+
+    private static final String SELECT_USER = "select u1_0.id from users u1_0 where u1_0.email=?";
+    private static final String SELECT_TOPIC = "select s1_0.id from study_topics s1_0 where s1_0.id=?";
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        QueryInspectionProperties properties = new QueryInspectionProperties();
+        properties.setRepeatedQueryThreshold(3);
+        filter = new QueryCountFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("요청 스레드에서 실행한 SQL 문 수와 JDBC 시간을 URI 패턴별로 기록")
+    void doFilter_RecordsQueriesPerEndpoint() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedule/01J0000000");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/schedule/{scheduleId}");
+        FilterChain chain = (req, res) -> {
+            inspector.inspect(SELECT_USER);
+            QueryCounter.statementExecuted(TimeUnit.MILLISECONDS.toNanos(3));
+            for (int i = 0; i < 4; i++) {
+                inspector.inspect(SELECT_TOPIC); // N+1
+            }
+        };
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        DistributionSummary queries = meterRegistry.get(QueryCountFilter.QUERIES_METRIC)
+                .tag("method", "GET").tag("uri", "/api/schedule/{scheduleId}").summary();
+        assertEquals(1, queries.count());
+        assertEquals(5.0, queries.totalAmount());
+        assertEquals(3.0, meterRegistry.get(QueryCountFilter.QUERY_TIME_METRIC).timer()
+                .totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    @DisplayName("핸들러 매핑이 없으면 URI 태그는 UNKNOWN, 요청이 끝난 뒤의 SQL은 세지 않음")
+    void doFilter_UnmappedRequest_UsesUnknownUri() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/unknown/123");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> inspector.inspect(SELECT_USER));
+        inspector.inspect(SELECT_USER);
+
+        // Then
+        DistributionSummary queries = meterRegistry.get(QueryCountFilter.QUERIES_METRIC)
+                .tag("uri", QueryCountFilter.UNKNOWN_URI).summary();
+        assertEquals(1.0, queries.totalAmount());
+    }
+
+    @Test
+    @DisplayName("중첩 범위의 기록은 바깥 범위에도 합산되고, 쿼리 형태별 반복 횟수를 집계")
+    void scope_NestedScopesAggregate() {
+        // Given
+        try (QueryCounter.Scope outer = QueryCounter.start()) {
+            inspector.inspect(SELECT_USER);
+
+            // When
+            try (QueryCounter.Scope inner = QueryCounter.start()) {
+                inspector.inspect(SELECT_TOPIC.replace("?", "'a'"));
+                inspector.inspect(SELECT_TOPIC.replace("?", "'b'"));
+
+                // Then
+                assertEquals(2, inner.getStatementCount());
+                assertEquals(2, inner.getMaxRepetition());
+            }
+            inspector.inspect(SELECT_USER);
+
+            assertEquals(4, outer.getStatementCount());
+            assertEquals(2, outer.getFingerprints().size());
+            assertTrue(outer.describe(5).contains("2회 " + SELECT_TOPIC));
+        }
+    }
+}
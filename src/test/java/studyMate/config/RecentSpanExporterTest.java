@@ -0,0 +1,73 @@
+package studyMate.config;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecentSpanExporter 테스트")
+class RecentSpanExporterTest {
+
+    private RecentSpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new RecentSpanExporter(3);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = tracerProvider.get("studymate-test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("trace 한 건의 span을 시작 순으로 조회")
+    void getTrace_OrderedByStart() {
+        // Given
+        Span request = tracer.spanBuilder("http get /api/timer/home-stats").startSpan();
+        try (Scope scope = request.makeCurrent()) {
+            tracer.spanBuilder("studymate.auth.jwt").startSpan().end();
+            tracer.spanBuilder("TimerRepository.findByUserAndStartTimeBetween").startSpan().end();
+        } finally {
+            request.end();
+        }
+
+        // When
+        List<SpanData> trace = exporter.getTrace(request.getSpanContext().getTraceId());
+
+        // Then
+        assertEquals(List.of("http get /api/timer/home-stats", "studymate.auth.jwt",
+                        "TimerRepository.findByUserAndStartTimeBetween"),
+                trace.stream().map(SpanData::getName).toList());
+        assertEquals(request.getSpanContext().getSpanId(), trace.get(1).getParentSpanId());
+    }
+
+    @Test
+    @DisplayName("보관 수를 넘으면 오래된 span부터 버림")
+    void export_OverCapacity_DropsOldest() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        // Then
+        assertEquals(List.of("span-2", "span-3", "span-4"),
+                exporter.getSpans().stream().map(SpanData::getName).toList());
+    }
+}
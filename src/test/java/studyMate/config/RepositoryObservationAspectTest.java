@@ -0,0 +1,69 @@
+package studyMate.config;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import studyMate.entity.StudyGoal;
+import studyMate.repository.StudyGoalRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RepositoryObservationAspect 테스트")
+class RepositoryObservationAspectTest {
+
+    private TestObservationRegistry registry;
+    private StudyGoalRepository target;
+    private StudyGoalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = TestObservationRegistry.create();
+        target = mock(StudyGoalRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(StudyGoalRepository.class);
+        factory.addAspect(new RepositoryObservationAspect(registry));
+        repository = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("상속받은 CrudRepository 메서드도 리포지토리 인터페이스 이름으로 관측")
+    void inheritedMethod_ObservedWithRepositoryName() {
+        // Given
+        StudyGoal goal = StudyGoal.builder().id(1L).build();
+        when(target.findById(1L)).thenReturn(Optional.of(goal));
+
+        // When
+        Optional<StudyGoal> result = repository.findById(1L);
+
+        // Then
+        assertSame(goal, result.orElseThrow());
+        TestObservationRegistryAssert.assertThat(registry)
+                .hasObservationWithNameEqualTo(RepositoryObservationAspect.OBSERVATION_NAME)
+                .that()
+                .hasContextualNameEqualTo("StudyGoalRepository.findById")
+                .hasLowCardinalityKeyValue("repository", "StudyGoalRepository")
+                .hasLowCardinalityKeyValue("method", "findById")
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("리포지토리 예외는 관측 오류로 기록하고 그대로 전파")
+    void exception_RecordedAndRethrown() {
+        // Given
+        when(target.findById(2L)).thenThrow(new IllegalStateException("DB 오류"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> repository.findById(2L));
+        TestObservationRegistryAssert.assertThat(registry)
+                .hasObservationWithNameEqualTo(RepositoryObservationAspect.OBSERVATION_NAME)
+                .that()
+                .hasError()
+                .hasBeenStopped();
+    }
+}
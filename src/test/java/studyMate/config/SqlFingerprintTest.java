@@ -0,0 +1,42 @@
+package studyMate.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlFingerprint 테스트")
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("리터럴 값과 공백만 다른 쿼리는 같은 형태로 묶음")
+    void of_SameShapeDifferentLiterals_SameFingerprint() {
+        // When
+        String first = SqlFingerprint.of("select * from timers t1_0 where t1_0.mode = '25/5' and t1_0.study_seconds > 1500");
+        String second = SqlFingerprint.of("select *  from timers t1_0\n where t1_0.mode = '50/10' and t1_0.study_seconds > 3000");
+
+        // Then
+        assertEquals(first, second);
+        assertEquals("select * from timers t1_0 where t1_0.mode = ? and t1_0.study_seconds > ?", first);
+    }
+
+    @Test
+    @DisplayName("IN 목록은 바인드 변수 개수와 관계없이 하나로 묶음")
+    void of_InListsCollapsed() {
+        // When
+        String two = SqlFingerprint.of("select u1_0.id from users u1_0 where u1_0.id in (?,?)");
+        String five = SqlFingerprint.of("select u1_0.id from users u1_0 where u1_0.id in (?, ?, ?, ?, ?)");
+
+        // Then
+        assertEquals(two, five);
+        assertTrue(two.endsWith("in (?)"));
+    }
+
+    @Test
+    @DisplayName("Hibernate 별칭의 숫자는 유지하고 null SQL은 빈 문자열")
+    void of_KeepsAliasesAndHandlesNull() {
+        assertEquals("select s1_0.id from study_goals s1_0 where s1_0.id=?",
+                SqlFingerprint.of("select s1_0.id from study_goals s1_0 where s1_0.id=?"));
+        assertEquals("", SqlFingerprint.of(null));
+    }
+}
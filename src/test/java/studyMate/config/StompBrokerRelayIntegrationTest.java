@@ -0,0 +1,199 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * relay 모드 통합 테스트
+ * 내장 Artemis STOMP 브로커에 WebSocketConfig로 구성한 두 노드(A, B)를 연결하고,
+ * 노드 A에서 발행한 타이머 이벤트가 노드 B에 연결된 구독자에게 전달되는지 확인한다.
+ */
+@DisplayName("STOMP 브로커 relay 모드 통합 테스트")
+class StompBrokerRelayIntegrationTest {
+
+    private static final String TIMER_TOPIC = "/topic/timer";
+
+    private EmbeddedActiveMQ broker;
+    private RelayNode nodeA;
+    private RelayNode nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port = freePort();
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port + "?protocols=STOMP;multicastPrefix=/topic/"));
+        broker.start();
+
+        WebSocketProperties properties = new WebSocketProperties();
+        properties.getBroker().setMode(WebSocketProperties.BrokerMode.RELAY);
+        properties.getBroker().setRelayHost("127.0.0.1");
+        properties.getBroker().setRelayPort(port);
+        properties.getBroker().getHeartbeat().setSystemSendMillis(2000);
+        properties.getBroker().getHeartbeat().setSystemReceiveMillis(2000);
+
+        nodeA = new RelayNode(properties);
+        nodeB = new RelayNode(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (nodeA != null) {
+            nodeA.stop();
+        }
+        if (nodeB != null) {
+            nodeB.stop();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 A에서 발행한 타이머 이벤트가 노드 B의 구독자에게 전달")
+    void timerEvent_PublishedOnNodeA_ReachesSubscriberOnNodeB() throws Exception {
+        // Given
+        assertTrue(nodeA.awaitBrokerAvailable());
+        assertTrue(nodeB.awaitBrokerAvailable());
+        nodeB.connectClient("session-b");
+        nodeB.subscribe("session-b", "sub-0", TIMER_TOPIC);
+
+        // When
+        String payload = "{\"success\":true,\"message\":\"타이머가 시작되었습니다.\"}";
+        nodeA.messagingTemplate.convertAndSend(TIMER_TOPIC, payload);
+
+        // Then
+        Message<?> received = nodeB.awaitFrame(StompCommand.MESSAGE);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(received);
+        assertEquals("session-b", accessor.getSessionId());
+        assertEquals("sub-0", accessor.getSubscriptionId());
+        assertEquals(payload, new String((byte[]) received.getPayload(), StandardCharsets.UTF_8));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 애플리케이션 한 인스턴스의 브로커 구성
+     * 실제 WebSocketConfig.configureMessageBroker로 relay 핸들러를 만든다.
+     */
+    private static final class RelayNode {
+        private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        private final BlockingQueue<Message<?>> outboundFrames = new LinkedBlockingQueue<>();
+        private final CountDownLatch brokerAvailable = new CountDownLatch(1);
+        private final StompBrokerRelayMessageHandler relayHandler;
+        private final SimpMessagingTemplate messagingTemplate;
+
+        RelayNode(WebSocketProperties properties) {
+            ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            clientOutboundChannel.subscribe(outboundFrames::add);
+
+            WebSocketConfig webSocketConfig = new WebSocketConfig(null, null,
+                    new ThreadingProperties(), new MockEnvironment(), properties, new SimpleMeterRegistry(),
+                    ObservationRegistry.NOOP);
+            ExposedBrokerRegistry registry = new ExposedBrokerRegistry(clientInboundChannel, clientOutboundChannel);
+            webSocketConfig.configureMessageBroker(registry);
+
+            relayHandler = registry.relayHandler(brokerChannel);
+            assertNotNull(relayHandler, "relay 모드에서는 StompBrokerRelayMessageHandler가 구성되어야 합니다.");
+            relayHandler.setApplicationEventPublisher(event -> {
+                if (event instanceof BrokerAvailabilityEvent availability && availability.isBrokerAvailable()) {
+                    brokerAvailable.countDown();
+                }
+            });
+            relayHandler.start();
+            messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        }
+
+        boolean awaitBrokerAvailable() throws InterruptedException {
+            return brokerAvailable.await(10, TimeUnit.SECONDS);
+        }
+
+        void connectClient(String sessionId) throws InterruptedException {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+            accessor.setSessionId(sessionId);
+            accessor.setAcceptVersion("1.1,1.2");
+            accessor.setHeartbeat(0, 0);
+            send(accessor);
+            awaitFrame(StompCommand.CONNECTED);
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) throws InterruptedException {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            accessor.setReceipt("subscribed-" + subscriptionId);
+            send(accessor);
+            // RECEIPT를 받으면 브로커에 구독이 등록된 상태
+            awaitFrame(StompCommand.RECEIPT);
+        }
+
+        private void send(StompHeaderAccessor accessor) {
+            accessor.setLeaveMutable(true);
+            relayHandler.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        Message<?> awaitFrame(StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (System.nanoTime() < deadline) {
+                Message<?> frame = outboundFrames.poll(100, TimeUnit.MILLISECONDS);
+                if (frame != null && command.equals(StompHeaderAccessor.wrap(frame).getCommand())) {
+                    return frame;
+                }
+            }
+            fail(command + " 프레임을 받지 못했습니다.");
+            return null;
+        }
+
+        void stop() {
+            relayHandler.stop();
+        }
+    }
+
+    // 보호된 relay 핸들러 생성 메서드를 테스트에서 사용하기 위한 레지스트리
+    private static final class ExposedBrokerRegistry extends MessageBrokerRegistry {
+
+        ExposedBrokerRegistry(SubscribableChannel clientInboundChannel, MessageChannel clientOutboundChannel) {
+            super(clientInboundChannel, clientOutboundChannel);
+        }
+
+        StompBrokerRelayMessageHandler relayHandler(SubscribableChannel brokerChannel) {
+            return getStompBrokerRelay(brokerChannel);
+        }
+    }
+}
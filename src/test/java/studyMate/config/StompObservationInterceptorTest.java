@@ -0,0 +1,104 @@
+package studyMate.config;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompObservationInterceptor 테스트")
+class StompObservationInterceptorTest {
+
+    @Mock
+    private MessageChannel channel;
+
+    private TestObservationRegistry registry;
+    private StompObservationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = TestObservationRegistry.create();
+        interceptor = new StompObservationInterceptor(registry);
+    }
+
+    @Test
+    @DisplayName("@MessageMapping 처리 구간을 관측하고 처리 중에는 현재 관측으로 둠")
+    void annotationHandler_ObservesHandling() {
+        // Given
+        MessageHandler handler = mock(SimpAnnotationMethodMessageHandler.class);
+        Message<byte[]> message = send("/app/timer/start");
+
+        // When
+        interceptor.beforeHandle(message, channel, handler);
+        assertNotNull(registry.getCurrentObservation());
+        interceptor.afterMessageHandled(message, channel, handler, null);
+
+        // Then
+        assertNull(registry.getCurrentObservation());
+        TestObservationRegistryAssert.assertThat(registry)
+                .hasObservationWithNameEqualTo(StompObservationInterceptor.OBSERVATION_NAME)
+                .that()
+                .hasContextualNameEqualTo("STOMP /app/timer/start")
+                .hasLowCardinalityKeyValue("command", "SEND")
+                .hasHighCardinalityKeyValue("destination", "/app/timer/start")
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("핸들러 예외는 관측 오류로 기록")
+    void annotationHandler_Exception_RecordsError() {
+        // Given
+        MessageHandler handler = mock(SimpAnnotationMethodMessageHandler.class);
+        Message<byte[]> message = send("/app/timer/stop");
+
+        // When
+        interceptor.beforeHandle(message, channel, handler);
+        interceptor.afterMessageHandled(message, channel, handler, new IllegalStateException("처리 실패"));
+
+        // Then
+        TestObservationRegistryAssert.assertThat(registry)
+                .hasObservationWithNameEqualTo(StompObservationInterceptor.OBSERVATION_NAME)
+                .that()
+                .hasError()
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("브로커 핸들러나 CONNECT 같은 메시지는 관측하지 않음")
+    void otherHandlersAndFrames_NotObserved() {
+        // Given
+        MessageHandler brokerHandler = message -> { };
+        MessageHandler annotationHandler = mock(SimpAnnotationMethodMessageHandler.class);
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        Message<byte[]> connectMessage = MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders());
+
+        // When
+        interceptor.beforeHandle(send("/app/timer/start"), channel, brokerHandler);
+        interceptor.afterMessageHandled(send("/app/timer/start"), channel, brokerHandler, null);
+        interceptor.beforeHandle(connectMessage, channel, annotationHandler);
+        interceptor.afterMessageHandled(connectMessage, channel, annotationHandler, null);
+
+        // Then
+        TestObservationRegistryAssert.assertThat(registry).doesNotHaveAnyObservation();
+    }
+
+    private static Message<byte[]> send(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,65 @@
+package studyMate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompSessionMetricsDecorator 테스트")
+class StompSessionMetricsDecoratorTest {
+
+    @Mock
+    private WebSocketHandler delegate;
+
+    @Mock
+    private WebSocketSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StompSessionMetricsDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        decorator = new StompSessionMetricsDecorator(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("세션 전송 시간을 기록")
+    void sendMessage_RecordsLatency() throws Exception {
+        // Given
+        decorator.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+
+        // When
+        captor.getValue().sendMessage(new TextMessage("MESSAGE"));
+
+        // Then
+        verify(session).sendMessage(any());
+        assertEquals(1, meterRegistry.get("stomp.send.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("느린 소비자로 종료된 세션을 집계")
+    void afterConnectionClosed_SessionNotReliable_CountsDisconnect() throws Exception {
+        // When
+        decorator.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        decorator.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("stomp.session.slow.consumer.disconnects").counter().count());
+        verify(delegate, times(2)).afterConnectionClosed(eq(session), any());
+    }
+}
@@ -0,0 +1,108 @@
+package studyMate.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가상 스레드는 Java 21 이상에서만 만들 수 있다: ./gradlew test -PjavaVersion=21
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("VirtualThreadChannelExecutor 테스트")
+class VirtualThreadChannelExecutorTest {
+
+    private VirtualThreadChannelExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("메시지마다 호출 스레드가 아닌 새 가상 스레드에서 처리")
+    void execute_RunsOnNewVirtualThread() throws InterruptedException {
+        // Given
+        executor = new VirtualThreadChannelExecutor("stomp-test-", 2);
+        executor.initialize();
+        AtomicReference<Thread> first = new AtomicReference<>();
+        AtomicReference<Thread> second = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        // When
+        executor.execute(() -> { first.set(Thread.currentThread()); done.countDown(); });
+        executor.execute(() -> { second.set(Thread.currentThread()); done.countDown(); });
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(isVirtual(first.get()));
+        assertTrue(first.get().getName().startsWith("stomp-test-"));
+        assertNotSame(first.get(), second.get());
+        assertNotSame(Thread.currentThread(), first.get());
+    }
+
+    @Test
+    @DisplayName("동시 처리 한도에 닿으면 발행 스레드는 직접 실행하지 않고 자리가 날 때까지 대기")
+    void concurrencyLimit_BlocksPublisherInsteadOfRunningInline() throws InterruptedException {
+        // Given
+        executor = new VirtualThreadChannelExecutor("stomp-test-", 1);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        CountDownLatch secondDone = new CountDownLatch(1);
+        Thread publisher = new Thread(() -> executor.execute(() -> {
+            ranOn.set(Thread.currentThread());
+            secondDone.countDown();
+        }));
+
+        // When
+        publisher.start();
+        waitUntil(() -> executor.getWaitingCount() == 1);
+
+        // Then
+        assertEquals(1, executor.getActiveCount());
+        assertEquals(1, secondDone.getCount());
+        release.countDown();
+        assertTrue(secondDone.await(5, TimeUnit.SECONDS));
+        publisher.join(5000);
+        assertNotSame(publisher, ranOn.get());
+        assertTrue(isVirtual(ranOn.get()));
+        assertEquals(0, executor.getWaitingCount());
+    }
+
+    // 기본 빌드(Java 17)에서도 컴파일되도록 Thread.isVirtual() 대신 클래스 이름으로 확인
+    private static boolean isVirtual(Thread thread) {
+        return thread.getClass().getName().equals("java.lang.VirtualThread");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "조건 대기 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+}
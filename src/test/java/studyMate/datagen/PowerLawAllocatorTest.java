@@ -0,0 +1,69 @@
+package studyMate.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PowerLawAllocator 테스트")
+class PowerLawAllocatorTest {
+
+    @Test
+    @DisplayName("전체 세션 수를 빠짐없이 배분하고 순위가 높을수록 많이 받음")
+    void allocate_DistributesAllSessionsByRank() {
+        // When
+        int[] counts = PowerLawAllocator.allocate(1_000, 100_000, 1.1, 10_000);
+
+        // Then
+        assertEquals(100_000, Arrays.stream(counts).asLongStream().sum());
+        for (int rank = 1; rank < counts.length; rank++) {
+            assertTrue(counts[rank - 1] >= counts[rank]);
+        }
+        // 상위 10% 사용자가 절반 이상을 차지
+        long top = Arrays.stream(counts, 0, 100).asLongStream().sum();
+        assertTrue(top > 50_000);
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 몫은 다른 사용자에게 다시 배분")
+    void allocate_RedistributesAboveCap() {
+        // When
+        int[] counts = PowerLawAllocator.allocate(100, 5_000, 2.0, 200);
+
+        // Then
+        assertEquals(5_000, Arrays.stream(counts).asLongStream().sum());
+        assertTrue(Arrays.stream(counts).allMatch(count -> count <= 200));
+        assertEquals(200, counts[0]);
+    }
+
+    @Test
+    @DisplayName("사용자 수 x 상한보다 많이 요청하면 모두 상한까지만 배분")
+    void allocate_TotalAboveCapacity_FillsEveryone() {
+        // When
+        int[] counts = PowerLawAllocator.allocate(10, 1_000, 1.0, 50);
+
+        // Then
+        assertTrue(Arrays.stream(counts).allMatch(count -> count == 50));
+    }
+
+    @Test
+    @DisplayName("멱지수 0이면 균등 배분, 같은 입력이면 같은 결과")
+    void allocate_ZeroExponent_IsUniformAndDeterministic() {
+        // When
+        int[] counts = PowerLawAllocator.allocate(7, 100, 0.0, 1_000);
+
+        // Then
+        assertEquals(100, Arrays.stream(counts).sum());
+        assertTrue(Arrays.stream(counts).allMatch(count -> count == 14 || count == 15));
+        assertArrayEquals(counts, PowerLawAllocator.allocate(7, 100, 0.0, 1_000));
+    }
+
+    @Test
+    @DisplayName("잘못된 인자는 거부")
+    void allocate_InvalidArguments_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> PowerLawAllocator.allocate(0, 10, 1.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> PowerLawAllocator.allocate(10, -1, 1.0, 10));
+    }
+}
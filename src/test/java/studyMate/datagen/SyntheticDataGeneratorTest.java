@@ -0,0 +1,158 @@
+package studyMate.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.entity.GoalStatus;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyntheticDataGenerator 테스트")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 30);
+
+    @Test
+    @DisplayName("요청한 수만큼 기록을 만들고 모든 외래 키가 앞서 쓴 부모 행을 가리킴")
+    void generate_WritesParentsBeforeChildren() throws Exception {
+        // Given
+        RecordingSink sink = new RecordingSink();
+
+        // When
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(spec(50, 5_000)).generate(sink);
+
+        // Then
+        assertEquals(50, result.getUsers());
+        assertEquals(5_000, result.getTimers());
+        assertEquals(5_000, sink.rows(SyntheticTable.TIMERS).size());
+        assertEquals(result.getSchedules(), sink.rows(SyntheticTable.SCHEDULES).size());
+        assertTrue(sink.foreignKeysResolved);
+    }
+
+    @Test
+    @DisplayName("기록 시각은 기간 안에 있고, 목표 진행도는 연결된 기록의 합과 같음")
+    void generate_GoalProgressMatchesTimers() throws Exception {
+        // Given
+        RecordingSink sink = new RecordingSink();
+
+        // When
+        new SyntheticDataGenerator(spec(20, 2_000)).generate(sink);
+
+        // Then
+        Map<Object, Integer> minutesByGoal = new HashMap<>();
+        for (Object[] timer : sink.rows(SyntheticTable.TIMERS)) {
+            LocalDateTime start = (LocalDateTime) timer[4];
+            assertFalse(start.toLocalDate().isAfter(LAST_DAY));
+            assertFalse(start.toLocalDate().isBefore(LAST_DAY.minusDays(89)));
+            if (timer[2] != null) {
+                minutesByGoal.merge(timer[2], (Integer) timer[6] / 60, Integer::sum);
+            }
+        }
+        for (Object[] goal : sink.rows(SyntheticTable.STUDY_GOALS)) {
+            assertEquals(minutesByGoal.getOrDefault(goal[0], 0), goal[11]);
+        }
+    }
+
+    @Test
+    @DisplayName("사용자마다 첫 학습 목표는 진행 중이고, 반복 일정은 매주 같은 요일에 생성")
+    void generate_ActiveGoalAndWeeklyRecurringSchedules() throws Exception {
+        // Given
+        RecordingSink sink = new RecordingSink();
+
+        // When
+        new SyntheticDataGenerator(spec(10, 500)).generate(sink);
+
+        // Then
+        Set<Object> usersWithActiveGoal = new HashSet<>();
+        for (Object[] goal : sink.rows(SyntheticTable.STUDY_GOALS)) {
+            if (GoalStatus.ACTIVE.name().equals(goal[9])) {
+                usersWithActiveGoal.add(goal[1]);
+            }
+        }
+        assertEquals(10, usersWithActiveGoal.size());
+
+        Map<Object, Set<DayOfWeek>> recurringDays = new HashMap<>();
+        for (Object[] schedule : sink.rows(SyntheticTable.SCHEDULES)) {
+            if (Boolean.TRUE.equals(schedule[9])) {
+                assertEquals("WEEKLY", schedule[10]);
+                recurringDays.computeIfAbsent(schedule[1], key -> new HashSet<>())
+                        .add(((LocalDate) schedule[5]).getDayOfWeek());
+            }
+        }
+        assertEquals(10, recurringDays.size());
+        assertTrue(recurringDays.values().stream().allMatch(days -> days.size() == 1));
+    }
+
+    @Test
+    @DisplayName("같은 seed면 사용자별 기록 분포가 같음")
+    void generate_SameSeed_SameDistribution() throws Exception {
+        // Given
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+
+        // When
+        new SyntheticDataGenerator(spec(30, 3_000)).generate(first);
+        new SyntheticDataGenerator(spec(30, 3_000)).generate(second);
+
+        // Then
+        List<Object> firstTotals = first.rows(SyntheticTable.USERS).stream().map(user -> user[6]).toList();
+        List<Object> secondTotals = second.rows(SyntheticTable.USERS).stream().map(user -> user[6]).toList();
+        assertEquals(firstTotals, secondTotals);
+    }
+
+    private static DataGenSpec spec(int users, long timers) {
+        return DataGenSpec.builder()
+                .users(users)
+                .timers(timers)
+                .days(90)
+                .lastDay(LAST_DAY)
+                .passwordHash("{noop}password")
+                .build();
+    }
+
+    // 쓴 행을 테이블별로 모으고, 외래 키가 이미 쓴 부모 행을 가리키는지 확인
+    private static final class RecordingSink implements RowSink {
+        private final Map<SyntheticTable, List<Object[]>> rows = new EnumMap<>(SyntheticTable.class);
+        private final Set<Object> writtenIds = new HashSet<>();
+        private boolean foreignKeysResolved = true;
+
+        @Override
+        public void write(SyntheticTable table, Object... values) {
+            int[] foreignKeys = switch (table) {
+                case USERS -> new int[]{};
+                case STUDY_TOPICS, STUDY_GOALS -> new int[]{1};
+                case SCHEDULES -> new int[]{1, 2};
+                case TIMERS -> new int[]{1, 2, 3};
+            };
+            for (int column : foreignKeys) {
+                if (values[column] != null && !writtenIds.contains(values[column])) {
+                    foreignKeysResolved = false;
+                }
+            }
+            writtenIds.add(values[0]);
+            rows.computeIfAbsent(table, key -> new ArrayList<>()).add(values);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<Object[]> rows(SyntheticTable table) {
+            return rows.getOrDefault(table, List.of());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package studyMate.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompressedTextConverter 테스트")
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @BeforeEach
+    void setUp() {
+        CompressedTextConverter.configure(true, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CompressedTextConverter.configure(false, Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("최소 길이 이상인 텍스트는 압축해 저장하고 읽을 때 원문으로 복원")
+    void longText_CompressedAndRestored() {
+        // Given
+        String feedback = "오늘은 집중도가 높았습니다. 25분 학습 후 5분 휴식 패턴을 유지해 보세요. ".repeat(20);
+
+        // When
+        String stored = converter.convertToDatabaseColumn(feedback);
+
+        // Then
+        assertTrue(stored.startsWith(CompressedTextConverter.PREFIX));
+        assertTrue(stored.length() < feedback.length());
+        assertEquals(feedback, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    @DisplayName("반복 없는 한글 피드백도 UTF-8 바이트 수가 줄면 압축")
+    void koreanText_CompressedByUtf8Bytes() {
+        // Given
+        String feedback = "이번 주에는 총 열두 번의 포모도로 세션을 완료했고, 그중 아홉 번이 오전 시간대에 집중되어 있었습니다. "
+                + "특히 화요일과 목요일에는 알고리즘 문제 풀이에 두 시간 이상 몰입했는데, 휴식 시간을 규칙적으로 지킨 덕분에 후반부 집중도도 크게 떨어지지 않았습니다. "
+                + "반면 금요일 저녁에는 세 번의 세션이 중간에 멈췄고 일시정지 시간이 길어졌습니다. 피로가 쌓인 상태에서 새로운 단원을 시작했기 때문으로 보입니다. "
+                + "다음 주에는 어려운 과목을 오전에 배치하고, 저녁에는 복습이나 오답 정리처럼 부담이 적은 활동을 하는 것을 추천합니다. "
+                + "또한 운영체제 과목의 학습 목표 달성률이 사십 퍼센트에 머물러 있으니, 하루 한 세션이라도 꾸준히 배정해 보세요. "
+                + "잠들기 전 십 분 동안 그날 배운 개념을 짧게 적어 두면 기억에 오래 남고 다음 날 복습 시간도 줄일 수 있습니다. "
+                + "지금처럼 기록을 남기며 스스로의 패턴을 점검하는 습관이 가장 큰 자산입니다.";
+
+        // When
+        String stored = converter.convertToDatabaseColumn(feedback);
+
+        // Then
+        assertTrue(stored.startsWith(CompressedTextConverter.PREFIX));
+        assertTrue(stored.length() > feedback.length()); // 글자 수는 늘어도 저장 바이트는 줄어듦
+        assertTrue(stored.getBytes(StandardCharsets.UTF_8).length < feedback.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(feedback, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    @DisplayName("짧은 텍스트와 압축 전에 저장된 값은 그대로")
+    void shortOrLegacyText_Unchanged() {
+        // Given
+        String summary = "JPA 연관관계 정리";
+
+        // When & Then
+        assertEquals(summary, converter.convertToDatabaseColumn(summary));
+        assertEquals(summary, converter.convertToEntityAttribute(summary));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("압축을 끄면 긴 텍스트도 원문으로 저장하지만 압축된 값은 계속 읽음")
+    void disabled_StoresPlainButReadsCompressed() {
+        // Given
+        String feedback = "꾸준함이 가장 중요합니다. ".repeat(50);
+        String compressed = converter.convertToDatabaseColumn(feedback);
+        CompressedTextConverter.configure(false, 100);
+
+        // When & Then
+        assertEquals(feedback, converter.convertToDatabaseColumn(feedback));
+        assertEquals(feedback, converter.convertToEntityAttribute(compressed));
+    }
+
+    @Test
+    @DisplayName("원문이 접두사로 시작하면 길이와 관계없이 압축해 구분")
+    void prefixedText_AlwaysCompressed() {
+        // Given
+        String text = CompressedTextConverter.PREFIX + "짧은 메모";
+
+        // When
+        String stored = converter.convertToDatabaseColumn(text);
+
+        // Then
+        assertNotEquals(text, stored);
+        assertEquals(text, converter.convertToEntityAttribute(stored));
+    }
+}
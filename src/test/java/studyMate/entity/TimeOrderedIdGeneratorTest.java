@@ -0,0 +1,72 @@
+package studyMate.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedIdGenerator 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    // JavaScript Number.MAX_SAFE_INTEGER
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("연속 생성한 ID는 단조 증가하고 중복이 없음")
+    void nextId_IsMonotonicAndUnique() {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // When & Then (한 밀리초 순번 128개를 넘겨도 증가를 유지)
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("ID에서 노드 ID와 생성 시각을 복원할 수 있고 53비트 안에 들어감")
+    void nextId_EncodesNodeAndTimestamp() {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID);
+        long before = System.currentTimeMillis();
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertEquals(TimeOrderedIdGenerator.MAX_NODE_ID, TimeOrderedIdGenerator.nodeIdOf(id));
+        assertTrue(TimeOrderedIdGenerator.timestampOf(id) >= before);
+        assertTrue(id <= MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("다른 노드 ID로 같은 시점에 생성해도 ID가 겹치지 않음")
+    void nextId_DifferentNodes_DoNotCollide() {
+        // Given
+        TimeOrderedIdGenerator nodeA = new TimeOrderedIdGenerator(1);
+        TimeOrderedIdGenerator nodeB = new TimeOrderedIdGenerator(2);
+        Set<Long> ids = new HashSet<>();
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(ids.add(nodeA.nextId()));
+            assertTrue(ids.add(nodeB.nextId()));
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부")
+    void constructor_InvalidNodeId_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,209 @@
+package studyMate.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.config.OpenAiProperties;
+import studyMate.exception.AiBulkheadFullException;
+import studyMate.exception.AiTimeoutException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AiBulkhead 테스트")
+class AiBulkheadTest {
+
+    private AiBulkhead aiBulkhead;
+
+    @AfterEach
+    void tearDown() {
+        if (aiBulkhead != null) {
+            aiBulkhead.shutdown();
+        }
+    }
+
+    private AiBulkhead createBulkhead(int maxConcurrent, int queueCapacity, long maxWaitMillis) {
+        return createBulkhead(maxConcurrent, queueCapacity, maxWaitMillis, 10_000);
+    }
+
+    private AiBulkhead createBulkhead(int maxConcurrent, int queueCapacity, long maxWaitMillis, long taskTimeoutMillis) {
+        OpenAiProperties properties = new OpenAiProperties();
+        properties.getBulkhead().setMaxConcurrent(maxConcurrent);
+        properties.getBulkhead().setQueueCapacity(queueCapacity);
+        properties.getBulkhead().setMaxWaitMillis(maxWaitMillis);
+        properties.getBulkhead().setTaskTimeoutMillis(taskTimeoutMillis);
+        return new AiBulkhead(properties);
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 작업 실행")
+    void submit_RunsOnDedicatedThread() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(2, 2, 1000);
+
+        // When
+        String threadName = aiBulkhead.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(threadName.startsWith("ai-bulkhead-"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void submit_QueueFull_FailsImmediately() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Integer> running = aiBulkhead.submit(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = aiBulkhead.submit(() -> 2);
+
+        // When
+        CompletableFuture<Integer> rejected = aiBulkhead.submit(() -> 3);
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(AiBulkheadFullException.class, exception.getCause());
+        release.countDown();
+        assertEquals(1, running.get(1, TimeUnit.SECONDS));
+        assertEquals(2, queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("대기 시간을 초과한 요청은 실행하지 않고 거절")
+    void submit_WaitedTooLong_FailsWithoutRunning() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        aiBulkhead.submit(() -> {
+            await(release);
+            return 1;
+        });
+        boolean[] executed = {false};
+        CompletableFuture<Integer> queued = aiBulkhead.submit(() -> {
+            executed[0] = true;
+            return 2;
+        });
+
+        // When
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AiBulkheadFullException.class, exception.getCause());
+        assertFalse(executed[0]);
+    }
+
+    @Test
+    @DisplayName("작업자가 모두 멈춰 있어도 대기 시간이 지나면 대기 요청을 거절하고 대기열에서 뺌")
+    void submit_WorkersStuck_QueuedRequestExpires() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        aiBulkhead.submit(() -> {
+            await(release);
+            return 1;
+        });
+        CompletableFuture<Integer> queued = aiBulkhead.submit(() -> 2);
+
+        // When (작업자를 풀어주지 않음)
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+
+        // Then
+        assertInstanceOf(AiBulkheadFullException.class, exception.getCause());
+        assertEquals(0, aiBulkhead.getQueuedCount());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간을 넘기면 실패시키고 실행 중인 작업을 인터럽트")
+    void submit_TaskTimeout_InterruptsRunningTask() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 1000, 100);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Integer> running = aiBulkhead.submit(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        });
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> running.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AiTimeoutException.class, exception.getCause());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertEquals(3, aiBulkhead.submit(() -> 3).get(1, TimeUnit.SECONDS)); // 풀 스레드는 다시 사용 가능
+    }
+
+    @Test
+    @DisplayName("취소한 대기 요청은 대기열에서 빠지고 실행되지 않음")
+    void submit_Cancelled_RemovedFromQueue() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = aiBulkhead.submit(() -> {
+            await(release);
+            return 1;
+        });
+        boolean[] executed = {false};
+        CompletableFuture<Integer> queued = aiBulkhead.submit(() -> {
+            executed[0] = true;
+            return 2;
+        });
+
+        // When
+        queued.cancel(true);
+
+        // Then
+        assertEquals(0, aiBulkhead.getQueuedCount());
+        release.countDown();
+        assertEquals(1, running.get(1, TimeUnit.SECONDS));
+        assertFalse(executed[0]);
+    }
+
+    @Test
+    @DisplayName("제출한 스레드의 관측 문맥을 전용 풀 작업에서 이어받음")
+    void submit_PropagatesObservationContext() throws Exception {
+        // Given
+        aiBulkhead = createBulkhead(1, 1, 1000);
+        TestObservationRegistry registry = TestObservationRegistry.create();
+        Observation request = Observation.start("http.server.requests", registry);
+
+        // When
+        Observation current;
+        try (Observation.Scope scope = request.openScope()) {
+            current = aiBulkhead.submit(registry::getCurrentObservation).get(1, TimeUnit.SECONDS);
+        } finally {
+            request.stop();
+        }
+        Observation afterwards = aiBulkhead.submit(registry::getCurrentObservation).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(request, current);
+        assertNull(afterwards); // 작업이 끝나면 풀 스레드의 문맥을 되돌림
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,10 +11,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 import studyMate.dto.ai.AiFeedbackRequest;
 import studyMate.dto.ai.AiFeedbackResponse;
 import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
 import studyMate.entity.User;
 import studyMate.exception.RateLimitExceededException;
 import studyMate.exception.StudyTimeTooShortException;
 import studyMate.exception.TimerNotFoundException;
+import studyMate.repository.TimerAiFeedbackRepository;
 import studyMate.repository.TimerRepository;
 
 import java.time.LocalDateTime;
@@ -33,9 +35,15 @@ class AiFeedbackServiceTest {
     @Mock
     private TimerRepository timerRepository;
 
+    @Mock
+    private TimerAiFeedbackRepository timerAiFeedbackRepository;
+
     @Mock
     private RateLimiterService rateLimiterService;
 
+    @Mock
+    private OpenAiMetrics openAiMetrics;
+
     @InjectMocks
     private AiFeedbackService aiFeedbackService;
 
@@ -58,7 +66,7 @@ class AiFeedbackServiceTest {
                 .studyTime(1800) // 30분 (초 단위)
                 .restTime(300) // 5분
                 .mode("STUDY")
-                .summary("학습 요약")
+                .aiText(TimerAiFeedback.builder().summary("학습 요약").build())
                 .startTime(LocalDateTime.now().minusMinutes(30))
                 .endTime(LocalDateTime.now())
                 .build();
@@ -124,16 +132,22 @@ class AiFeedbackServiceTest {
         assertTrue(exception.getMessage().contains("사용량") || exception.getMessage().contains("초과") || 
                    exception.getMessage().contains("Rate limit"));
         verify(rateLimiterService, times(1)).canMakeRequest();
+        verify(openAiMetrics).rateLimited();
     }
 
     @Test
     @DisplayName("기존 피드백 조회 성공")
     void getExistingFeedback_Success() {
         // Given
-        timer.setAiFeedback("피드백 내용");
-        timer.setAiSuggestions("제안 내용");
-        timer.setAiMotivation("동기부여 메시지");
+        TimerAiFeedback aiText = TimerAiFeedback.builder()
+                .timerId(1L)
+                .summary("학습 요약")
+                .aiFeedback("피드백 내용")
+                .aiSuggestions("제안 내용")
+                .aiMotivation("동기부여 메시지")
+                .build();
         when(timerRepository.findById(1L)).thenReturn(Optional.of(timer));
+        when(timerAiFeedbackRepository.findById(1L)).thenReturn(Optional.of(aiText));
 
         // When
         AiFeedbackResponse response = aiFeedbackService.getExistingFeedback(1L);
@@ -143,15 +157,17 @@ class AiFeedbackServiceTest {
         assertEquals("피드백 내용", response.getFeedback());
         assertEquals("제안 내용", response.getSuggestions());
         assertEquals("동기부여 메시지", response.getMotivation());
+        assertEquals("학습 요약", response.getSessionSummary().getSummary());
         verify(timerRepository, times(1)).findById(1L);
+        verify(timerAiFeedbackRepository, times(1)).findById(1L);
     }
 
     @Test
     @DisplayName("기존 피드백이 없으면 예외 발생")
     void getExistingFeedback_NoFeedback_ThrowsException() {
         // Given
-        timer.setAiFeedback(null);
         when(timerRepository.findById(1L)).thenReturn(Optional.of(timer));
+        when(timerAiFeedbackRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -0,0 +1,117 @@
+package studyMate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.dto.ai.AiFeedbackResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AiResponseParser 테스트")
+class AiResponseParserTest {
+
+    private AiResponseParser aiResponseParser;
+
+    @BeforeEach
+    void setUp() {
+        aiResponseParser = new AiResponseParser(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("코드 펜스로 감싼 JSON 응답 파싱")
+    void parse_FencedJson_Success() {
+        // Given
+        String response = """
+                ```json
+                {
+                    "feedback": "집중도가 \\"매우\\" 좋았습니다.",
+                    "suggestions": "휴식 시간을 지켜주세요.",
+                    "motivation": "오늘도 화이팅!"
+                }
+                ```
+                """;
+
+        // When
+        AiFeedbackResponse result = aiResponseParser.parse(response);
+
+        // Then
+        assertEquals("집중도가 \"매우\" 좋았습니다.", result.getFeedback());
+        assertEquals("휴식 시간을 지켜주세요.", result.getSuggestions());
+        assertEquals("오늘도 화이팅!", result.getMotivation());
+    }
+
+    @Test
+    @DisplayName("앞쪽 설명 문구와 관계없는 중첩 필드는 건너뛴다")
+    void parse_PreambleAndNestedFields_Skipped() {
+        // Given
+        String response = "분석 결과입니다.\n{\"meta\": {\"score\": [1, 2]}, \"feedback\": \"좋음\", \"motivation\": \"힘내요\"}";
+
+        // When
+        AiFeedbackResponse result = aiResponseParser.parse(response);
+
+        // Then
+        assertEquals("좋음", result.getFeedback());
+        assertEquals(AiResponseParser.DEFAULT_SUGGESTIONS, result.getSuggestions());
+        assertEquals("힘내요", result.getMotivation());
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 응답은 읽은 필드와 잘린 문자열 앞부분을 사용한다")
+    void parse_TruncatedJson_SalvagesPartialValue() {
+        // Given
+        String response = "{\"feedback\": \"완료된 피드백\", \"suggestions\": \"첫째 줄\\n둘째 줄까";
+
+        // When
+        AiFeedbackResponse result = aiResponseParser.parse(response);
+
+        // Then
+        assertEquals("완료된 피드백", result.getFeedback());
+        assertEquals("첫째 줄\n둘째 줄까", result.getSuggestions());
+        assertEquals(AiResponseParser.DEFAULT_MOTIVATION, result.getMotivation());
+    }
+
+    @Test
+    @DisplayName("깨진 유니코드 이스케이프는 예외 없이 적힌 그대로 살린다")
+    void parse_MalformedUnicodeEscape_KeptAsWritten() {
+        // Given
+        String broken = "{\"feedback\": \"완료된 피드백\", \"suggestions\": \"첫째 \\u12zz 둘째\"}";
+        String truncated = "{\"feedback\": \"완료된 피드백\", \"suggestions\": \"첫째 \\u12";
+
+        // When
+        AiFeedbackResponse brokenResult = aiResponseParser.parse(broken);
+        AiFeedbackResponse truncatedResult = aiResponseParser.parse(truncated);
+
+        // Then
+        assertEquals("완료된 피드백", brokenResult.getFeedback());
+        assertTrue(brokenResult.getSuggestions().startsWith("첫째 \\u12zz 둘째"));
+        assertEquals("첫째 \\u12", truncatedResult.getSuggestions());
+    }
+
+    @Test
+    @DisplayName("JSON이 아니면 대소문자 구분 없이 텍스트 섹션을 추출한다")
+    void parse_PlainText_FallsBackToSections() {
+        // Given
+        String response = "Feedback: 꾸준히 잘하고 있어요\nSUGGESTIONS: 25분 집중 후 5분 휴식\nmotivation: 조금만 더!";
+
+        // When
+        AiFeedbackResponse result = aiResponseParser.parse(response);
+
+        // Then
+        assertEquals("꾸준히 잘하고 있어요", result.getFeedback());
+        assertEquals("25분 집중 후 5분 휴식", result.getSuggestions());
+        assertEquals("조금만 더!", result.getMotivation());
+    }
+
+    @Test
+    @DisplayName("필드가 없는 텍스트는 섹션 없음 메시지를 반환한다")
+    void parse_UnknownText_ReturnsNotFound() {
+        // When
+        AiFeedbackResponse result = aiResponseParser.parse("{ 형식이 깨진 응답");
+
+        // Then
+        assertEquals(AiResponseParser.SECTION_NOT_FOUND, result.getFeedback());
+        assertEquals(AiResponseParser.SECTION_NOT_FOUND, result.getSuggestions());
+        assertEquals(AiResponseParser.SECTION_NOT_FOUND, result.getMotivation());
+    }
+}
@@ -0,0 +1,65 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.dto.ai.OpenAiResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenAiMetrics 테스트")
+class OpenAiMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAiMetrics openAiMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        openAiMetrics = new OpenAiMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("호출 결과별로 응답 시간을 나눠 기록")
+    void recordCall_TagsByModelAndOutcome() {
+        // When
+        openAiMetrics.recordCall(openAiMetrics.start(), "gpt-4o-mini", OpenAiMetrics.SUCCESS);
+        openAiMetrics.recordCall(openAiMetrics.start(), "gpt-4o-mini", OpenAiMetrics.CONNECTION_ERROR);
+        openAiMetrics.recordCall(openAiMetrics.start(), "gpt-4o-mini", OpenAiMetrics.CONNECTION_ERROR);
+
+        // Then
+        Timer success = meterRegistry.get("openai.request").tags("model", "gpt-4o-mini", "outcome", "SUCCESS").timer();
+        Timer failed = meterRegistry.get("openai.request").tags("model", "gpt-4o-mini", "outcome", "CONNECTION_ERROR").timer();
+        assertEquals(1, success.count());
+        assertEquals(2, failed.count());
+    }
+
+    @Test
+    @DisplayName("응답 usage의 프롬프트/완료 토큰을 따로 기록")
+    void recordUsage_RecordsPromptAndCompletionTokens() {
+        // Given
+        OpenAiResponse response = OpenAiResponse.builder()
+                .usage(new OpenAiResponse.Usage(820, 310, 1130))
+                .build();
+
+        // When
+        openAiMetrics.recordUsage("gpt-4o-mini", response);
+        openAiMetrics.recordUsage("gpt-4o-mini", OpenAiResponse.builder().build()); // usage 없음
+
+        // Then
+        assertEquals(820.0, meterRegistry.get("openai.tokens").tag("type", "prompt").summary().totalAmount());
+        assertEquals(310.0, meterRegistry.get("openai.tokens").tag("type", "completion").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("openai.tokens").tag("type", "prompt").summary().count());
+    }
+
+    @Test
+    @DisplayName("HTTP 상태 코드를 outcome 값으로 변환")
+    void outcomeOf_MapsStatusCodes() {
+        assertEquals(OpenAiMetrics.RATE_LIMITED, OpenAiMetrics.outcomeOf(429));
+        assertEquals(OpenAiMetrics.CLIENT_ERROR, OpenAiMetrics.outcomeOf(401));
+        assertEquals(OpenAiMetrics.SERVER_ERROR, OpenAiMetrics.outcomeOf(503));
+        assertEquals(OpenAiMetrics.SUCCESS, OpenAiMetrics.outcomeOf(200));
+    }
+}
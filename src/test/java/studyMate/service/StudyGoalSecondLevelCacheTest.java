@@ -0,0 +1,168 @@
+package studyMate.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import studyMate.config.SecondLevelCacheConfig;
+import studyMate.config.SecondLevelCacheProperties;
+import studyMate.dto.studygoal.StudyGoalRequest;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.User;
+import studyMate.repository.StudyGoalRepository;
+import studyMate.repository.TimerRepository;
+import studyMate.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static studyMate.support.QueryCountAssertions.assertMaxQueries;
+
+/**
+ * 2차 캐시를 켠 상태의 학습목표 조회/수정
+ * 다른 인스턴스의 갱신은 JDBC로 직접 바꿔 흉내 내며, 이 인스턴스의 캐시는 그 값을 모른다.
+ * 서비스 트랜잭션이 커밋돼야 캐시에 반영되므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=studyMate.config.QueryCountInspector")
+@Import({StudyGoalService.class, SecondLevelCacheConfig.class, SecondLevelCacheProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("StudyGoal 2차 캐시 테스트")
+class StudyGoalSecondLevelCacheTest {
+
+    @Autowired
+    private StudyGoalService studyGoalService;
+
+    @Autowired
+    private StudyGoalRepository studyGoalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private TimerRepository timerRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private User user;
+    private Long goalId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        user = userRepository.save(User.builder()
+                .email("cache@studymate.dev")
+                .password("password")
+                .nickname("캐시")
+                .sex("F")
+                .build());
+        goalId = studyGoalRepository.save(StudyGoal.builder()
+                .title("토익 900")
+                .subject("영어")
+                .startDate(LocalDate.now())
+                .targetDate(LocalDate.now().plusMonths(1))
+                .targetHours(100)
+                .status(GoalStatus.ACTIVE)
+                .user(user)
+                .build()).getId();
+        statistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyGoalRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 학습목표와 사용자는 SQL 없이 응답")
+    void cachedReads_NoQueries() {
+        // Given
+        studyGoalService.getStudyGoal(user, goalId);
+        userRepository.findByEmail("cache@studymate.dev");
+
+        // When & Then
+        assertMaxQueries(0, () -> studyGoalService.getStudyGoal(user, goalId));
+        assertMaxQueries(0, () -> userRepository.findByEmail("cache@studymate.dev"));
+        assertTrue(statistics().getDomainDataRegionStatistics("studyGoal").getHitCount() > 0);
+        assertTrue(statistics().getQueryCacheHitCount() >= 2);
+    }
+
+    @Test
+    @DisplayName("진행도 갱신은 캐시된 값이 아니라 잠근 행의 DB 값에 더함")
+    void updateProgress_AddsToDatabaseValue() {
+        // Given
+        studyGoalService.getStudyGoal(user, goalId);
+        updatedByOtherInstance(120);
+        assertEquals(0, studyGoalService.getStudyGoal(user, goalId).getCurrentMinutes()); // 캐시는 이전 값
+
+        // When
+        assertMaxQueries(2, () -> studyGoalService.updateProgress(goalId, 30)); // 잠금 재조회 + 갱신
+
+        // Then
+        assertEquals(150, currentMinutesInDatabase());
+        assertEquals(150, studyGoalService.getStudyGoal(user, goalId).getCurrentMinutes());
+    }
+
+    @Test
+    @DisplayName("목표 수정은 다른 인스턴스가 반영한 진행도를 덮어쓰지 않음")
+    void updateStudyGoal_KeepsDatabaseProgress() {
+        // Given
+        studyGoalService.getStudyGoal(user, goalId);
+        updatedByOtherInstance(120);
+        StudyGoalRequest request = new StudyGoalRequest();
+        request.setTitle("토익 950");
+
+        // When
+        studyGoalService.updateStudyGoal(user, goalId, request);
+
+        // Then
+        assertEquals(120, currentMinutesInDatabase());
+        assertEquals("토익 950", studyGoalService.getStudyGoal(user, goalId).getTitle());
+        assertEquals(120, studyGoalService.getStudyGoal(user, goalId).getCurrentMinutes());
+    }
+
+    @Test
+    @DisplayName("JDBC로 바꾼 뒤 evict하면 다음 조회에서 DB 값을 읽음")
+    void evict_ReloadsFromDatabase() {
+        // Given
+        studyGoalService.getStudyGoal(user, goalId);
+        updatedByOtherInstance(45);
+
+        // When
+        entityManagerFactory.getCache().evict(StudyGoal.class, goalId);
+
+        // Then
+        assertEquals(45, studyGoalService.getStudyGoal(user, goalId).getCurrentMinutes());
+    }
+
+    private void updatedByOtherInstance(int currentMinutes) {
+        jdbcTemplate.update("UPDATE study_goals SET current_minutes = ?, current_hours = ? WHERE id = ?",
+                currentMinutes, currentMinutes / 60, goalId);
+    }
+
+    private int currentMinutesInDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_minutes FROM study_goals WHERE id = ?", Integer.class, goalId);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
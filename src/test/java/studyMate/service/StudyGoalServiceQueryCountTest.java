@@ -0,0 +1,106 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import studyMate.dto.studygoal.StudyGoalResponse;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.User;
+import studyMate.repository.TimerRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static studyMate.support.QueryCountAssertions.assertMaxQueries;
+
+/**
+ * 학습목표 조회/진행도 갱신의 SQL 문 수 상한
+ * 지연 로딩 연관관계(StudyGoal.user)를 건드려 쿼리가 늘어나면 실패한다.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=studyMate.config.QueryCountInspector")
+@Import(StudyGoalService.class)
+@DisplayName("StudyGoalService SQL 문 수 테스트")
+class StudyGoalServiceQueryCountTest {
+
+    @Autowired
+    private StudyGoalService studyGoalService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private TimerRepository timerRepository;
+
+    private User user;
+    private Long almostDoneGoalId;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .email("query@studymate.dev")
+                .password("password")
+                .nickname("쿼리")
+                .sex("M")
+                .build());
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(goal("목표 " + i, 100));
+        }
+        almostDoneGoalId = entityManager.persist(goal("거의 달성", 1)).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("활성 학습목표 목록은 목표 수와 관계없이 쿼리 1건")
+    void getActiveStudyGoals_SingleQuery() {
+        // When
+        List<StudyGoalResponse> goals = assertMaxQueries(1, () -> studyGoalService.getActiveStudyGoals(user));
+
+        // Then
+        assertEquals(6, goals.size());
+    }
+
+    @Test
+    @DisplayName("학습목표 단건 조회는 쿼리 1건")
+    void getStudyGoal_SingleQuery() {
+        // When
+        StudyGoalResponse goal = assertMaxQueries(1, () -> studyGoalService.getStudyGoal(user, almostDoneGoalId));
+
+        // Then
+        assertEquals("거의 달성", goal.getTitle());
+    }
+
+    @Test
+    @DisplayName("목표 달성 시 로그 때문에 사용자를 조회하지 않음 (조회 + 잠금 재조회 + 갱신)")
+    void updateProgress_Completed_NoUserLoad() {
+        // When (2차 캐시가 없는 설정이라 첫 조회도 SQL로 실행됨)
+        assertMaxQueries(3, () -> {
+            studyGoalService.updateProgress(almostDoneGoalId, 90);
+            entityManager.flush();
+        });
+
+        // Then
+        entityManager.clear();
+        assertEquals(GoalStatus.COMPLETED, entityManager.find(StudyGoal.class, almostDoneGoalId).getStatus());
+    }
+
+    private StudyGoal goal(String title, int targetHours) {
+        return StudyGoal.builder()
+                .title(title)
+                .subject("영어")
+                .startDate(LocalDate.now())
+                .targetDate(LocalDate.now().plusMonths(1))
+                .targetHours(targetHours)
+                .status(GoalStatus.ACTIVE)
+                .user(user)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package studyMate.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,9 @@ class StudyGoalServiceTest {
     @Mock
     private TimerRepository timerRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private StudyGoalService studyGoalService;
 
@@ -146,6 +151,7 @@ class StudyGoalServiceTest {
         // Then
         assertNotNull(response);
         verify(studyGoalRepository, times(1)).findByIdAndUser(1L, user);
+        verify(entityManager).refresh(studyGoal, LockModeType.PESSIMISTIC_WRITE);
         verify(studyGoalRepository, times(1)).save(any(StudyGoal.class));
     }
 
@@ -177,9 +183,28 @@ class StudyGoalServiceTest {
 
         // Then
         verify(studyGoalRepository, times(1)).findById(1L);
+        verify(entityManager).refresh(studyGoal, LockModeType.PESSIMISTIC_WRITE);
         verify(studyGoalRepository, times(1)).save(any(StudyGoal.class));
     }
 
+    @Test
+    @DisplayName("진행도는 잠금 후 다시 읽은 DB 값에 더함 (2차 캐시 값 무시)")
+    void updateProgress_AddsToRefreshedValue() {
+        // Given
+        when(studyGoalRepository.findById(1L)).thenReturn(Optional.of(studyGoal)); // 캐시 값: 0분
+        doAnswer(invocation -> {
+            studyGoal.setCurrentMinutes(120); // 다른 인스턴스가 반영한 진행도
+            return null;
+        }).when(entityManager).refresh(studyGoal, LockModeType.PESSIMISTIC_WRITE);
+
+        // When
+        studyGoalService.updateProgress(1L, 30);
+
+        // Then
+        assertEquals(150, studyGoal.getCurrentMinutes());
+        assertEquals(2, studyGoal.getCurrentHours());
+    }
+
     @Test
     @DisplayName("목표 달성 시 상태 자동 변경")
     void updateProgress_GoalCompleted_StatusChanged() {
@@ -0,0 +1,189 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import studyMate.dto.timer.StudyTotals;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.TimerArchiveState;
+import studyMate.entity.User;
+import studyMate.repository.TimerArchiveStateRepository;
+import studyMate.repository.TimerMonthlyRollupRepository;
+import studyMate.repository.TimerRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyHistoryService 테스트")
+class StudyHistoryServiceTest {
+
+    private static final LocalDateTime ARCHIVED_BEFORE = LocalDateTime.of(2024, 7, 1, 0, 0);
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private TimerMonthlyRollupRepository rollupRepository;
+
+    @Mock
+    private TimerArchiveStateRepository archiveStateRepository;
+
+    private StudyHistoryService studyHistoryService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        studyHistoryService = new StudyHistoryService(timerRepository, rollupRepository, archiveStateRepository);
+        user = User.builder().id("user1").email("test@example.com").build();
+    }
+
+    @Test
+    @DisplayName("보관된 기록이 없으면 모든 파티션을 읽고 월별 집계는 조회하지 않음")
+    void totals_NotArchived_LiveOnly() {
+        // Given
+        when(archiveStateRepository.findById(TimerArchiveState.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(timerRepository.aggregateTotalsSince(user, StudyHistoryService.LIVE_EPOCH))
+                .thenReturn(totals(3600, 2, 2400));
+
+        // When
+        StudyHistoryService.Totals result = studyHistoryService.totals(user);
+
+        // Then
+        assertEquals(3600, result.getStudySeconds());
+        assertEquals(2, result.getSessions());
+        assertEquals(2400, result.getLongestSeconds());
+        assertEquals(1800.0, result.averageSeconds());
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("보관 경계 이후 기록 집계와 이전 달 월별 집계를 합산")
+    void totals_Archived_AddsRollups() {
+        // Given
+        archivedBefore(ARCHIVED_BEFORE);
+        when(timerRepository.aggregateTotalsSince(user, ARCHIVED_BEFORE)).thenReturn(totals(3600, 2, 2400));
+        when(rollupRepository.aggregateTotalsBefore("user1", LocalDate.of(2024, 7, 1)))
+                .thenReturn(totals(36000, 10, 5400));
+
+        // When
+        StudyHistoryService.Totals result = studyHistoryService.totals(user);
+
+        // Then
+        assertEquals(39600, result.getStudySeconds());
+        assertEquals(12, result.getSessions());
+        assertEquals(5400, result.getLongestSeconds());
+    }
+
+    @Test
+    @DisplayName("학습목표별 합계도 보관된 달을 포함")
+    void goalTotals_Archived_AddsRollups() {
+        // Given
+        StudyGoal studyGoal = StudyGoal.builder().id(7L).build();
+        archivedBefore(ARCHIVED_BEFORE);
+        when(timerRepository.aggregateGoalTotalsSince(user, studyGoal, ARCHIVED_BEFORE)).thenReturn(totals(1800, 1, 1800));
+        when(rollupRepository.aggregateGoalTotalsBefore("user1", 7L, LocalDate.of(2024, 7, 1)))
+                .thenReturn(totals(5400, 3, 1800));
+
+        // When
+        StudyHistoryService.Totals result = studyHistoryService.goalTotals(user, studyGoal);
+
+        // Then
+        assertEquals(7200, result.getStudySeconds());
+        assertEquals(4, result.getSessions());
+    }
+
+    @Test
+    @DisplayName("경계에 걸친 기간은 경계 이후를 timers에서, 이전을 월별 집계에서 합산")
+    void studySecondsInMonths_SpansWatermark() {
+        // Given
+        archivedBefore(ARCHIVED_BEFORE);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(timerRepository.sumStudyTimeBetween(user, ARCHIVED_BEFORE, to)).thenReturn(3600L);
+        when(rollupRepository.sumStudySecondsBetween("user1", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 7, 1)))
+                .thenReturn(7200L);
+
+        // When
+        long seconds = studyHistoryService.studySecondsInMonths(user, YearMonth.of(2024, 1), YearMonth.of(2025, 1));
+
+        // Then
+        assertEquals(10800, seconds);
+    }
+
+    @Test
+    @DisplayName("보관된 달만 조회하면 timers를 읽지 않음")
+    void studySecondsInMonths_ArchivedMonth_RollupsOnly() {
+        // Given
+        archivedBefore(ARCHIVED_BEFORE);
+        when(rollupRepository.sumStudySecondsBetween("user1", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1)))
+                .thenReturn(5400L);
+
+        // When
+        long seconds = studyHistoryService.studySecondsInMonths(user, YearMonth.of(2024, 3), YearMonth.of(2024, 4));
+
+        // Then
+        assertEquals(5400, seconds);
+        verify(timerRepository, never()).sumStudyTimeBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관 경계는 캐시해 두고 refreshWatermark로 다시 읽음")
+    void liveSince_CachesWatermark() {
+        // Given
+        when(archiveStateRepository.findById(TimerArchiveState.SINGLETON_ID))
+                .thenReturn(Optional.of(new TimerArchiveState(TimerArchiveState.SINGLETON_ID, null)))
+                .thenReturn(Optional.of(new TimerArchiveState(TimerArchiveState.SINGLETON_ID, ARCHIVED_BEFORE)));
+
+        // When & Then
+        assertEquals(StudyHistoryService.LIVE_EPOCH, studyHistoryService.liveSince());
+        assertEquals(StudyHistoryService.LIVE_EPOCH, studyHistoryService.liveSince());
+        studyHistoryService.refreshWatermark();
+        assertEquals(ARCHIVED_BEFORE, studyHistoryService.liveSince());
+        verify(archiveStateRepository, times(2)).findById(TimerArchiveState.SINGLETON_ID);
+    }
+
+    @Test
+    @DisplayName("상태 테이블을 읽지 못하면 보관되지 않은 것으로 보고 조회를 계속함")
+    void liveSince_StateTableMissing_FallsBackToAllPartitions() {
+        // Given
+        when(archiveStateRepository.findById(TimerArchiveState.SINGLETON_ID))
+                .thenThrow(new InvalidDataAccessResourceUsageException("Table 'timer_archive_state' doesn't exist"));
+
+        // When & Then
+        assertEquals(StudyHistoryService.LIVE_EPOCH, studyHistoryService.liveSince());
+    }
+
+    private void archivedBefore(LocalDateTime watermark) {
+        when(archiveStateRepository.findById(TimerArchiveState.SINGLETON_ID))
+                .thenReturn(Optional.of(new TimerArchiveState(TimerArchiveState.SINGLETON_ID, watermark)));
+    }
+
+    private static StudyTotals totals(long studySeconds, long sessions, Integer longestSeconds) {
+        return new StudyTotals() {
+            @Override
+            public Long getStudySeconds() {
+                return studySeconds;
+            }
+
+            @Override
+            public Long getSessions() {
+                return sessions;
+            }
+
+            @Override
+            public Integer getLongestSeconds() {
+                return longestSeconds;
+            }
+        };
+    }
+}
@@ -0,0 +1,327 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studyMate.config.StatsCacheProperties;
+import studyMate.dto.timer.StudyStatsAggregate;
+import studyMate.entity.User;
+import studyMate.repository.TimerRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyStatsService 테스트")
+class StudyStatsServiceTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private StudyHistoryService studyHistoryService;
+
+    @Mock
+    private StudyStatsRedisStore redisStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StudyStatsService studyStatsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        studyStatsService = new StudyStatsService(timerRepository, studyHistoryService, redisStore,
+                new StatsCacheProperties(), meterRegistry);
+        lenient().when(studyHistoryService.liveSince()).thenReturn(StudyHistoryService.LIVE_EPOCH);
+        lenient().when(studyHistoryService.archivedTotals(any())).thenReturn(StudyHistoryService.Totals.EMPTY);
+        // 2025-01-08(수) 03:00, 서버 시간대 UTC
+        studyStatsService.setClock(Clock.fixed(Instant.parse("2025-01-08T03:00:00Z"), UTC));
+        user = User.builder().id("user1").email("test@example.com").build();
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 DB 집계 한 번 후 다음 조회는 메모리 계층에서 응답")
+    void getSnapshot_MissThenLocalHit() {
+        // Given
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600));
+
+        // When
+        StudyStatsSnapshot first = studyStatsService.getSnapshot(user, UTC);
+        StudyStatsSnapshot second = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(30, first.todayMinutes());
+        assertEquals(90, first.weekMinutes());
+        assertEquals(600, second.totalMinutes());
+        assertEquals(60, second.longestMinutes());
+        assertEquals(30.0, second.averageSessionMinutes());
+        verify(timerRepository, times(1)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+        verify(redisStore, times(1)).get("user1", "Z");
+        verify(redisStore).put(eq("user1"), any(StudyStatsSnapshot.class), eq(0L));
+        assertEquals(1.0, lookups("db"));
+        assertEquals(1.0, lookups("local"));
+    }
+
+    @Test
+    @DisplayName("Redis 계층에 같은 시간대 스냅샷이 있으면 DB를 조회하지 않음")
+    void getSnapshot_RedisHit() {
+        // Given
+        when(redisStore.get("user1", "Z")).thenReturn(snapshot(LocalDate.of(2025, 1, 8), 600, 1200, 6000));
+
+        // When
+        StudyStatsSnapshot result = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(10, result.todayMinutes());
+        verify(timerRepository, never()).aggregateStudyStats(any(), any(), any(), any(), any());
+        assertEquals(1.0, lookups("redis"));
+    }
+
+    @Test
+    @DisplayName("요청 시간대의 날짜/주 경계를 서버 시간대로 바꿔 집계")
+    void getSnapshot_ConvertsZoneBoundariesToServerTime() {
+        // Given
+        ZoneId seoul = ZoneId.of("Asia/Seoul"); // 서울은 이미 2025-01-08 12:00
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(0, 0, 0, 0, null));
+
+        // When
+        StudyStatsSnapshot result = studyStatsService.getSnapshot(user, seoul);
+
+        // Then
+        assertEquals("Asia/Seoul", result.getZone());
+        assertEquals(LocalDate.of(2025, 1, 6), result.getWeekStart());
+        verify(timerRepository).aggregateStudyStats(user, StudyHistoryService.LIVE_EPOCH,
+                LocalDateTime.of(2025, 1, 5, 15, 0),
+                LocalDateTime.of(2025, 1, 7, 15, 0),
+                LocalDateTime.of(2025, 1, 8, 15, 0));
+    }
+
+    @Test
+    @DisplayName("보관된 달의 집계를 전체 합계/세션 수/최장 세션에 더함")
+    void getSnapshot_AddsArchivedTotals() {
+        // Given
+        LocalDateTime archivedBefore = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(studyHistoryService.liveSince()).thenReturn(archivedBefore);
+        when(studyHistoryService.archivedTotals(user)).thenReturn(new StudyHistoryService.Totals(72000, 30, 5400));
+        when(timerRepository.aggregateStudyStats(eq(user), eq(archivedBefore), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600));
+
+        // When
+        StudyStatsSnapshot result = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(30, result.todayMinutes());
+        assertEquals(90, result.weekMinutes());
+        assertEquals(1800, result.totalMinutes());
+        assertEquals(50, result.getSessions());
+        assertEquals(90, result.longestMinutes());
+    }
+
+    @Test
+    @DisplayName("시간대가 다른 두 기기가 번갈아 조회해도 시간대별 스냅샷을 각각 유지")
+    void getSnapshot_TwoZones_KeepSeparateSnapshots() {
+        // Given
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600))
+                .thenReturn(aggregate(3600, 5400, 36000, 20, 3600));
+        StudyStatsSnapshot utcFirst = studyStatsService.getSnapshot(user, UTC);
+        StudyStatsSnapshot seoulFirst = studyStatsService.getSnapshot(user, seoul);
+
+        // When
+        StudyStatsSnapshot utcAgain = studyStatsService.getSnapshot(user, UTC);
+        StudyStatsSnapshot seoulAgain = studyStatsService.getSnapshot(user, seoul);
+
+        // Then
+        assertEquals(utcFirst, utcAgain);
+        assertEquals(seoulFirst, seoulAgain);
+        assertEquals("Asia/Seoul", seoulAgain.getZone());
+        verify(timerRepository, times(2)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+        verify(redisStore).put(eq("user1"), argThat(snapshot -> "Z".equals(snapshot.getZone())), eq(0L));
+        verify(redisStore).put(eq("user1"), argThat(snapshot -> "Asia/Seoul".equals(snapshot.getZone())), eq(0L));
+        assertEquals(2.0, lookups("local"));
+    }
+
+    @Test
+    @DisplayName("total-stats(시간대 없음)는 어느 시간대의 스냅샷이든 사용")
+    void getSnapshot_NoZone_UsesAnyZoneSnapshot() {
+        // Given
+        when(redisStore.get("user1", null)).thenReturn(snapshot(LocalDate.of(2025, 1, 8), 600, 1200, 6000));
+
+        // When
+        StudyStatsSnapshot total = studyStatsService.getSnapshot(user, null);
+
+        // Then
+        assertEquals(100, total.totalMinutes());
+        verify(timerRepository, never()).aggregateStudyStats(any(), any(), any(), any(), any());
+        assertEquals(1.0, lookups("redis"));
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 DB 조회 없이 오늘 합계만, 주가 바뀌면 이번 주 합계도 0으로 넘김")
+    void getSnapshot_RollsOverDayAndWeek() {
+        // Given
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600));
+        studyStatsService.getSnapshot(user, UTC);
+
+        // When
+        studyStatsService.setClock(Clock.fixed(Instant.parse("2025-01-09T01:00:00Z"), UTC));
+        StudyStatsSnapshot nextDay = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(0, nextDay.todayMinutes());
+        assertEquals(90, nextDay.weekMinutes());
+        assertEquals(600, nextDay.totalMinutes());
+
+        // When
+        studyStatsService.setClock(Clock.fixed(Instant.parse("2025-01-13T01:00:00Z"), UTC));
+        StudyStatsSnapshot nextWeek = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(0, nextWeek.weekMinutes());
+        assertEquals(600, nextWeek.totalMinutes());
+        verify(timerRepository, times(1)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장 이벤트는 세대를 올리고 두 계층을 비워 다음 조회에서 다시 집계")
+    void onTimerRecordChanged_Saved_InvalidatesBothTiers() {
+        // Given
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600))
+                .thenReturn(aggregate(6000, 9600, 40200, 21, 4200));
+        studyStatsService.getSnapshot(user, UTC);
+
+        // When
+        studyStatsService.onTimerRecordChanged(new TimerRecordChangedEvent(TimerRecordChangedEvent.Change.SAVED,
+                "user1", LocalDateTime.of(2025, 1, 8, 2, 30), 4200));
+        StudyStatsSnapshot result = studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        assertEquals(100, result.todayMinutes());
+        assertEquals(670, result.totalMinutes());
+        assertEquals(21, result.getSessions());
+        verify(redisStore).evict("user1");
+        verify(timerRepository, times(2)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("집계 중에 기록이 바뀌면 집계 결과를 메모리 계층에 캐시하지 않고, Redis 저장은 집계 전 세대로 확인")
+    void getSnapshot_RecordChangedDuringCompute_NotCached() {
+        // Given
+        when(redisStore.generation("user1")).thenReturn(7L);
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    // 집계 쿼리와 기록 커밋이 겹침
+                    studyStatsService.onTimerRecordChanged(new TimerRecordChangedEvent(
+                            TimerRecordChangedEvent.Change.SAVED, "user1", LocalDateTime.of(2025, 1, 8, 2, 30), 1800));
+                    return aggregate(1800, 5400, 36000, 20, 3600);
+                })
+                .thenReturn(aggregate(3600, 7200, 37800, 21, 3600));
+
+        // When
+        studyStatsService.getSnapshot(user, UTC);
+        studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        InOrder inOrder = inOrder(redisStore, timerRepository);
+        inOrder.verify(redisStore).generation("user1");
+        inOrder.verify(timerRepository).aggregateStudyStats(eq(user), any(), any(), any(), any());
+        inOrder.verify(redisStore).evict("user1");
+        inOrder.verify(redisStore).put(eq("user1"), any(StudyStatsSnapshot.class), eq(7L));
+        verify(timerRepository, times(2)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+        assertEquals(0.0, lookups("local"));
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 두 계층을 비워 다음 조회에서 다시 집계")
+    void onTimerRecordChanged_Deleted_Evicts() {
+        // Given
+        when(timerRepository.aggregateStudyStats(eq(user), any(), any(), any(), any()))
+                .thenReturn(aggregate(1800, 5400, 36000, 20, 3600));
+        studyStatsService.getSnapshot(user, UTC);
+
+        // When
+        studyStatsService.onTimerRecordChanged(new TimerRecordChangedEvent(TimerRecordChangedEvent.Change.DELETED,
+                "user1", LocalDateTime.of(2025, 1, 8, 2, 0), 1800));
+        studyStatsService.getSnapshot(user, UTC);
+
+        // Then
+        verify(redisStore).evict("user1");
+        verify(timerRepository, times(2)).aggregateStudyStats(eq(user), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 시간대 헤더는 기본 시간대로 대체")
+    void resolveZone_InvalidHeader_FallsBack() {
+        assertEquals(ZoneId.of("Asia/Seoul"), studyStatsService.resolveZone("Asia/Seoul"));
+        assertEquals(UTC, studyStatsService.resolveZone("Mars/Base"));
+        assertEquals(UTC, studyStatsService.resolveZone(null));
+    }
+
+    private double lookups(String source) {
+        return meterRegistry.get(StudyStatsService.LOOKUP_METRIC).tag("source", source).counter().count();
+    }
+
+    private static StudyStatsSnapshot snapshot(LocalDate day, long todaySeconds, long weekSeconds, long totalSeconds) {
+        return StudyStatsSnapshot.builder()
+                .zone(UTC.getId())
+                .day(day)
+                .weekStart(StudyStatsSnapshot.weekStartOf(day))
+                .todaySeconds(todaySeconds)
+                .weekSeconds(weekSeconds)
+                .totalSeconds(totalSeconds)
+                .sessions(totalSeconds > 0 ? 1 : 0)
+                .longestSeconds((int) totalSeconds)
+                .build();
+    }
+
+    private static StudyStatsAggregate aggregate(long today, long week, long total, long sessions, Integer longest) {
+        return new StudyStatsAggregate() {
+            @Override
+            public Long getTodaySeconds() {
+                return today;
+            }
+
+            @Override
+            public Long getWeekSeconds() {
+                return week;
+            }
+
+            @Override
+            public Long getTotalSeconds() {
+                return total;
+            }
+
+            @Override
+            public Long getSessions() {
+                return sessions;
+            }
+
+            @Override
+            public Integer getLongestSeconds() {
+                return longest;
+            }
+        };
+    }
+}
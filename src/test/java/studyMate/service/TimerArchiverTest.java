@@ -0,0 +1,231 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyMate.config.TimerProperties;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerArchiver 테스트")
+class TimerArchiverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StudyHistoryService studyHistoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimerArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 템플릿은 콜백을 바로 실행
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        TimerProperties timerProperties = new TimerProperties(); // enabled=false라 스케줄러 없이 직접 호출
+        timerProperties.getArchive().setHorizonMonths(12);
+        timerProperties.getArchive().setFutureMonths(3);
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new TimerArchiver(timerProperties, jdbcTemplate, transactionTemplate, redisTemplate,
+                studyHistoryService, meterRegistry);
+        // 2024-10-15 서버 시간대 UTC
+        archiver.setClock(Clock.fixed(Instant.parse("2024-10-15T03:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 아무것도 하지 않음")
+    void run_LockHeldElsewhere_Skips() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(TimerArchiver.LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        archiver.run();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(List.class), anyString());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 잠금을 풀고 실패 수를 기록")
+    void run_Failure_ReleasesLock() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(TimerArchiver.LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(TimerArchiver.PARTITIONS_SQL, String.class))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // When
+        archiver.run();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("timer.archive.failures").counter().count());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(TimerArchiver.LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 futureMonths달 뒤까지 p_future를 나눠 추가")
+    void ensureFuturePartitions_ReorganizesFuturePartition() {
+        // When
+        archiver.ensureFuturePartitions(List.of("p202409", "p202410", "p_future"));
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE timers REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p202411 VALUES LESS THAN ('2024-12-01'), "
+                + "PARTITION p202412 VALUES LESS THAN ('2025-01-01'), "
+                + "PARTITION p202501 VALUES LESS THAN ('2025-02-01'), "
+                + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("필요한 파티션이 이미 있으면 DDL을 실행하지 않음")
+    void ensureFuturePartitions_UpToDate_NoDdl() {
+        // When
+        archiver.ensureFuturePartitions(List.of("p202410", "p202411", "p202412", "p202501", "p_future"));
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("horizon보다 오래된 달을 복사/집계하고 보관 경계를 올리되 timers 행은 지우지 않음")
+    void archiveExpiredMonths_AdvancesWatermark() {
+        // Given
+        when(jdbcTemplate.queryForList(TimerArchiver.ARCHIVED_BEFORE_SQL, Timestamp.class))
+                .thenReturn(List.of(Timestamp.valueOf(LocalDateTime.of(2023, 9, 1, 0, 0))));
+
+        // When
+        archiver.archiveExpiredMonths();
+
+        // Then
+        Timestamp from = Timestamp.valueOf(LocalDateTime.of(2023, 9, 1, 0, 0));
+        Timestamp to = Timestamp.valueOf(LocalDateTime.of(2023, 10, 1, 0, 0));
+        verify(jdbcTemplate).update(TimerArchiver.COPY_SQL, from, to);
+        verify(jdbcTemplate).update(TimerArchiver.DELETE_ROLLUPS_SQL, Date.valueOf(LocalDate.of(2023, 9, 1)));
+        verify(jdbcTemplate).update(TimerArchiver.INSERT_ROLLUPS_SQL, Date.valueOf(LocalDate.of(2023, 9, 1)), from, to);
+        verify(jdbcTemplate).update(TimerArchiver.UPDATE_WATERMARK_SQL, to);
+        verify(jdbcTemplate, never()).update(eq(TimerArchiver.DELETE_CHUNK_SQL), any(), any(), any());
+        verify(jdbcTemplate, never()).update(eq(TimerArchiver.DELETE_AI_TEXT_SQL), any(), any());
+        verify(studyHistoryService).refreshWatermark();
+        assertEquals(1.0, meterRegistry.get("timer.archive.months").counter().count());
+    }
+
+    @Test
+    @DisplayName("처음 보관할 때는 가장 오래된 기록의 달부터 시작")
+    void archiveExpiredMonths_FirstRun_StartsFromOldestRecord() {
+        // Given
+        when(jdbcTemplate.queryForList(TimerArchiver.ARCHIVED_BEFORE_SQL, Timestamp.class)).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(TimerArchiver.OLDEST_START_SQL, Timestamp.class))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2023, 8, 20, 9, 0)));
+
+        // When
+        archiver.archiveExpiredMonths();
+
+        // Then
+        verify(jdbcTemplate).update(TimerArchiver.UPDATE_WATERMARK_SQL,
+                Timestamp.valueOf(LocalDateTime.of(2023, 9, 1, 0, 0)));
+        verify(jdbcTemplate).update(TimerArchiver.UPDATE_WATERMARK_SQL,
+                Timestamp.valueOf(LocalDateTime.of(2023, 10, 1, 0, 0)));
+        assertEquals(2.0, meterRegistry.get("timer.archive.months").counter().count());
+    }
+
+    @Test
+    @DisplayName("보관할 달이 없으면 경계를 그대로 둠")
+    void archiveExpiredMonths_NothingExpired() {
+        // Given
+        when(jdbcTemplate.queryForList(TimerArchiver.ARCHIVED_BEFORE_SQL, Timestamp.class))
+                .thenReturn(List.of(Timestamp.valueOf(LocalDateTime.of(2023, 10, 1, 0, 0))));
+
+        // When
+        archiver.archiveExpiredMonths();
+
+        // Then
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(studyHistoryService, never()).refreshWatermark();
+    }
+
+    @Test
+    @DisplayName("경계 이전에 남은 달은 다시 복사하고 AI 텍스트를 지운 뒤 파티션이 있으면 DROP, 없으면 범위 DELETE")
+    void purgeArchivedMonths_DropsPartitionsAndDeletesStragglers() {
+        // Given
+        Timestamp watermark = Timestamp.valueOf(LocalDateTime.of(2023, 9, 1, 0, 0));
+        when(jdbcTemplate.queryForList(TimerArchiver.ARCHIVED_BEFORE_SQL, Timestamp.class))
+                .thenReturn(List.of(watermark));
+        // 7월 파티션은 이미 지웠고, 늦게 저장된 7월 기록이 8월 파티션에 들어가 있음
+        when(jdbcTemplate.queryForList(TimerArchiver.STALE_MONTHS_SQL, String.class, watermark))
+                .thenReturn(List.of("2023-07-01", "2023-08-01"));
+
+        // When
+        archiver.purgeArchivedMonths(List.of("p202308", "p202309", "p_future"));
+
+        // Then
+        verify(jdbcTemplate).update(TimerArchiver.COPY_SQL,
+                Timestamp.valueOf(LocalDateTime.of(2023, 7, 1, 0, 0)), Timestamp.valueOf(LocalDateTime.of(2023, 8, 1, 0, 0)));
+        verify(jdbcTemplate).update(TimerArchiver.COPY_SQL,
+                Timestamp.valueOf(LocalDateTime.of(2023, 8, 1, 0, 0)), watermark);
+        verify(jdbcTemplate).update(TimerArchiver.DELETE_AI_TEXT_SQL,
+                Timestamp.valueOf(LocalDateTime.of(2023, 8, 1, 0, 0)), watermark);
+        verify(jdbcTemplate).update(eq(TimerArchiver.DELETE_CHUNK_SQL),
+                eq(Timestamp.valueOf(LocalDateTime.of(2023, 7, 1, 0, 0))),
+                eq(Timestamp.valueOf(LocalDateTime.of(2023, 8, 1, 0, 0))), any());
+        verify(jdbcTemplate).execute("ALTER TABLE timers DROP PARTITION p202308");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE timers DROP PARTITION p202309");
+    }
+
+    @Test
+    @DisplayName("보관 전이면 아무것도 지우지 않음")
+    void purgeArchivedMonths_NotArchived_Noop() {
+        // Given
+        when(jdbcTemplate.queryForList(TimerArchiver.ARCHIVED_BEFORE_SQL, Timestamp.class)).thenReturn(List.of());
+
+        // When
+        archiver.purgeArchivedMonths(List.of("p202308", "p_future"));
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+}
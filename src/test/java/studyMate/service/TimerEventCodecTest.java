@@ -0,0 +1,104 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.dto.pomodoro.TimerResDto;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimerEventCodec 테스트")
+class TimerEventCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 이벤트 복원")
+    void encodeDecode_RoundTrip() {
+        // Given
+        TimerResDto event = TimerResDto.builder()
+                .success(true)
+                .message("학습 타이머가 시작되었습니다.")
+                .status(TimerState.STARTED)
+                .remainingTime(1500)
+                .timerType(TimerType.STUDY)
+                .userNickname("tester")
+                .studyTimes(25)
+                .breakTimes(5)
+                .cycleCount(3)
+                .sequence(1_760_000_000_000_002L)
+                .timerId(42L)
+                .build();
+
+        // When
+        TimerEventCodec.Envelope envelope = TimerEventCodec.decode(
+                TimerEventCodec.encode("node-a", "user1", event));
+
+        // Then
+        assertEquals("node-a", envelope.getNodeId());
+        assertEquals("user1", envelope.getUserId());
+        TimerResDto decoded = envelope.getEvent();
+        assertTrue(decoded.isSuccess());
+        assertEquals("학습 타이머가 시작되었습니다.", decoded.getMessage());
+        assertEquals(TimerState.STARTED, decoded.getStatus());
+        assertEquals(1500, decoded.getRemainingTime());
+        assertEquals(TimerType.STUDY, decoded.getTimerType());
+        assertEquals("tester", decoded.getUserNickname());
+        assertEquals(25, decoded.getStudyTimes());
+        assertEquals(5, decoded.getBreakTimes());
+        assertEquals(3, decoded.getCycleCount());
+        assertEquals(1_760_000_000_000_002L, decoded.getSequence());
+        assertEquals(42L, decoded.getTimerId());
+    }
+
+    @Test
+    @DisplayName("null 필드도 복원")
+    void encodeDecode_NullValues() {
+        // Given
+        TimerResDto event = TimerResDto.builder()
+                .status(null)
+                .timerType(null)
+                .remainingTime(0)
+                .build();
+
+        // When
+        TimerResDto decoded = TimerEventCodec.decode(TimerEventCodec.encode("node-a", "user1", event)).getEvent();
+
+        // Then
+        assertNull(decoded.getStatus());
+        assertNull(decoded.getTimerType());
+        assertNull(decoded.getMessage());
+        assertNull(decoded.getUserNickname());
+    }
+
+    @Test
+    @DisplayName("JSON보다 작은 크기로 인코딩")
+    void encode_SmallerThanJson() {
+        // Given
+        TimerResDto event = TimerResDto.builder()
+                .success(true)
+                .status(TimerState.PAUSED)
+                .remainingTime(842)
+                .timerType(TimerType.BREAK)
+                .userNickname("tester")
+                .studyTimes(50)
+                .breakTimes(10)
+                .cycleCount(12)
+                .build();
+        String json = "{\"success\":true,\"message\":null,\"status\":\"PAUSED\",\"remainingTime\":842,"
+                + "\"timerType\":\"BREAK\",\"userNickname\":\"tester\",\"studyTimes\":50,\"breakTimes\":10,\"cycleCount\":12}";
+
+        // When
+        byte[] encoded = TimerEventCodec.encode("node-a", "01HZXK5V2M8Q9R7T6Y5W4E3D2C", event);
+
+        // Then
+        assertTrue(encoded.length < json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전은 예외 발생")
+    void decode_UnknownVersion_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> TimerEventCodec.decode(new byte[]{9}));
+    }
+}
@@ -0,0 +1,129 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import studyMate.config.WebSocketProperties;
+import studyMate.dto.pomodoro.TimerResDto;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerEventFanout 테스트")
+class TimerEventFanoutTest {
+
+    private static final String CHANNEL = "studymate:timer-events";
+
+    @Mock
+    private RedisTemplate<String, byte[]> timerEventRedisTemplate;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TimerEventFanout timerEventFanout;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketProperties properties = new WebSocketProperties();
+        properties.getFanout().setEnabled(true);
+        properties.getFanout().setChannel(CHANNEL);
+        properties.getFanout().setCoalesceMillis(100);
+        timerEventFanout = new TimerEventFanout(properties, timerEventRedisTemplate, messagingTemplate, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerEventFanout.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연속 이벤트는 마지막 상태만 발행")
+    void publish_RapidEvents_CoalescedPerUser() {
+        // When
+        timerEventFanout.publish("user1", event(TimerState.STARTED));
+        timerEventFanout.publish("user1", event(TimerState.PAUSED));
+        timerEventFanout.publish("user1", event(TimerState.STOPPED));
+        timerEventFanout.publish("user2", event(TimerState.STARTED));
+
+        // Then
+        ArgumentCaptor<byte[]> payloads = ArgumentCaptor.forClass(byte[].class);
+        verify(timerEventRedisTemplate, timeout(1000).times(2)).convertAndSend(eq(CHANNEL), payloads.capture());
+        TimerEventCodec.Envelope first = TimerEventCodec.decode(payloads.getAllValues().get(0));
+        TimerEventCodec.Envelope second = TimerEventCodec.decode(payloads.getAllValues().get(1));
+        TimerEventCodec.Envelope user1 = "user1".equals(first.getUserId()) ? first : second;
+        assertEquals(TimerState.STOPPED, user1.getEvent().getStatus());
+    }
+
+    @Test
+    @DisplayName("fan-out 비활성화 시 발행하지 않음")
+    void publish_Disabled_DoesNothing() {
+        // Given
+        TimerEventFanout disabled = new TimerEventFanout(new WebSocketProperties(), timerEventRedisTemplate, messagingTemplate, eventPublisher);
+
+        // When
+        disabled.publish("user1", event(TimerState.STARTED));
+
+        // Then
+        verify(timerEventRedisTemplate, after(200).never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 이벤트는 로컬 구독자에게 브로드캐스트")
+    void onMessage_FromOtherNode_Broadcasts() {
+        // Given
+        byte[] payload = TimerEventCodec.encode("other-node", "user1", event(TimerState.PAUSED));
+
+        // When
+        timerEventFanout.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), payload), null);
+
+        // Then
+        ArgumentCaptor<TimerResDto> captor = ArgumentCaptor.forClass(TimerResDto.class);
+        verify(messagingTemplate).convertAndSend(eq(TimerEventFanout.TIMER_TOPIC), captor.capture());
+        assertEquals(TimerState.PAUSED, captor.getValue().getStatus());
+        // 이 인스턴스의 메모리 상태를 비우도록 알림
+        verify(eventPublisher).publishEvent(argThat((Object published) -> published instanceof RemoteTimerEvent remote
+                && "user1".equals(remote.getUserId())));
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 이벤트는 무시")
+    void onMessage_FromSelf_Ignored() {
+        // Given
+        byte[] payload = TimerEventCodec.encode(timerEventFanout.getNodeId(), "user1", event(TimerState.PAUSED));
+
+        // When
+        timerEventFanout.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), payload), null);
+
+        // Then
+        verifyNoInteractions(messagingTemplate, eventPublisher);
+    }
+
+    private static TimerResDto event(TimerState status) {
+        return TimerResDto.builder()
+                .success(true)
+                .status(status)
+                .timerType(TimerType.STUDY)
+                .remainingTime(1500)
+                .build();
+    }
+}
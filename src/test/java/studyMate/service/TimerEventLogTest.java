@@ -0,0 +1,173 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import studyMate.config.TimerProperties;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerEventLog 테스트")
+class TimerEventLogTest {
+
+    private static final String KEY = "timer:events:user1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private TimerEventLog timerEventLog;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        timerEventLog = new TimerEventLog(redisTemplate, new TimerProperties());
+    }
+
+    @Test
+    @DisplayName("기준 상태의 항목이 마지막일 때만 기록하고 스트림 항목 ID로 순번 부여")
+    void append_AssignsSequenceFromRecordId() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class)))
+                .thenReturn("1760000000000-3");
+        TimerEvent event = TimerEvent.builder().type(TimerEventType.PAUSE).at(1_760_000_000_000L).build();
+
+        // When
+        TimerEvent logged = timerEventLog.append("user1", event, 1_759_999_990_000_000L);
+
+        // Then
+        assertEquals(1_760_000_000_000_003L, logged.getSequence());
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        List<Object> values = List.of(args.getValue());
+        assertEquals("1759999990000-0", values.get(0));  // 기대하는 마지막 항목 ID
+        assertEquals(Long.toString(48 * 3_600_000L), values.get(1));
+        assertEquals("", values.get(2));                // STOP이 아니면 trim 안 함
+        assertTrue(values.containsAll(List.of("type", "PAUSE")));
+    }
+
+    @Test
+    @DisplayName("진행 중인 타이머 없이 시작하면 마지막 항목 조건 없이 STOP 이후인지만 확인")
+    void append_NoActiveTimer_ExpectsEmptyOrStopped() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class)))
+                .thenReturn("1760000000000-0");
+        TimerEvent event = TimerEvent.builder().type(TimerEventType.START).at(1_760_000_000_000L)
+                .timerType(TimerType.STUDY).studyMinutes(25).breakMinutes(5).build();
+
+        // When
+        timerEventLog.append("user1", event, 0);
+
+        // Then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertEquals("", args.getValue()[0]);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 기록했으면 추가하지 않고 null 반환")
+    void append_LastRecordChanged_ReturnsNull() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class))).thenReturn("");
+        TimerEvent event = TimerEvent.builder().type(TimerEventType.STOP).at(1_760_000_000_000L).build();
+
+        // When
+        TimerEvent logged = timerEventLog.append("user1", event, 1_759_999_990_000_000L);
+
+        // Then
+        assertNull(logged);
+    }
+
+    @Test
+    @DisplayName("순번과 스트림 항목 ID 상호 변환")
+    void toRecordId_RoundTrips() {
+        // Given
+        RecordId recordId = RecordId.of(1_760_000_000_000L, 7);
+
+        // When & Then
+        assertEquals("1760000000000-7", TimerEventLog.toRecordId(TimerEventLog.toSequence(recordId)));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 이전 순번을 유지하고 계속 진행")
+    void append_RedisFailure_KeepsFallbackSequence() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class)))
+                .thenThrow(new IllegalStateException("연결 실패"));
+        TimerEvent event = TimerEvent.builder().type(TimerEventType.SWITCH).at(1000L).build();
+
+        // When
+        TimerEvent logged = timerEventLog.append("user1", event, 5);
+
+        // Then
+        assertEquals(5, logged.getSequence());
+    }
+
+    @Test
+    @DisplayName("로그를 재생해 일시정지 상태 복원")
+    void rebuild_ReplaysEvents() {
+        // Given
+        long start = 1_760_000_000_000L;
+        when(streamOperations.range(eq(KEY), any(Range.class))).thenReturn(List.of(
+                record(start, "START", start, Map.of("timerType", "STUDY", "study", "25", "break", "5")),
+                record(start + 600_000, "SWITCH", start + 600_000, Map.of()),
+                record(start + 660_000, "PAUSE", start + 660_000, Map.of())));
+
+        // When
+        TimerStatus status = timerEventLog.rebuild("user1");
+
+        // Then
+        assertNotNull(status);
+        assertEquals(TimerState.PAUSED, status.getState());
+        assertEquals(TimerType.BREAK, status.getTimerType());
+        assertEquals(600, status.getActualStudyTime());
+        assertEquals(5 * 60 - 60, status.getRemainingTime());
+        assertEquals((start + 660_000) * 1000, status.getSequence());
+    }
+
+    @Test
+    @DisplayName("마지막 이벤트가 STOP이면 진행 중인 타이머 없음")
+    void rebuild_EndsWithStop_ReturnsNull() {
+        // Given
+        long start = 1_760_000_000_000L;
+        when(streamOperations.range(eq(KEY), any(Range.class))).thenReturn(List.of(
+                record(start, "START", start, Map.of("timerType", "STUDY", "study", "25", "break", "5")),
+                record(start + 1_500_000, "STOP", start + 1_500_000, Map.of())));
+
+        // When
+        TimerStatus status = timerEventLog.rebuild("user1");
+
+        // Then
+        assertNull(status);
+    }
+
+    private static MapRecord<String, Object, Object> record(long id, String type, long at, Map<String, String> extra) {
+        Map<Object, Object> fields = new HashMap<>(extra);
+        fields.put("type", type);
+        fields.put("at", Long.toString(at));
+        return StreamRecords.<String, Object, Object>mapBacked(fields).withStreamKey(KEY).withId(RecordId.of(id, 0));
+    }
+}
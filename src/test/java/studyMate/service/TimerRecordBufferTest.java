@@ -0,0 +1,334 @@
+package studyMate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyMate.config.TimerProperties;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerRecordBuffer 테스트")
+class TimerRecordBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @TempDir
+    Path tempDir;
+
+    private TimerProperties timerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private TimerRecordBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 템플릿은 콜백을 바로 실행
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+
+        timerProperties = new TimerProperties();
+        TimerProperties.WriteBehind settings = timerProperties.getWriteBehind();
+        settings.setEnabled(true);
+        settings.setQueueCapacity(10);
+        settings.setBatchSize(100);
+        settings.setFlushIntervalMillis(60_000); // 테스트에서는 flush()를 직접 호출
+        settings.setWalPath(tempDir.resolve("timer.wal").toString());
+        settings.setWalFsync(false);
+        settings.setDeadLetterPath(tempDir.resolve("timer.dead").toString());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 큐에 넣지 않고 false 반환")
+    void offer_Disabled_ReturnsFalse() throws Exception {
+        // Given
+        timerProperties.getWriteBehind().setEnabled(false);
+        buffer = newBuffer();
+
+        // When & Then
+        assertFalse(buffer.offer(record("user1", 1L, 1500)));
+        assertEquals(0, walBytes());
+    }
+
+    @Test
+    @DisplayName("flush 시 기록을 한 번에 배치 INSERT하고 목표별 진행도를 합쳐 반영")
+    void flush_BatchInsertsAndAggregatesGoalProgress() throws Exception {
+        // Given
+        buffer = newBuffer();
+        buffer.offer(record("user1", 1L, 1500));
+        buffer.offer(record("user1", 1L, 1530));
+        buffer.offer(record("user2", null, 600));
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq(TimerRecordBuffer.INSERT_SQL),
+                argThat((Collection<PendingTimerRecord> batch) -> batch.size() == 3), eq(3), any());
+        verify(jdbcTemplate).batchUpdate(eq(TimerRecordBuffer.GOAL_PROGRESS_SQL),
+                argThat((Collection<?> updates) -> updates.size() == 1), eq(1), any());
+        assertEquals(0, buffer.getQueuedCount());
+        assertEquals(3.0, meterRegistry.get("timer.writebehind.records").counter().count());
+        assertEquals(3, meterRegistry.get("timer.writebehind.lag").timer().count());
+        assertEquals(0, walBytes());
+        verify(eventPublisher, times(3)).publishEvent(any(TimerRecordChangedEvent.class));
+        verify(secondLevelCache).evict(StudyGoal.class, 1L);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 WAL을 유지하고 다음 flush에서 재시도")
+    void flush_Failure_RetriesOnNextFlush() throws Exception {
+        // Given
+        buffer = newBuffer();
+        buffer.offer(record("user1", null, 1500));
+        when(jdbcTemplate.batchUpdate(eq(TimerRecordBuffer.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .thenReturn(new int[][]{{1}});
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(1, buffer.getQueuedCount());
+        assertEquals(1.0, meterRegistry.get("timer.writebehind.failures").counter().count());
+        assertTrue(walBytes() > 0);
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(0, buffer.getQueuedCount());
+        assertEquals(0, walBytes());
+    }
+
+    @Test
+    @DisplayName("같은 배치가 연속으로 실패하면 한 건씩 저장하고 데이터 오류 기록만 dead-letter로 옮김")
+    void flush_PoisonRecord_SplitsBatchAndDeadLetters() throws Exception {
+        // Given
+        timerProperties.getWriteBehind().setMaxBatchAttempts(2);
+        buffer = newBuffer();
+        PendingTimerRecord poison = record("user2", null, 600);
+        buffer.offer(record("user1", null, 1500));
+        buffer.offer(poison);
+        buffer.offer(record("user3", null, 900));
+        when(jdbcTemplate.batchUpdate(eq(TimerRecordBuffer.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<PendingTimerRecord> batch = invocation.getArgument(1);
+                    if (batch.contains(poison)) {
+                        throw new DataIntegrityViolationException("Data too long for column 'mode'");
+                    }
+                    return new int[][]{{1}};
+                });
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(3, buffer.getQueuedCount());
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(0, buffer.getQueuedCount());
+        verify(eventPublisher, times(2)).publishEvent(any(TimerRecordChangedEvent.class));
+        assertEquals(1.0, meterRegistry.get("timer.writebehind.dead.letters").counter().count());
+        assertEquals(List.of(TimerRecordWal.encode(poison)),
+                Files.readAllLines(tempDir.resolve("timer.dead"), StandardCharsets.UTF_8));
+        assertEquals(0, walBytes());
+    }
+
+    @Test
+    @DisplayName("한 건씩 저장하다 DB 장애로 실패하면 dead-letter로 옮기지 않고 남은 기록을 재시도")
+    void flush_SplitWriteOutage_KeepsRemainingRecords() throws Exception {
+        // Given
+        timerProperties.getWriteBehind().setMaxBatchAttempts(1);
+        buffer = newBuffer();
+        buffer.offer(record("user1", null, 1500));
+        buffer.offer(record("user2", null, 600));
+        when(jdbcTemplate.batchUpdate(eq(TimerRecordBuffer.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(2, buffer.getQueuedCount());
+        assertEquals(0.0, meterRegistry.get("timer.writebehind.dead.letters").counter().count());
+        assertFalse(Files.exists(tempDir.resolve("timer.dead")));
+        assertTrue(walBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 false 반환 후 즉시 저장으로 대체")
+    void offer_QueueFull_ReturnsFalse() {
+        // Given
+        timerProperties.getWriteBehind().setQueueCapacity(1);
+        buffer = newBuffer();
+        assertTrue(buffer.offer(record("user1", null, 1500)));
+
+        // When & Then
+        assertFalse(buffer.offer(record("user1", null, 1500)));
+        assertEquals(1.0, meterRegistry.get("timer.writebehind.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("기동 시 WAL에 남은 기록을 복구해 저장")
+    void constructor_RecoversRecordsFromWal() throws Exception {
+        // Given
+        Path walPath = tempDir.resolve("timer.wal");
+        Files.writeString(walPath, TimerRecordWal.encode(record("user1", 1L, 1500)) + "\n"
+                + "깨진\t줄\n", StandardCharsets.UTF_8);
+
+        // When
+        buffer = newBuffer();
+        buffer.flush();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq(TimerRecordBuffer.INSERT_SQL),
+                argThat((Collection<PendingTimerRecord> batch) -> batch.size() == 1
+                        && "user1".equals(List.copyOf(batch).get(0).getUserId())), eq(1), any());
+        assertFalse(Files.exists(walPath));
+        assertEquals(0, walBytes());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 기록을 재생하면 INSERT IGNORE로 건너뛰고 목표 진행도도 반영하지 않음")
+    void flush_DuplicateReplay_SkipsGoalProgress() throws Exception {
+        // Given
+        Path walPath = tempDir.resolve("timer.wal");
+        Files.writeString(walPath, TimerRecordWal.encode(record("user1", 1L, 1500)) + "\n", StandardCharsets.UTF_8);
+        when(jdbcTemplate.batchUpdate(eq(TimerRecordBuffer.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{0}});
+
+        // When
+        buffer = newBuffer();
+        buffer.flush();
+
+        // Then
+        verify(jdbcTemplate, never()).batchUpdate(eq(TimerRecordBuffer.GOAL_PROGRESS_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(eventPublisher, never()).publishEvent(any(TimerRecordChangedEvent.class));
+        verify(secondLevelCache, never()).evict(any(), any());
+        assertFalse(Files.exists(walPath));
+        assertEquals(0, walBytes());
+    }
+
+    @Test
+    @DisplayName("시작 시각이 없는 기록은 종료 시각, 그마저 없으면 큐 진입 시각을 start_time(파티션 키)으로 사용")
+    void partitionTime_FallsBackToEndTimeThenEnqueuedAt() {
+        // Given
+        PendingTimerRecord withStart = record("user1", null, 1500);
+        PendingTimerRecord withoutStart = PendingTimerRecord.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .userId("user1")
+                .endTime(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+        long enqueuedAt = System.currentTimeMillis();
+        PendingTimerRecord withoutTimes = PendingTimerRecord.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .userId("user1")
+                .enqueuedAt(enqueuedAt)
+                .build();
+
+        // When & Then
+        assertEquals(withStart.getStartTime(), withStart.getPartitionTime());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 10, 0), withoutStart.getPartitionTime());
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(enqueuedAt), ZoneId.systemDefault()),
+                withoutTimes.getPartitionTime());
+    }
+
+    // 모든 WAL 세그먼트 파일 크기 합
+    private long walBytes() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            long total = 0;
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith("timer.wal")).toList()) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+
+    private TimerRecordBuffer newBuffer() {
+        return new TimerRecordBuffer(timerProperties, jdbcTemplate, transactionTemplate, meterRegistry, eventPublisher,
+                entityManagerFactory);
+    }
+
+    private static PendingTimerRecord record(String userId, Long goalId, int studySeconds) {
+        LocalDateTime end = LocalDateTime.of(2025, 1, 1, 10, 0);
+        return PendingTimerRecord.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .userId(userId)
+                .studyGoalId(goalId)
+                .studySeconds(studySeconds)
+                .restSeconds(300)
+                .startTime(end.minusSeconds(studySeconds + 300L))
+                .endTime(end)
+                .mode("25/5")
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+    }
+}
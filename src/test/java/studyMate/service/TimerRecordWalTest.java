@@ -0,0 +1,107 @@
+package studyMate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import studyMate.entity.TimeOrderedIdGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimerRecordWal 테스트")
+class TimerRecordWalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록이 계속 들어와도 커밋이 끝난 세그먼트는 바로 지움")
+    void committed_SteadyTraffic_DeletesCommittedSegments() throws Exception {
+        // Given
+        Path path = tempDir.resolve("timer.wal");
+        PendingTimerRecord first = record();
+        PendingTimerRecord second = record();
+        PendingTimerRecord third = record();
+        PendingTimerRecord fourth = record();
+        PendingTimerRecord fifth = record();
+
+        try (TimerRecordWal wal = new TimerRecordWal(path, false, 2)) {
+            wal.append(first);
+            wal.append(second);
+            wal.append(third);   // 2번 세그먼트로 넘어감
+
+            // When
+            wal.committed(List.of(first, second));
+
+            // Then: 커밋되지 않은 기록이 남아 있어도 1번 세그먼트는 지워짐
+            assertFalse(Files.exists(wal.segmentPath(1)));
+            assertTrue(Files.exists(wal.segmentPath(2)));
+            assertEquals(1, wal.getPending());
+
+            // When
+            wal.append(fourth);
+            wal.append(fifth);   // 3번 세그먼트로 넘어감
+            wal.committed(List.of(third));
+
+            // Then: 같은 세그먼트의 fourth가 아직 커밋되지 않음
+            assertTrue(Files.exists(wal.segmentPath(2)));
+
+            // When
+            wal.committed(List.of(fourth));
+
+            // Then
+            assertFalse(Files.exists(wal.segmentPath(2)));
+            assertEquals(1, wal.getPending());
+        }
+
+        // 재기동하면 커밋되지 않은 기록만 다시 읽음
+        try (TimerRecordWal restarted = new TimerRecordWal(path, false, 2)) {
+            List<PendingTimerRecord> recovered = restarted.recover();
+            assertEquals(List.of(fifth.getId()), recovered.stream().map(PendingTimerRecord::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 이전 형식의 단일 WAL 파일도 복구하고 커밋 후 지움")
+    void recover_LegacySingleFile() throws Exception {
+        // Given
+        Path path = tempDir.resolve("timer.wal");
+        PendingTimerRecord legacy = record();
+        Files.writeString(path, TimerRecordWal.encode(legacy) + "\n"
+                + TimerRecordWal.encode(legacy) + "\n"
+                + "깨진\t줄\n", StandardCharsets.UTF_8);
+
+        try (TimerRecordWal wal = new TimerRecordWal(path, false, 2)) {
+            // When
+            List<PendingTimerRecord> recovered = wal.recover();
+
+            // Then: 같은 ID는 한 번만
+            assertEquals(1, recovered.size());
+            assertEquals(legacy.getId(), recovered.get(0).getId());
+
+            // When
+            wal.committed(recovered);
+
+            // Then
+            assertFalse(Files.exists(path));
+            assertEquals(0, wal.getPending());
+        }
+    }
+
+    private static PendingTimerRecord record() {
+        return PendingTimerRecord.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .userId("user1")
+                .studySeconds(1500)
+                .startTime(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .endTime(LocalDateTime.of(2025, 1, 1, 9, 25))
+                .mode("25/5")
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -1,28 +1,47 @@
 package studyMate.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import studyMate.config.TimerProperties;
 import studyMate.dto.pomodoro.TimerReqDto;
 import studyMate.dto.pomodoro.TimerResDto;
 import studyMate.entity.StudyGoal;
 import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
+import studyMate.entity.TimerState;
+import studyMate.entity.TimerType;
 import studyMate.entity.User;
 import studyMate.exception.StudyGoalNotFoundException;
 import studyMate.repository.StudyGoalRepository;
+import studyMate.repository.TimerAiFeedbackRepository;
 import studyMate.repository.TimerRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +57,33 @@ class TimerServiceTest {
     @Mock
     private StudyGoalService studyGoalService;
 
+    @Mock
+    private TimerEventFanout timerEventFanout;
+
+    @Mock
+    private TimerEventLog timerEventLog;
+
+    @Mock
+    private TimerRecordBuffer timerRecordBuffer;
+
+    @Spy
+    private TimerProperties timerProperties = new TimerProperties();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StudyHistoryService studyHistoryService;
+
+    @Mock
+    private TimerAiFeedbackRepository timerAiFeedbackRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TimerService timerService;
 
@@ -47,6 +93,14 @@ class TimerServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 이벤트 로그는 순번만 채워 그대로 돌려준다
+        lenient().when(timerEventLog.append(anyString(), any(TimerEvent.class), anyLong()))
+                .thenAnswer(invocation -> {
+                    TimerEvent event = invocation.getArgument(1);
+                    long lastSequence = invocation.getArgument(2);
+                    return event.toBuilder().sequence(lastSequence + 1).build();
+                });
+
         user = User.builder()
                 .id("user1")
                 .email("test@example.com")
@@ -86,8 +140,8 @@ class TimerServiceTest {
 
         // Then
         assertTrue(res.isSuccess());
-        assertEquals("STARTED", res.getStatus());
-        assertEquals("STUDY", res.getTimerType());
+        assertEquals(TimerState.STARTED, res.getStatus());
+        assertEquals(TimerType.STUDY, res.getTimerType());
         assertEquals("tester", res.getUserNickname());
         assertTrue(res.getRemainingTime() <= 25 * 60);
     }
@@ -106,10 +160,147 @@ class TimerServiceTest {
 
         // Then
         assertTrue(res.isSuccess());
-        assertEquals("PAUSED", res.getStatus());
+        assertEquals(TimerState.PAUSED, res.getStatus());
         assertTrue(res.getRemainingTime() >= 0);
     }
 
+    @Test
+    @DisplayName("일시정지한 타이머 재개 성공")
+    void resumeTimer_Success() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+        TimerResDto paused = timerService.pauseTimer(user);
+
+        // When
+        TimerResDto res = timerService.resumeTimer(user);
+
+        // Then
+        assertTrue(res.isSuccess());
+        assertEquals(TimerState.STARTED, res.getStatus());
+        assertEquals("타이머가 다시 시작되었습니다.", res.getMessage());
+        assertTrue(res.getRemainingTime() <= paused.getRemainingTime());
+        assertEquals(paused.getSequence() + 1, res.getSequence());
+    }
+
+    @Test
+    @DisplayName("일시정지하지 않은 타이머 재개 시 실패")
+    void resumeTimer_NotPaused_ReturnsError() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+
+        // When
+        TimerResDto res = timerService.resumeTimer(user);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals("일시정지된 타이머가 없습니다.", res.getMessage());
+        assertEquals(TimerState.STARTED, res.getStatus());
+        verify(timerEventLog, never()).append(anyString(), argThat(event -> event.getType() == TimerEventType.RESUME), anyLong());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 타이머 종류로 시작 시 실패")
+    void startTimer_UnknownTimerType_ReturnsError() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        dto.setTimerType("NAP");
+
+        // When
+        TimerResDto res = timerService.startTimer(user, dto);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals("알 수 없는 타이머 종류입니다: NAP", res.getMessage());
+        verify(timerEventLog, never()).append(anyString(), any(TimerEvent.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 일시정지된 타이머를 다시 일시정지하면 거절하고 이벤트를 기록하지 않음")
+    void pauseTimer_AlreadyPaused_Rejected() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+        TimerResDto paused = timerService.pauseTimer(user);
+
+        // When
+        TimerResDto res = timerService.pauseTimer(user);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals("이미 일시정지된 타이머입니다.", res.getMessage());
+        assertEquals(TimerState.PAUSED, res.getStatus());
+        assertEquals(paused.getSequence(), res.getSequence());
+        verify(timerEventLog, times(1)).append(anyString(), argThat(event -> event.getType() == TimerEventType.PAUSE), anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 기기에서 동시에 일시정지해도 한 번만 적용")
+    void pauseTimer_Concurrent_AppliedOnce() throws Exception {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // When
+        List<Future<TimerResDto>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                ready.await();
+                return timerService.pauseTimer(user);
+            }));
+        }
+        ready.countDown();
+        int succeeded = 0;
+        for (Future<TimerResDto> result : results) {
+            if (result.get(5, TimeUnit.SECONDS).isSuccess()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, succeeded);
+        verify(timerEventLog, times(1)).append(anyString(), argThat(event -> event.getType() == TimerEventType.PAUSE), anyLong());
+        assertEquals(TimerState.PAUSED, timerService.syncTimer(user, 0).getStatus());
+    }
+
+    @Test
+    @DisplayName("진행 중인 타이머 수와 명령 처리 결과를 지표로 기록")
+    void timerCommands_RecordMetrics() {
+        // Given
+        timerService.registerMetrics();
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+
+        // When
+        timerService.startTimer(user, dto);
+        timerService.pauseTimer(user);
+        timerService.pauseTimer(user);
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("timer.active").tag("state", "STARTED").gauge().value());
+        assertEquals(1.0, meterRegistry.get("timer.active").tag("state", "PAUSED").gauge().value());
+        assertEquals(1.0, meterRegistry.get("timer.commands")
+                .tags("command", "PAUSE", "result", "accepted").counter().count());
+        assertEquals(1.0, meterRegistry.get("timer.commands")
+                .tags("command", "PAUSE", "result", "rejected").counter().count());
+    }
+
     @Test
     @DisplayName("실행 중인 타이머 없이 일시정지 시 실패")
     void pauseTimer_NoRunningTimer_ReturnsError() {
@@ -119,7 +310,7 @@ class TimerServiceTest {
         // Then
         assertFalse(res.isSuccess());
         assertEquals("실행 중인 타이머가 없습니다.", res.getMessage());
-        assertEquals("STOPPED", res.getStatus());
+        assertEquals(TimerState.STOPPED, res.getStatus());
     }
 
     @Test
@@ -137,6 +328,104 @@ class TimerServiceTest {
         // Then
         assertTrue(res.isSuccess());
         assertEquals("타이머가 중지되었습니다.", res.getMessage());
+        // 최소 기록 시간보다 짧은 세션은 저장하지 않음
+        assertNull(res.getTimerId());
+        verify(timerRepository, never()).save(any(Timer.class));
+    }
+
+    @Test
+    @DisplayName("타이머 중지 시 서버 측정 시간으로 기록 저장 및 목표 진행도 반영")
+    void stopTimer_PersistsServerMeasuredRecord() {
+        // Given
+        long startedAt = TimerClock.currentTimeMillis() - 30 * 60_000;
+        TimerStatus rebuilt = TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START)
+                .sequence(3)
+                .at(startedAt)
+                .timerType(TimerType.STUDY)
+                .studyMinutes(50)
+                .breakMinutes(10)
+                .studyGoalId(1L)
+                .build());
+        when(timerEventLog.rebuild("user1")).thenReturn(rebuilt);
+        when(studyGoalRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(studyGoal));
+        when(timerRepository.save(any(Timer.class))).thenAnswer(invocation -> {
+            Timer saved = invocation.getArgument(0);
+            saved.setId(42L);
+            return saved;
+        });
+
+        // When
+        TimerResDto res = timerService.stopTimer(user);
+
+        // Then
+        assertTrue(res.isSuccess());
+        assertEquals(42L, res.getTimerId());
+        verify(studyGoalService).updateProgress(1L, 30);
+        verify(timerRepository).save(argThat(saved -> saved.getStudyTime() >= 30 * 60
+                && "50/10".equals(saved.getMode())
+                && saved.getStudyGoal() == studyGoal
+                && saved.getUser() == user));
+    }
+
+    @Test
+    @DisplayName("중지 기록 저장이 실패하면 별도 트랜잭션만 롤백하고 타이머 중지는 성공")
+    void stopTimer_RecordSaveFails_RollsBackOnlyRecordTransaction() {
+        // Given
+        TimerStatus rebuilt = TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START)
+                .sequence(3)
+                .at(TimerClock.currentTimeMillis() - 30 * 60_000)
+                .timerType(TimerType.STUDY)
+                .studyMinutes(25)
+                .breakMinutes(5)
+                .build());
+        when(timerEventLog.rebuild("user1")).thenReturn(rebuilt);
+        when(timerRepository.save(any(Timer.class))).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // When
+        TimerResDto res = timerService.stopTimer(user);
+
+        // Then
+        assertTrue(res.isSuccess());
+        assertEquals("타이머가 중지되었습니다.", res.getMessage());
+        assertNull(res.getTimerId());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(timerEventLog).append(eq("user1"), argThat(event -> event.getType() == TimerEventType.STOP), eq(3L));
+    }
+
+    @Test
+    @DisplayName("write-behind 활성화 시 미리 정한 ID로 중지 기록을 버퍼에 넣고 즉시 저장하지 않음")
+    void stopTimer_WriteBehind_EnqueuesRecord() {
+        // Given
+        TimerStatus rebuilt = TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START)
+                .sequence(3)
+                .at(TimerClock.currentTimeMillis() - 30 * 60_000)
+                .timerType(TimerType.STUDY)
+                .studyMinutes(25)
+                .breakMinutes(5)
+                .studyGoalId(1L)
+                .build());
+        when(timerEventLog.rebuild("user1")).thenReturn(rebuilt);
+        when(timerRecordBuffer.offer(any(PendingTimerRecord.class))).thenReturn(true);
+
+        // When
+        TimerResDto res = timerService.stopTimer(user);
+
+        // Then
+        assertTrue(res.isSuccess());
+        assertNotNull(res.getTimerId());
+        verify(timerRecordBuffer).offer(argThat(record -> record.getId() == res.getTimerId()
+                && "user1".equals(record.getUserId())
+                && record.getStudyGoalId() == 1L
+                && record.getStudySeconds() >= 30 * 60
+                && "25/5".equals(record.getMode())));
+        verify(timerRepository, never()).save(any(Timer.class));
+        verify(studyGoalService, never()).updateProgress(anyLong(), anyInt());
     }
 
     @Test
@@ -178,6 +467,114 @@ class TimerServiceTest {
         assertEquals("실행 중인 타이머가 없습니다.", res.getMessage());
     }
 
+    @Test
+    @DisplayName("서버 재시작 후 이벤트 로그에서 복원한 상태로 타이머 중지")
+    void stopTimer_AfterRestart_RebuildsFromEventLog() {
+        // Given
+        TimerStatus rebuilt = TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START)
+                .sequence(7)
+                .at(TimerClock.currentTimeMillis() - 60_000)
+                .timerType(TimerType.STUDY)
+                .studyMinutes(25)
+                .breakMinutes(5)
+                .build());
+        when(timerEventLog.rebuild("user1")).thenReturn(rebuilt);
+
+        // When
+        TimerResDto res = timerService.stopTimer(user);
+
+        // Then
+        assertTrue(res.isSuccess());
+        assertEquals(8, res.getSequence());
+        assertEquals(1, rebuilt.getActualStudyMinutes());
+        verify(timerRepository).save(any(Timer.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 이벤트를 기록했으면 로그에서 복원한 상태로 다시 검증")
+    void pauseTimer_ConflictWithOtherNode_RevalidatesAgainstLog() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+        long startedAt = TimerClock.currentTimeMillis() - 60_000;
+        TimerStatus pausedElsewhere = TimerStatus.apply(
+                TimerStatus.apply(null, TimerEvent.builder()
+                        .type(TimerEventType.START)
+                        .sequence(1)
+                        .at(startedAt)
+                        .timerType(TimerType.STUDY)
+                        .studyMinutes(25)
+                        .breakMinutes(5)
+                        .build()),
+                TimerEvent.builder().type(TimerEventType.PAUSE).sequence(2).at(startedAt + 30_000).build());
+        when(timerEventLog.append(eq("user1"), argThat(event -> event.getType() == TimerEventType.PAUSE), eq(1L)))
+                .thenReturn(null);
+        when(timerEventLog.rebuild("user1")).thenReturn(pausedElsewhere);
+
+        // When
+        TimerResDto res = timerService.pauseTimer(user);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals("이미 일시정지된 타이머입니다.", res.getMessage());
+        assertEquals(TimerState.PAUSED, res.getStatus());
+        verify(timerEventLog, times(1)).append(eq("user1"), argThat(event -> event.getType() == TimerEventType.PAUSE), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 타이머 이벤트를 받으면 메모리 상태를 비우고 다음 조회 때 로그에서 복원")
+    void onRemoteTimerEvent_EvictsLocalStatus() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+
+        // When
+        timerService.onRemoteTimerEvent(new RemoteTimerEvent("user1"));
+        TimerResDto res = timerService.syncTimer(user, 0);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals(TimerStatus.NO_ACTIVE_TIMER, res.getMessage());
+        verify(timerEventLog, times(2)).rebuild("user1");
+    }
+
+    @Test
+    @DisplayName("재연결 동기화 시 최신 상태와 순번 반환")
+    void syncTimer_ReturnsLatestSnapshot() {
+        // Given
+        TimerReqDto dto = new TimerReqDto();
+        dto.setStudyTimes(25);
+        dto.setBreakTimes(5);
+        timerService.startTimer(user, dto);
+        timerService.pauseTimer(user);
+
+        // When
+        TimerResDto stale = timerService.syncTimer(user, 1);
+        TimerResDto upToDate = timerService.syncTimer(user, 2);
+
+        // Then
+        assertEquals(TimerState.PAUSED, stale.getStatus());
+        assertEquals(2, stale.getSequence());
+        assertEquals("타이머 상태를 복원했습니다.", stale.getMessage());
+        assertEquals("타이머 상태가 최신입니다.", upToDate.getMessage());
+    }
+
+    @Test
+    @DisplayName("진행 중인 타이머가 없으면 동기화 실패")
+    void syncTimer_NoRunningTimer_ReturnsError() {
+        // When
+        TimerResDto res = timerService.syncTimer(user, 0);
+
+        // Then
+        assertFalse(res.isSuccess());
+        assertEquals("실행 중인 타이머가 없습니다.", res.getMessage());
+    }
+
     @Test
     @DisplayName("타이머 기록 저장 성공 (학습목표 없음)")
     void saveTimerRecord_WithoutStudyGoal_Success() {
@@ -193,6 +590,41 @@ class TimerServiceTest {
         assertNotNull(result);
         verify(timerRepository, times(1)).save(any(Timer.class));
         verify(studyGoalService, never()).updateProgress(anyLong(), anyInt());
+        verify(timerAiFeedbackRepository).save(argThat(aiText ->
+                "학습 요약".equals(aiText.getSummary()) && aiText.getTimer() == timer));
+        assertEquals("학습 요약", result.getAiText().getSummary());
+    }
+
+    @Test
+    @DisplayName("모드가 STUDY/BREAK와 정확히 일치하지 않으면 설정된 비율로 분배")
+    void saveTimerRecord_ModeMatchedExactly() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime endTime = startTime.plusMinutes(30);
+        when(timerRepository.save(any(Timer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Timer exact = timerService.saveTimerRecord(user, 25, 5, startTime, endTime, "BREAK", null);
+        Timer lowerCase = timerService.saveTimerRecord(user, 25, 5, startTime, endTime, "break", null);
+
+        // Then
+        assertEquals(0, exact.getStudyTime());
+        assertEquals(1800, exact.getRestTime());
+        assertEquals(25 * 60, lowerCase.getStudyTime());
+        assertEquals(5 * 60, lowerCase.getRestTime());
+    }
+
+    @Test
+    @DisplayName("AI 텍스트 없이 저장하면 timer_ai_feedback에 행을 만들지 않음")
+    void saveTimerRecord_WithoutSummary_SkipsAiText() {
+        // Given
+        when(timerRepository.save(any(Timer.class))).thenReturn(timer);
+
+        // When
+        timerService.saveTimerRecord(user, 30, 5, null, null, "STUDY", null);
+
+        // Then
+        verify(timerAiFeedbackRepository, never()).save(any(TimerAiFeedback.class));
     }
 
     @Test
@@ -212,6 +644,8 @@ class TimerServiceTest {
         verify(studyGoalRepository, times(1)).findByIdAndUser(1L, user);
         verify(studyGoalService, times(1)).updateProgress(1L, 30);
         verify(timerRepository, times(1)).save(any(Timer.class));
+        verify(eventPublisher).publishEvent(argThat((TimerRecordChangedEvent event) ->
+                event.getChange() == TimerRecordChangedEvent.Change.SAVED && event.getStudySeconds() == 1800));
     }
 
     @Test
@@ -243,6 +677,9 @@ class TimerServiceTest {
         assertTrue(result);
         verify(timerRepository, times(1)).findById(1L);
         verify(timerRepository, times(1)).delete(timer);
+        verify(timerAiFeedbackRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(eventPublisher).publishEvent(argThat((TimerRecordChangedEvent event) ->
+                event.getChange() == TimerRecordChangedEvent.Change.DELETED && "user1".equals(event.getUserId())));
     }
 
     @Test
@@ -258,6 +695,7 @@ class TimerServiceTest {
         // Then
         assertFalse(result);
         verify(timerRepository, never()).delete(any(Timer.class));
+        verify(eventPublisher, never()).publishEvent(any(TimerRecordChangedEvent.class));
     }
 
     @Test
@@ -315,32 +753,32 @@ class TimerServiceTest {
     }
 
     @Test
-    @DisplayName("총 학습시간 조회")
+    @DisplayName("총 학습시간 조회 (보관된 달 포함)")
     void getTotalStudyTime_Success() {
         // Given
-        // 1800초 = 30분이므로, sumStudyTimeByUser는 1800을 반환하고, 이를 60으로 나누면 30분
-        when(timerRepository.sumStudyTimeByUser(user)).thenReturn(1800);
+        // 최근 기록 1800초 + 보관된 달 1800초 = 3600초 = 60분
+        when(studyHistoryService.totals(user)).thenReturn(new StudyHistoryService.Totals(3600, 2, 1800));
 
         // When
         int totalTime = timerService.getTotalStudyTime(user);
 
         // Then
-        assertEquals(30, totalTime); // 1800초 / 60 = 30분
-        verify(timerRepository, times(1)).sumStudyTimeByUser(user);
+        assertEquals(60, totalTime);
+        verify(studyHistoryService, times(1)).totals(user);
     }
 
     @Test
     @DisplayName("총 세션 수 조회")
     void getTotalSessionCount_Success() {
         // Given
-        when(timerRepository.countByUser(user)).thenReturn(5);
+        when(studyHistoryService.totals(user)).thenReturn(new StudyHistoryService.Totals(9000, 5, 1800));
 
         // When
         int count = timerService.getTotalSessionCount(user);
 
         // Then
         assertEquals(5, count);
-        verify(timerRepository, times(1)).countByUser(user);
+        verify(studyHistoryService, times(1)).totals(user);
     }
 
     @Test
@@ -348,54 +786,51 @@ class TimerServiceTest {
     void getAverageSessionTime_Success() {
         // Given
         // 1800초(30분)와 1200초(20분)의 평균 = 1500초, 이를 60으로 나누면 25분
-        when(timerRepository.avgStudyTimeByUser(user)).thenReturn(1500.0);
+        when(studyHistoryService.totals(user)).thenReturn(new StudyHistoryService.Totals(3000, 2, 1800));
 
         // When
         double average = timerService.getAverageSessionTime(user);
 
         // Then
         assertEquals(25.0, average, 0.01); // 1500초 / 60 = 25분 (소수점 오차 허용)
-        verify(timerRepository, times(1)).avgStudyTimeByUser(user);
+        verify(studyHistoryService, times(1)).totals(user);
     }
 
     @Test
     @DisplayName("기록이 없을 때 평균 세션 시간은 0")
     void getAverageSessionTime_NoRecords_ReturnsZero() {
         // Given
-        // avgStudyTimeByUser는 DB 집계 쿼리이므로 기록이 없으면 0.0을 반환
-        when(timerRepository.avgStudyTimeByUser(user)).thenReturn(0.0);
+        when(studyHistoryService.totals(user)).thenReturn(new StudyHistoryService.Totals(0, 0, 0));
 
         // When
         double average = timerService.getAverageSessionTime(user);
 
         // Then
         assertEquals(0.0, average);
-        verify(timerRepository, times(1)).avgStudyTimeByUser(user);
+        verify(studyHistoryService, times(1)).totals(user);
     }
 
     @Test
     @DisplayName("최장 세션 시간 조회")
     void getLongestSessionTime_Success() {
         // Given
-        // 3600초 = 60분이므로, maxStudyTimeByUser는 3600을 반환하고, 이를 60으로 나누면 60분
-        when(timerRepository.maxStudyTimeByUser(user)).thenReturn(3600);
+        // 3600초 = 60분
+        when(studyHistoryService.totals(user)).thenReturn(new StudyHistoryService.Totals(5400, 2, 3600));
 
         // When
         int longest = timerService.getLongestSessionTime(user);
 
         // Then
         assertEquals(60, longest); // 3600초 / 60 = 60분
-        verify(timerRepository, times(1)).maxStudyTimeByUser(user);
+        verify(studyHistoryService, times(1)).totals(user);
     }
 
     @Test
     @DisplayName("학습목표별 학습시간 조회")
     void getStudyTimeByGoal_Success() {
         // Given
-        timer.setStudyGoal(studyGoal);
-        List<Timer> goalTimers = List.of(timer);
         when(studyGoalRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(studyGoal));
-        when(timerRepository.findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal)).thenReturn(goalTimers);
+        when(studyHistoryService.goalTotals(user, studyGoal)).thenReturn(new StudyHistoryService.Totals(1800, 1, 1800));
 
         // When
         int studyTime = timerService.getStudyTimeByGoal(user, 1L);
@@ -403,7 +838,7 @@ class TimerServiceTest {
         // Then
         assertEquals(30, studyTime); // 1800초 / 60 = 30분
         verify(studyGoalRepository, times(1)).findByIdAndUser(1L, user);
-        verify(timerRepository, times(1)).findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal);
+        verify(studyHistoryService, times(1)).goalTotals(user, studyGoal);
     }
 
     @Test
@@ -411,7 +846,7 @@ class TimerServiceTest {
     void getSessionCountByGoal_Success() {
         // Given
         when(studyGoalRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(studyGoal));
-        when(timerRepository.countByUserAndStudyGoal(user, studyGoal)).thenReturn(3);
+        when(studyHistoryService.goalTotals(user, studyGoal)).thenReturn(new StudyHistoryService.Totals(5400, 3, 1800));
 
         // When
         int count = timerService.getSessionCountByGoal(user, 1L);
@@ -424,40 +859,41 @@ class TimerServiceTest {
     @DisplayName("월별 학습시간 조회")
     void getMonthStudyTime_Success() {
         // Given
-        List<Timer> monthTimers = List.of(timer);
-        when(timerRepository.findByUserAndStartTimeBetween(any(), any(), any()))
-                .thenReturn(monthTimers);
+        when(studyHistoryService.studySecondsInMonths(user, YearMonth.of(2024, 1), YearMonth.of(2024, 2)))
+                .thenReturn(1800L);
 
         // When
         int studyTime = timerService.getMonthStudyTime(user, 2024, 1);
 
         // Then
         assertEquals(30, studyTime);
-        verify(timerRepository, times(1)).findByUserAndStartTimeBetween(any(), any(), any());
+        verify(studyHistoryService, times(1)).studySecondsInMonths(user, YearMonth.of(2024, 1), YearMonth.of(2024, 2));
     }
 
     @Test
     @DisplayName("연도별 학습시간 조회")
     void getYearStudyTime_Success() {
         // Given
-        List<Timer> yearTimers = List.of(timer);
-        when(timerRepository.findByUserAndStartTimeBetween(any(), any(), any()))
-                .thenReturn(yearTimers);
+        when(studyHistoryService.studySecondsInMonths(user, YearMonth.of(2024, 1), YearMonth.of(2025, 1)))
+                .thenReturn(1800L);
 
         // When
         int studyTime = timerService.getYearStudyTime(user, 2024);
 
         // Then
         assertEquals(30, studyTime);
-        verify(timerRepository, times(1)).findByUserAndStartTimeBetween(any(), any(), any());
+        verify(studyHistoryService, times(1)).studySecondsInMonths(user, YearMonth.of(2024, 1), YearMonth.of(2025, 1));
     }
 
     @Test
-    @DisplayName("타이머 기록 조회")
+    @DisplayName("타이머 기록 조회는 보관 경계 이후 기록만")
     void getTimerHistory_Success() {
         // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
         List<Timer> timers = List.of(timer);
-        when(timerRepository.findByUserOrderByStartTimeDesc(user)).thenReturn(timers);
+        when(studyHistoryService.liveSince()).thenReturn(since);
+        when(timerRepository.findByUserAndStartTimeGreaterThanEqualOrderByStartTimeDesc(user, since))
+                .thenReturn(timers);
 
         // When
         List<Timer> result = timerService.getTimerHistory(user);
@@ -465,7 +901,7 @@ class TimerServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(timerRepository, times(1)).findByUserOrderByStartTimeDesc(user);
+        verify(timerRepository, times(1)).findByUserAndStartTimeGreaterThanEqualOrderByStartTimeDesc(user, since);
     }
 
     @Test
@@ -487,13 +923,35 @@ class TimerServiceTest {
         verify(timerRepository, times(1)).findByUserAndStartTimeBetween(user, startTime, endTime);
     }
 
+    @Test
+    @DisplayName("기록 조회 시 AI 텍스트는 timer_ai_feedback에서 한 번에 붙임")
+    void getTimerHistory_AttachesAiText() {
+        // Given
+        Timer other = Timer.builder().id(2L).user(user).studyTime(600).build();
+        TimerAiFeedback aiText = TimerAiFeedback.builder().timerId(2L).aiFeedback("피드백 내용").build();
+        when(studyHistoryService.liveSince()).thenReturn(StudyHistoryService.LIVE_EPOCH);
+        when(timerRepository.findByUserAndStartTimeGreaterThanEqualOrderByStartTimeDesc(user, StudyHistoryService.LIVE_EPOCH))
+                .thenReturn(List.of(timer, other));
+        when(timerAiFeedbackRepository.findAllById(any())).thenReturn(List.of(aiText));
+
+        // When
+        List<Timer> result = timerService.getTimerHistory(user);
+
+        // Then
+        assertNull(result.get(0).getAiText());
+        assertSame(aiText, result.get(1).getAiText());
+        verify(timerAiFeedbackRepository, times(1)).findAllById(any());
+    }
+
     @Test
     @DisplayName("학습목표별 타이머 기록 조회")
     void getTimerHistoryByStudyGoal_Success() {
         // Given
         List<Timer> timers = List.of(timer);
         when(studyGoalRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(studyGoal));
-        when(timerRepository.findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal)).thenReturn(timers);
+        when(studyHistoryService.liveSince()).thenReturn(StudyHistoryService.LIVE_EPOCH);
+        when(timerRepository.findByUserAndStudyGoalAndStartTimeGreaterThanEqualOrderByCreatedAtDesc(
+                user, studyGoal, StudyHistoryService.LIVE_EPOCH)).thenReturn(timers);
 
         // When
         List<Timer> result = timerService.getTimerHistoryByStudyGoal(user, 1L);
@@ -502,7 +960,8 @@ class TimerServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(studyGoalRepository, times(1)).findByIdAndUser(1L, user);
-        verify(timerRepository, times(1)).findByUserAndStudyGoalOrderByCreatedAtDesc(user, studyGoal);
+        verify(timerRepository, times(1)).findByUserAndStudyGoalAndStartTimeGreaterThanEqualOrderByCreatedAtDesc(
+                user, studyGoal, StudyHistoryService.LIVE_EPOCH);
     }
 
     @Test
@@ -0,0 +1,151 @@
+package studyMate.service;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import studyMate.entity.TimerType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimerStatus 경과 시간 속성 기반 테스트
+ * 임의의 일시정지/재개/전환 순서와 간격을 만들어, 단순 모델로 계산한 실행/일시정지 시간과 비교한다.
+ */
+@Label("TimerStatus 경과 시간 속성 테스트")
+class TimerStatusPropertiesTest {
+
+    private static final long START_AT = 1_760_000_000_000L;
+
+    @Property
+    @Label("학습 + 휴식 + 일시정지 시간은 세션 전체 경과 시간과 같음")
+    void activeAndPausedTimeAddUpToSessionLength(@ForAll("steps") List<Step> steps,
+                                                  @ForAll @LongRange(max = 3_600_000) long stopDelay) {
+        // Given
+        Model model = new Model();
+        TimerStatus status = start();
+
+        // When
+        long at = START_AT;
+        for (Step step : steps) {
+            at += step.delayMillis();
+            model.advance(step.delayMillis());
+            status = TimerStatus.apply(status, event(step.type(), at));
+            model.apply(step.type());
+        }
+        at += stopDelay;
+        model.advance(stopDelay);
+        status = TimerStatus.apply(status, event(TimerEventType.STOP, at));
+
+        // Then
+        assertEquals(at - START_AT, status.getStudyMillis() + status.getRestMillis() + status.getPausedMillis());
+        assertEquals(model.activeMillis, status.getStudyMillis() + status.getRestMillis());
+        assertEquals(model.pausedMillis, status.getPausedMillis());
+        assertEquals(model.pauseCount, status.getPauseCount());
+        assertFalse(status.isRunning());
+        assertFalse(status.isPaused());
+    }
+
+    @Property
+    @Label("일시정지 중에는 남은 시간이 줄지 않고, 재개 후에는 일시정지 직전 값에서 이어짐")
+    void pauseFreezesRemainingTime(@ForAll @IntRange(min = 1, max = 120) int studyMinutes,
+                                   @ForAll @LongRange(max = 7_200_000) long runMillis,
+                                   @ForAll @LongRange(max = 86_400_000) long pauseMillis,
+                                   @ForAll @LongRange(max = 7_200_000) long afterResumeMillis) {
+        // Given
+        TimerStatus status = TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START).at(START_AT).timerType(TimerType.STUDY)
+                .studyMinutes(studyMinutes).breakMinutes(5).build());
+        long pausedAt = START_AT + runMillis;
+        status = TimerStatus.apply(status, event(TimerEventType.PAUSE, pausedAt));
+        int remainingAtPause = status.calculateRemainingTime(pausedAt);
+
+        // When
+        long resumedAt = pausedAt + pauseMillis;
+        int remainingBeforeResume = status.calculateRemainingTime(resumedAt);
+        status = TimerStatus.apply(status, event(TimerEventType.RESUME, resumedAt));
+
+        // Then
+        assertEquals(remainingAtPause, remainingBeforeResume);
+        assertEquals(remainingAtPause, status.calculateRemainingTime(resumedAt));
+        int expected = (int) Math.max(0, studyMinutes * 60L - (runMillis + afterResumeMillis) / 1000);
+        assertEquals(expected, status.calculateRemainingTime(resumedAt + afterResumeMillis));
+        assertEquals(pauseMillis, status.getPausedMillis());
+    }
+
+    @Property
+    @Label("남은 시간은 항상 0 이상, 현재 단계 길이 이하")
+    void remainingTimeStaysWithinPhaseDuration(@ForAll("steps") List<Step> steps,
+                                               @ForAll @LongRange(max = 86_400_000) long probeDelay) {
+        // Given
+        TimerStatus status = start();
+        long at = START_AT;
+
+        // When & Then
+        for (Step step : steps) {
+            at += step.delayMillis();
+            status = TimerStatus.apply(status, event(step.type(), at));
+            int remaining = status.calculateRemainingTime(at + probeDelay);
+            assertTrue(remaining >= 0);
+            assertTrue(remaining <= status.getCurrentDuration());
+        }
+    }
+
+    @Provide
+    Arbitrary<List<Step>> steps() {
+        Arbitrary<Step> step = Combinators.combine(
+                        Arbitraries.of(TimerEventType.PAUSE, TimerEventType.RESUME, TimerEventType.SWITCH),
+                        Arbitraries.longs().between(0, 3_600_000))
+                .as(Step::new);
+        return step.list().ofMaxSize(40);
+    }
+
+    private static TimerStatus start() {
+        return TimerStatus.apply(null, TimerEvent.builder()
+                .type(TimerEventType.START).at(START_AT).timerType(TimerType.STUDY)
+                .studyMinutes(25).breakMinutes(5).build());
+    }
+
+    private static TimerEvent event(TimerEventType type, long at) {
+        return TimerEvent.builder().type(type).at(at).build();
+    }
+
+    record Step(TimerEventType type, long delayMillis) {
+    }
+
+    // 구간 길이만 합산하는 단순 모델
+    private static final class Model {
+        private boolean running = true;
+        private long activeMillis;
+        private long pausedMillis;
+        private int pauseCount;
+
+        void advance(long delay) {
+            if (running) {
+                activeMillis += delay;
+            } else {
+                pausedMillis += delay;
+            }
+        }
+
+        void apply(TimerEventType type) {
+            switch (type) {
+                case PAUSE -> {
+                    if (running) {
+                        running = false;
+                        pauseCount++;
+                    }
+                }
+                case RESUME, SWITCH -> running = true;
+                default -> { }
+            }
+        }
+    }
+}
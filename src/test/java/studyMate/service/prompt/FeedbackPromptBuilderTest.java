@@ -0,0 +1,212 @@
+package studyMate.service.prompt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studyMate.config.OpenAiProperties;
+import studyMate.dto.ai.AiFeedbackRequest;
+import studyMate.dto.timer.DailyStudyRollup;
+import studyMate.entity.GoalStatus;
+import studyMate.entity.StudyGoal;
+import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
+import studyMate.entity.User;
+import studyMate.repository.StudyGoalRepository;
+import studyMate.repository.TimerRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackPromptBuilder 테스트")
+class FeedbackPromptBuilderTest {
+
+    @Mock
+    private PromptTemplateRegistry promptTemplateRegistry;
+
+    @Mock
+    private TimerRepository timerRepository;
+
+    @Mock
+    private StudyGoalRepository studyGoalRepository;
+
+    private OpenAiProperties openAiProperties;
+    private FeedbackPromptBuilder feedbackPromptBuilder;
+
+    private PromptTemplate<FeedbackPromptField> template;
+    private User user;
+    private Timer timer;
+    private AiFeedbackRequest request;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/prompts/feedback-v2.txt")) {
+            assertNotNull(in);
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            template = PromptTemplate.compile("feedback", "v2", source, FeedbackPromptField.class);
+        }
+
+        openAiProperties = new OpenAiProperties();
+        feedbackPromptBuilder = new FeedbackPromptBuilder(
+                promptTemplateRegistry, timerRepository, studyGoalRepository, openAiProperties);
+
+        user = User.builder()
+                .id("user1")
+                .nickname("테스터")
+                .totalStudyTime(600)
+                .build();
+
+        timer = Timer.builder()
+                .id(1L)
+                .user(user)
+                .studyTime(1500)
+                .restTime(300)
+                .mode("25/5")
+                .aiText(TimerAiFeedback.builder().summary("학습 요약").build())
+                .build();
+
+        request = AiFeedbackRequest.builder().timerId(1L).build();
+
+        lenient().when(promptTemplateRegistry.feedbackTemplateFor("user1")).thenReturn(template);
+    }
+
+    @Test
+    @DisplayName("예산이 충분하면 진행 중인 목표와 최근 기록이 모두 포함된다")
+    void build_WithinBudget_IncludesHistory() {
+        // Given
+        when(studyGoalRepository.findByUserAndStatusOrderByCreatedAtDesc(user, GoalStatus.ACTIVE))
+                .thenReturn(List.of(goal("토익 900점", 1250)));
+        when(timerRepository.findDailyRollupsSince(eq(user), any(LocalDateTime.class)))
+                .thenReturn(rollups(3));
+
+        // When
+        String prompt = feedbackPromptBuilder.build(timer, request);
+
+        // Then
+        assertTrue(prompt.contains("- 토익 900점 (영어): 20시간 50분 / 목표 100시간"));
+        assertTrue(prompt.contains("50분, 2세션"));
+        assertFalse(prompt.contains("그 외"));
+        assertTrue(TokenEstimator.estimate(prompt) <= openAiProperties.getPrompt().getMaxTokens());
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 오래된 기록은 요약 한 줄로 대체된다")
+    void build_OverBudget_SummarizesOlderDays() {
+        // Given
+        when(studyGoalRepository.findByUserAndStatusOrderByCreatedAtDesc(user, GoalStatus.ACTIVE))
+                .thenReturn(List.of());
+        when(timerRepository.findDailyRollupsSince(eq(user), any(LocalDateTime.class)))
+                .thenReturn(rollups(14));
+        int fixedTokens = TokenEstimator.estimate(FeedbackPromptBuilder.render(template, timer, request));
+        openAiProperties.getPrompt().setMaxTokens(fixedTokens + 80);
+
+        // When
+        String prompt = feedbackPromptBuilder.build(timer, request);
+
+        // Then
+        assertTrue(prompt.contains("그 외"));
+        assertTrue(prompt.contains("진행 중인 학습 목표 없음"));
+        assertTrue(TokenEstimator.estimate(prompt) <= openAiProperties.getPrompt().getMaxTokens());
+    }
+
+    @Test
+    @DisplayName("긴 학습 요약은 설정된 토큰 수로 잘린다")
+    void build_LongSummary_IsTruncated() {
+        // Given
+        openAiProperties.getPrompt().setMaxSummaryTokens(10);
+        request.setStudySummary("가".repeat(500));
+        when(studyGoalRepository.findByUserAndStatusOrderByCreatedAtDesc(user, GoalStatus.ACTIVE))
+                .thenReturn(List.of());
+        when(timerRepository.findDailyRollupsSince(eq(user), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // When
+        String prompt = feedbackPromptBuilder.build(timer, request);
+
+        // Then
+        assertTrue(prompt.contains("학습 요약: " + "가".repeat(9) + "…"));
+        assertFalse(prompt.contains("가".repeat(10)));
+    }
+
+    @Test
+    @DisplayName("요약 외 자유 입력 항목도 항목별 토큰 수로 잘려 전체 예산을 넘지 않는다")
+    void build_LongFreeTextField_IsTruncated() {
+        // Given
+        openAiProperties.getPrompt().setMaxFieldTokens(5);
+        request.setStudyTopic("나".repeat(3000));
+        request.setMood("good ".repeat(1000));
+        when(studyGoalRepository.findByUserAndStatusOrderByCreatedAtDesc(user, GoalStatus.ACTIVE))
+                .thenReturn(List.of());
+        when(timerRepository.findDailyRollupsSince(eq(user), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // When
+        String prompt = feedbackPromptBuilder.build(timer, request);
+
+        // Then
+        assertTrue(prompt.contains("학습 주제: " + "나".repeat(4) + "…"));
+        assertFalse(prompt.contains("나".repeat(5)));
+        assertTrue(prompt.contains("학습 기분: good good good good…"));
+        assertTrue(TokenEstimator.estimate(prompt) <= openAiProperties.getPrompt().getMaxTokens());
+    }
+
+    @Test
+    @DisplayName("토큰 추정: 영문은 4글자당 1토큰, 한글은 글자당 1토큰")
+    void tokenEstimator_Estimate() {
+        assertEquals(0, TokenEstimator.estimate(""));
+        assertEquals(2, TokenEstimator.estimate("abcdefgh"));
+        assertEquals(2, TokenEstimator.estimate("abc de"));
+        assertEquals(4, TokenEstimator.estimate("학습 시간"));
+        assertEquals(3, TokenEstimator.estimate("25분,"));
+    }
+
+    private StudyGoal goal(String title, int currentMinutes) {
+        return StudyGoal.builder()
+                .id(1L)
+                .title(title)
+                .subject("영어")
+                .status(GoalStatus.ACTIVE)
+                .targetHours(100)
+                .currentMinutes(currentMinutes)
+                .targetDate(LocalDate.now().plusMonths(2))
+                .user(user)
+                .build();
+    }
+
+    private List<DailyStudyRollup> rollups(int days) {
+        List<DailyStudyRollup> rollups = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate day = LocalDate.now().minusDays(i);
+            rollups.add(new DailyStudyRollup() {
+                @Override
+                public LocalDate getDay() {
+                    return day;
+                }
+
+                @Override
+                public Long getStudySeconds() {
+                    return 3000L;
+                }
+
+                @Override
+                public Long getSessions() {
+                    return 2L;
+                }
+            });
+        }
+        return rollups;
+    }
+}
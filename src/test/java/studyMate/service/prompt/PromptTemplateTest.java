@@ -0,0 +1,140 @@
+package studyMate.service.prompt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studyMate.dto.ai.AiFeedbackRequest;
+import studyMate.entity.Timer;
+import studyMate.entity.TimerAiFeedback;
+import studyMate.entity.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PromptTemplate 테스트")
+class PromptTemplateTest {
+
+    private PromptTemplate<FeedbackPromptField> template;
+    private Timer timer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/prompts/feedback-v1.txt")) {
+            assertNotNull(in);
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            template = PromptTemplate.compile("feedback", "v1", source, FeedbackPromptField.class);
+        }
+
+        User user = User.builder()
+                .id("user1")
+                .nickname("테스터")
+                .totalStudyTime(120)
+                .build();
+
+        timer = Timer.builder()
+                .id(1L)
+                .user(user)
+                .studyTime(1800)
+                .restTime(300)
+                .mode("25/5")
+                .aiText(TimerAiFeedback.builder().summary("JPA 연관관계 정리").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("v1 템플릿은 기존 String.format 프롬프트와 동일하게 렌더링된다")
+    void render_MatchesLegacyFormat() {
+        // Given
+        AiFeedbackRequest request = AiFeedbackRequest.builder()
+                .timerId(1L)
+                .studyTopic("스프링 부트")
+                .concentration("높음")
+                .build();
+
+        // When
+        String rendered = FeedbackPromptBuilder.render(template, timer, request);
+
+        // Then
+        String legacy = String.format("""
+                다음 학습 기록을 바탕으로 종합적인 피드백을 제공해주세요:
+                
+                === 기본 학습 정보 ===
+                학습 시간: %d분
+                휴식 시간: %d분
+                학습 모드: %s
+                학습 요약: %s
+                
+                === 상세 학습 정보 ===
+                학습 주제: %s
+                학습 목표: %s
+                학습 난이도: %s
+                집중도: %s
+                학습 기분: %s
+                방해 요소: %s
+                학습 방법: %s
+                학습 환경: %s
+                에너지 레벨: %s
+                스트레스 레벨: %s
+                
+                === 사용자 전체 학습 통계 ===
+                총 학습 시간: %d분
+                
+                === 분석 요청사항 ===
+                1. 학습 효율성 분석 (시간 대비 집중도, 환경 요인 등)
+                2. 개인적 요인 분석 (기분, 에너지, 스트레스가 학습에 미친 영향)
+                3. 환경적 요인 분석 (학습 환경, 방해 요소의 영향)
+                4. 학습 방법 분석 (사용한 방법의 적절성)
+                5. 목표 달성도 평가 (목표 대비 진행 상황)
+                6. 전체 학습 패턴 분석 (총 학습 시간 대비 이번 세션의 의미)
+                7. 개선 가능성 평가 (현재 상황에서 개선할 수 있는 부분)
+                
+                다음 형식으로 JSON 형태로 응답해주세요:
+                {
+                    "feedback": "전반적인 학습에 대한 종합적인 피드백 (위의 분석 요청사항들을 포함)",
+                    "suggestions": "구체적인 개선 방안 제안 (환경, 방법, 습관 등 다양한 측면에서)",
+                    "motivation": "개인적 상황을 고려한 맞춤형 동기부여 메시지"
+                }
+                """,
+                30, 5, "25/5", "JPA 연관관계 정리",
+                "스프링 부트", "정보 없음", "정보 없음", "높음", "정보 없음",
+                "정보 없음", "정보 없음", "정보 없음", "정보 없음", "정보 없음",
+                120);
+        assertEquals(legacy, rendered);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 반복 렌더링해도 이전 결과가 섞이지 않는다")
+    void render_ReusesBufferSafely() {
+        // Given
+        AiFeedbackRequest first = AiFeedbackRequest.builder().mood("좋음").build();
+        AiFeedbackRequest second = AiFeedbackRequest.builder().build();
+
+        // When
+        String firstPrompt = FeedbackPromptBuilder.render(template, timer, first);
+        String secondPrompt = FeedbackPromptBuilder.render(template, timer, second);
+
+        // Then
+        assertTrue(firstPrompt.contains("학습 기분: 좋음"));
+        assertTrue(secondPrompt.contains("학습 기분: 정보 없음"));
+        assertEquals(firstPrompt.length() - "좋음".length() + "정보 없음".length(), secondPrompt.length());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 변수가 있으면 컴파일 시 예외 발생")
+    void compile_UnknownField_ThrowsException() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                PromptTemplate.compile("feedback", "bad", "학습 시간: {{unknown}}", FeedbackPromptField.class));
+
+        assertTrue(exception.getMessage().contains("unknown"));
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 변수가 있으면 컴파일 시 예외 발생")
+    void compile_UnclosedPlaceholder_ThrowsException() {
+        assertThrows(IllegalStateException.class, () ->
+                PromptTemplate.compile("feedback", "bad", "학습 시간: {{studyMinutes", FeedbackPromptField.class));
+    }
+}
@@ -0,0 +1,44 @@
+package studyMate.support;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import studyMate.config.QueryCounter;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 엔드포인트/서비스 호출의 SQL 문 수 상한 검증
+ * Hibernate에 QueryCountInspector가 등록된 테스트(예: @DataJpaTest의 properties)에서 사용한다.
+ * 호출 스레드에서 실행한 SQL 문만 세므로 지연 로딩으로 생기는 N+1을 잡을 수 있고,
+ * 실패 메시지에는 반복 횟수 순으로 쿼리 형태가 나온다.
+ * <pre>
+ * assertMaxQueries(1, () -> studyGoalService.getActiveStudyGoals(user));
+ * assertMaxQueries(3, () -> mockMvc.perform(get("/api/schedule/range")...));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private static final int DESCRIBED_FINGERPRINTS = 10;
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int maxQueries, ThrowingSupplier<T> action) {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            T result = assertDoesNotThrow(action);
+            if (scope.getStatementCount() > maxQueries) {
+                fail("SQL 문 " + scope.getStatementCount() + "건 실행 (최대 " + maxQueries + "건)"
+                        + scope.describe(DESCRIBED_FINGERPRINTS));
+            }
+            return result;
+        }
+    }
+
+    public static void assertMaxQueries(int maxQueries, Executable action) {
+        assertMaxQueries(maxQueries, () -> {
+            action.execute();
+            return null;
+        });
+    }
+}